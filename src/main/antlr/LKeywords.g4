@@ -37,4 +37,11 @@ KW_DELETE       : D E L E T E;
 KW_IS           : I S;
 KW_FOR          : F O R;
 KW_DATABASE     : D A T A B A S E;
-KW_FILES        : F I L E S;
\ No newline at end of file
+KW_FILES        : F I L E S;
+KW_COPY         : C O P Y;
+KW_WITH         : W I T H;
+KW_VACUUM       : V A C U U M;
+KW_INDEX        : I N D E X;
+KW_ON           : O N;
+KW_USING        : U S I N G;
+KW_UNIQUE       : U N I Q U E;
\ No newline at end of file
@@ -0,0 +1,26 @@
+parser grammar PCopy;
+
+options {
+    tokenVocab = LCombine;
+}
+
+query
+: copy_stmt EOF
+;
+
+copy_stmt
+: KW_COPY table_name KW_FROM file_path copy_option? SEMICOLON?
+;
+
+copy_option
+: KW_WITH ID
+;
+
+table_name
+: ID
+ | STRING
+;
+
+file_path
+: STRING
+;
@@ -0,0 +1,30 @@
+parser grammar PCreateIndex;
+
+options {
+    tokenVocab = LCombine;
+}
+
+query
+: create_index_stmt EOF
+;
+
+create_index_stmt
+: KW_CREATE KW_INDEX index_name? KW_ON table_name index_method? LPAREN column_ref RPAREN index_method? SEMICOLON?
+;
+
+index_method
+: KW_USING ID
+;
+
+index_name
+: ID
+;
+
+table_name
+: ID
+;
+
+column_ref
+: NUMBER
+| ID
+;
@@ -9,7 +9,7 @@ query
 
 create_table_stmt
     : KW_CREATE KW_TABLE table_name
-      LPAREN column_type_list RPAREN SEMICOLON?
+      LPAREN column_type_list RPAREN table_options? SEMICOLON?
     ;
 
 table_name
@@ -17,10 +17,33 @@ table_name
     ;
 
 column_type_list
-    : column_type (KW_COMMA column_type)*
+    : column_def (KW_COMMA column_def)*
+    ;
+
+column_def
+    : column_type column_constraint*
+    ;
+
+column_constraint
+    : KW_PRIMARY KW_KEY
+    | KW_UNIQUE
     ;
 
 column_type returns [String type]
     : KW_INT { $type = "int"; }
     | KW_STR LPAREN num=NUMBER RPAREN { $type = "str_" + $num.text; }
-    ;
\ No newline at end of file
+    ;
+
+table_options
+    : KW_WITH LPAREN table_option (KW_COMMA table_option)* RPAREN
+    ;
+
+table_option
+    : ID OP_Equal option_value
+    ;
+
+option_value
+    : NUMBER ID?
+    | ID
+    | STRING
+    ;
@@ -9,7 +9,11 @@ query
 ;
 
 insert_stmt
-: KW_INSERT KW_INTO table_name KW_VALUES LPAREN value (KW_COMMA value)* RPAREN SEMICOLON?
+: KW_INSERT KW_INTO table_name KW_VALUES row (KW_COMMA row)* SEMICOLON?
+;
+
+row
+: LPAREN value (KW_COMMA value)* RPAREN
 ;
 
 table_name
@@ -0,0 +1,17 @@
+parser grammar PVacuum;
+
+options {
+    tokenVocab = LCombine;
+}
+
+query
+: vacuum_stmt EOF
+;
+
+vacuum_stmt
+: KW_VACUUM table_name SEMICOLON?
+;
+
+table_name
+: ID
+;
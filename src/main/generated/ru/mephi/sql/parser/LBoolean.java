@@ -0,0 +1,208 @@
+// Generated from LBoolean.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class LBoolean extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		OP_Equal=1, OP_Less=2, OP_More=3, OP_EqualLess=4, OP_EqualMore=5, OP_DoubleEqua=6, 
+		OP_AND=7, OP_OR=8, OP_NOT=9, OP_NotEqual=10;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"OP_Equal", "OP_Less", "OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", 
+			"OP_AND", "OP_OR", "OP_NOT", "OP_NotEqual", "A", "B", "C", "D", "E", 
+			"F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", 
+			"T", "U", "V", "W", "X", "Y", "Z"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "OP_Equal", "OP_Less", "OP_More", "OP_EqualLess", "OP_EqualMore", 
+			"OP_DoubleEqua", "OP_AND", "OP_OR", "OP_NOT", "OP_NotEqual"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public LBoolean(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "LBoolean.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000\n\u009d\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
+		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
+		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
+		"\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002"+
+		"\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002"+
+		"\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002"+
+		"\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002"+
+		"\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002"+
+		"\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002"+
+		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
+		"!\u0002\"\u0007\"\u0002#\u0007#\u0001\u0000\u0001\u0000\u0001\u0001\u0001"+
+		"\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t"+
+		"\u0003\th\b\t\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\f\u0001\f"+
+		"\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
+		"\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001"+
+		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001"+
+		"\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001"+
+		"\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001"+
+		"\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001"+
+		"\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001!\u0001\"\u0001\"\u0001#"+
+		"\u0001#\u0000\u0000$\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t"+
+		"\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u0000\u0017\u0000"+
+		"\u0019\u0000\u001b\u0000\u001d\u0000\u001f\u0000!\u0000#\u0000%\u0000"+
+		"\'\u0000)\u0000+\u0000-\u0000/\u00001\u00003\u00005\u00007\u00009\u0000"+
+		";\u0000=\u0000?\u0000A\u0000C\u0000E\u0000G\u0000\u0001\u0000\u001a\u0002"+
+		"\u0000AAaa\u0002\u0000BBbb\u0002\u0000CCcc\u0002\u0000DDdd\u0002\u0000"+
+		"EEee\u0002\u0000FFff\u0002\u0000GGgg\u0002\u0000HHhh\u0002\u0000IIii\u0002"+
+		"\u0000JJjj\u0002\u0000KKkk\u0002\u0000LLll\u0002\u0000MMmm\u0002\u0000"+
+		"NNnn\u0002\u0000OOoo\u0002\u0000PPpp\u0002\u0000QQqq\u0002\u0000RRrr\u0002"+
+		"\u0000SSss\u0002\u0000TTtt\u0002\u0000UUuu\u0002\u0000VVvv\u0002\u0000"+
+		"WWww\u0002\u0000XXxx\u0002\u0000YYyy\u0002\u0000ZZzz\u0083\u0000\u0001"+
+		"\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005"+
+		"\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001"+
+		"\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000"+
+		"\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000"+
+		"\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0001I\u0001\u0000\u0000"+
+		"\u0000\u0003K\u0001\u0000\u0000\u0000\u0005M\u0001\u0000\u0000\u0000\u0007"+
+		"O\u0001\u0000\u0000\u0000\tR\u0001\u0000\u0000\u0000\u000bU\u0001\u0000"+
+		"\u0000\u0000\rX\u0001\u0000\u0000\u0000\u000f\\\u0001\u0000\u0000\u0000"+
+		"\u0011_\u0001\u0000\u0000\u0000\u0013g\u0001\u0000\u0000\u0000\u0015i"+
+		"\u0001\u0000\u0000\u0000\u0017k\u0001\u0000\u0000\u0000\u0019m\u0001\u0000"+
+		"\u0000\u0000\u001bo\u0001\u0000\u0000\u0000\u001dq\u0001\u0000\u0000\u0000"+
+		"\u001fs\u0001\u0000\u0000\u0000!u\u0001\u0000\u0000\u0000#w\u0001\u0000"+
+		"\u0000\u0000%y\u0001\u0000\u0000\u0000\'{\u0001\u0000\u0000\u0000)}\u0001"+
+		"\u0000\u0000\u0000+\u007f\u0001\u0000\u0000\u0000-\u0081\u0001\u0000\u0000"+
+		"\u0000/\u0083\u0001\u0000\u0000\u00001\u0085\u0001\u0000\u0000\u00003"+
+		"\u0087\u0001\u0000\u0000\u00005\u0089\u0001\u0000\u0000\u00007\u008b\u0001"+
+		"\u0000\u0000\u00009\u008d\u0001\u0000\u0000\u0000;\u008f\u0001\u0000\u0000"+
+		"\u0000=\u0091\u0001\u0000\u0000\u0000?\u0093\u0001\u0000\u0000\u0000A"+
+		"\u0095\u0001\u0000\u0000\u0000C\u0097\u0001\u0000\u0000\u0000E\u0099\u0001"+
+		"\u0000\u0000\u0000G\u009b\u0001\u0000\u0000\u0000IJ\u0005=\u0000\u0000"+
+		"J\u0002\u0001\u0000\u0000\u0000KL\u0005<\u0000\u0000L\u0004\u0001\u0000"+
+		"\u0000\u0000MN\u0005>\u0000\u0000N\u0006\u0001\u0000\u0000\u0000OP\u0005"+
+		"<\u0000\u0000PQ\u0005=\u0000\u0000Q\b\u0001\u0000\u0000\u0000RS\u0005"+
+		">\u0000\u0000ST\u0005=\u0000\u0000T\n\u0001\u0000\u0000\u0000UV\u0005"+
+		"=\u0000\u0000VW\u0005=\u0000\u0000W\f\u0001\u0000\u0000\u0000XY\u0003"+
+		"\u0015\n\u0000YZ\u0003/\u0017\u0000Z[\u0003\u001b\r\u0000[\u000e\u0001"+
+		"\u0000\u0000\u0000\\]\u00031\u0018\u0000]^\u00037\u001b\u0000^\u0010\u0001"+
+		"\u0000\u0000\u0000_`\u0003/\u0017\u0000`a\u00031\u0018\u0000ab\u0003;"+
+		"\u001d\u0000b\u0012\u0001\u0000\u0000\u0000cd\u0005<\u0000\u0000dh\u0005"+
+		">\u0000\u0000ef\u0005!\u0000\u0000fh\u0005=\u0000\u0000gc\u0001\u0000"+
+		"\u0000\u0000ge\u0001\u0000\u0000\u0000h\u0014\u0001\u0000\u0000\u0000"+
+		"ij\u0007\u0000\u0000\u0000j\u0016\u0001\u0000\u0000\u0000kl\u0007\u0001"+
+		"\u0000\u0000l\u0018\u0001\u0000\u0000\u0000mn\u0007\u0002\u0000\u0000"+
+		"n\u001a\u0001\u0000\u0000\u0000op\u0007\u0003\u0000\u0000p\u001c\u0001"+
+		"\u0000\u0000\u0000qr\u0007\u0004\u0000\u0000r\u001e\u0001\u0000\u0000"+
+		"\u0000st\u0007\u0005\u0000\u0000t \u0001\u0000\u0000\u0000uv\u0007\u0006"+
+		"\u0000\u0000v\"\u0001\u0000\u0000\u0000wx\u0007\u0007\u0000\u0000x$\u0001"+
+		"\u0000\u0000\u0000yz\u0007\b\u0000\u0000z&\u0001\u0000\u0000\u0000{|\u0007"+
+		"\t\u0000\u0000|(\u0001\u0000\u0000\u0000}~\u0007\n\u0000\u0000~*\u0001"+
+		"\u0000\u0000\u0000\u007f\u0080\u0007\u000b\u0000\u0000\u0080,\u0001\u0000"+
+		"\u0000\u0000\u0081\u0082\u0007\f\u0000\u0000\u0082.\u0001\u0000\u0000"+
+		"\u0000\u0083\u0084\u0007\r\u0000\u0000\u00840\u0001\u0000\u0000\u0000"+
+		"\u0085\u0086\u0007\u000e\u0000\u0000\u00862\u0001\u0000\u0000\u0000\u0087"+
+		"\u0088\u0007\u000f\u0000\u0000\u00884\u0001\u0000\u0000\u0000\u0089\u008a"+
+		"\u0007\u0010\u0000\u0000\u008a6\u0001\u0000\u0000\u0000\u008b\u008c\u0007"+
+		"\u0011\u0000\u0000\u008c8\u0001\u0000\u0000\u0000\u008d\u008e\u0007\u0012"+
+		"\u0000\u0000\u008e:\u0001\u0000\u0000\u0000\u008f\u0090\u0007\u0013\u0000"+
+		"\u0000\u0090<\u0001\u0000\u0000\u0000\u0091\u0092\u0007\u0014\u0000\u0000"+
+		"\u0092>\u0001\u0000\u0000\u0000\u0093\u0094\u0007\u0015\u0000\u0000\u0094"+
+		"@\u0001\u0000\u0000\u0000\u0095\u0096\u0007\u0016\u0000\u0000\u0096B\u0001"+
+		"\u0000\u0000\u0000\u0097\u0098\u0007\u0017\u0000\u0000\u0098D\u0001\u0000"+
+		"\u0000\u0000\u0099\u009a\u0007\u0018\u0000\u0000\u009aF\u0001\u0000\u0000"+
+		"\u0000\u009b\u009c\u0007\u0019\u0000\u0000\u009cH\u0001\u0000\u0000\u0000"+
+		"\u0002\u0000g\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
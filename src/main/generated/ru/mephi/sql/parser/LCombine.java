@@ -0,0 +1,531 @@
+// Generated from LCombine.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class LCombine extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", "KW_TABLES", 
+			"KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", "KW_STAR", 
+			"KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", "KW_CREATE", 
+			"KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", "KW_KEY", 
+			"KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", "NUMBER", 
+			"KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", "KW_IS", 
+			"KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", "KW_INDEX", 
+			"KW_ON", "KW_USING", "KW_UNIQUE", "A", "B", "C", "D", "E", "F", "G", 
+			"H", "I", "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", "U", 
+			"V", "W", "X", "Y", "Z", "OP_Equal", "OP_Less", "OP_More", "OP_EqualLess", 
+			"OP_EqualMore", "OP_DoubleEqua", "OP_AND", "OP_OR", "OP_NOT", "OP_NotEqual", 
+			"FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", "FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", 
+			"QUOTE", "STRING", "PLUS", "MINUS", "DIV", "WS"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public LCombine(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "LCombine.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000F\u0284\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
+		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
+		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
+		"\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002"+
+		"\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002"+
+		"\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002"+
+		"\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002"+
+		"\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002"+
+		"\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002"+
+		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
+		"!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007"+
+		"&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007"+
+		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u0007"+
+		"0\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u00025\u0007"+
+		"5\u00026\u00076\u00027\u00077\u00028\u00078\u00029\u00079\u0002:\u0007"+
+		":\u0002;\u0007;\u0002<\u0007<\u0002=\u0007=\u0002>\u0007>\u0002?\u0007"+
+		"?\u0002@\u0007@\u0002A\u0007A\u0002B\u0007B\u0002C\u0007C\u0002D\u0007"+
+		"D\u0002E\u0007E\u0002F\u0007F\u0002G\u0007G\u0002H\u0007H\u0002I\u0007"+
+		"I\u0002J\u0007J\u0002K\u0007K\u0002L\u0007L\u0002M\u0007M\u0002N\u0007"+
+		"N\u0002O\u0007O\u0002P\u0007P\u0002Q\u0007Q\u0002R\u0007R\u0002S\u0007"+
+		"S\u0002T\u0007T\u0002U\u0007U\u0002V\u0007V\u0002W\u0007W\u0002X\u0007"+
+		"X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002]\u0007"+
+		"]\u0002^\u0007^\u0002_\u0007_\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001"+
+		"\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001"+
+		"\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003"+
+		"\u0007\u00ef\b\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0003\b\u0113\b\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001"+
+		"\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001"+
+		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001"+
+		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001"+
+		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
+		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001"+
+		"\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
+		"\u001d\u0001\u001e\u0004\u001e\u018c\b\u001e\u000b\u001e\f\u001e\u018d"+
+		"\u0001\u001e\u0001\u001e\u0004\u001e\u0192\b\u001e\u000b\u001e\f\u001e"+
+		"\u0193\u0003\u001e\u0196\b\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
+		"\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001"+
+		" \u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001"+
+		"#\u0001#\u0001#\u0001#\u0001#\u0001$\u0001$\u0001$\u0001%\u0001%\u0001"+
+		"%\u0001%\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001("+
+		"\u0001(\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001*\u0001"+
+		"*\u0001*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001,\u0001,\u0001"+
+		",\u0001,\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001"+
+		"-\u0001.\u0001.\u0001/\u0001/\u00010\u00010\u00011\u00011\u00012\u0001"+
+		"2\u00013\u00013\u00014\u00014\u00015\u00015\u00016\u00016\u00017\u0001"+
+		"7\u00018\u00018\u00019\u00019\u0001:\u0001:\u0001;\u0001;\u0001<\u0001"+
+		"<\u0001=\u0001=\u0001>\u0001>\u0001?\u0001?\u0001@\u0001@\u0001A\u0001"+
+		"A\u0001B\u0001B\u0001C\u0001C\u0001D\u0001D\u0001E\u0001E\u0001F\u0001"+
+		"F\u0001G\u0001G\u0001H\u0001H\u0001I\u0001I\u0001J\u0001J\u0001K\u0001"+
+		"K\u0001K\u0001L\u0001L\u0001L\u0001M\u0001M\u0001M\u0001N\u0001N\u0001"+
+		"N\u0001N\u0001O\u0001O\u0001O\u0001P\u0001P\u0001P\u0001P\u0001Q\u0001"+
+		"Q\u0001Q\u0001Q\u0003Q\u0245\bQ\u0001R\u0001R\u0001R\u0001R\u0001S\u0001"+
+		"S\u0001S\u0001S\u0001T\u0001T\u0001T\u0001T\u0001T\u0001T\u0001U\u0001"+
+		"U\u0001U\u0001U\u0001V\u0001V\u0001V\u0001V\u0001W\u0001W\u0001W\u0001"+
+		"W\u0001W\u0001X\u0001X\u0005X\u0264\bX\nX\fX\u0267\tX\u0001Y\u0001Y\u0001"+
+		"Z\u0001Z\u0001[\u0001[\u0001[\u0001[\u0005[\u0271\b[\n[\f[\u0274\t[\u0001"+
+		"[\u0001[\u0001\\\u0001\\\u0001]\u0001]\u0001^\u0001^\u0001_\u0004_\u027f"+
+		"\b_\u000b_\f_\u0280\u0001_\u0001_\u0000\u0000`\u0001\u0001\u0003\u0002"+
+		"\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013"+
+		"\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011"+
+		"#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b"+
+		"7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]\u0000_\u0000"+
+		"a\u0000c\u0000e\u0000g\u0000i\u0000k\u0000m\u0000o\u0000q\u0000s\u0000"+
+		"u\u0000w\u0000y\u0000{\u0000}\u0000\u007f\u0000\u0081\u0000\u0083\u0000"+
+		"\u0085\u0000\u0087\u0000\u0089\u0000\u008b\u0000\u008d\u0000\u008f\u0000"+
+		"\u0091/\u00930\u00951\u00972\u00993\u009b4\u009d5\u009f6\u00a17\u00a3"+
+		"8\u00a59\u00a7:\u00a9;\u00ab<\u00ad=\u00af>\u00b1?\u00b3@\u00b5A\u00b7"+
+		"B\u00b9C\u00bbD\u00bdE\u00bfF\u0001\u0000\u001f\u0002\u0000IIii\u0002"+
+		"\u0000NNnn\u0002\u0000SSss\u0002\u0000EEee\u0002\u0000RRrr\u0002\u0000"+
+		"TTtt\u0002\u0000LLll\u0002\u0000CCcc\u0001\u000009\u0002\u0000AAaa\u0002"+
+		"\u0000BBbb\u0002\u0000DDdd\u0002\u0000FFff\u0002\u0000GGgg\u0002\u0000"+
+		"HHhh\u0002\u0000JJjj\u0002\u0000KKkk\u0002\u0000MMmm\u0002\u0000OOoo\u0002"+
+		"\u0000PPpp\u0002\u0000QQqq\u0002\u0000UUuu\u0002\u0000VVvv\u0002\u0000"+
+		"WWww\u0002\u0000XXxx\u0002\u0000YYyy\u0002\u0000ZZzz\u0003\u0000AZ__a"+
+		"z\u0004\u000009AZ__az\u0002\u0000\'\'\\\\\u0003\u0000\t\n\r\r  \u0275"+
+		"\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000"+
+		"\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000"+
+		"\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000"+
+		"\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011"+
+		"\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015"+
+		"\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019"+
+		"\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d"+
+		"\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001"+
+		"\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000"+
+		"\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000"+
+		"\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/"+
+		"\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000"+
+		"\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000"+
+		"\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000\u0000="+
+		"\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000"+
+		"\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000"+
+		"\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K"+
+		"\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000"+
+		"\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000"+
+		"\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y"+
+		"\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000\u0091\u0001"+
+		"\u0000\u0000\u0000\u0000\u0093\u0001\u0000\u0000\u0000\u0000\u0095\u0001"+
+		"\u0000\u0000\u0000\u0000\u0097\u0001\u0000\u0000\u0000\u0000\u0099\u0001"+
+		"\u0000\u0000\u0000\u0000\u009b\u0001\u0000\u0000\u0000\u0000\u009d\u0001"+
+		"\u0000\u0000\u0000\u0000\u009f\u0001\u0000\u0000\u0000\u0000\u00a1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00a3\u0001\u0000\u0000\u0000\u0000\u00a5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00a7\u0001\u0000\u0000\u0000\u0000\u00a9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00ab\u0001\u0000\u0000\u0000\u0000\u00ad\u0001"+
+		"\u0000\u0000\u0000\u0000\u00af\u0001\u0000\u0000\u0000\u0000\u00b1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00b3\u0001\u0000\u0000\u0000\u0000\u00b5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00b7\u0001\u0000\u0000\u0000\u0000\u00b9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00bb\u0001\u0000\u0000\u0000\u0000\u00bd\u0001"+
+		"\u0000\u0000\u0000\u0000\u00bf\u0001\u0000\u0000\u0000\u0001\u00c1\u0001"+
+		"\u0000\u0000\u0000\u0003\u00c6\u0001\u0000\u0000\u0000\u0005\u00c8\u0001"+
+		"\u0000\u0000\u0000\u0007\u00ca\u0001\u0000\u0000\u0000\t\u00cc\u0001\u0000"+
+		"\u0000\u0000\u000b\u00d1\u0001\u0000\u0000\u0000\r\u00d7\u0001\u0000\u0000"+
+		"\u0000\u000f\u00ee\u0001\u0000\u0000\u0000\u0011\u0112\u0001\u0000\u0000"+
+		"\u0000\u0013\u0114\u0001\u0000\u0000\u0000\u0015\u0119\u0001\u0000\u0000"+
+		"\u0000\u0017\u011f\u0001\u0000\u0000\u0000\u0019\u0122\u0001\u0000\u0000"+
+		"\u0000\u001b\u0124\u0001\u0000\u0000\u0000\u001d\u0126\u0001\u0000\u0000"+
+		"\u0000\u001f\u012d\u0001\u0000\u0000\u0000!\u0134\u0001\u0000\u0000\u0000"+
+		"#\u0139\u0001\u0000\u0000\u0000%\u0140\u0001\u0000\u0000\u0000\'\u0147"+
+		"\u0001\u0000\u0000\u0000)\u014d\u0001\u0000\u0000\u0000+\u0152\u0001\u0000"+
+		"\u0000\u0000-\u0156\u0001\u0000\u0000\u0000/\u015e\u0001\u0000\u0000\u0000"+
+		"1\u0166\u0001\u0000\u0000\u00003\u016a\u0001\u0000\u0000\u00005\u0172"+
+		"\u0001\u0000\u0000\u00007\u017d\u0001\u0000\u0000\u00009\u0182\u0001\u0000"+
+		"\u0000\u0000;\u0186\u0001\u0000\u0000\u0000=\u018b\u0001\u0000\u0000\u0000"+
+		"?\u0197\u0001\u0000\u0000\u0000A\u019c\u0001\u0000\u0000\u0000C\u01a4"+
+		"\u0001\u0000\u0000\u0000E\u01ab\u0001\u0000\u0000\u0000G\u01b4\u0001\u0000"+
+		"\u0000\u0000I\u01bb\u0001\u0000\u0000\u0000K\u01be\u0001\u0000\u0000\u0000"+
+		"M\u01c2\u0001\u0000\u0000\u0000O\u01cb\u0001\u0000\u0000\u0000Q\u01d0"+
+		"\u0001\u0000\u0000\u0000S\u01d5\u0001\u0000\u0000\u0000U\u01dc\u0001\u0000"+
+		"\u0000\u0000W\u01e2\u0001\u0000\u0000\u0000Y\u01e5\u0001\u0000\u0000\u0000"+
+		"[\u01eb\u0001\u0000\u0000\u0000]\u01f2\u0001\u0000\u0000\u0000_\u01f4"+
+		"\u0001\u0000\u0000\u0000a\u01f6\u0001\u0000\u0000\u0000c\u01f8\u0001\u0000"+
+		"\u0000\u0000e\u01fa\u0001\u0000\u0000\u0000g\u01fc\u0001\u0000\u0000\u0000"+
+		"i\u01fe\u0001\u0000\u0000\u0000k\u0200\u0001\u0000\u0000\u0000m\u0202"+
+		"\u0001\u0000\u0000\u0000o\u0204\u0001\u0000\u0000\u0000q\u0206\u0001\u0000"+
+		"\u0000\u0000s\u0208\u0001\u0000\u0000\u0000u\u020a\u0001\u0000\u0000\u0000"+
+		"w\u020c\u0001\u0000\u0000\u0000y\u020e\u0001\u0000\u0000\u0000{\u0210"+
+		"\u0001\u0000\u0000\u0000}\u0212\u0001\u0000\u0000\u0000\u007f\u0214\u0001"+
+		"\u0000\u0000\u0000\u0081\u0216\u0001\u0000\u0000\u0000\u0083\u0218\u0001"+
+		"\u0000\u0000\u0000\u0085\u021a\u0001\u0000\u0000\u0000\u0087\u021c\u0001"+
+		"\u0000\u0000\u0000\u0089\u021e\u0001\u0000\u0000\u0000\u008b\u0220\u0001"+
+		"\u0000\u0000\u0000\u008d\u0222\u0001\u0000\u0000\u0000\u008f\u0224\u0001"+
+		"\u0000\u0000\u0000\u0091\u0226\u0001\u0000\u0000\u0000\u0093\u0228\u0001"+
+		"\u0000\u0000\u0000\u0095\u022a\u0001\u0000\u0000\u0000\u0097\u022c\u0001"+
+		"\u0000\u0000\u0000\u0099\u022f\u0001\u0000\u0000\u0000\u009b\u0232\u0001"+
+		"\u0000\u0000\u0000\u009d\u0235\u0001\u0000\u0000\u0000\u009f\u0239\u0001"+
+		"\u0000\u0000\u0000\u00a1\u023c\u0001\u0000\u0000\u0000\u00a3\u0244\u0001"+
+		"\u0000\u0000\u0000\u00a5\u0246\u0001\u0000\u0000\u0000\u00a7\u024a\u0001"+
+		"\u0000\u0000\u0000\u00a9\u024e\u0001\u0000\u0000\u0000\u00ab\u0254\u0001"+
+		"\u0000\u0000\u0000\u00ad\u0258\u0001\u0000\u0000\u0000\u00af\u025c\u0001"+
+		"\u0000\u0000\u0000\u00b1\u0261\u0001\u0000\u0000\u0000\u00b3\u0268\u0001"+
+		"\u0000\u0000\u0000\u00b5\u026a\u0001\u0000\u0000\u0000\u00b7\u026c\u0001"+
+		"\u0000\u0000\u0000\u00b9\u0277\u0001\u0000\u0000\u0000\u00bb\u0279\u0001"+
+		"\u0000\u0000\u0000\u00bd\u027b\u0001\u0000\u0000\u0000\u00bf\u027e\u0001"+
+		"\u0000\u0000\u0000\u00c1\u00c2\u0005N\u0000\u0000\u00c2\u00c3\u0005U\u0000"+
+		"\u0000\u00c3\u00c4\u0005L\u0000\u0000\u00c4\u00c5\u0005L\u0000\u0000\u00c5"+
+		"\u0002\u0001\u0000\u0000\u0000\u00c6\u00c7\u0005(\u0000\u0000\u00c7\u0004"+
+		"\u0001\u0000\u0000\u0000\u00c8\u00c9\u0005)\u0000\u0000\u00c9\u0006\u0001"+
+		"\u0000\u0000\u0000\u00ca\u00cb\u0005;\u0000\u0000\u00cb\b\u0001\u0000"+
+		"\u0000\u0000\u00cc\u00cd\u0005S\u0000\u0000\u00cd\u00ce\u0005H\u0000\u0000"+
+		"\u00ce\u00cf\u0005O\u0000\u0000\u00cf\u00d0\u0005W\u0000\u0000\u00d0\n"+
+		"\u0001\u0000\u0000\u0000\u00d1\u00d2\u0005F\u0000\u0000\u00d2\u00d3\u0005"+
+		"I\u0000\u0000\u00d3\u00d4\u0005L\u0000\u0000\u00d4\u00d5\u0005E\u0000"+
+		"\u0000\u00d5\u00d6\u0005S\u0000\u0000\u00d6\f\u0001\u0000\u0000\u0000"+
+		"\u00d7\u00d8\u0005T\u0000\u0000\u00d8\u00d9\u0005A\u0000\u0000\u00d9\u00da"+
+		"\u0005B\u0000\u0000\u00da\u00db\u0005L\u0000\u0000\u00db\u00dc\u0005E"+
+		"\u0000\u0000\u00dc\u00dd\u0005S\u0000\u0000\u00dd\u000e\u0001\u0000\u0000"+
+		"\u0000\u00de\u00df\u0003_/\u0000\u00df\u00e0\u0003e2\u0000\u00e0\u00e1"+
+		"\u0003i4\u0000\u00e1\u00e2\u0003m6\u0000\u00e2\u00e3\u0003w;\u0000\u00e3"+
+		"\u00ef\u0001\u0000\u0000\u0000\u00e4\u00e5\u0005b\u0000\u0000\u00e5\u00e6"+
+		"\u0005e\u0000\u0000\u00e6\u00e7\u0005g\u0000\u0000\u00e7\u00e8\u0005i"+
+		"\u0000\u0000\u00e8\u00ef\u0005n\u0000\u0000\u00e9\u00ea\u0005B\u0000\u0000"+
+		"\u00ea\u00eb\u0005e\u0000\u0000\u00eb\u00ec\u0005g\u0000\u0000\u00ec\u00ed"+
+		"\u0005i\u0000\u0000\u00ed\u00ef\u0005n\u0000\u0000\u00ee\u00de\u0001\u0000"+
+		"\u0000\u0000\u00ee\u00e4\u0001\u0000\u0000\u0000\u00ee\u00e9\u0001\u0000"+
+		"\u0000\u0000\u00ef\u0010\u0001\u0000\u0000\u0000\u00f0\u00f1\u0003\u0083"+
+		"A\u0000\u00f1\u00f2\u0003\u007f?\u0000\u00f2\u00f3\u0003].\u0000\u00f3"+
+		"\u00f4\u0003w;\u0000\u00f4\u00f5\u0003\u0081@\u0000\u00f5\u00f6\u0003"+
+		"].\u0000\u00f6\u00f7\u0003a0\u0000\u00f7\u00f8\u0003\u0083A\u0000\u00f8"+
+		"\u00f9\u0003m6\u0000\u00f9\u00fa\u0003y<\u0000\u00fa\u00fb\u0003w;\u0000"+
+		"\u00fb\u0113\u0001\u0000\u0000\u0000\u00fc\u00fd\u0005t\u0000\u0000\u00fd"+
+		"\u00fe\u0005r\u0000\u0000\u00fe\u00ff\u0005a\u0000\u0000\u00ff\u0100\u0005"+
+		"n\u0000\u0000\u0100\u0101\u0005s\u0000\u0000\u0101\u0102\u0005a\u0000"+
+		"\u0000\u0102\u0103\u0005c\u0000\u0000\u0103\u0104\u0005t\u0000\u0000\u0104"+
+		"\u0105\u0005i\u0000\u0000\u0105\u0106\u0005o\u0000\u0000\u0106\u0113\u0005"+
+		"n\u0000\u0000\u0107\u0108\u0005T\u0000\u0000\u0108\u0109\u0005r\u0000"+
+		"\u0000\u0109\u010a\u0005a\u0000\u0000\u010a\u010b\u0005n\u0000\u0000\u010b"+
+		"\u010c\u0005s\u0000\u0000\u010c\u010d\u0005a\u0000\u0000\u010d\u010e\u0005"+
+		"c\u0000\u0000\u010e\u010f\u0005t\u0000\u0000\u010f\u0110\u0005i\u0000"+
+		"\u0000\u0110\u0111\u0005o\u0000\u0000\u0111\u0113\u0005n\u0000\u0000\u0112"+
+		"\u00f0\u0001\u0000\u0000\u0000\u0112\u00fc\u0001\u0000\u0000\u0000\u0112"+
+		"\u0107\u0001\u0000\u0000\u0000\u0113\u0012\u0001\u0000\u0000\u0000\u0114"+
+		"\u0115\u0003g3\u0000\u0115\u0116\u0003\u007f?\u0000\u0116\u0117\u0003"+
+		"y<\u0000\u0117\u0118\u0003u:\u0000\u0118\u0014\u0001\u0000\u0000\u0000"+
+		"\u0119\u011a\u0003\u0089D\u0000\u011a\u011b\u0003k5\u0000\u011b\u011c"+
+		"\u0003e2\u0000\u011c\u011d\u0003\u007f?\u0000\u011d\u011e\u0003e2\u0000"+
+		"\u011e\u0016\u0001\u0000\u0000\u0000\u011f\u0120\u0003].\u0000\u0120\u0121"+
+		"\u0003\u0081@\u0000\u0121\u0018\u0001\u0000\u0000\u0000\u0122\u0123\u0005"+
+		"*\u0000\u0000\u0123\u001a\u0001\u0000\u0000\u0000\u0124\u0125\u0005,\u0000"+
+		"\u0000\u0125\u001c\u0001\u0000\u0000\u0000\u0126\u0127\u0007\u0000\u0000"+
+		"\u0000\u0127\u0128\u0007\u0001\u0000\u0000\u0128\u0129\u0007\u0002\u0000"+
+		"\u0000\u0129\u012a\u0007\u0003\u0000\u0000\u012a\u012b\u0007\u0004\u0000"+
+		"\u0000\u012b\u012c\u0007\u0005\u0000\u0000\u012c\u001e\u0001\u0000\u0000"+
+		"\u0000\u012d\u012e\u0007\u0002\u0000\u0000\u012e\u012f\u0007\u0003\u0000"+
+		"\u0000\u012f\u0130\u0007\u0006\u0000\u0000\u0130\u0131\u0007\u0003\u0000"+
+		"\u0000\u0131\u0132\u0007\u0007\u0000\u0000\u0132\u0133\u0007\u0005\u0000"+
+		"\u0000\u0133 \u0001\u0000\u0000\u0000\u0134\u0135\u0003m6\u0000\u0135"+
+		"\u0136\u0003w;\u0000\u0136\u0137\u0003\u0083A\u0000\u0137\u0138\u0003"+
+		"y<\u0000\u0138\"\u0001\u0000\u0000\u0000\u0139\u013a\u0003\u0087C\u0000"+
+		"\u013a\u013b\u0003].\u0000\u013b\u013c\u0003s9\u0000\u013c\u013d\u0003"+
+		"\u0085B\u0000\u013d\u013e\u0003e2\u0000\u013e\u013f\u0003\u0081@\u0000"+
+		"\u013f$\u0001\u0000\u0000\u0000\u0140\u0141\u0003a0\u0000\u0141\u0142"+
+		"\u0003\u007f?\u0000\u0142\u0143\u0003e2\u0000\u0143\u0144\u0003].\u0000"+
+		"\u0144\u0145\u0003\u0083A\u0000\u0145\u0146\u0003e2\u0000\u0146&\u0001"+
+		"\u0000\u0000\u0000\u0147\u0148\u0003\u0083A\u0000\u0148\u0149\u0003]."+
+		"\u0000\u0149\u014a\u0003_/\u0000\u014a\u014b\u0003s9\u0000\u014b\u014c"+
+		"\u0003e2\u0000\u014c(\u0001\u0000\u0000\u0000\u014d\u014e\u0003c1\u0000"+
+		"\u014e\u014f\u0003\u007f?\u0000\u014f\u0150\u0003y<\u0000\u0150\u0151"+
+		"\u0003{=\u0000\u0151*\u0001\u0000\u0000\u0000\u0152\u0153\u0003w;\u0000"+
+		"\u0153\u0154\u0003y<\u0000\u0154\u0155\u0003\u0083A\u0000\u0155,\u0001"+
+		"\u0000\u0000\u0000\u0156\u0157\u0003c1\u0000\u0157\u0158\u0003e2\u0000"+
+		"\u0158\u0159\u0003g3\u0000\u0159\u015a\u0003].\u0000\u015a\u015b\u0003"+
+		"\u0085B\u0000\u015b\u015c\u0003s9\u0000\u015c\u015d\u0003\u0083A\u0000"+
+		"\u015d.\u0001\u0000\u0000\u0000\u015e\u015f\u0003{=\u0000\u015f\u0160"+
+		"\u0003\u007f?\u0000\u0160\u0161\u0003m6\u0000\u0161\u0162\u0003u:\u0000"+
+		"\u0162\u0163\u0003].\u0000\u0163\u0164\u0003\u007f?\u0000\u0164\u0165"+
+		"\u0003\u008dF\u0000\u01650\u0001\u0000\u0000\u0000\u0166\u0167\u0003q"+
+		"8\u0000\u0167\u0168\u0003e2\u0000\u0168\u0169\u0003\u008dF\u0000\u0169"+
+		"2\u0001\u0000\u0000\u0000\u016a\u016b\u0003g3\u0000\u016b\u016c\u0003"+
+		"y<\u0000\u016c\u016d\u0003\u007f?\u0000\u016d\u016e\u0003e2\u0000\u016e"+
+		"\u016f\u0003m6\u0000\u016f\u0170\u0003i4\u0000\u0170\u0171\u0003w;\u0000"+
+		"\u01714\u0001\u0000\u0000\u0000\u0172\u0173\u0003\u007f?\u0000\u0173\u0174"+
+		"\u0003e2\u0000\u0174\u0175\u0003g3\u0000\u0175\u0176\u0003e2\u0000\u0176"+
+		"\u0177\u0003\u007f?\u0000\u0177\u0178\u0003e2\u0000\u0178\u0179\u0003"+
+		"w;\u0000\u0179\u017a\u0003a0\u0000\u017a\u017b\u0003e2\u0000\u017b\u017c"+
+		"\u0003\u0081@\u0000\u017c6\u0001\u0000\u0000\u0000\u017d\u017e\u0003s"+
+		"9\u0000\u017e\u017f\u0003m6\u0000\u017f\u0180\u0003q8\u0000\u0180\u0181"+
+		"\u0003e2\u0000\u01818\u0001\u0000\u0000\u0000\u0182\u0183\u0003m6\u0000"+
+		"\u0183\u0184\u0003w;\u0000\u0184\u0185\u0003\u0083A\u0000\u0185:\u0001"+
+		"\u0000\u0000\u0000\u0186\u0187\u0003\u0081@\u0000\u0187\u0188\u0003\u0083"+
+		"A\u0000\u0188\u0189\u0003\u007f?\u0000\u0189<\u0001\u0000\u0000\u0000"+
+		"\u018a\u018c\u0007\b\u0000\u0000\u018b\u018a\u0001\u0000\u0000\u0000\u018c"+
+		"\u018d\u0001\u0000\u0000\u0000\u018d\u018b\u0001\u0000\u0000\u0000\u018d"+
+		"\u018e\u0001\u0000\u0000\u0000\u018e\u0195\u0001\u0000\u0000\u0000\u018f"+
+		"\u0191\u0005.\u0000\u0000\u0190\u0192\u0007\b\u0000\u0000\u0191\u0190"+
+		"\u0001\u0000\u0000\u0000\u0192\u0193\u0001\u0000\u0000\u0000\u0193\u0191"+
+		"\u0001\u0000\u0000\u0000\u0193\u0194\u0001\u0000\u0000\u0000\u0194\u0196"+
+		"\u0001\u0000\u0000\u0000\u0195\u018f\u0001\u0000\u0000\u0000\u0195\u0196"+
+		"\u0001\u0000\u0000\u0000\u0196>\u0001\u0000\u0000\u0000\u0197\u0198\u0003"+
+		"\u0083A\u0000\u0198\u0199\u0003e2\u0000\u0199\u019a\u0003\u008bE\u0000"+
+		"\u019a\u019b\u0003\u0083A\u0000\u019b@\u0001\u0000\u0000\u0000\u019c\u019d"+
+		"\u0003\u0087C\u0000\u019d\u019e\u0003].\u0000\u019e\u019f\u0003\u007f"+
+		"?\u0000\u019f\u01a0\u0003a0\u0000\u01a0\u01a1\u0003k5\u0000\u01a1\u01a2"+
+		"\u0003].\u0000\u01a2\u01a3\u0003\u007f?\u0000\u01a3B\u0001\u0000\u0000"+
+		"\u0000\u01a4\u01a5\u0003a0\u0000\u01a5\u01a6\u0003y<\u0000\u01a6\u01a7"+
+		"\u0003u:\u0000\u01a7\u01a8\u0003u:\u0000\u01a8\u01a9\u0003m6\u0000\u01a9"+
+		"\u01aa\u0003\u0083A\u0000\u01aaD\u0001\u0000\u0000\u0000\u01ab\u01ac\u0003"+
+		"\u007f?\u0000\u01ac\u01ad\u0003y<\u0000\u01ad\u01ae\u0003s9\u0000\u01ae"+
+		"\u01af\u0003s9\u0000\u01af\u01b0\u0003_/\u0000\u01b0\u01b1\u0003].\u0000"+
+		"\u01b1\u01b2\u0003a0\u0000\u01b2\u01b3\u0003q8\u0000\u01b3F\u0001\u0000"+
+		"\u0000\u0000\u01b4\u01b5\u0003c1\u0000\u01b5\u01b6\u0003e2\u0000\u01b6"+
+		"\u01b7\u0003s9\u0000\u01b7\u01b8\u0003e2\u0000\u01b8\u01b9\u0003\u0083"+
+		"A\u0000\u01b9\u01ba\u0003e2\u0000\u01baH\u0001\u0000\u0000\u0000\u01bb"+
+		"\u01bc\u0003m6\u0000\u01bc\u01bd\u0003\u0081@\u0000\u01bdJ\u0001\u0000"+
+		"\u0000\u0000\u01be\u01bf\u0003g3\u0000\u01bf\u01c0\u0003y<\u0000\u01c0"+
+		"\u01c1\u0003\u007f?\u0000\u01c1L\u0001\u0000\u0000\u0000\u01c2\u01c3\u0003"+
+		"c1\u0000\u01c3\u01c4\u0003].\u0000\u01c4\u01c5\u0003\u0083A\u0000\u01c5"+
+		"\u01c6\u0003].\u0000\u01c6\u01c7\u0003_/\u0000\u01c7\u01c8\u0003].\u0000"+
+		"\u01c8\u01c9\u0003\u0081@\u0000\u01c9\u01ca\u0003e2\u0000\u01caN\u0001"+
+		"\u0000\u0000\u0000\u01cb\u01cc\u0003a0\u0000\u01cc\u01cd\u0003y<\u0000"+
+		"\u01cd\u01ce\u0003{=\u0000\u01ce\u01cf\u0003\u008dF\u0000\u01cfP\u0001"+
+		"\u0000\u0000\u0000\u01d0\u01d1\u0003\u0089D\u0000\u01d1\u01d2\u0003m6"+
+		"\u0000\u01d2\u01d3\u0003\u0083A\u0000\u01d3\u01d4\u0003k5\u0000\u01d4"+
+		"R\u0001\u0000\u0000\u0000\u01d5\u01d6\u0003\u0087C\u0000\u01d6\u01d7\u0003"+
+		"].\u0000\u01d7\u01d8\u0003a0\u0000\u01d8\u01d9\u0003\u0085B\u0000\u01d9"+
+		"\u01da\u0003\u0085B\u0000\u01da\u01db\u0003u:\u0000\u01dbT\u0001\u0000"+
+		"\u0000\u0000\u01dc\u01dd\u0003m6\u0000\u01dd\u01de\u0003w;\u0000\u01de"+
+		"\u01df\u0003c1\u0000\u01df\u01e0\u0003e2\u0000\u01e0\u01e1\u0003\u008b"+
+		"E\u0000\u01e1V\u0001\u0000\u0000\u0000\u01e2\u01e3\u0003y<\u0000\u01e3"+
+		"\u01e4\u0003w;\u0000\u01e4X\u0001\u0000\u0000\u0000\u01e5\u01e6\u0003"+
+		"\u0085B\u0000\u01e6\u01e7\u0003\u0081@\u0000\u01e7\u01e8\u0003m6\u0000"+
+		"\u01e8\u01e9\u0003w;\u0000\u01e9\u01ea\u0003i4\u0000\u01eaZ\u0001\u0000"+
+		"\u0000\u0000\u01eb\u01ec\u0003\u0085B\u0000\u01ec\u01ed\u0003w;\u0000"+
+		"\u01ed\u01ee\u0003m6\u0000\u01ee\u01ef\u0003}>\u0000\u01ef\u01f0\u0003"+
+		"\u0085B\u0000\u01f0\u01f1\u0003e2\u0000\u01f1\\\u0001\u0000\u0000\u0000"+
+		"\u01f2\u01f3\u0007\t\u0000\u0000\u01f3^\u0001\u0000\u0000\u0000\u01f4"+
+		"\u01f5\u0007\n\u0000\u0000\u01f5`\u0001\u0000\u0000\u0000\u01f6\u01f7"+
+		"\u0007\u0007\u0000\u0000\u01f7b\u0001\u0000\u0000\u0000\u01f8\u01f9\u0007"+
+		"\u000b\u0000\u0000\u01f9d\u0001\u0000\u0000\u0000\u01fa\u01fb\u0007\u0003"+
+		"\u0000\u0000\u01fbf\u0001\u0000\u0000\u0000\u01fc\u01fd\u0007\f\u0000"+
+		"\u0000\u01fdh\u0001\u0000\u0000\u0000\u01fe\u01ff\u0007\r\u0000\u0000"+
+		"\u01ffj\u0001\u0000\u0000\u0000\u0200\u0201\u0007\u000e\u0000\u0000\u0201"+
+		"l\u0001\u0000\u0000\u0000\u0202\u0203\u0007\u0000\u0000\u0000\u0203n\u0001"+
+		"\u0000\u0000\u0000\u0204\u0205\u0007\u000f\u0000\u0000\u0205p\u0001\u0000"+
+		"\u0000\u0000\u0206\u0207\u0007\u0010\u0000\u0000\u0207r\u0001\u0000\u0000"+
+		"\u0000\u0208\u0209\u0007\u0006\u0000\u0000\u0209t\u0001\u0000\u0000\u0000"+
+		"\u020a\u020b\u0007\u0011\u0000\u0000\u020bv\u0001\u0000\u0000\u0000\u020c"+
+		"\u020d\u0007\u0001\u0000\u0000\u020dx\u0001\u0000\u0000\u0000\u020e\u020f"+
+		"\u0007\u0012\u0000\u0000\u020fz\u0001\u0000\u0000\u0000\u0210\u0211\u0007"+
+		"\u0013\u0000\u0000\u0211|\u0001\u0000\u0000\u0000\u0212\u0213\u0007\u0014"+
+		"\u0000\u0000\u0213~\u0001\u0000\u0000\u0000\u0214\u0215\u0007\u0004\u0000"+
+		"\u0000\u0215\u0080\u0001\u0000\u0000\u0000\u0216\u0217\u0007\u0002\u0000"+
+		"\u0000\u0217\u0082\u0001\u0000\u0000\u0000\u0218\u0219\u0007\u0005\u0000"+
+		"\u0000\u0219\u0084\u0001\u0000\u0000\u0000\u021a\u021b\u0007\u0015\u0000"+
+		"\u0000\u021b\u0086\u0001\u0000\u0000\u0000\u021c\u021d\u0007\u0016\u0000"+
+		"\u0000\u021d\u0088\u0001\u0000\u0000\u0000\u021e\u021f\u0007\u0017\u0000"+
+		"\u0000\u021f\u008a\u0001\u0000\u0000\u0000\u0220\u0221\u0007\u0018\u0000"+
+		"\u0000\u0221\u008c\u0001\u0000\u0000\u0000\u0222\u0223\u0007\u0019\u0000"+
+		"\u0000\u0223\u008e\u0001\u0000\u0000\u0000\u0224\u0225\u0007\u001a\u0000"+
+		"\u0000\u0225\u0090\u0001\u0000\u0000\u0000\u0226\u0227\u0005=\u0000\u0000"+
+		"\u0227\u0092\u0001\u0000\u0000\u0000\u0228\u0229\u0005<\u0000\u0000\u0229"+
+		"\u0094\u0001\u0000\u0000\u0000\u022a\u022b\u0005>\u0000\u0000\u022b\u0096"+
+		"\u0001\u0000\u0000\u0000\u022c\u022d\u0005<\u0000\u0000\u022d\u022e\u0005"+
+		"=\u0000\u0000\u022e\u0098\u0001\u0000\u0000\u0000\u022f\u0230\u0005>\u0000"+
+		"\u0000\u0230\u0231\u0005=\u0000\u0000\u0231\u009a\u0001\u0000\u0000\u0000"+
+		"\u0232\u0233\u0005=\u0000\u0000\u0233\u0234\u0005=\u0000\u0000\u0234\u009c"+
+		"\u0001\u0000\u0000\u0000\u0235\u0236\u0003].\u0000\u0236\u0237\u0003w"+
+		";\u0000\u0237\u0238\u0003c1\u0000\u0238\u009e\u0001\u0000\u0000\u0000"+
+		"\u0239\u023a\u0003y<\u0000\u023a\u023b\u0003\u007f?\u0000\u023b\u00a0"+
+		"\u0001\u0000\u0000\u0000\u023c\u023d\u0003w;\u0000\u023d\u023e\u0003y"+
+		"<\u0000\u023e\u023f\u0003\u0083A\u0000\u023f\u00a2\u0001\u0000\u0000\u0000"+
+		"\u0240\u0241\u0005<\u0000\u0000\u0241\u0245\u0005>\u0000\u0000\u0242\u0243"+
+		"\u0005!\u0000\u0000\u0243\u0245\u0005=\u0000\u0000\u0244\u0240\u0001\u0000"+
+		"\u0000\u0000\u0244\u0242\u0001\u0000\u0000\u0000\u0245\u00a4\u0001\u0000"+
+		"\u0000\u0000\u0246\u0247\u0003\u0081@\u0000\u0247\u0248\u0003\u0085B\u0000"+
+		"\u0248\u0249\u0003u:\u0000\u0249\u00a6\u0001\u0000\u0000\u0000\u024a\u024b"+
+		"\u0003].\u0000\u024b\u024c\u0003\u0087C\u0000\u024c\u024d\u0003i4\u0000"+
+		"\u024d\u00a8\u0001\u0000\u0000\u0000\u024e\u024f\u0003a0\u0000\u024f\u0250"+
+		"\u0003y<\u0000\u0250\u0251\u0003\u0085B\u0000\u0251\u0252\u0003w;\u0000"+
+		"\u0252\u0253\u0003\u0083A\u0000\u0253\u00aa\u0001\u0000\u0000\u0000\u0254"+
+		"\u0255\u0003u:\u0000\u0255\u0256\u0003m6\u0000\u0256\u0257\u0003w;\u0000"+
+		"\u0257\u00ac\u0001\u0000\u0000\u0000\u0258\u0259\u0003u:\u0000\u0259\u025a"+
+		"\u0003].\u0000\u025a\u025b\u0003\u008bE\u0000\u025b\u00ae\u0001\u0000"+
+		"\u0000\u0000\u025c\u025d\u0003s9\u0000\u025d\u025e\u0003m6\u0000\u025e"+
+		"\u025f\u0003q8\u0000\u025f\u0260\u0003e2\u0000\u0260\u00b0\u0001\u0000"+
+		"\u0000\u0000\u0261\u0265\u0007\u001b\u0000\u0000\u0262\u0264\u0007\u001c"+
+		"\u0000\u0000\u0263\u0262\u0001\u0000\u0000\u0000\u0264\u0267\u0001\u0000"+
+		"\u0000\u0000\u0265\u0263\u0001\u0000\u0000\u0000\u0265\u0266\u0001\u0000"+
+		"\u0000\u0000\u0266\u00b2\u0001\u0000\u0000\u0000\u0267\u0265\u0001\u0000"+
+		"\u0000\u0000\u0268\u0269\u0005_\u0000\u0000\u0269\u00b4\u0001\u0000\u0000"+
+		"\u0000\u026a\u026b\u0005\"\u0000\u0000\u026b\u00b6\u0001\u0000\u0000\u0000"+
+		"\u026c\u0272\u0005\'\u0000\u0000\u026d\u026e\u0005\\\u0000\u0000\u026e"+
+		"\u0271\t\u0000\u0000\u0000\u026f\u0271\b\u001d\u0000\u0000\u0270\u026d"+
+		"\u0001\u0000\u0000\u0000\u0270\u026f\u0001\u0000\u0000\u0000\u0271\u0274"+
+		"\u0001\u0000\u0000\u0000\u0272\u0270\u0001\u0000\u0000\u0000\u0272\u0273"+
+		"\u0001\u0000\u0000\u0000\u0273\u0275\u0001\u0000\u0000\u0000\u0274\u0272"+
+		"\u0001\u0000\u0000\u0000\u0275\u0276\u0005\'\u0000\u0000\u0276\u00b8\u0001"+
+		"\u0000\u0000\u0000\u0277\u0278\u0005+\u0000\u0000\u0278\u00ba\u0001\u0000"+
+		"\u0000\u0000\u0279\u027a\u0005-\u0000\u0000\u027a\u00bc\u0001\u0000\u0000"+
+		"\u0000\u027b\u027c\u0005/\u0000\u0000\u027c\u00be\u0001\u0000\u0000\u0000"+
+		"\u027d\u027f\u0007\u001e\u0000\u0000\u027e\u027d\u0001\u0000\u0000\u0000"+
+		"\u027f\u0280\u0001\u0000\u0000\u0000\u0280\u027e\u0001\u0000\u0000\u0000"+
+		"\u0280\u0281\u0001\u0000\u0000\u0000\u0281\u0282\u0001\u0000\u0000\u0000"+
+		"\u0282\u0283\u0006_\u0000\u0000\u0283\u00c0\u0001\u0000\u0000\u0000\u000b"+
+		"\u0000\u00ee\u0112\u018d\u0193\u0195\u0244\u0265\u0270\u0272\u0280\u0001"+
+		"\u0006\u0000\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+// Generated from LFuncs.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class LFuncs extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		FC_SUM=1, FC_AVG=2, FC_CNT=3, FC_MIN=4, FC_MAX=5, FC_LIKE=6;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", "FC_MAX", "FC_LIKE", "A", "B", 
+			"C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P", 
+			"Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", "FC_MAX", "FC_LIKE"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public LFuncs(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "LFuncs.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000\u0006\u0090\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
+		"\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002"+
+		"\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002"+
+		"\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002"+
+		"\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e"+
+		"\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011"+
+		"\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014"+
+		"\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017"+
+		"\u0002\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a"+
+		"\u0002\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d"+
+		"\u0002\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0001\u0000\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004"+
+		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\b\u0001"+
+		"\b\u0001\t\u0001\t\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\f\u0001"+
+		"\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
+		"\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001"+
+		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001"+
+		"\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001"+
+		"\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001"+
+		"\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001"+
+		"\u001f\u0001\u001f\u0000\u0000 \u0001\u0001\u0003\u0002\u0005\u0003\u0007"+
+		"\u0004\t\u0005\u000b\u0006\r\u0000\u000f\u0000\u0011\u0000\u0013\u0000"+
+		"\u0015\u0000\u0017\u0000\u0019\u0000\u001b\u0000\u001d\u0000\u001f\u0000"+
+		"!\u0000#\u0000%\u0000\'\u0000)\u0000+\u0000-\u0000/\u00001\u00003\u0000"+
+		"5\u00007\u00009\u0000;\u0000=\u0000?\u0000\u0001\u0000\u001a\u0002\u0000"+
+		"AAaa\u0002\u0000BBbb\u0002\u0000CCcc\u0002\u0000DDdd\u0002\u0000EEee\u0002"+
+		"\u0000FFff\u0002\u0000GGgg\u0002\u0000HHhh\u0002\u0000IIii\u0002\u0000"+
+		"JJjj\u0002\u0000KKkk\u0002\u0000LLll\u0002\u0000MMmm\u0002\u0000NNnn\u0002"+
+		"\u0000OOoo\u0002\u0000PPpp\u0002\u0000QQqq\u0002\u0000RRrr\u0002\u0000"+
+		"SSss\u0002\u0000TTtt\u0002\u0000UUuu\u0002\u0000VVvv\u0002\u0000WWww\u0002"+
+		"\u0000XXxx\u0002\u0000YYyy\u0002\u0000ZZzzu\u0000\u0001\u0001\u0000\u0000"+
+		"\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000"+
+		"\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000"+
+		"\u0000\u000b\u0001\u0000\u0000\u0000\u0001A\u0001\u0000\u0000\u0000\u0003"+
+		"E\u0001\u0000\u0000\u0000\u0005I\u0001\u0000\u0000\u0000\u0007O\u0001"+
+		"\u0000\u0000\u0000\tS\u0001\u0000\u0000\u0000\u000bW\u0001\u0000\u0000"+
+		"\u0000\r\\\u0001\u0000\u0000\u0000\u000f^\u0001\u0000\u0000\u0000\u0011"+
+		"`\u0001\u0000\u0000\u0000\u0013b\u0001\u0000\u0000\u0000\u0015d\u0001"+
+		"\u0000\u0000\u0000\u0017f\u0001\u0000\u0000\u0000\u0019h\u0001\u0000\u0000"+
+		"\u0000\u001bj\u0001\u0000\u0000\u0000\u001dl\u0001\u0000\u0000\u0000\u001f"+
+		"n\u0001\u0000\u0000\u0000!p\u0001\u0000\u0000\u0000#r\u0001\u0000\u0000"+
+		"\u0000%t\u0001\u0000\u0000\u0000\'v\u0001\u0000\u0000\u0000)x\u0001\u0000"+
+		"\u0000\u0000+z\u0001\u0000\u0000\u0000-|\u0001\u0000\u0000\u0000/~\u0001"+
+		"\u0000\u0000\u00001\u0080\u0001\u0000\u0000\u00003\u0082\u0001\u0000\u0000"+
+		"\u00005\u0084\u0001\u0000\u0000\u00007\u0086\u0001\u0000\u0000\u00009"+
+		"\u0088\u0001\u0000\u0000\u0000;\u008a\u0001\u0000\u0000\u0000=\u008c\u0001"+
+		"\u0000\u0000\u0000?\u008e\u0001\u0000\u0000\u0000AB\u00031\u0018\u0000"+
+		"BC\u00035\u001a\u0000CD\u0003%\u0012\u0000D\u0002\u0001\u0000\u0000\u0000"+
+		"EF\u0003\r\u0006\u0000FG\u00037\u001b\u0000GH\u0003\u0019\f\u0000H\u0004"+
+		"\u0001\u0000\u0000\u0000IJ\u0003\u0011\b\u0000JK\u0003)\u0014\u0000KL"+
+		"\u00035\u001a\u0000LM\u0003\'\u0013\u0000MN\u00033\u0019\u0000N\u0006"+
+		"\u0001\u0000\u0000\u0000OP\u0003%\u0012\u0000PQ\u0003\u001d\u000e\u0000"+
+		"QR\u0003\'\u0013\u0000R\b\u0001\u0000\u0000\u0000ST\u0003%\u0012\u0000"+
+		"TU\u0003\r\u0006\u0000UV\u0003;\u001d\u0000V\n\u0001\u0000\u0000\u0000"+
+		"WX\u0003#\u0011\u0000XY\u0003\u001d\u000e\u0000YZ\u0003!\u0010\u0000Z"+
+		"[\u0003\u0015\n\u0000[\f\u0001\u0000\u0000\u0000\\]\u0007\u0000\u0000"+
+		"\u0000]\u000e\u0001\u0000\u0000\u0000^_\u0007\u0001\u0000\u0000_\u0010"+
+		"\u0001\u0000\u0000\u0000`a\u0007\u0002\u0000\u0000a\u0012\u0001\u0000"+
+		"\u0000\u0000bc\u0007\u0003\u0000\u0000c\u0014\u0001\u0000\u0000\u0000"+
+		"de\u0007\u0004\u0000\u0000e\u0016\u0001\u0000\u0000\u0000fg\u0007\u0005"+
+		"\u0000\u0000g\u0018\u0001\u0000\u0000\u0000hi\u0007\u0006\u0000\u0000"+
+		"i\u001a\u0001\u0000\u0000\u0000jk\u0007\u0007\u0000\u0000k\u001c\u0001"+
+		"\u0000\u0000\u0000lm\u0007\b\u0000\u0000m\u001e\u0001\u0000\u0000\u0000"+
+		"no\u0007\t\u0000\u0000o \u0001\u0000\u0000\u0000pq\u0007\n\u0000\u0000"+
+		"q\"\u0001\u0000\u0000\u0000rs\u0007\u000b\u0000\u0000s$\u0001\u0000\u0000"+
+		"\u0000tu\u0007\f\u0000\u0000u&\u0001\u0000\u0000\u0000vw\u0007\r\u0000"+
+		"\u0000w(\u0001\u0000\u0000\u0000xy\u0007\u000e\u0000\u0000y*\u0001\u0000"+
+		"\u0000\u0000z{\u0007\u000f\u0000\u0000{,\u0001\u0000\u0000\u0000|}\u0007"+
+		"\u0010\u0000\u0000}.\u0001\u0000\u0000\u0000~\u007f\u0007\u0011\u0000"+
+		"\u0000\u007f0\u0001\u0000\u0000\u0000\u0080\u0081\u0007\u0012\u0000\u0000"+
+		"\u00812\u0001\u0000\u0000\u0000\u0082\u0083\u0007\u0013\u0000\u0000\u0083"+
+		"4\u0001\u0000\u0000\u0000\u0084\u0085\u0007\u0014\u0000\u0000\u00856\u0001"+
+		"\u0000\u0000\u0000\u0086\u0087\u0007\u0015\u0000\u0000\u00878\u0001\u0000"+
+		"\u0000\u0000\u0088\u0089\u0007\u0016\u0000\u0000\u0089:\u0001\u0000\u0000"+
+		"\u0000\u008a\u008b\u0007\u0017\u0000\u0000\u008b<\u0001\u0000\u0000\u0000"+
+		"\u008c\u008d\u0007\u0018\u0000\u0000\u008d>\u0001\u0000\u0000\u0000\u008e"+
+		"\u008f\u0007\u0019\u0000\u0000\u008f@\u0001\u0000\u0000\u0000\u0001\u0000"+
+		"\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,223 @@
+// Generated from LGeneral.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class LGeneral extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		ID=1, NUMBER=2, UNDERSCORE=3, QUOTE=4, STRING=5, PLUS=6, MINUS=7, DIV=8, 
+		WS=9, SEMICOLON=10;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"ID", "NUMBER", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", "DIV", 
+			"WS", "SEMICOLON", "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", 
+			"K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", 
+			"Y", "Z"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, "'_'", "'\"'", null, "'+'", "'-'", "'/'", null, "';'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "ID", "NUMBER", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS", "SEMICOLON"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public LGeneral(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "LGeneral.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000\n\u00af\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
+		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
+		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
+		"\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002"+
+		"\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002"+
+		"\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002"+
+		"\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002"+
+		"\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002"+
+		"\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002"+
+		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
+		"!\u0002\"\u0007\"\u0002#\u0007#\u0001\u0000\u0001\u0000\u0005\u0000L\b"+
+		"\u0000\n\u0000\f\u0000O\t\u0000\u0001\u0001\u0004\u0001R\b\u0001\u000b"+
+		"\u0001\f\u0001S\u0001\u0001\u0001\u0001\u0004\u0001X\b\u0001\u000b\u0001"+
+		"\f\u0001Y\u0003\u0001\\\b\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001"+
+		"\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0005\u0004f\b"+
+		"\u0004\n\u0004\f\u0004i\t\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001"+
+		"\u0005\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\b\u0004\b"+
+		"t\b\b\u000b\b\f\bu\u0001\b\u0001\b\u0001\t\u0001\t\u0001\n\u0001\n\u0001"+
+		"\u000b\u0001\u000b\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e"+
+		"\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011"+
+		"\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014"+
+		"\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017"+
+		"\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a"+
+		"\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d"+
+		"\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001!"+
+		"\u0001!\u0001\"\u0001\"\u0001#\u0001#\u0000\u0000$\u0001\u0001\u0003\u0002"+
+		"\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013"+
+		"\n\u0015\u0000\u0017\u0000\u0019\u0000\u001b\u0000\u001d\u0000\u001f\u0000"+
+		"!\u0000#\u0000%\u0000\'\u0000)\u0000+\u0000-\u0000/\u00001\u00003\u0000"+
+		"5\u00007\u00009\u0000;\u0000=\u0000?\u0000A\u0000C\u0000E\u0000G\u0000"+
+		"\u0001\u0000\u001f\u0003\u0000AZ__az\u0004\u000009AZ__az\u0001\u00000"+
+		"9\u0002\u0000\'\'\\\\\u0003\u0000\t\n\r\r  \u0002\u0000AAaa\u0002\u0000"+
+		"BBbb\u0002\u0000CCcc\u0002\u0000DDdd\u0002\u0000EEee\u0002\u0000FFff\u0002"+
+		"\u0000GGgg\u0002\u0000HHhh\u0002\u0000IIii\u0002\u0000JJjj\u0002\u0000"+
+		"KKkk\u0002\u0000LLll\u0002\u0000MMmm\u0002\u0000NNnn\u0002\u0000OOoo\u0002"+
+		"\u0000PPpp\u0002\u0000QQqq\u0002\u0000RRrr\u0002\u0000SSss\u0002\u0000"+
+		"TTtt\u0002\u0000UUuu\u0002\u0000VVvv\u0002\u0000WWww\u0002\u0000XXxx\u0002"+
+		"\u0000YYyy\u0002\u0000ZZzz\u009b\u0000\u0001\u0001\u0000\u0000\u0000\u0000"+
+		"\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000"+
+		"\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b"+
+		"\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001"+
+		"\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001"+
+		"\u0000\u0000\u0000\u0001I\u0001\u0000\u0000\u0000\u0003Q\u0001\u0000\u0000"+
+		"\u0000\u0005]\u0001\u0000\u0000\u0000\u0007_\u0001\u0000\u0000\u0000\t"+
+		"a\u0001\u0000\u0000\u0000\u000bl\u0001\u0000\u0000\u0000\rn\u0001\u0000"+
+		"\u0000\u0000\u000fp\u0001\u0000\u0000\u0000\u0011s\u0001\u0000\u0000\u0000"+
+		"\u0013y\u0001\u0000\u0000\u0000\u0015{\u0001\u0000\u0000\u0000\u0017}"+
+		"\u0001\u0000\u0000\u0000\u0019\u007f\u0001\u0000\u0000\u0000\u001b\u0081"+
+		"\u0001\u0000\u0000\u0000\u001d\u0083\u0001\u0000\u0000\u0000\u001f\u0085"+
+		"\u0001\u0000\u0000\u0000!\u0087\u0001\u0000\u0000\u0000#\u0089\u0001\u0000"+
+		"\u0000\u0000%\u008b\u0001\u0000\u0000\u0000\'\u008d\u0001\u0000\u0000"+
+		"\u0000)\u008f\u0001\u0000\u0000\u0000+\u0091\u0001\u0000\u0000\u0000-"+
+		"\u0093\u0001\u0000\u0000\u0000/\u0095\u0001\u0000\u0000\u00001\u0097\u0001"+
+		"\u0000\u0000\u00003\u0099\u0001\u0000\u0000\u00005\u009b\u0001\u0000\u0000"+
+		"\u00007\u009d\u0001\u0000\u0000\u00009\u009f\u0001\u0000\u0000\u0000;"+
+		"\u00a1\u0001\u0000\u0000\u0000=\u00a3\u0001\u0000\u0000\u0000?\u00a5\u0001"+
+		"\u0000\u0000\u0000A\u00a7\u0001\u0000\u0000\u0000C\u00a9\u0001\u0000\u0000"+
+		"\u0000E\u00ab\u0001\u0000\u0000\u0000G\u00ad\u0001\u0000\u0000\u0000I"+
+		"M\u0007\u0000\u0000\u0000JL\u0007\u0001\u0000\u0000KJ\u0001\u0000\u0000"+
+		"\u0000LO\u0001\u0000\u0000\u0000MK\u0001\u0000\u0000\u0000MN\u0001\u0000"+
+		"\u0000\u0000N\u0002\u0001\u0000\u0000\u0000OM\u0001\u0000\u0000\u0000"+
+		"PR\u0007\u0002\u0000\u0000QP\u0001\u0000\u0000\u0000RS\u0001\u0000\u0000"+
+		"\u0000SQ\u0001\u0000\u0000\u0000ST\u0001\u0000\u0000\u0000T[\u0001\u0000"+
+		"\u0000\u0000UW\u0005.\u0000\u0000VX\u0007\u0002\u0000\u0000WV\u0001\u0000"+
+		"\u0000\u0000XY\u0001\u0000\u0000\u0000YW\u0001\u0000\u0000\u0000YZ\u0001"+
+		"\u0000\u0000\u0000Z\\\u0001\u0000\u0000\u0000[U\u0001\u0000\u0000\u0000"+
+		"[\\\u0001\u0000\u0000\u0000\\\u0004\u0001\u0000\u0000\u0000]^\u0005_\u0000"+
+		"\u0000^\u0006\u0001\u0000\u0000\u0000_`\u0005\"\u0000\u0000`\b\u0001\u0000"+
+		"\u0000\u0000ag\u0005\'\u0000\u0000bc\u0005\\\u0000\u0000cf\t\u0000\u0000"+
+		"\u0000df\b\u0003\u0000\u0000eb\u0001\u0000\u0000\u0000ed\u0001\u0000\u0000"+
+		"\u0000fi\u0001\u0000\u0000\u0000ge\u0001\u0000\u0000\u0000gh\u0001\u0000"+
+		"\u0000\u0000hj\u0001\u0000\u0000\u0000ig\u0001\u0000\u0000\u0000jk\u0005"+
+		"\'\u0000\u0000k\n\u0001\u0000\u0000\u0000lm\u0005+\u0000\u0000m\f\u0001"+
+		"\u0000\u0000\u0000no\u0005-\u0000\u0000o\u000e\u0001\u0000\u0000\u0000"+
+		"pq\u0005/\u0000\u0000q\u0010\u0001\u0000\u0000\u0000rt\u0007\u0004\u0000"+
+		"\u0000sr\u0001\u0000\u0000\u0000tu\u0001\u0000\u0000\u0000us\u0001\u0000"+
+		"\u0000\u0000uv\u0001\u0000\u0000\u0000vw\u0001\u0000\u0000\u0000wx\u0006"+
+		"\b\u0000\u0000x\u0012\u0001\u0000\u0000\u0000yz\u0005;\u0000\u0000z\u0014"+
+		"\u0001\u0000\u0000\u0000{|\u0007\u0005\u0000\u0000|\u0016\u0001\u0000"+
+		"\u0000\u0000}~\u0007\u0006\u0000\u0000~\u0018\u0001\u0000\u0000\u0000"+
+		"\u007f\u0080\u0007\u0007\u0000\u0000\u0080\u001a\u0001\u0000\u0000\u0000"+
+		"\u0081\u0082\u0007\b\u0000\u0000\u0082\u001c\u0001\u0000\u0000\u0000\u0083"+
+		"\u0084\u0007\t\u0000\u0000\u0084\u001e\u0001\u0000\u0000\u0000\u0085\u0086"+
+		"\u0007\n\u0000\u0000\u0086 \u0001\u0000\u0000\u0000\u0087\u0088\u0007"+
+		"\u000b\u0000\u0000\u0088\"\u0001\u0000\u0000\u0000\u0089\u008a\u0007\f"+
+		"\u0000\u0000\u008a$\u0001\u0000\u0000\u0000\u008b\u008c\u0007\r\u0000"+
+		"\u0000\u008c&\u0001\u0000\u0000\u0000\u008d\u008e\u0007\u000e\u0000\u0000"+
+		"\u008e(\u0001\u0000\u0000\u0000\u008f\u0090\u0007\u000f\u0000\u0000\u0090"+
+		"*\u0001\u0000\u0000\u0000\u0091\u0092\u0007\u0010\u0000\u0000\u0092,\u0001"+
+		"\u0000\u0000\u0000\u0093\u0094\u0007\u0011\u0000\u0000\u0094.\u0001\u0000"+
+		"\u0000\u0000\u0095\u0096\u0007\u0012\u0000\u0000\u00960\u0001\u0000\u0000"+
+		"\u0000\u0097\u0098\u0007\u0013\u0000\u0000\u00982\u0001\u0000\u0000\u0000"+
+		"\u0099\u009a\u0007\u0014\u0000\u0000\u009a4\u0001\u0000\u0000\u0000\u009b"+
+		"\u009c\u0007\u0015\u0000\u0000\u009c6\u0001\u0000\u0000\u0000\u009d\u009e"+
+		"\u0007\u0016\u0000\u0000\u009e8\u0001\u0000\u0000\u0000\u009f\u00a0\u0007"+
+		"\u0017\u0000\u0000\u00a0:\u0001\u0000\u0000\u0000\u00a1\u00a2\u0007\u0018"+
+		"\u0000\u0000\u00a2<\u0001\u0000\u0000\u0000\u00a3\u00a4\u0007\u0019\u0000"+
+		"\u0000\u00a4>\u0001\u0000\u0000\u0000\u00a5\u00a6\u0007\u001a\u0000\u0000"+
+		"\u00a6@\u0001\u0000\u0000\u0000\u00a7\u00a8\u0007\u001b\u0000\u0000\u00a8"+
+		"B\u0001\u0000\u0000\u0000\u00a9\u00aa\u0007\u001c\u0000\u0000\u00aaD\u0001"+
+		"\u0000\u0000\u0000\u00ab\u00ac\u0007\u001d\u0000\u0000\u00acF\u0001\u0000"+
+		"\u0000\u0000\u00ad\u00ae\u0007\u001e\u0000\u0000\u00aeH\u0001\u0000\u0000"+
+		"\u0000\b\u0000MSY[egu\u0001\u0006\u0000\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,412 @@
+// Generated from LKeywords.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class LKeywords extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_BEGIN=1, KW_TRANSACTION=2, KW_FROM=3, KW_WHERE=4, KW_AS=5, KW_STAR=6, 
+		KW_COMMA=7, KW_INSERT=8, KW_SELECT=9, KW_INTO=10, KW_VALUES=11, KW_SHOW=12, 
+		KW_TABLES=13, KW_CREATE=14, KW_TABLE=15, KW_DROP=16, KW_NOT=17, KW_DEFAULT=18, 
+		KW_PRIMARY=19, KW_KEY=20, KW_FOREIGN=21, KW_REFERENCES=22, KW_LIKE=23, 
+		KW_INT=24, KW_STR=25, NUMBER=26, KW_TEXT=27, KW_VARCHAR=28, KW_COMMIT=29, 
+		KW_ROLLBACK=30, KW_DELETE=31, KW_IS=32, KW_FOR=33, KW_DATABASE=34, KW_FILES=35, 
+		KW_COPY=36, KW_WITH=37, KW_VACUUM=38, KW_INDEX=39, KW_ON=40, KW_USING=41, 
+		KW_UNIQUE=42;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", "KW_STAR", 
+			"KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", "KW_SHOW", 
+			"KW_TABLES", "KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", 
+			"KW_PRIMARY", "KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", 
+			"KW_STR", "NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", 
+			"KW_DELETE", "KW_IS", "KW_FOR", "KW_DATABASE", "KW_FILES", "KW_COPY", 
+			"KW_WITH", "KW_VACUUM", "KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", 
+			"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", 
+			"O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, null, "'*'", "','"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", "KW_STAR", 
+			"KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", "KW_SHOW", 
+			"KW_TABLES", "KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", 
+			"KW_PRIMARY", "KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", 
+			"KW_STR", "NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", 
+			"KW_DELETE", "KW_IS", "KW_FOR", "KW_DATABASE", "KW_FILES", "KW_COPY", 
+			"KW_WITH", "KW_VACUUM", "KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public LKeywords(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "LKeywords.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000*\u01e3\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
+		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
+		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
+		"\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002"+
+		"\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002"+
+		"\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002"+
+		"\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002"+
+		"\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002"+
+		"\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002"+
+		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
+		"!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007"+
+		"&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007"+
+		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u0007"+
+		"0\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u00025\u0007"+
+		"5\u00026\u00076\u00027\u00077\u00028\u00078\u00029\u00079\u0002:\u0007"+
+		":\u0002;\u0007;\u0002<\u0007<\u0002=\u0007=\u0002>\u0007>\u0002?\u0007"+
+		"?\u0002@\u0007@\u0002A\u0007A\u0002B\u0007B\u0002C\u0007C\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0000\u0003\u0000\u009a\b\u0000\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001\u00be\b\u0001\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004"+
+		"\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001"+
+		"\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
+		"\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+		"\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
+		"\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
+		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
+		"\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
+		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001"+
+		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
+		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0004"+
+		"\u0019\u0143\b\u0019\u000b\u0019\f\u0019\u0144\u0001\u0019\u0001\u0019"+
+		"\u0004\u0019\u0149\b\u0019\u000b\u0019\f\u0019\u014a\u0003\u0019\u014d"+
+		"\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001"+
+		"\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
+		"\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
+		"\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
+		"\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001"+
+		" \u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0001"+
+		"#\u0001#\u0001$\u0001$\u0001$\u0001$\u0001$\u0001%\u0001%\u0001%\u0001"+
+		"%\u0001%\u0001%\u0001%\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"\'\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001)\u0001"+
+		")\u0001)\u0001)\u0001)\u0001)\u0001)\u0001*\u0001*\u0001+\u0001+\u0001"+
+		",\u0001,\u0001-\u0001-\u0001.\u0001.\u0001/\u0001/\u00010\u00010\u0001"+
+		"1\u00011\u00012\u00012\u00013\u00013\u00014\u00014\u00015\u00015\u0001"+
+		"6\u00016\u00017\u00017\u00018\u00018\u00019\u00019\u0001:\u0001:\u0001"+
+		";\u0001;\u0001<\u0001<\u0001=\u0001=\u0001>\u0001>\u0001?\u0001?\u0001"+
+		"@\u0001@\u0001A\u0001A\u0001B\u0001B\u0001C\u0001C\u0000\u0000D\u0001"+
+		"\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007"+
+		"\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d"+
+		"\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/"+
+		"\u00181\u00193\u001a5\u001b7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K"+
+		"&M\'O(Q)S*U\u0000W\u0000Y\u0000[\u0000]\u0000_\u0000a\u0000c\u0000e\u0000"+
+		"g\u0000i\u0000k\u0000m\u0000o\u0000q\u0000s\u0000u\u0000w\u0000y\u0000"+
+		"{\u0000}\u0000\u007f\u0000\u0081\u0000\u0083\u0000\u0085\u0000\u0087\u0000"+
+		"\u0001\u0000\u001b\u0002\u0000IIii\u0002\u0000NNnn\u0002\u0000SSss\u0002"+
+		"\u0000EEee\u0002\u0000RRrr\u0002\u0000TTtt\u0002\u0000LLll\u0002\u0000"+
+		"CCcc\u0002\u0000HHhh\u0002\u0000OOoo\u0002\u0000WWww\u0001\u000009\u0002"+
+		"\u0000AAaa\u0002\u0000BBbb\u0002\u0000DDdd\u0002\u0000FFff\u0002\u0000"+
+		"GGgg\u0002\u0000JJjj\u0002\u0000KKkk\u0002\u0000MMmm\u0002\u0000PPpp\u0002"+
+		"\u0000QQqq\u0002\u0000UUuu\u0002\u0000VVvv\u0002\u0000XXxx\u0002\u0000"+
+		"YYyy\u0002\u0000ZZzz\u01cf\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003"+
+		"\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007"+
+		"\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001"+
+		"\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000"+
+		"\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000"+
+		"\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000"+
+		"\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000"+
+		"\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000"+
+		"\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000"+
+		"\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000"+
+		")\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001"+
+		"\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000"+
+		"\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u0000"+
+		"7\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001"+
+		"\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000"+
+		"\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000"+
+		"E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001"+
+		"\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000"+
+		"\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000"+
+		"S\u0001\u0000\u0000\u0000\u0001\u0099\u0001\u0000\u0000\u0000\u0003\u00bd"+
+		"\u0001\u0000\u0000\u0000\u0005\u00bf\u0001\u0000\u0000\u0000\u0007\u00c4"+
+		"\u0001\u0000\u0000\u0000\t\u00ca\u0001\u0000\u0000\u0000\u000b\u00cd\u0001"+
+		"\u0000\u0000\u0000\r\u00cf\u0001\u0000\u0000\u0000\u000f\u00d1\u0001\u0000"+
+		"\u0000\u0000\u0011\u00d8\u0001\u0000\u0000\u0000\u0013\u00df\u0001\u0000"+
+		"\u0000\u0000\u0015\u00e4\u0001\u0000\u0000\u0000\u0017\u00eb\u0001\u0000"+
+		"\u0000\u0000\u0019\u00f0\u0001\u0000\u0000\u0000\u001b\u00f7\u0001\u0000"+
+		"\u0000\u0000\u001d\u00fe\u0001\u0000\u0000\u0000\u001f\u0104\u0001\u0000"+
+		"\u0000\u0000!\u0109\u0001\u0000\u0000\u0000#\u010d\u0001\u0000\u0000\u0000"+
+		"%\u0115\u0001\u0000\u0000\u0000\'\u011d\u0001\u0000\u0000\u0000)\u0121"+
+		"\u0001\u0000\u0000\u0000+\u0129\u0001\u0000\u0000\u0000-\u0134\u0001\u0000"+
+		"\u0000\u0000/\u0139\u0001\u0000\u0000\u00001\u013d\u0001\u0000\u0000\u0000"+
+		"3\u0142\u0001\u0000\u0000\u00005\u014e\u0001\u0000\u0000\u00007\u0153"+
+		"\u0001\u0000\u0000\u00009\u015b\u0001\u0000\u0000\u0000;\u0162\u0001\u0000"+
+		"\u0000\u0000=\u016b\u0001\u0000\u0000\u0000?\u0172\u0001\u0000\u0000\u0000"+
+		"A\u0175\u0001\u0000\u0000\u0000C\u0179\u0001\u0000\u0000\u0000E\u0182"+
+		"\u0001\u0000\u0000\u0000G\u0188\u0001\u0000\u0000\u0000I\u018d\u0001\u0000"+
+		"\u0000\u0000K\u0192\u0001\u0000\u0000\u0000M\u0199\u0001\u0000\u0000\u0000"+
+		"O\u019f\u0001\u0000\u0000\u0000Q\u01a2\u0001\u0000\u0000\u0000S\u01a8"+
+		"\u0001\u0000\u0000\u0000U\u01af\u0001\u0000\u0000\u0000W\u01b1\u0001\u0000"+
+		"\u0000\u0000Y\u01b3\u0001\u0000\u0000\u0000[\u01b5\u0001\u0000\u0000\u0000"+
+		"]\u01b7\u0001\u0000\u0000\u0000_\u01b9\u0001\u0000\u0000\u0000a\u01bb"+
+		"\u0001\u0000\u0000\u0000c\u01bd\u0001\u0000\u0000\u0000e\u01bf\u0001\u0000"+
+		"\u0000\u0000g\u01c1\u0001\u0000\u0000\u0000i\u01c3\u0001\u0000\u0000\u0000"+
+		"k\u01c5\u0001\u0000\u0000\u0000m\u01c7\u0001\u0000\u0000\u0000o\u01c9"+
+		"\u0001\u0000\u0000\u0000q\u01cb\u0001\u0000\u0000\u0000s\u01cd\u0001\u0000"+
+		"\u0000\u0000u\u01cf\u0001\u0000\u0000\u0000w\u01d1\u0001\u0000\u0000\u0000"+
+		"y\u01d3\u0001\u0000\u0000\u0000{\u01d5\u0001\u0000\u0000\u0000}\u01d7"+
+		"\u0001\u0000\u0000\u0000\u007f\u01d9\u0001\u0000\u0000\u0000\u0081\u01db"+
+		"\u0001\u0000\u0000\u0000\u0083\u01dd\u0001\u0000\u0000\u0000\u0085\u01df"+
+		"\u0001\u0000\u0000\u0000\u0087\u01e1\u0001\u0000\u0000\u0000\u0089\u008a"+
+		"\u0003W+\u0000\u008a\u008b\u0003].\u0000\u008b\u008c\u0003a0\u0000\u008c"+
+		"\u008d\u0003e2\u0000\u008d\u008e\u0003o7\u0000\u008e\u009a\u0001\u0000"+
+		"\u0000\u0000\u008f\u0090\u0005b\u0000\u0000\u0090\u0091\u0005e\u0000\u0000"+
+		"\u0091\u0092\u0005g\u0000\u0000\u0092\u0093\u0005i\u0000\u0000\u0093\u009a"+
+		"\u0005n\u0000\u0000\u0094\u0095\u0005B\u0000\u0000\u0095\u0096\u0005e"+
+		"\u0000\u0000\u0096\u0097\u0005g\u0000\u0000\u0097\u0098\u0005i\u0000\u0000"+
+		"\u0098\u009a\u0005n\u0000\u0000\u0099\u0089\u0001\u0000\u0000\u0000\u0099"+
+		"\u008f\u0001\u0000\u0000\u0000\u0099\u0094\u0001\u0000\u0000\u0000\u009a"+
+		"\u0002\u0001\u0000\u0000\u0000\u009b\u009c\u0003{=\u0000\u009c\u009d\u0003"+
+		"w;\u0000\u009d\u009e\u0003U*\u0000\u009e\u009f\u0003o7\u0000\u009f\u00a0"+
+		"\u0003y<\u0000\u00a0\u00a1\u0003U*\u0000\u00a1\u00a2\u0003Y,\u0000\u00a2"+
+		"\u00a3\u0003{=\u0000\u00a3\u00a4\u0003e2\u0000\u00a4\u00a5\u0003q8\u0000"+
+		"\u00a5\u00a6\u0003o7\u0000\u00a6\u00be\u0001\u0000\u0000\u0000\u00a7\u00a8"+
+		"\u0005t\u0000\u0000\u00a8\u00a9\u0005r\u0000\u0000\u00a9\u00aa\u0005a"+
+		"\u0000\u0000\u00aa\u00ab\u0005n\u0000\u0000\u00ab\u00ac\u0005s\u0000\u0000"+
+		"\u00ac\u00ad\u0005a\u0000\u0000\u00ad\u00ae\u0005c\u0000\u0000\u00ae\u00af"+
+		"\u0005t\u0000\u0000\u00af\u00b0\u0005i\u0000\u0000\u00b0\u00b1\u0005o"+
+		"\u0000\u0000\u00b1\u00be\u0005n\u0000\u0000\u00b2\u00b3\u0005T\u0000\u0000"+
+		"\u00b3\u00b4\u0005r\u0000\u0000\u00b4\u00b5\u0005a\u0000\u0000\u00b5\u00b6"+
+		"\u0005n\u0000\u0000\u00b6\u00b7\u0005s\u0000\u0000\u00b7\u00b8\u0005a"+
+		"\u0000\u0000\u00b8\u00b9\u0005c\u0000\u0000\u00b9\u00ba\u0005t\u0000\u0000"+
+		"\u00ba\u00bb\u0005i\u0000\u0000\u00bb\u00bc\u0005o\u0000\u0000\u00bc\u00be"+
+		"\u0005n\u0000\u0000\u00bd\u009b\u0001\u0000\u0000\u0000\u00bd\u00a7\u0001"+
+		"\u0000\u0000\u0000\u00bd\u00b2\u0001\u0000\u0000\u0000\u00be\u0004\u0001"+
+		"\u0000\u0000\u0000\u00bf\u00c0\u0003_/\u0000\u00c0\u00c1\u0003w;\u0000"+
+		"\u00c1\u00c2\u0003q8\u0000\u00c2\u00c3\u0003m6\u0000\u00c3\u0006\u0001"+
+		"\u0000\u0000\u0000\u00c4\u00c5\u0003\u0081@\u0000\u00c5\u00c6\u0003c1"+
+		"\u0000\u00c6\u00c7\u0003].\u0000\u00c7\u00c8\u0003w;\u0000\u00c8\u00c9"+
+		"\u0003].\u0000\u00c9\b\u0001\u0000\u0000\u0000\u00ca\u00cb\u0003U*\u0000"+
+		"\u00cb\u00cc\u0003y<\u0000\u00cc\n\u0001\u0000\u0000\u0000\u00cd\u00ce"+
+		"\u0005*\u0000\u0000\u00ce\f\u0001\u0000\u0000\u0000\u00cf\u00d0\u0005"+
+		",\u0000\u0000\u00d0\u000e\u0001\u0000\u0000\u0000\u00d1\u00d2\u0007\u0000"+
+		"\u0000\u0000\u00d2\u00d3\u0007\u0001\u0000\u0000\u00d3\u00d4\u0007\u0002"+
+		"\u0000\u0000\u00d4\u00d5\u0007\u0003\u0000\u0000\u00d5\u00d6\u0007\u0004"+
+		"\u0000\u0000\u00d6\u00d7\u0007\u0005\u0000\u0000\u00d7\u0010\u0001\u0000"+
+		"\u0000\u0000\u00d8\u00d9\u0007\u0002\u0000\u0000\u00d9\u00da\u0007\u0003"+
+		"\u0000\u0000\u00da\u00db\u0007\u0006\u0000\u0000\u00db\u00dc\u0007\u0003"+
+		"\u0000\u0000\u00dc\u00dd\u0007\u0007\u0000\u0000\u00dd\u00de\u0007\u0005"+
+		"\u0000\u0000\u00de\u0012\u0001\u0000\u0000\u0000\u00df\u00e0\u0003e2\u0000"+
+		"\u00e0\u00e1\u0003o7\u0000\u00e1\u00e2\u0003{=\u0000\u00e2\u00e3\u0003"+
+		"q8\u0000\u00e3\u0014\u0001\u0000\u0000\u0000\u00e4\u00e5\u0003\u007f?"+
+		"\u0000\u00e5\u00e6\u0003U*\u0000\u00e6\u00e7\u0003k5\u0000\u00e7\u00e8"+
+		"\u0003}>\u0000\u00e8\u00e9\u0003].\u0000\u00e9\u00ea\u0003y<\u0000\u00ea"+
+		"\u0016\u0001\u0000\u0000\u0000\u00eb\u00ec\u0007\u0002\u0000\u0000\u00ec"+
+		"\u00ed\u0007\b\u0000\u0000\u00ed\u00ee\u0007\t\u0000\u0000\u00ee\u00ef"+
+		"\u0007\n\u0000\u0000\u00ef\u0018\u0001\u0000\u0000\u0000\u00f0\u00f1\u0003"+
+		"{=\u0000\u00f1\u00f2\u0003U*\u0000\u00f2\u00f3\u0003W+\u0000\u00f3\u00f4"+
+		"\u0003k5\u0000\u00f4\u00f5\u0003].\u0000\u00f5\u00f6\u0003y<\u0000\u00f6"+
+		"\u001a\u0001\u0000\u0000\u0000\u00f7\u00f8\u0003Y,\u0000\u00f8\u00f9\u0003"+
+		"w;\u0000\u00f9\u00fa\u0003].\u0000\u00fa\u00fb\u0003U*\u0000\u00fb\u00fc"+
+		"\u0003{=\u0000\u00fc\u00fd\u0003].\u0000\u00fd\u001c\u0001\u0000\u0000"+
+		"\u0000\u00fe\u00ff\u0003{=\u0000\u00ff\u0100\u0003U*\u0000\u0100\u0101"+
+		"\u0003W+\u0000\u0101\u0102\u0003k5\u0000\u0102\u0103\u0003].\u0000\u0103"+
+		"\u001e\u0001\u0000\u0000\u0000\u0104\u0105\u0003[-\u0000\u0105\u0106\u0003"+
+		"w;\u0000\u0106\u0107\u0003q8\u0000\u0107\u0108\u0003s9\u0000\u0108 \u0001"+
+		"\u0000\u0000\u0000\u0109\u010a\u0003o7\u0000\u010a\u010b\u0003q8\u0000"+
+		"\u010b\u010c\u0003{=\u0000\u010c\"\u0001\u0000\u0000\u0000\u010d\u010e"+
+		"\u0003[-\u0000\u010e\u010f\u0003].\u0000\u010f\u0110\u0003_/\u0000\u0110"+
+		"\u0111\u0003U*\u0000\u0111\u0112\u0003}>\u0000\u0112\u0113\u0003k5\u0000"+
+		"\u0113\u0114\u0003{=\u0000\u0114$\u0001\u0000\u0000\u0000\u0115\u0116"+
+		"\u0003s9\u0000\u0116\u0117\u0003w;\u0000\u0117\u0118\u0003e2\u0000\u0118"+
+		"\u0119\u0003m6\u0000\u0119\u011a\u0003U*\u0000\u011a\u011b\u0003w;\u0000"+
+		"\u011b\u011c\u0003\u0085B\u0000\u011c&\u0001\u0000\u0000\u0000\u011d\u011e"+
+		"\u0003i4\u0000\u011e\u011f\u0003].\u0000\u011f\u0120\u0003\u0085B\u0000"+
+		"\u0120(\u0001\u0000\u0000\u0000\u0121\u0122\u0003_/\u0000\u0122\u0123"+
+		"\u0003q8\u0000\u0123\u0124\u0003w;\u0000\u0124\u0125\u0003].\u0000\u0125"+
+		"\u0126\u0003e2\u0000\u0126\u0127\u0003a0\u0000\u0127\u0128\u0003o7\u0000"+
+		"\u0128*\u0001\u0000\u0000\u0000\u0129\u012a\u0003w;\u0000\u012a\u012b"+
+		"\u0003].\u0000\u012b\u012c\u0003_/\u0000\u012c\u012d\u0003].\u0000\u012d"+
+		"\u012e\u0003w;\u0000\u012e\u012f\u0003].\u0000\u012f\u0130\u0003o7\u0000"+
+		"\u0130\u0131\u0003Y,\u0000\u0131\u0132\u0003].\u0000\u0132\u0133\u0003"+
+		"y<\u0000\u0133,\u0001\u0000\u0000\u0000\u0134\u0135\u0003k5\u0000\u0135"+
+		"\u0136\u0003e2\u0000\u0136\u0137\u0003i4\u0000\u0137\u0138\u0003].\u0000"+
+		"\u0138.\u0001\u0000\u0000\u0000\u0139\u013a\u0003e2\u0000\u013a\u013b"+
+		"\u0003o7\u0000\u013b\u013c\u0003{=\u0000\u013c0\u0001\u0000\u0000\u0000"+
+		"\u013d\u013e\u0003y<\u0000\u013e\u013f\u0003{=\u0000\u013f\u0140\u0003"+
+		"w;\u0000\u01402\u0001\u0000\u0000\u0000\u0141\u0143\u0007\u000b\u0000"+
+		"\u0000\u0142\u0141\u0001\u0000\u0000\u0000\u0143\u0144\u0001\u0000\u0000"+
+		"\u0000\u0144\u0142\u0001\u0000\u0000\u0000\u0144\u0145\u0001\u0000\u0000"+
+		"\u0000\u0145\u014c\u0001\u0000\u0000\u0000\u0146\u0148\u0005.\u0000\u0000"+
+		"\u0147\u0149\u0007\u000b\u0000\u0000\u0148\u0147\u0001\u0000\u0000\u0000"+
+		"\u0149\u014a\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000"+
+		"\u014a\u014b\u0001\u0000\u0000\u0000\u014b\u014d\u0001\u0000\u0000\u0000"+
+		"\u014c\u0146\u0001\u0000\u0000\u0000\u014c\u014d\u0001\u0000\u0000\u0000"+
+		"\u014d4\u0001\u0000\u0000\u0000\u014e\u014f\u0003{=\u0000\u014f\u0150"+
+		"\u0003].\u0000\u0150\u0151\u0003\u0083A\u0000\u0151\u0152\u0003{=\u0000"+
+		"\u01526\u0001\u0000\u0000\u0000\u0153\u0154\u0003\u007f?\u0000\u0154\u0155"+
+		"\u0003U*\u0000\u0155\u0156\u0003w;\u0000\u0156\u0157\u0003Y,\u0000\u0157"+
+		"\u0158\u0003c1\u0000\u0158\u0159\u0003U*\u0000\u0159\u015a\u0003w;\u0000"+
+		"\u015a8\u0001\u0000\u0000\u0000\u015b\u015c\u0003Y,\u0000\u015c\u015d"+
+		"\u0003q8\u0000\u015d\u015e\u0003m6\u0000\u015e\u015f\u0003m6\u0000\u015f"+
+		"\u0160\u0003e2\u0000\u0160\u0161\u0003{=\u0000\u0161:\u0001\u0000\u0000"+
+		"\u0000\u0162\u0163\u0003w;\u0000\u0163\u0164\u0003q8\u0000\u0164\u0165"+
+		"\u0003k5\u0000\u0165\u0166\u0003k5\u0000\u0166\u0167\u0003W+\u0000\u0167"+
+		"\u0168\u0003U*\u0000\u0168\u0169\u0003Y,\u0000\u0169\u016a\u0003i4\u0000"+
+		"\u016a<\u0001\u0000\u0000\u0000\u016b\u016c\u0003[-\u0000\u016c\u016d"+
+		"\u0003].\u0000\u016d\u016e\u0003k5\u0000\u016e\u016f\u0003].\u0000\u016f"+
+		"\u0170\u0003{=\u0000\u0170\u0171\u0003].\u0000\u0171>\u0001\u0000\u0000"+
+		"\u0000\u0172\u0173\u0003e2\u0000\u0173\u0174\u0003y<\u0000\u0174@\u0001"+
+		"\u0000\u0000\u0000\u0175\u0176\u0003_/\u0000\u0176\u0177\u0003q8\u0000"+
+		"\u0177\u0178\u0003w;\u0000\u0178B\u0001\u0000\u0000\u0000\u0179\u017a"+
+		"\u0003[-\u0000\u017a\u017b\u0003U*\u0000\u017b\u017c\u0003{=\u0000\u017c"+
+		"\u017d\u0003U*\u0000\u017d\u017e\u0003W+\u0000\u017e\u017f\u0003U*\u0000"+
+		"\u017f\u0180\u0003y<\u0000\u0180\u0181\u0003].\u0000\u0181D\u0001\u0000"+
+		"\u0000\u0000\u0182\u0183\u0003_/\u0000\u0183\u0184\u0003e2\u0000\u0184"+
+		"\u0185\u0003k5\u0000\u0185\u0186\u0003].\u0000\u0186\u0187\u0003y<\u0000"+
+		"\u0187F\u0001\u0000\u0000\u0000\u0188\u0189\u0003Y,\u0000\u0189\u018a"+
+		"\u0003q8\u0000\u018a\u018b\u0003s9\u0000\u018b\u018c\u0003\u0085B\u0000"+
+		"\u018cH\u0001\u0000\u0000\u0000\u018d\u018e\u0003\u0081@\u0000\u018e\u018f"+
+		"\u0003e2\u0000\u018f\u0190\u0003{=\u0000\u0190\u0191\u0003c1\u0000\u0191"+
+		"J\u0001\u0000\u0000\u0000\u0192\u0193\u0003\u007f?\u0000\u0193\u0194\u0003"+
+		"U*\u0000\u0194\u0195\u0003Y,\u0000\u0195\u0196\u0003}>\u0000\u0196\u0197"+
+		"\u0003}>\u0000\u0197\u0198\u0003m6\u0000\u0198L\u0001\u0000\u0000\u0000"+
+		"\u0199\u019a\u0003e2\u0000\u019a\u019b\u0003o7\u0000\u019b\u019c\u0003"+
+		"[-\u0000\u019c\u019d\u0003].\u0000\u019d\u019e\u0003\u0083A\u0000\u019e"+
+		"N\u0001\u0000\u0000\u0000\u019f\u01a0\u0003q8\u0000\u01a0\u01a1\u0003"+
+		"o7\u0000\u01a1P\u0001\u0000\u0000\u0000\u01a2\u01a3\u0003}>\u0000\u01a3"+
+		"\u01a4\u0003y<\u0000\u01a4\u01a5\u0003e2\u0000\u01a5\u01a6\u0003o7\u0000"+
+		"\u01a6\u01a7\u0003a0\u0000\u01a7R\u0001\u0000\u0000\u0000\u01a8\u01a9"+
+		"\u0003}>\u0000\u01a9\u01aa\u0003o7\u0000\u01aa\u01ab\u0003e2\u0000\u01ab"+
+		"\u01ac\u0003u:\u0000\u01ac\u01ad\u0003}>\u0000\u01ad\u01ae\u0003].\u0000"+
+		"\u01aeT\u0001\u0000\u0000\u0000\u01af\u01b0\u0007\f\u0000\u0000\u01b0"+
+		"V\u0001\u0000\u0000\u0000\u01b1\u01b2\u0007\r\u0000\u0000\u01b2X\u0001"+
+		"\u0000\u0000\u0000\u01b3\u01b4\u0007\u0007\u0000\u0000\u01b4Z\u0001\u0000"+
+		"\u0000\u0000\u01b5\u01b6\u0007\u000e\u0000\u0000\u01b6\\\u0001\u0000\u0000"+
+		"\u0000\u01b7\u01b8\u0007\u0003\u0000\u0000\u01b8^\u0001\u0000\u0000\u0000"+
+		"\u01b9\u01ba\u0007\u000f\u0000\u0000\u01ba`\u0001\u0000\u0000\u0000\u01bb"+
+		"\u01bc\u0007\u0010\u0000\u0000\u01bcb\u0001\u0000\u0000\u0000\u01bd\u01be"+
+		"\u0007\b\u0000\u0000\u01bed\u0001\u0000\u0000\u0000\u01bf\u01c0\u0007"+
+		"\u0000\u0000\u0000\u01c0f\u0001\u0000\u0000\u0000\u01c1\u01c2\u0007\u0011"+
+		"\u0000\u0000\u01c2h\u0001\u0000\u0000\u0000\u01c3\u01c4\u0007\u0012\u0000"+
+		"\u0000\u01c4j\u0001\u0000\u0000\u0000\u01c5\u01c6\u0007\u0006\u0000\u0000"+
+		"\u01c6l\u0001\u0000\u0000\u0000\u01c7\u01c8\u0007\u0013\u0000\u0000\u01c8"+
+		"n\u0001\u0000\u0000\u0000\u01c9\u01ca\u0007\u0001\u0000\u0000\u01cap\u0001"+
+		"\u0000\u0000\u0000\u01cb\u01cc\u0007\t\u0000\u0000\u01ccr\u0001\u0000"+
+		"\u0000\u0000\u01cd\u01ce\u0007\u0014\u0000\u0000\u01cet\u0001\u0000\u0000"+
+		"\u0000\u01cf\u01d0\u0007\u0015\u0000\u0000\u01d0v\u0001\u0000\u0000\u0000"+
+		"\u01d1\u01d2\u0007\u0004\u0000\u0000\u01d2x\u0001\u0000\u0000\u0000\u01d3"+
+		"\u01d4\u0007\u0002\u0000\u0000\u01d4z\u0001\u0000\u0000\u0000\u01d5\u01d6"+
+		"\u0007\u0005\u0000\u0000\u01d6|\u0001\u0000\u0000\u0000\u01d7\u01d8\u0007"+
+		"\u0016\u0000\u0000\u01d8~\u0001\u0000\u0000\u0000\u01d9\u01da\u0007\u0017"+
+		"\u0000\u0000\u01da\u0080\u0001\u0000\u0000\u0000\u01db\u01dc\u0007\n\u0000"+
+		"\u0000\u01dc\u0082\u0001\u0000\u0000\u0000\u01dd\u01de\u0007\u0018\u0000"+
+		"\u0000\u01de\u0084\u0001\u0000\u0000\u0000\u01df\u01e0\u0007\u0019\u0000"+
+		"\u0000\u01e0\u0086\u0001\u0000\u0000\u0000\u01e1\u01e2\u0007\u001a\u0000"+
+		"\u0000\u01e2\u0088\u0001\u0000\u0000\u0000\u0006\u0000\u0099\u00bd\u0144"+
+		"\u014a\u014c\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
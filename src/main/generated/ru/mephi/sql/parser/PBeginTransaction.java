@@ -0,0 +1,305 @@
+// Generated from PBeginTransaction.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PBeginTransaction extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70;
+	public static final int
+		RULE_query = 0, RULE_begin_transaction_stmt = 1, RULE_transaction_name = 2;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"query", "begin_transaction_stmt", "transaction_name"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PBeginTransaction.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PBeginTransaction(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class QueryContext extends ParserRuleContext {
+		public Begin_transaction_stmtContext begin_transaction_stmt() {
+			return getRuleContext(Begin_transaction_stmtContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PBeginTransaction.EOF, 0); }
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PBeginTransactionListener ) ((PBeginTransactionListener)listener).enterQuery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PBeginTransactionListener ) ((PBeginTransactionListener)listener).exitQuery(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PBeginTransactionVisitor ) return ((PBeginTransactionVisitor<? extends T>)visitor).visitQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(6);
+			begin_transaction_stmt();
+			setState(7);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Begin_transaction_stmtContext extends ParserRuleContext {
+		public TerminalNode KW_BEGIN() { return getToken(PBeginTransaction.KW_BEGIN, 0); }
+		public TerminalNode SEMICOLON() { return getToken(PBeginTransaction.SEMICOLON, 0); }
+		public TerminalNode KW_TRANSACTION() { return getToken(PBeginTransaction.KW_TRANSACTION, 0); }
+		public Transaction_nameContext transaction_name() {
+			return getRuleContext(Transaction_nameContext.class,0);
+		}
+		public Begin_transaction_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_begin_transaction_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PBeginTransactionListener ) ((PBeginTransactionListener)listener).enterBegin_transaction_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PBeginTransactionListener ) ((PBeginTransactionListener)listener).exitBegin_transaction_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PBeginTransactionVisitor ) return ((PBeginTransactionVisitor<? extends T>)visitor).visitBegin_transaction_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Begin_transaction_stmtContext begin_transaction_stmt() throws RecognitionException {
+		Begin_transaction_stmtContext _localctx = new Begin_transaction_stmtContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_begin_transaction_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(9);
+			match(KW_BEGIN);
+			setState(11);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==KW_TRANSACTION) {
+				{
+				setState(10);
+				match(KW_TRANSACTION);
+				}
+			}
+
+			setState(14);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ID) {
+				{
+				setState(13);
+				transaction_name();
+				}
+			}
+
+			setState(16);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Transaction_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PBeginTransaction.ID, 0); }
+		public Transaction_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transaction_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PBeginTransactionListener ) ((PBeginTransactionListener)listener).enterTransaction_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PBeginTransactionListener ) ((PBeginTransactionListener)listener).exitTransaction_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PBeginTransactionVisitor ) return ((PBeginTransactionVisitor<? extends T>)visitor).visitTransaction_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Transaction_nameContext transaction_name() throws RecognitionException {
+		Transaction_nameContext _localctx = new Transaction_nameContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_transaction_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(18);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001F\u0015\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0002\u0007\u0002\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001"+
+		"\u0001\u0003\u0001\f\b\u0001\u0001\u0001\u0003\u0001\u000f\b\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0000\u0000\u0003"+
+		"\u0000\u0002\u0004\u0000\u0000\u0013\u0000\u0006\u0001\u0000\u0000\u0000"+
+		"\u0002\t\u0001\u0000\u0000\u0000\u0004\u0012\u0001\u0000\u0000\u0000\u0006"+
+		"\u0007\u0003\u0002\u0001\u0000\u0007\b\u0005\u0000\u0000\u0001\b\u0001"+
+		"\u0001\u0000\u0000\u0000\t\u000b\u0005\b\u0000\u0000\n\f\u0005\t\u0000"+
+		"\u0000\u000b\n\u0001\u0000\u0000\u0000\u000b\f\u0001\u0000\u0000\u0000"+
+		"\f\u000e\u0001\u0000\u0000\u0000\r\u000f\u0003\u0004\u0002\u0000\u000e"+
+		"\r\u0001\u0000\u0000\u0000\u000e\u000f\u0001\u0000\u0000\u0000\u000f\u0010"+
+		"\u0001\u0000\u0000\u0000\u0010\u0011\u0005\u0004\u0000\u0000\u0011\u0003"+
+		"\u0001\u0000\u0000\u0000\u0012\u0013\u0005?\u0000\u0000\u0013\u0005\u0001"+
+		"\u0000\u0000\u0000\u0002\u000b\u000e";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
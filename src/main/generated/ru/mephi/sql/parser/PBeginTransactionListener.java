@@ -0,0 +1,40 @@
+// Generated from PBeginTransaction.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PBeginTransaction}.
+ */
+public interface PBeginTransactionListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PBeginTransaction#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PBeginTransaction.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PBeginTransaction#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PBeginTransaction.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PBeginTransaction#begin_transaction_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterBegin_transaction_stmt(PBeginTransaction.Begin_transaction_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PBeginTransaction#begin_transaction_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitBegin_transaction_stmt(PBeginTransaction.Begin_transaction_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PBeginTransaction#transaction_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransaction_name(PBeginTransaction.Transaction_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PBeginTransaction#transaction_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransaction_name(PBeginTransaction.Transaction_nameContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+// Generated from PBeginTransaction.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PBeginTransaction}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PBeginTransactionVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PBeginTransaction#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PBeginTransaction.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PBeginTransaction#begin_transaction_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBegin_transaction_stmt(PBeginTransaction.Begin_transaction_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PBeginTransaction#transaction_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTransaction_name(PBeginTransaction.Transaction_nameContext ctx);
+}
\ No newline at end of file
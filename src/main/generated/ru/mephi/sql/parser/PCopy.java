@@ -0,0 +1,421 @@
+// Generated from PCopy.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PCopy extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70;
+	public static final int
+		RULE_query = 0, RULE_copy_stmt = 1, RULE_copy_option = 2, RULE_table_name = 3, 
+		RULE_file_path = 4;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"query", "copy_stmt", "copy_option", "table_name", "file_path"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PCopy.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PCopy(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class QueryContext extends ParserRuleContext {
+		public Copy_stmtContext copy_stmt() {
+			return getRuleContext(Copy_stmtContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PCopy.EOF, 0); }
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).enterQuery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).exitQuery(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCopyVisitor ) return ((PCopyVisitor<? extends T>)visitor).visitQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(10);
+			copy_stmt();
+			setState(11);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Copy_stmtContext extends ParserRuleContext {
+		public TerminalNode KW_COPY() { return getToken(PCopy.KW_COPY, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode KW_FROM() { return getToken(PCopy.KW_FROM, 0); }
+		public File_pathContext file_path() {
+			return getRuleContext(File_pathContext.class,0);
+		}
+		public Copy_optionContext copy_option() {
+			return getRuleContext(Copy_optionContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(PCopy.SEMICOLON, 0); }
+		public Copy_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_copy_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).enterCopy_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).exitCopy_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCopyVisitor ) return ((PCopyVisitor<? extends T>)visitor).visitCopy_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Copy_stmtContext copy_stmt() throws RecognitionException {
+		Copy_stmtContext _localctx = new Copy_stmtContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_copy_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(13);
+			match(KW_COPY);
+			setState(14);
+			table_name();
+			setState(15);
+			match(KW_FROM);
+			setState(16);
+			file_path();
+			setState(18);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==KW_WITH) {
+				{
+				setState(17);
+				copy_option();
+				}
+			}
+
+			setState(21);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMICOLON) {
+				{
+				setState(20);
+				match(SEMICOLON);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Copy_optionContext extends ParserRuleContext {
+		public TerminalNode KW_WITH() { return getToken(PCopy.KW_WITH, 0); }
+		public TerminalNode ID() { return getToken(PCopy.ID, 0); }
+		public Copy_optionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_copy_option; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).enterCopy_option(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).exitCopy_option(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCopyVisitor ) return ((PCopyVisitor<? extends T>)visitor).visitCopy_option(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Copy_optionContext copy_option() throws RecognitionException {
+		Copy_optionContext _localctx = new Copy_optionContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_copy_option);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(23);
+			match(KW_WITH);
+			setState(24);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PCopy.ID, 0); }
+		public TerminalNode STRING() { return getToken(PCopy.STRING, 0); }
+		public Table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).enterTable_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).exitTable_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCopyVisitor ) return ((PCopyVisitor<? extends T>)visitor).visitTable_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_nameContext table_name() throws RecognitionException {
+		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_table_name);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(26);
+			_la = _input.LA(1);
+			if ( !(_la==ID || _la==STRING) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class File_pathContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(PCopy.STRING, 0); }
+		public File_pathContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_file_path; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).enterFile_path(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCopyListener ) ((PCopyListener)listener).exitFile_path(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCopyVisitor ) return ((PCopyVisitor<? extends T>)visitor).visitFile_path(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final File_pathContext file_path() throws RecognitionException {
+		File_pathContext _localctx = new File_pathContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_file_path);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(28);
+			match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001F\u001f\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0001"+
+		"\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0003\u0001\u0013\b\u0001\u0001\u0001\u0003\u0001\u0016"+
+		"\b\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001"+
+		"\u0004\u0001\u0004\u0001\u0004\u0000\u0000\u0005\u0000\u0002\u0004\u0006"+
+		"\b\u0000\u0001\u0002\u0000??BB\u001b\u0000\n\u0001\u0000\u0000\u0000\u0002"+
+		"\r\u0001\u0000\u0000\u0000\u0004\u0017\u0001\u0000\u0000\u0000\u0006\u001a"+
+		"\u0001\u0000\u0000\u0000\b\u001c\u0001\u0000\u0000\u0000\n\u000b\u0003"+
+		"\u0002\u0001\u0000\u000b\f\u0005\u0000\u0000\u0001\f\u0001\u0001\u0000"+
+		"\u0000\u0000\r\u000e\u0005(\u0000\u0000\u000e\u000f\u0003\u0006\u0003"+
+		"\u0000\u000f\u0010\u0005\n\u0000\u0000\u0010\u0012\u0003\b\u0004\u0000"+
+		"\u0011\u0013\u0003\u0004\u0002\u0000\u0012\u0011\u0001\u0000\u0000\u0000"+
+		"\u0012\u0013\u0001\u0000\u0000\u0000\u0013\u0015\u0001\u0000\u0000\u0000"+
+		"\u0014\u0016\u0005\u0004\u0000\u0000\u0015\u0014\u0001\u0000\u0000\u0000"+
+		"\u0015\u0016\u0001\u0000\u0000\u0000\u0016\u0003\u0001\u0000\u0000\u0000"+
+		"\u0017\u0018\u0005)\u0000\u0000\u0018\u0019\u0005?\u0000\u0000\u0019\u0005"+
+		"\u0001\u0000\u0000\u0000\u001a\u001b\u0007\u0000\u0000\u0000\u001b\u0007"+
+		"\u0001\u0000\u0000\u0000\u001c\u001d\u0005B\u0000\u0000\u001d\t\u0001"+
+		"\u0000\u0000\u0000\u0002\u0012\u0015";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+// Generated from PCopy.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PCopy}.
+ */
+public interface PCopyListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PCopy#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PCopy.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCopy#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PCopy.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCopy#copy_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterCopy_stmt(PCopy.Copy_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCopy#copy_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitCopy_stmt(PCopy.Copy_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCopy#copy_option}.
+	 * @param ctx the parse tree
+	 */
+	void enterCopy_option(PCopy.Copy_optionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCopy#copy_option}.
+	 * @param ctx the parse tree
+	 */
+	void exitCopy_option(PCopy.Copy_optionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCopy#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PCopy.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCopy#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PCopy.Table_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCopy#file_path}.
+	 * @param ctx the parse tree
+	 */
+	void enterFile_path(PCopy.File_pathContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCopy#file_path}.
+	 * @param ctx the parse tree
+	 */
+	void exitFile_path(PCopy.File_pathContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+// Generated from PCopy.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PCopy}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PCopyVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PCopy#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PCopy.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCopy#copy_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCopy_stmt(PCopy.Copy_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCopy#copy_option}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCopy_option(PCopy.Copy_optionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCopy#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PCopy.Table_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCopy#file_path}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFile_path(PCopy.File_pathContext ctx);
+}
\ No newline at end of file
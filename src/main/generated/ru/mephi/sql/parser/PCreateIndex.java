@@ -0,0 +1,507 @@
+// Generated from PCreateIndex.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PCreateIndex extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70;
+	public static final int
+		RULE_query = 0, RULE_create_index_stmt = 1, RULE_index_method = 2, RULE_index_name = 3, 
+		RULE_table_name = 4, RULE_column_ref = 5;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"query", "create_index_stmt", "index_method", "index_name", "table_name", 
+			"column_ref"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PCreateIndex.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PCreateIndex(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class QueryContext extends ParserRuleContext {
+		public Create_index_stmtContext create_index_stmt() {
+			return getRuleContext(Create_index_stmtContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PCreateIndex.EOF, 0); }
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).enterQuery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).exitQuery(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateIndexVisitor ) return ((PCreateIndexVisitor<? extends T>)visitor).visitQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(12);
+			create_index_stmt();
+			setState(13);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Create_index_stmtContext extends ParserRuleContext {
+		public TerminalNode KW_CREATE() { return getToken(PCreateIndex.KW_CREATE, 0); }
+		public TerminalNode KW_INDEX() { return getToken(PCreateIndex.KW_INDEX, 0); }
+		public TerminalNode KW_ON() { return getToken(PCreateIndex.KW_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(PCreateIndex.LPAREN, 0); }
+		public Column_refContext column_ref() {
+			return getRuleContext(Column_refContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(PCreateIndex.RPAREN, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public List<Index_methodContext> index_method() {
+			return getRuleContexts(Index_methodContext.class);
+		}
+		public Index_methodContext index_method(int i) {
+			return getRuleContext(Index_methodContext.class,i);
+		}
+		public TerminalNode SEMICOLON() { return getToken(PCreateIndex.SEMICOLON, 0); }
+		public Create_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).enterCreate_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).exitCreate_index_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateIndexVisitor ) return ((PCreateIndexVisitor<? extends T>)visitor).visitCreate_index_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Create_index_stmtContext create_index_stmt() throws RecognitionException {
+		Create_index_stmtContext _localctx = new Create_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_create_index_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(15);
+			match(KW_CREATE);
+			setState(16);
+			match(KW_INDEX);
+			setState(18);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ID) {
+				{
+				setState(17);
+				index_name();
+				}
+			}
+
+			setState(20);
+			match(KW_ON);
+			setState(21);
+			table_name();
+			setState(23);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==KW_USING) {
+				{
+				setState(22);
+				index_method();
+				}
+			}
+
+			setState(25);
+			match(LPAREN);
+			setState(26);
+			column_ref();
+			setState(27);
+			match(RPAREN);
+			setState(29);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==KW_USING) {
+				{
+				setState(28);
+				index_method();
+				}
+			}
+
+			setState(32);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMICOLON) {
+				{
+				setState(31);
+				match(SEMICOLON);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Index_methodContext extends ParserRuleContext {
+		public TerminalNode KW_USING() { return getToken(PCreateIndex.KW_USING, 0); }
+		public TerminalNode ID() { return getToken(PCreateIndex.ID, 0); }
+		public Index_methodContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_method; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).enterIndex_method(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).exitIndex_method(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateIndexVisitor ) return ((PCreateIndexVisitor<? extends T>)visitor).visitIndex_method(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Index_methodContext index_method() throws RecognitionException {
+		Index_methodContext _localctx = new Index_methodContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_index_method);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(34);
+			match(KW_USING);
+			setState(35);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Index_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PCreateIndex.ID, 0); }
+		public Index_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).enterIndex_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).exitIndex_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateIndexVisitor ) return ((PCreateIndexVisitor<? extends T>)visitor).visitIndex_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Index_nameContext index_name() throws RecognitionException {
+		Index_nameContext _localctx = new Index_nameContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_index_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(37);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PCreateIndex.ID, 0); }
+		public Table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).enterTable_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).exitTable_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateIndexVisitor ) return ((PCreateIndexVisitor<? extends T>)visitor).visitTable_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_nameContext table_name() throws RecognitionException {
+		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(39);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_refContext extends ParserRuleContext {
+		public TerminalNode NUMBER() { return getToken(PCreateIndex.NUMBER, 0); }
+		public TerminalNode ID() { return getToken(PCreateIndex.ID, 0); }
+		public Column_refContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_ref; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).enterColumn_ref(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateIndexListener ) ((PCreateIndexListener)listener).exitColumn_ref(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateIndexVisitor ) return ((PCreateIndexVisitor<? extends T>)visitor).visitColumn_ref(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_refContext column_ref() throws RecognitionException {
+		Column_refContext _localctx = new Column_refContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_column_ref);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(41);
+			_la = _input.LA(1);
+			if ( !(_la==NUMBER || _la==ID) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001F,\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002"+
+		"\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005"+
+		"\u0007\u0005\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0003\u0001\u0013\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0003\u0001\u0018\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0003\u0001\u001e\b\u0001\u0001\u0001\u0003\u0001!\b\u0001\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0000\u0000\u0006\u0000\u0002\u0004"+
+		"\u0006\b\n\u0000\u0001\u0002\u0000\u001f\u001f??)\u0000\f\u0001\u0000"+
+		"\u0000\u0000\u0002\u000f\u0001\u0000\u0000\u0000\u0004\"\u0001\u0000\u0000"+
+		"\u0000\u0006%\u0001\u0000\u0000\u0000\b\'\u0001\u0000\u0000\u0000\n)\u0001"+
+		"\u0000\u0000\u0000\f\r\u0003\u0002\u0001\u0000\r\u000e\u0005\u0000\u0000"+
+		"\u0001\u000e\u0001\u0001\u0000\u0000\u0000\u000f\u0010\u0005\u0013\u0000"+
+		"\u0000\u0010\u0012\u0005+\u0000\u0000\u0011\u0013\u0003\u0006\u0003\u0000"+
+		"\u0012\u0011\u0001\u0000\u0000\u0000\u0012\u0013\u0001\u0000\u0000\u0000"+
+		"\u0013\u0014\u0001\u0000\u0000\u0000\u0014\u0015\u0005,\u0000\u0000\u0015"+
+		"\u0017\u0003\b\u0004\u0000\u0016\u0018\u0003\u0004\u0002\u0000\u0017\u0016"+
+		"\u0001\u0000\u0000\u0000\u0017\u0018\u0001\u0000\u0000\u0000\u0018\u0019"+
+		"\u0001\u0000\u0000\u0000\u0019\u001a\u0005\u0002\u0000\u0000\u001a\u001b"+
+		"\u0003\n\u0005\u0000\u001b\u001d\u0005\u0003\u0000\u0000\u001c\u001e\u0003"+
+		"\u0004\u0002\u0000\u001d\u001c\u0001\u0000\u0000\u0000\u001d\u001e\u0001"+
+		"\u0000\u0000\u0000\u001e \u0001\u0000\u0000\u0000\u001f!\u0005\u0004\u0000"+
+		"\u0000 \u001f\u0001\u0000\u0000\u0000 !\u0001\u0000\u0000\u0000!\u0003"+
+		"\u0001\u0000\u0000\u0000\"#\u0005-\u0000\u0000#$\u0005?\u0000\u0000$\u0005"+
+		"\u0001\u0000\u0000\u0000%&\u0005?\u0000\u0000&\u0007\u0001\u0000\u0000"+
+		"\u0000\'(\u0005?\u0000\u0000(\t\u0001\u0000\u0000\u0000)*\u0007\u0000"+
+		"\u0000\u0000*\u000b\u0001\u0000\u0000\u0000\u0004\u0012\u0017\u001d ";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
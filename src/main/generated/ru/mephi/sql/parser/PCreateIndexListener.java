@@ -0,0 +1,70 @@
+// Generated from PCreateIndex.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PCreateIndex}.
+ */
+public interface PCreateIndexListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PCreateIndex#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PCreateIndex.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateIndex#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PCreateIndex.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateIndex#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreate_index_stmt(PCreateIndex.Create_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateIndex#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreate_index_stmt(PCreateIndex.Create_index_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateIndex#index_method}.
+	 * @param ctx the parse tree
+	 */
+	void enterIndex_method(PCreateIndex.Index_methodContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateIndex#index_method}.
+	 * @param ctx the parse tree
+	 */
+	void exitIndex_method(PCreateIndex.Index_methodContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateIndex#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterIndex_name(PCreateIndex.Index_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateIndex#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitIndex_name(PCreateIndex.Index_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateIndex#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PCreateIndex.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateIndex#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PCreateIndex.Table_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateIndex#column_ref}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_ref(PCreateIndex.Column_refContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateIndex#column_ref}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_ref(PCreateIndex.Column_refContext ctx);
+}
\ No newline at end of file
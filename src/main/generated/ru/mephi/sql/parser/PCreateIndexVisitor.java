@@ -0,0 +1,49 @@
+// Generated from PCreateIndex.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PCreateIndex}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PCreateIndexVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PCreateIndex#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PCreateIndex.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateIndex#create_index_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCreate_index_stmt(PCreateIndex.Create_index_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateIndex#index_method}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIndex_method(PCreateIndex.Index_methodContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateIndex#index_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIndex_name(PCreateIndex.Index_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateIndex#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PCreateIndex.Table_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateIndex#column_ref}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_ref(PCreateIndex.Column_refContext ctx);
+}
\ No newline at end of file
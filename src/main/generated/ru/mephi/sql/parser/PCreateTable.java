@@ -0,0 +1,837 @@
+// Generated from PCreateTable.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PCreateTable extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70;
+	public static final int
+		RULE_query = 0, RULE_create_table_stmt = 1, RULE_table_name = 2, RULE_column_type_list = 3, 
+		RULE_column_def = 4, RULE_column_constraint = 5, RULE_column_type = 6, 
+		RULE_table_options = 7, RULE_table_option = 8, RULE_option_value = 9;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"query", "create_table_stmt", "table_name", "column_type_list", "column_def", 
+			"column_constraint", "column_type", "table_options", "table_option", 
+			"option_value"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PCreateTable.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PCreateTable(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class QueryContext extends ParserRuleContext {
+		public Create_table_stmtContext create_table_stmt() {
+			return getRuleContext(Create_table_stmtContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PCreateTable.EOF, 0); }
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterQuery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitQuery(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(20);
+			create_table_stmt();
+			setState(21);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Create_table_stmtContext extends ParserRuleContext {
+		public TerminalNode KW_CREATE() { return getToken(PCreateTable.KW_CREATE, 0); }
+		public TerminalNode KW_TABLE() { return getToken(PCreateTable.KW_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(PCreateTable.LPAREN, 0); }
+		public Column_type_listContext column_type_list() {
+			return getRuleContext(Column_type_listContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(PCreateTable.RPAREN, 0); }
+		public Table_optionsContext table_options() {
+			return getRuleContext(Table_optionsContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(PCreateTable.SEMICOLON, 0); }
+		public Create_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterCreate_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitCreate_table_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitCreate_table_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Create_table_stmtContext create_table_stmt() throws RecognitionException {
+		Create_table_stmtContext _localctx = new Create_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_create_table_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(23);
+			match(KW_CREATE);
+			setState(24);
+			match(KW_TABLE);
+			setState(25);
+			table_name();
+			setState(26);
+			match(LPAREN);
+			setState(27);
+			column_type_list();
+			setState(28);
+			match(RPAREN);
+			setState(30);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==KW_WITH) {
+				{
+				setState(29);
+				table_options();
+				}
+			}
+
+			setState(33);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMICOLON) {
+				{
+				setState(32);
+				match(SEMICOLON);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PCreateTable.ID, 0); }
+		public Table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterTable_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitTable_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitTable_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_nameContext table_name() throws RecognitionException {
+		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(35);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_type_listContext extends ParserRuleContext {
+		public List<Column_defContext> column_def() {
+			return getRuleContexts(Column_defContext.class);
+		}
+		public Column_defContext column_def(int i) {
+			return getRuleContext(Column_defContext.class,i);
+		}
+		public List<TerminalNode> KW_COMMA() { return getTokens(PCreateTable.KW_COMMA); }
+		public TerminalNode KW_COMMA(int i) {
+			return getToken(PCreateTable.KW_COMMA, i);
+		}
+		public Column_type_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_type_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterColumn_type_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitColumn_type_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitColumn_type_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_type_listContext column_type_list() throws RecognitionException {
+		Column_type_listContext _localctx = new Column_type_listContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_column_type_list);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(37);
+			column_def();
+			setState(42);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==KW_COMMA) {
+				{
+				{
+				setState(38);
+				match(KW_COMMA);
+				setState(39);
+				column_def();
+				}
+				}
+				setState(44);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_defContext extends ParserRuleContext {
+		public Column_typeContext column_type() {
+			return getRuleContext(Column_typeContext.class,0);
+		}
+		public List<Column_constraintContext> column_constraint() {
+			return getRuleContexts(Column_constraintContext.class);
+		}
+		public Column_constraintContext column_constraint(int i) {
+			return getRuleContext(Column_constraintContext.class,i);
+		}
+		public Column_defContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_def; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterColumn_def(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitColumn_def(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitColumn_def(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_defContext column_def() throws RecognitionException {
+		Column_defContext _localctx = new Column_defContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_column_def);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(45);
+			column_type();
+			setState(49);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==KW_PRIMARY || _la==KW_UNIQUE) {
+				{
+				{
+				setState(46);
+				column_constraint();
+				}
+				}
+				setState(51);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_constraintContext extends ParserRuleContext {
+		public TerminalNode KW_PRIMARY() { return getToken(PCreateTable.KW_PRIMARY, 0); }
+		public TerminalNode KW_KEY() { return getToken(PCreateTable.KW_KEY, 0); }
+		public TerminalNode KW_UNIQUE() { return getToken(PCreateTable.KW_UNIQUE, 0); }
+		public Column_constraintContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_constraint; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterColumn_constraint(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitColumn_constraint(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitColumn_constraint(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_constraintContext column_constraint() throws RecognitionException {
+		Column_constraintContext _localctx = new Column_constraintContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_column_constraint);
+		try {
+			setState(55);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case KW_PRIMARY:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(52);
+				match(KW_PRIMARY);
+				setState(53);
+				match(KW_KEY);
+				}
+				break;
+			case KW_UNIQUE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(54);
+				match(KW_UNIQUE);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_typeContext extends ParserRuleContext {
+		public String type;
+		public Token num;
+		public TerminalNode KW_INT() { return getToken(PCreateTable.KW_INT, 0); }
+		public TerminalNode KW_STR() { return getToken(PCreateTable.KW_STR, 0); }
+		public TerminalNode LPAREN() { return getToken(PCreateTable.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(PCreateTable.RPAREN, 0); }
+		public TerminalNode NUMBER() { return getToken(PCreateTable.NUMBER, 0); }
+		public Column_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterColumn_type(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitColumn_type(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitColumn_type(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_typeContext column_type() throws RecognitionException {
+		Column_typeContext _localctx = new Column_typeContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_column_type);
+		try {
+			setState(64);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case KW_INT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(57);
+				match(KW_INT);
+				 ((Column_typeContext)_localctx).type =  "int"; 
+				}
+				break;
+			case KW_STR:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(59);
+				match(KW_STR);
+				setState(60);
+				match(LPAREN);
+				setState(61);
+				((Column_typeContext)_localctx).num = match(NUMBER);
+				setState(62);
+				match(RPAREN);
+				 ((Column_typeContext)_localctx).type =  "str_" + (((Column_typeContext)_localctx).num!=null?((Column_typeContext)_localctx).num.getText():null); 
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_optionsContext extends ParserRuleContext {
+		public TerminalNode KW_WITH() { return getToken(PCreateTable.KW_WITH, 0); }
+		public TerminalNode LPAREN() { return getToken(PCreateTable.LPAREN, 0); }
+		public List<Table_optionContext> table_option() {
+			return getRuleContexts(Table_optionContext.class);
+		}
+		public Table_optionContext table_option(int i) {
+			return getRuleContext(Table_optionContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(PCreateTable.RPAREN, 0); }
+		public List<TerminalNode> KW_COMMA() { return getTokens(PCreateTable.KW_COMMA); }
+		public TerminalNode KW_COMMA(int i) {
+			return getToken(PCreateTable.KW_COMMA, i);
+		}
+		public Table_optionsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_options; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterTable_options(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitTable_options(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitTable_options(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_optionsContext table_options() throws RecognitionException {
+		Table_optionsContext _localctx = new Table_optionsContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_table_options);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(66);
+			match(KW_WITH);
+			setState(67);
+			match(LPAREN);
+			setState(68);
+			table_option();
+			setState(73);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==KW_COMMA) {
+				{
+				{
+				setState(69);
+				match(KW_COMMA);
+				setState(70);
+				table_option();
+				}
+				}
+				setState(75);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(76);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_optionContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PCreateTable.ID, 0); }
+		public TerminalNode OP_Equal() { return getToken(PCreateTable.OP_Equal, 0); }
+		public Option_valueContext option_value() {
+			return getRuleContext(Option_valueContext.class,0);
+		}
+		public Table_optionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_option; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterTable_option(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitTable_option(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitTable_option(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_optionContext table_option() throws RecognitionException {
+		Table_optionContext _localctx = new Table_optionContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_table_option);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(78);
+			match(ID);
+			setState(79);
+			match(OP_Equal);
+			setState(80);
+			option_value();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Option_valueContext extends ParserRuleContext {
+		public TerminalNode NUMBER() { return getToken(PCreateTable.NUMBER, 0); }
+		public TerminalNode ID() { return getToken(PCreateTable.ID, 0); }
+		public TerminalNode STRING() { return getToken(PCreateTable.STRING, 0); }
+		public Option_valueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_option_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).enterOption_value(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PCreateTableListener ) ((PCreateTableListener)listener).exitOption_value(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PCreateTableVisitor ) return ((PCreateTableVisitor<? extends T>)visitor).visitOption_value(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Option_valueContext option_value() throws RecognitionException {
+		Option_valueContext _localctx = new Option_valueContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_option_value);
+		int _la;
+		try {
+			setState(88);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case NUMBER:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(82);
+				match(NUMBER);
+				setState(84);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==ID) {
+					{
+					setState(83);
+					match(ID);
+					}
+				}
+
+				}
+				break;
+			case ID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(86);
+				match(ID);
+				}
+				break;
+			case STRING:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(87);
+				match(STRING);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001F[\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002"+
+		"\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005"+
+		"\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002\b\u0007"+
+		"\b\u0002\t\u0007\t\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003"+
+		"\u0001\u001f\b\u0001\u0001\u0001\u0003\u0001\"\b\u0001\u0001\u0002\u0001"+
+		"\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0005\u0003)\b\u0003\n\u0003"+
+		"\f\u0003,\t\u0003\u0001\u0004\u0001\u0004\u0005\u00040\b\u0004\n\u0004"+
+		"\f\u00043\t\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u00058\b\u0005"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0003\u0006A\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0005\u0007H\b\u0007\n\u0007\f\u0007K\t\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001"+
+		"\t\u0003\tU\b\t\u0001\t\u0001\t\u0003\tY\b\t\u0001\t\u0000\u0000\n\u0000"+
+		"\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0000\u0000Z\u0000\u0014\u0001"+
+		"\u0000\u0000\u0000\u0002\u0017\u0001\u0000\u0000\u0000\u0004#\u0001\u0000"+
+		"\u0000\u0000\u0006%\u0001\u0000\u0000\u0000\b-\u0001\u0000\u0000\u0000"+
+		"\n7\u0001\u0000\u0000\u0000\f@\u0001\u0000\u0000\u0000\u000eB\u0001\u0000"+
+		"\u0000\u0000\u0010N\u0001\u0000\u0000\u0000\u0012X\u0001\u0000\u0000\u0000"+
+		"\u0014\u0015\u0003\u0002\u0001\u0000\u0015\u0016\u0005\u0000\u0000\u0001"+
+		"\u0016\u0001\u0001\u0000\u0000\u0000\u0017\u0018\u0005\u0013\u0000\u0000"+
+		"\u0018\u0019\u0005\u0014\u0000\u0000\u0019\u001a\u0003\u0004\u0002\u0000"+
+		"\u001a\u001b\u0005\u0002\u0000\u0000\u001b\u001c\u0003\u0006\u0003\u0000"+
+		"\u001c\u001e\u0005\u0003\u0000\u0000\u001d\u001f\u0003\u000e\u0007\u0000"+
+		"\u001e\u001d\u0001\u0000\u0000\u0000\u001e\u001f\u0001\u0000\u0000\u0000"+
+		"\u001f!\u0001\u0000\u0000\u0000 \"\u0005\u0004\u0000\u0000! \u0001\u0000"+
+		"\u0000\u0000!\"\u0001\u0000\u0000\u0000\"\u0003\u0001\u0000\u0000\u0000"+
+		"#$\u0005?\u0000\u0000$\u0005\u0001\u0000\u0000\u0000%*\u0003\b\u0004\u0000"+
+		"&\'\u0005\u000e\u0000\u0000\')\u0003\b\u0004\u0000(&\u0001\u0000\u0000"+
+		"\u0000),\u0001\u0000\u0000\u0000*(\u0001\u0000\u0000\u0000*+\u0001\u0000"+
+		"\u0000\u0000+\u0007\u0001\u0000\u0000\u0000,*\u0001\u0000\u0000\u0000"+
+		"-1\u0003\f\u0006\u0000.0\u0003\n\u0005\u0000/.\u0001\u0000\u0000\u0000"+
+		"03\u0001\u0000\u0000\u00001/\u0001\u0000\u0000\u000012\u0001\u0000\u0000"+
+		"\u00002\t\u0001\u0000\u0000\u000031\u0001\u0000\u0000\u000045\u0005\u0018"+
+		"\u0000\u000058\u0005\u0019\u0000\u000068\u0005.\u0000\u000074\u0001\u0000"+
+		"\u0000\u000076\u0001\u0000\u0000\u00008\u000b\u0001\u0000\u0000\u0000"+
+		"9:\u0005\u001d\u0000\u0000:A\u0006\u0006\uffff\uffff\u0000;<\u0005\u001e"+
+		"\u0000\u0000<=\u0005\u0002\u0000\u0000=>\u0005\u001f\u0000\u0000>?\u0005"+
+		"\u0003\u0000\u0000?A\u0006\u0006\uffff\uffff\u0000@9\u0001\u0000\u0000"+
+		"\u0000@;\u0001\u0000\u0000\u0000A\r\u0001\u0000\u0000\u0000BC\u0005)\u0000"+
+		"\u0000CD\u0005\u0002\u0000\u0000DI\u0003\u0010\b\u0000EF\u0005\u000e\u0000"+
+		"\u0000FH\u0003\u0010\b\u0000GE\u0001\u0000\u0000\u0000HK\u0001\u0000\u0000"+
+		"\u0000IG\u0001\u0000\u0000\u0000IJ\u0001\u0000\u0000\u0000JL\u0001\u0000"+
+		"\u0000\u0000KI\u0001\u0000\u0000\u0000LM\u0005\u0003\u0000\u0000M\u000f"+
+		"\u0001\u0000\u0000\u0000NO\u0005?\u0000\u0000OP\u0005/\u0000\u0000PQ\u0003"+
+		"\u0012\t\u0000Q\u0011\u0001\u0000\u0000\u0000RT\u0005\u001f\u0000\u0000"+
+		"SU\u0005?\u0000\u0000TS\u0001\u0000\u0000\u0000TU\u0001\u0000\u0000\u0000"+
+		"UY\u0001\u0000\u0000\u0000VY\u0005?\u0000\u0000WY\u0005B\u0000\u0000X"+
+		"R\u0001\u0000\u0000\u0000XV\u0001\u0000\u0000\u0000XW\u0001\u0000\u0000"+
+		"\u0000Y\u0013\u0001\u0000\u0000\u0000\t\u001e!*17@ITX";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
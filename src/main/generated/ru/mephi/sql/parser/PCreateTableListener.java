@@ -0,0 +1,110 @@
+// Generated from PCreateTable.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PCreateTable}.
+ */
+public interface PCreateTableListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PCreateTable.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PCreateTable.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#create_table_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreate_table_stmt(PCreateTable.Create_table_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#create_table_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreate_table_stmt(PCreateTable.Create_table_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PCreateTable.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PCreateTable.Table_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#column_type_list}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_type_list(PCreateTable.Column_type_listContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#column_type_list}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_type_list(PCreateTable.Column_type_listContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#column_def}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_def(PCreateTable.Column_defContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#column_def}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_def(PCreateTable.Column_defContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#column_constraint}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_constraint(PCreateTable.Column_constraintContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#column_constraint}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_constraint(PCreateTable.Column_constraintContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#column_type}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_type(PCreateTable.Column_typeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#column_type}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_type(PCreateTable.Column_typeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#table_options}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_options(PCreateTable.Table_optionsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#table_options}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_options(PCreateTable.Table_optionsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#table_option}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_option(PCreateTable.Table_optionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#table_option}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_option(PCreateTable.Table_optionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PCreateTable#option_value}.
+	 * @param ctx the parse tree
+	 */
+	void enterOption_value(PCreateTable.Option_valueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PCreateTable#option_value}.
+	 * @param ctx the parse tree
+	 */
+	void exitOption_value(PCreateTable.Option_valueContext ctx);
+}
\ No newline at end of file
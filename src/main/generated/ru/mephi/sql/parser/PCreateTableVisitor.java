@@ -0,0 +1,73 @@
+// Generated from PCreateTable.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PCreateTable}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PCreateTableVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PCreateTable.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#create_table_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCreate_table_stmt(PCreateTable.Create_table_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PCreateTable.Table_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#column_type_list}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_type_list(PCreateTable.Column_type_listContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#column_def}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_def(PCreateTable.Column_defContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#column_constraint}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_constraint(PCreateTable.Column_constraintContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#column_type}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_type(PCreateTable.Column_typeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#table_options}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_options(PCreateTable.Table_optionsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#table_option}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_option(PCreateTable.Table_optionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PCreateTable#option_value}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOption_value(PCreateTable.Option_valueContext ctx);
+}
\ No newline at end of file
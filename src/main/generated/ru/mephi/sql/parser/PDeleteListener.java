@@ -0,0 +1,136 @@
+// Generated from PDelete.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PDeleteParser}.
+ */
+public interface PDeleteListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PDeleteParser.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PDeleteParser.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#delete_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterDelete_stmt(PDeleteParser.Delete_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#delete_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitDelete_stmt(PDeleteParser.Delete_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PDeleteParser.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PDeleteParser.Table_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#row_index}.
+	 * @param ctx the parse tree
+	 */
+	void enterRow_index(PDeleteParser.Row_indexContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#row_index}.
+	 * @param ctx the parse tree
+	 */
+	void exitRow_index(PDeleteParser.Row_indexContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#where_clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterWhere_clause(PDeleteParser.Where_clauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#where_clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitWhere_clause(PDeleteParser.Where_clauseContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code CompareCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 */
+	void enterCompareCondition(PDeleteParser.CompareConditionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code CompareCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 */
+	void exitCompareCondition(PDeleteParser.CompareConditionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code LikeCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 */
+	void enterLikeCondition(PDeleteParser.LikeConditionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code LikeCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 */
+	void exitLikeCondition(PDeleteParser.LikeConditionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ColumnCompareCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumnCompareCondition(PDeleteParser.ColumnCompareConditionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ColumnCompareCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumnCompareCondition(PDeleteParser.ColumnCompareConditionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#column_reference}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_reference(PDeleteParser.Column_referenceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#column_reference}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_reference(PDeleteParser.Column_referenceContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#comparison_operator}.
+	 * @param ctx the parse tree
+	 */
+	void enterComparison_operator(PDeleteParser.Comparison_operatorContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#comparison_operator}.
+	 * @param ctx the parse tree
+	 */
+	void exitComparison_operator(PDeleteParser.Comparison_operatorContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#value}.
+	 * @param ctx the parse tree
+	 */
+	void enterValue(PDeleteParser.ValueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#value}.
+	 * @param ctx the parse tree
+	 */
+	void exitValue(PDeleteParser.ValueContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDeleteParser#string_pattern}.
+	 * @param ctx the parse tree
+	 */
+	void enterString_pattern(PDeleteParser.String_patternContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDeleteParser#string_pattern}.
+	 * @param ctx the parse tree
+	 */
+	void exitString_pattern(PDeleteParser.String_patternContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,820 @@
+// Generated from PDelete.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PDeleteParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70, COLUMN_PREFIX=71, OP_DoubleEqual=72;
+	public static final int
+		RULE_query = 0, RULE_delete_stmt = 1, RULE_table_name = 2, RULE_row_index = 3, 
+		RULE_where_clause = 4, RULE_condition = 5, RULE_column_reference = 6, 
+		RULE_comparison_operator = 7, RULE_value = 8, RULE_string_pattern = 9;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"query", "delete_stmt", "table_name", "row_index", "where_clause", "condition", 
+			"column_reference", "comparison_operator", "value", "string_pattern"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS", "COLUMN_PREFIX", "OP_DoubleEqual"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PDelete.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PDeleteParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class QueryContext extends ParserRuleContext {
+		public Delete_stmtContext delete_stmt() {
+			return getRuleContext(Delete_stmtContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PDeleteParser.EOF, 0); }
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterQuery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitQuery(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(20);
+			delete_stmt();
+			setState(21);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Delete_stmtContext extends ParserRuleContext {
+		public TerminalNode KW_DELETE() { return getToken(PDeleteParser.KW_DELETE, 0); }
+		public TerminalNode KW_FROM() { return getToken(PDeleteParser.KW_FROM, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Row_indexContext row_index() {
+			return getRuleContext(Row_indexContext.class,0);
+		}
+		public TerminalNode KW_WHERE() { return getToken(PDeleteParser.KW_WHERE, 0); }
+		public Where_clauseContext where_clause() {
+			return getRuleContext(Where_clauseContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(PDeleteParser.SEMICOLON, 0); }
+		public Delete_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_delete_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterDelete_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitDelete_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitDelete_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Delete_stmtContext delete_stmt() throws RecognitionException {
+		Delete_stmtContext _localctx = new Delete_stmtContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_delete_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(23);
+			match(KW_DELETE);
+			setState(24);
+			match(KW_FROM);
+			setState(25);
+			table_name();
+			setState(29);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case NUMBER:
+				{
+				setState(26);
+				row_index();
+				}
+				break;
+			case KW_WHERE:
+				{
+				setState(27);
+				match(KW_WHERE);
+				setState(28);
+				where_clause();
+				}
+				break;
+			case EOF:
+			case SEMICOLON:
+				break;
+			default:
+				break;
+			}
+			setState(32);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMICOLON) {
+				{
+				setState(31);
+				match(SEMICOLON);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PDeleteParser.ID, 0); }
+		public Table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterTable_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitTable_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitTable_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_nameContext table_name() throws RecognitionException {
+		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(34);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Row_indexContext extends ParserRuleContext {
+		public TerminalNode NUMBER() { return getToken(PDeleteParser.NUMBER, 0); }
+		public Row_indexContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_row_index; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterRow_index(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitRow_index(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitRow_index(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Row_indexContext row_index() throws RecognitionException {
+		Row_indexContext _localctx = new Row_indexContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_row_index);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(36);
+			match(NUMBER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Where_clauseContext extends ParserRuleContext {
+		public ConditionContext condition() {
+			return getRuleContext(ConditionContext.class,0);
+		}
+		public Where_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_where_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterWhere_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitWhere_clause(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitWhere_clause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Where_clauseContext where_clause() throws RecognitionException {
+		Where_clauseContext _localctx = new Where_clauseContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_where_clause);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(38);
+			condition();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ConditionContext extends ParserRuleContext {
+		public ConditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_condition; }
+	 
+		public ConditionContext() { }
+		public void copyFrom(ConditionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class CompareConditionContext extends ConditionContext {
+		public String_patternContext string_pattern() {
+			return getRuleContext(String_patternContext.class,0);
+		}
+		public Comparison_operatorContext comparison_operator() {
+			return getRuleContext(Comparison_operatorContext.class,0);
+		}
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public CompareConditionContext(ConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterCompareCondition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitCompareCondition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitCompareCondition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class LikeConditionContext extends ConditionContext {
+		public List<String_patternContext> string_pattern() {
+			return getRuleContexts(String_patternContext.class);
+		}
+		public String_patternContext string_pattern(int i) {
+			return getRuleContext(String_patternContext.class,i);
+		}
+		public TerminalNode KW_LIKE() { return getToken(PDeleteParser.KW_LIKE, 0); }
+		public LikeConditionContext(ConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterLikeCondition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitLikeCondition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitLikeCondition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ColumnCompareConditionContext extends ConditionContext {
+		public List<String_patternContext> string_pattern() {
+			return getRuleContexts(String_patternContext.class);
+		}
+		public String_patternContext string_pattern(int i) {
+			return getRuleContext(String_patternContext.class,i);
+		}
+		public Comparison_operatorContext comparison_operator() {
+			return getRuleContext(Comparison_operatorContext.class,0);
+		}
+		public ColumnCompareConditionContext(ConditionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterColumnCompareCondition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitColumnCompareCondition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitColumnCompareCondition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConditionContext condition() throws RecognitionException {
+		ConditionContext _localctx = new ConditionContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_condition);
+		try {
+			setState(52);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			case 1:
+				_localctx = new CompareConditionContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(40);
+				string_pattern();
+				setState(41);
+				comparison_operator();
+				setState(42);
+				value();
+				}
+				break;
+			case 2:
+				_localctx = new LikeConditionContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(44);
+				string_pattern();
+				setState(45);
+				match(KW_LIKE);
+				setState(46);
+				string_pattern();
+				}
+				break;
+			case 3:
+				_localctx = new ColumnCompareConditionContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(48);
+				string_pattern();
+				setState(49);
+				comparison_operator();
+				setState(50);
+				string_pattern();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_referenceContext extends ParserRuleContext {
+		public TerminalNode NUMBER() { return getToken(PDeleteParser.NUMBER, 0); }
+		public TerminalNode COLUMN_PREFIX() { return getToken(PDeleteParser.COLUMN_PREFIX, 0); }
+		public Column_referenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_reference; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterColumn_reference(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitColumn_reference(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitColumn_reference(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_referenceContext column_reference() throws RecognitionException {
+		Column_referenceContext _localctx = new Column_referenceContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_column_reference);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(55);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COLUMN_PREFIX) {
+				{
+				setState(54);
+				match(COLUMN_PREFIX);
+				}
+			}
+
+			setState(57);
+			match(NUMBER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Comparison_operatorContext extends ParserRuleContext {
+		public TerminalNode OP_Equal() { return getToken(PDeleteParser.OP_Equal, 0); }
+		public TerminalNode OP_DoubleEqual() { return getToken(PDeleteParser.OP_DoubleEqual, 0); }
+		public TerminalNode OP_NotEqual() { return getToken(PDeleteParser.OP_NotEqual, 0); }
+		public TerminalNode OP_Less() { return getToken(PDeleteParser.OP_Less, 0); }
+		public TerminalNode OP_More() { return getToken(PDeleteParser.OP_More, 0); }
+		public TerminalNode OP_EqualLess() { return getToken(PDeleteParser.OP_EqualLess, 0); }
+		public TerminalNode OP_EqualMore() { return getToken(PDeleteParser.OP_EqualMore, 0); }
+		public Comparison_operatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_comparison_operator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterComparison_operator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitComparison_operator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitComparison_operator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Comparison_operatorContext comparison_operator() throws RecognitionException {
+		Comparison_operatorContext _localctx = new Comparison_operatorContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_comparison_operator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(59);
+			_la = _input.LA(1);
+			if ( !(((((_la - 47)) & ~0x3f) == 0 && ((1L << (_la - 47)) & 33554975L) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ValueContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(PDeleteParser.STRING, 0); }
+		public TerminalNode NUMBER() { return getToken(PDeleteParser.NUMBER, 0); }
+		public TerminalNode KW_NULL() { return getToken(PDeleteParser.KW_NULL, 0); }
+		public Column_referenceContext column_reference() {
+			return getRuleContext(Column_referenceContext.class,0);
+		}
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_value);
+		try {
+			setState(65);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(61);
+				match(STRING);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(62);
+				match(NUMBER);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(63);
+				match(KW_NULL);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(64);
+				column_reference();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class String_patternContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(PDeleteParser.STRING, 0); }
+		public String_patternContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_string_pattern; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).enterString_pattern(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PDeleteListener ) ((PDeleteListener)listener).exitString_pattern(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PDeleteVisitor ) return ((PDeleteVisitor<? extends T>)visitor).visitString_pattern(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final String_patternContext string_pattern() throws RecognitionException {
+		String_patternContext _localctx = new String_patternContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_string_pattern);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(67);
+			match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001HF\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002"+
+		"\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005"+
+		"\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002\b\u0007"+
+		"\b\u0002\t\u0007\t\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001\u001e"+
+		"\b\u0001\u0001\u0001\u0003\u0001!\b\u0001\u0001\u0002\u0001\u0002\u0001"+
+		"\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u00055\b\u0005\u0001"+
+		"\u0006\u0003\u00068\b\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001"+
+		"\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0003\bB\b\b\u0001\t\u0001\t\u0001"+
+		"\t\u0000\u0000\n\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0000"+
+		"\u0001\u0003\u0000/388HHD\u0000\u0014\u0001\u0000\u0000\u0000\u0002\u0017"+
+		"\u0001\u0000\u0000\u0000\u0004\"\u0001\u0000\u0000\u0000\u0006$\u0001"+
+		"\u0000\u0000\u0000\b&\u0001\u0000\u0000\u0000\n4\u0001\u0000\u0000\u0000"+
+		"\f7\u0001\u0000\u0000\u0000\u000e;\u0001\u0000\u0000\u0000\u0010A\u0001"+
+		"\u0000\u0000\u0000\u0012C\u0001\u0000\u0000\u0000\u0014\u0015\u0003\u0002"+
+		"\u0001\u0000\u0015\u0016\u0005\u0000\u0000\u0001\u0016\u0001\u0001\u0000"+
+		"\u0000\u0000\u0017\u0018\u0005$\u0000\u0000\u0018\u0019\u0005\n\u0000"+
+		"\u0000\u0019\u001d\u0003\u0004\u0002\u0000\u001a\u001e\u0003\u0006\u0003"+
+		"\u0000\u001b\u001c\u0005\u000b\u0000\u0000\u001c\u001e\u0003\b\u0004\u0000"+
+		"\u001d\u001a\u0001\u0000\u0000\u0000\u001d\u001b\u0001\u0000\u0000\u0000"+
+		"\u001d\u001e\u0001\u0000\u0000\u0000\u001e \u0001\u0000\u0000\u0000\u001f"+
+		"!\u0005\u0004\u0000\u0000 \u001f\u0001\u0000\u0000\u0000 !\u0001\u0000"+
+		"\u0000\u0000!\u0003\u0001\u0000\u0000\u0000\"#\u0005?\u0000\u0000#\u0005"+
+		"\u0001\u0000\u0000\u0000$%\u0005\u001f\u0000\u0000%\u0007\u0001\u0000"+
+		"\u0000\u0000&\'\u0003\n\u0005\u0000\'\t\u0001\u0000\u0000\u0000()\u0003"+
+		"\u0012\t\u0000)*\u0003\u000e\u0007\u0000*+\u0003\u0010\b\u0000+5\u0001"+
+		"\u0000\u0000\u0000,-\u0003\u0012\t\u0000-.\u0005\u001c\u0000\u0000./\u0003"+
+		"\u0012\t\u0000/5\u0001\u0000\u0000\u000001\u0003\u0012\t\u000012\u0003"+
+		"\u000e\u0007\u000023\u0003\u0012\t\u000035\u0001\u0000\u0000\u00004(\u0001"+
+		"\u0000\u0000\u00004,\u0001\u0000\u0000\u000040\u0001\u0000\u0000\u0000"+
+		"5\u000b\u0001\u0000\u0000\u000068\u0005G\u0000\u000076\u0001\u0000\u0000"+
+		"\u000078\u0001\u0000\u0000\u000089\u0001\u0000\u0000\u00009:\u0005\u001f"+
+		"\u0000\u0000:\r\u0001\u0000\u0000\u0000;<\u0007\u0000\u0000\u0000<\u000f"+
+		"\u0001\u0000\u0000\u0000=B\u0005B\u0000\u0000>B\u0005\u001f\u0000\u0000"+
+		"?B\u0005\u0001\u0000\u0000@B\u0003\f\u0006\u0000A=\u0001\u0000\u0000\u0000"+
+		"A>\u0001\u0000\u0000\u0000A?\u0001\u0000\u0000\u0000A@\u0001\u0000\u0000"+
+		"\u0000B\u0011\u0001\u0000\u0000\u0000CD\u0005B\u0000\u0000D\u0013\u0001"+
+		"\u0000\u0000\u0000\u0005\u001d 47A";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
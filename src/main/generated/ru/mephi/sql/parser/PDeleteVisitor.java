@@ -0,0 +1,88 @@
+// Generated from PDelete.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PDeleteParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PDeleteVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PDeleteParser.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#delete_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDelete_stmt(PDeleteParser.Delete_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PDeleteParser.Table_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#row_index}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRow_index(PDeleteParser.Row_indexContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#where_clause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhere_clause(PDeleteParser.Where_clauseContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code CompareCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCompareCondition(PDeleteParser.CompareConditionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code LikeCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLikeCondition(PDeleteParser.LikeConditionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ColumnCompareCondition}
+	 * labeled alternative in {@link PDeleteParser#condition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumnCompareCondition(PDeleteParser.ColumnCompareConditionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#column_reference}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_reference(PDeleteParser.Column_referenceContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#comparison_operator}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitComparison_operator(PDeleteParser.Comparison_operatorContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#value}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValue(PDeleteParser.ValueContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDeleteParser#string_pattern}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitString_pattern(PDeleteParser.String_patternContext ctx);
+}
\ No newline at end of file
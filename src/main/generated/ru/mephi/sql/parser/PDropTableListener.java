@@ -0,0 +1,40 @@
+// Generated from PDropTable.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PDropTable}.
+ */
+public interface PDropTableListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PDropTable#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PDropTable.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDropTable#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PDropTable.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDropTable#drop_table_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterDrop_table_stmt(PDropTable.Drop_table_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDropTable#drop_table_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitDrop_table_stmt(PDropTable.Drop_table_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PDropTable#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PDropTable.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PDropTable#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PDropTable.Table_nameContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+// Generated from PDropTable.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PDropTable}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PDropTableVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PDropTable#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PDropTable.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDropTable#drop_table_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDrop_table_stmt(PDropTable.Drop_table_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PDropTable#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PDropTable.Table_nameContext ctx);
+}
\ No newline at end of file
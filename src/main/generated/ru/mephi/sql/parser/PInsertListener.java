@@ -0,0 +1,60 @@
+// Generated from PInsert.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PInsert}.
+ */
+public interface PInsertListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PInsert#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PInsert.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PInsert#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PInsert.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PInsert#insert_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterInsert_stmt(PInsert.Insert_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PInsert#insert_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitInsert_stmt(PInsert.Insert_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PInsert#row}.
+	 * @param ctx the parse tree
+	 */
+	void enterRow(PInsert.RowContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PInsert#row}.
+	 * @param ctx the parse tree
+	 */
+	void exitRow(PInsert.RowContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PInsert#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PInsert.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PInsert#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PInsert.Table_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PInsert#value}.
+	 * @param ctx the parse tree
+	 */
+	void enterValue(PInsert.ValueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PInsert#value}.
+	 * @param ctx the parse tree
+	 */
+	void exitValue(PInsert.ValueContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+// Generated from PInsert.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PInsert}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PInsertVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PInsert#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PInsert.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PInsert#insert_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInsert_stmt(PInsert.Insert_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PInsert#row}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRow(PInsert.RowContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PInsert#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PInsert.Table_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PInsert#value}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValue(PInsert.ValueContext ctx);
+}
\ No newline at end of file
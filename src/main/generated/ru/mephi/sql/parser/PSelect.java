@@ -0,0 +1,910 @@
+// Generated from PSelect.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PSelect extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70;
+	public static final int
+		RULE_query = 0, RULE_select_stmt = 1, RULE_select_columns = 2, RULE_column_list = 3, 
+		RULE_table_name = 4, RULE_where_condition = 5, RULE_expression = 6, RULE_comparison_operator = 7, 
+		RULE_logical_op = 8, RULE_value = 9, RULE_string_pattern = 10;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"query", "select_stmt", "select_columns", "column_list", "table_name", 
+			"where_condition", "expression", "comparison_operator", "logical_op", 
+			"value", "string_pattern"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PSelect.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PSelect(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class QueryContext extends ParserRuleContext {
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PSelect.EOF, 0); }
+		public QueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_query; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterQuery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitQuery(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitQuery(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QueryContext query() throws RecognitionException {
+		QueryContext _localctx = new QueryContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_query);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(22);
+			select_stmt();
+			setState(23);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Select_stmtContext extends ParserRuleContext {
+		public TerminalNode KW_SELECT() { return getToken(PSelect.KW_SELECT, 0); }
+		public Select_columnsContext select_columns() {
+			return getRuleContext(Select_columnsContext.class,0);
+		}
+		public TerminalNode KW_FROM() { return getToken(PSelect.KW_FROM, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode KW_WHERE() { return getToken(PSelect.KW_WHERE, 0); }
+		public Where_conditionContext where_condition() {
+			return getRuleContext(Where_conditionContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(PSelect.SEMICOLON, 0); }
+		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterSelect_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitSelect_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitSelect_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Select_stmtContext select_stmt() throws RecognitionException {
+		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_select_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(25);
+			match(KW_SELECT);
+			setState(26);
+			select_columns();
+			setState(27);
+			match(KW_FROM);
+			setState(28);
+			table_name();
+			setState(31);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==KW_WHERE) {
+				{
+				setState(29);
+				match(KW_WHERE);
+				setState(30);
+				where_condition();
+				}
+			}
+
+			setState(34);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMICOLON) {
+				{
+				setState(33);
+				match(SEMICOLON);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Select_columnsContext extends ParserRuleContext {
+		public Select_columnsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_columns; }
+	 
+		public Select_columnsContext() { }
+		public void copyFrom(Select_columnsContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class AllColumnsContext extends Select_columnsContext {
+		public TerminalNode KW_STAR() { return getToken(PSelect.KW_STAR, 0); }
+		public AllColumnsContext(Select_columnsContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterAllColumns(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitAllColumns(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitAllColumns(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ColumnListContext extends Select_columnsContext {
+		public Column_listContext column_list() {
+			return getRuleContext(Column_listContext.class,0);
+		}
+		public ColumnListContext(Select_columnsContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterColumnList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitColumnList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitColumnList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Select_columnsContext select_columns() throws RecognitionException {
+		Select_columnsContext _localctx = new Select_columnsContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_select_columns);
+		try {
+			setState(38);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case KW_STAR:
+				_localctx = new AllColumnsContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(36);
+				match(KW_STAR);
+				}
+				break;
+			case NUMBER:
+				_localctx = new ColumnListContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(37);
+				column_list();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Column_listContext extends ParserRuleContext {
+		public List<TerminalNode> NUMBER() { return getTokens(PSelect.NUMBER); }
+		public TerminalNode NUMBER(int i) {
+			return getToken(PSelect.NUMBER, i);
+		}
+		public List<TerminalNode> KW_COMMA() { return getTokens(PSelect.KW_COMMA); }
+		public TerminalNode KW_COMMA(int i) {
+			return getToken(PSelect.KW_COMMA, i);
+		}
+		public Column_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterColumn_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitColumn_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitColumn_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Column_listContext column_list() throws RecognitionException {
+		Column_listContext _localctx = new Column_listContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_column_list);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(40);
+			match(NUMBER);
+			setState(45);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==KW_COMMA) {
+				{
+				{
+				setState(41);
+				match(KW_COMMA);
+				setState(42);
+				match(NUMBER);
+				}
+				}
+				setState(47);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Table_nameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PSelect.ID, 0); }
+		public Table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterTable_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitTable_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitTable_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Table_nameContext table_name() throws RecognitionException {
+		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(48);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Where_conditionContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<Logical_opContext> logical_op() {
+			return getRuleContexts(Logical_opContext.class);
+		}
+		public Logical_opContext logical_op(int i) {
+			return getRuleContext(Logical_opContext.class,i);
+		}
+		public Where_conditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_where_condition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterWhere_condition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitWhere_condition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitWhere_condition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Where_conditionContext where_condition() throws RecognitionException {
+		Where_conditionContext _localctx = new Where_conditionContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_where_condition);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(50);
+			expression();
+			setState(56);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==OP_AND || _la==OP_OR) {
+				{
+				{
+				setState(51);
+				logical_op();
+				setState(52);
+				expression();
+				}
+				}
+				setState(58);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ColumnLikeContext extends ExpressionContext {
+		public List<String_patternContext> string_pattern() {
+			return getRuleContexts(String_patternContext.class);
+		}
+		public String_patternContext string_pattern(int i) {
+			return getRuleContext(String_patternContext.class,i);
+		}
+		public TerminalNode KW_LIKE() { return getToken(PSelect.KW_LIKE, 0); }
+		public Comparison_operatorContext comparison_operator() {
+			return getRuleContext(Comparison_operatorContext.class,0);
+		}
+		public ColumnLikeContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterColumnLike(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitColumnLike(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitColumnLike(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ColumnComparisonContext extends ExpressionContext {
+		public String_patternContext string_pattern() {
+			return getRuleContext(String_patternContext.class,0);
+		}
+		public Comparison_operatorContext comparison_operator() {
+			return getRuleContext(Comparison_operatorContext.class,0);
+		}
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public ColumnComparisonContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterColumnComparison(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitColumnComparison(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitColumnComparison(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_expression);
+		try {
+			setState(71);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+			case 1:
+				_localctx = new ColumnComparisonContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(59);
+				string_pattern();
+				setState(60);
+				comparison_operator();
+				setState(61);
+				value();
+				}
+				break;
+			case 2:
+				_localctx = new ColumnLikeContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(63);
+				string_pattern();
+				setState(64);
+				match(KW_LIKE);
+				setState(65);
+				string_pattern();
+				}
+				break;
+			case 3:
+				_localctx = new ColumnLikeContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(67);
+				string_pattern();
+				setState(68);
+				comparison_operator();
+				setState(69);
+				string_pattern();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Comparison_operatorContext extends ParserRuleContext {
+		public TerminalNode OP_Equal() { return getToken(PSelect.OP_Equal, 0); }
+		public TerminalNode OP_NotEqual() { return getToken(PSelect.OP_NotEqual, 0); }
+		public TerminalNode OP_Less() { return getToken(PSelect.OP_Less, 0); }
+		public TerminalNode OP_More() { return getToken(PSelect.OP_More, 0); }
+		public TerminalNode OP_EqualLess() { return getToken(PSelect.OP_EqualLess, 0); }
+		public TerminalNode OP_EqualMore() { return getToken(PSelect.OP_EqualMore, 0); }
+		public Comparison_operatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_comparison_operator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterComparison_operator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitComparison_operator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitComparison_operator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Comparison_operatorContext comparison_operator() throws RecognitionException {
+		Comparison_operatorContext _localctx = new Comparison_operatorContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_comparison_operator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(73);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 76420456176943104L) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Logical_opContext extends ParserRuleContext {
+		public TerminalNode OP_AND() { return getToken(PSelect.OP_AND, 0); }
+		public TerminalNode OP_OR() { return getToken(PSelect.OP_OR, 0); }
+		public Logical_opContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_logical_op; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterLogical_op(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitLogical_op(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitLogical_op(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Logical_opContext logical_op() throws RecognitionException {
+		Logical_opContext _localctx = new Logical_opContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_logical_op);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(75);
+			_la = _input.LA(1);
+			if ( !(_la==OP_AND || _la==OP_OR) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ValueContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(PSelect.STRING, 0); }
+		public TerminalNode NUMBER() { return getToken(PSelect.NUMBER, 0); }
+		public TerminalNode KW_NULL() { return getToken(PSelect.KW_NULL, 0); }
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_value);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(77);
+			_la = _input.LA(1);
+			if ( !(_la==KW_NULL || _la==NUMBER || _la==STRING) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class String_patternContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(PSelect.STRING, 0); }
+		public String_patternContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_string_pattern; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).enterString_pattern(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PSelectListener ) ((PSelectListener)listener).exitString_pattern(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PSelectVisitor ) return ((PSelectVisitor<? extends T>)visitor).visitString_pattern(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final String_patternContext string_pattern() throws RecognitionException {
+		String_patternContext _localctx = new String_patternContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_string_pattern);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(79);
+			match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001FR\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002"+
+		"\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005"+
+		"\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002\b\u0007"+
+		"\b\u0002\t\u0007\t\u0002\n\u0007\n\u0001\u0000\u0001\u0000\u0001\u0000"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0003\u0001 \b\u0001\u0001\u0001\u0003\u0001#\b\u0001\u0001\u0002\u0001"+
+		"\u0002\u0003\u0002\'\b\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0005"+
+		"\u0003,\b\u0003\n\u0003\f\u0003/\t\u0003\u0001\u0004\u0001\u0004\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0005\u00057\b\u0005\n\u0005"+
+		"\f\u0005:\t\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0003\u0006H\b\u0006\u0001\u0007\u0001\u0007\u0001"+
+		"\b\u0001\b\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0000\u0000\u000b\u0000"+
+		"\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0000\u0003\u0002\u0000"+
+		"/388\u0001\u000056\u0003\u0000\u0001\u0001\u001f\u001fBBM\u0000\u0016"+
+		"\u0001\u0000\u0000\u0000\u0002\u0019\u0001\u0000\u0000\u0000\u0004&\u0001"+
+		"\u0000\u0000\u0000\u0006(\u0001\u0000\u0000\u0000\b0\u0001\u0000\u0000"+
+		"\u0000\n2\u0001\u0000\u0000\u0000\fG\u0001\u0000\u0000\u0000\u000eI\u0001"+
+		"\u0000\u0000\u0000\u0010K\u0001\u0000\u0000\u0000\u0012M\u0001\u0000\u0000"+
+		"\u0000\u0014O\u0001\u0000\u0000\u0000\u0016\u0017\u0003\u0002\u0001\u0000"+
+		"\u0017\u0018\u0005\u0000\u0000\u0001\u0018\u0001\u0001\u0000\u0000\u0000"+
+		"\u0019\u001a\u0005\u0010\u0000\u0000\u001a\u001b\u0003\u0004\u0002\u0000"+
+		"\u001b\u001c\u0005\n\u0000\u0000\u001c\u001f\u0003\b\u0004\u0000\u001d"+
+		"\u001e\u0005\u000b\u0000\u0000\u001e \u0003\n\u0005\u0000\u001f\u001d"+
+		"\u0001\u0000\u0000\u0000\u001f \u0001\u0000\u0000\u0000 \"\u0001\u0000"+
+		"\u0000\u0000!#\u0005\u0004\u0000\u0000\"!\u0001\u0000\u0000\u0000\"#\u0001"+
+		"\u0000\u0000\u0000#\u0003\u0001\u0000\u0000\u0000$\'\u0005\r\u0000\u0000"+
+		"%\'\u0003\u0006\u0003\u0000&$\u0001\u0000\u0000\u0000&%\u0001\u0000\u0000"+
+		"\u0000\'\u0005\u0001\u0000\u0000\u0000(-\u0005\u001f\u0000\u0000)*\u0005"+
+		"\u000e\u0000\u0000*,\u0005\u001f\u0000\u0000+)\u0001\u0000\u0000\u0000"+
+		",/\u0001\u0000\u0000\u0000-+\u0001\u0000\u0000\u0000-.\u0001\u0000\u0000"+
+		"\u0000.\u0007\u0001\u0000\u0000\u0000/-\u0001\u0000\u0000\u000001\u0005"+
+		"?\u0000\u00001\t\u0001\u0000\u0000\u000028\u0003\f\u0006\u000034\u0003"+
+		"\u0010\b\u000045\u0003\f\u0006\u000057\u0001\u0000\u0000\u000063\u0001"+
+		"\u0000\u0000\u00007:\u0001\u0000\u0000\u000086\u0001\u0000\u0000\u0000"+
+		"89\u0001\u0000\u0000\u00009\u000b\u0001\u0000\u0000\u0000:8\u0001\u0000"+
+		"\u0000\u0000;<\u0003\u0014\n\u0000<=\u0003\u000e\u0007\u0000=>\u0003\u0012"+
+		"\t\u0000>H\u0001\u0000\u0000\u0000?@\u0003\u0014\n\u0000@A\u0005\u001c"+
+		"\u0000\u0000AB\u0003\u0014\n\u0000BH\u0001\u0000\u0000\u0000CD\u0003\u0014"+
+		"\n\u0000DE\u0003\u000e\u0007\u0000EF\u0003\u0014\n\u0000FH\u0001\u0000"+
+		"\u0000\u0000G;\u0001\u0000\u0000\u0000G?\u0001\u0000\u0000\u0000GC\u0001"+
+		"\u0000\u0000\u0000H\r\u0001\u0000\u0000\u0000IJ\u0007\u0000\u0000\u0000"+
+		"J\u000f\u0001\u0000\u0000\u0000KL\u0007\u0001\u0000\u0000L\u0011\u0001"+
+		"\u0000\u0000\u0000MN\u0007\u0002\u0000\u0000N\u0013\u0001\u0000\u0000"+
+		"\u0000OP\u0005B\u0000\u0000P\u0015\u0001\u0000\u0000\u0000\u0006\u001f"+
+		"\"&-8G";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+// Generated from PSelect.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PSelect}.
+ */
+public interface PSelectListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PSelect#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PSelect.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PSelect.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#select_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterSelect_stmt(PSelect.Select_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#select_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitSelect_stmt(PSelect.Select_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code AllColumns}
+	 * labeled alternative in {@link PSelect#select_columns}.
+	 * @param ctx the parse tree
+	 */
+	void enterAllColumns(PSelect.AllColumnsContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code AllColumns}
+	 * labeled alternative in {@link PSelect#select_columns}.
+	 * @param ctx the parse tree
+	 */
+	void exitAllColumns(PSelect.AllColumnsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ColumnList}
+	 * labeled alternative in {@link PSelect#select_columns}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumnList(PSelect.ColumnListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ColumnList}
+	 * labeled alternative in {@link PSelect#select_columns}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumnList(PSelect.ColumnListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#column_list}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn_list(PSelect.Column_listContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#column_list}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn_list(PSelect.Column_listContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PSelect.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PSelect.Table_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#where_condition}.
+	 * @param ctx the parse tree
+	 */
+	void enterWhere_condition(PSelect.Where_conditionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#where_condition}.
+	 * @param ctx the parse tree
+	 */
+	void exitWhere_condition(PSelect.Where_conditionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ColumnComparison}
+	 * labeled alternative in {@link PSelect#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumnComparison(PSelect.ColumnComparisonContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ColumnComparison}
+	 * labeled alternative in {@link PSelect#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumnComparison(PSelect.ColumnComparisonContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ColumnLike}
+	 * labeled alternative in {@link PSelect#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumnLike(PSelect.ColumnLikeContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ColumnLike}
+	 * labeled alternative in {@link PSelect#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumnLike(PSelect.ColumnLikeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#comparison_operator}.
+	 * @param ctx the parse tree
+	 */
+	void enterComparison_operator(PSelect.Comparison_operatorContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#comparison_operator}.
+	 * @param ctx the parse tree
+	 */
+	void exitComparison_operator(PSelect.Comparison_operatorContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#logical_op}.
+	 * @param ctx the parse tree
+	 */
+	void enterLogical_op(PSelect.Logical_opContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#logical_op}.
+	 * @param ctx the parse tree
+	 */
+	void exitLogical_op(PSelect.Logical_opContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#value}.
+	 * @param ctx the parse tree
+	 */
+	void enterValue(PSelect.ValueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#value}.
+	 * @param ctx the parse tree
+	 */
+	void exitValue(PSelect.ValueContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PSelect#string_pattern}.
+	 * @param ctx the parse tree
+	 */
+	void enterString_pattern(PSelect.String_patternContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PSelect#string_pattern}.
+	 * @param ctx the parse tree
+	 */
+	void exitString_pattern(PSelect.String_patternContext ctx);
+}
\ No newline at end of file
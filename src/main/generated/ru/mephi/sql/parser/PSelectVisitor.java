@@ -0,0 +1,95 @@
+// Generated from PSelect.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PSelect}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PSelectVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PSelect#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PSelect.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#select_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSelect_stmt(PSelect.Select_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code AllColumns}
+	 * labeled alternative in {@link PSelect#select_columns}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAllColumns(PSelect.AllColumnsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ColumnList}
+	 * labeled alternative in {@link PSelect#select_columns}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumnList(PSelect.ColumnListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#column_list}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn_list(PSelect.Column_listContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PSelect.Table_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#where_condition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhere_condition(PSelect.Where_conditionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ColumnComparison}
+	 * labeled alternative in {@link PSelect#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumnComparison(PSelect.ColumnComparisonContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ColumnLike}
+	 * labeled alternative in {@link PSelect#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumnLike(PSelect.ColumnLikeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#comparison_operator}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitComparison_operator(PSelect.Comparison_operatorContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#logical_op}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLogical_op(PSelect.Logical_opContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#value}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValue(PSelect.ValueContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PSelect#string_pattern}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitString_pattern(PSelect.String_patternContext ctx);
+}
\ No newline at end of file
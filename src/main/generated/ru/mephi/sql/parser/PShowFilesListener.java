@@ -0,0 +1,40 @@
+// Generated from PShowFiles.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PShowFiles}.
+ */
+public interface PShowFilesListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PShowFiles#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PShowFiles.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PShowFiles#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PShowFiles.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PShowFiles#show_files_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterShow_files_stmt(PShowFiles.Show_files_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PShowFiles#show_files_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitShow_files_stmt(PShowFiles.Show_files_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PShowFiles#db_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterDb_name(PShowFiles.Db_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PShowFiles#db_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitDb_name(PShowFiles.Db_nameContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+// Generated from PShowFiles.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PShowFiles}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PShowFilesVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PShowFiles#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PShowFiles.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PShowFiles#show_files_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitShow_files_stmt(PShowFiles.Show_files_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PShowFiles#db_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDb_name(PShowFiles.Db_nameContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+// Generated from PShowTables.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PShowTables}.
+ */
+public interface PShowTablesListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PShowTables#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PShowTables.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PShowTables#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PShowTables.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PShowTables#show_tables_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterShow_tables_stmt(PShowTables.Show_tables_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PShowTables#show_tables_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitShow_tables_stmt(PShowTables.Show_tables_stmtContext ctx);
+}
\ No newline at end of file
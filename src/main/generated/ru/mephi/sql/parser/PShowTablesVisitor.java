@@ -0,0 +1,25 @@
+// Generated from PShowTables.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PShowTables}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PShowTablesVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PShowTables#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PShowTables.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PShowTables#show_tables_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitShow_tables_stmt(PShowTables.Show_tables_stmtContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+// Generated from PVacuum.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PVacuum}.
+ */
+public interface PVacuumListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PVacuum#query}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuery(PVacuum.QueryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PVacuum#query}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuery(PVacuum.QueryContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PVacuum#vacuum_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterVacuum_stmt(PVacuum.Vacuum_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PVacuum#vacuum_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitVacuum_stmt(PVacuum.Vacuum_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PVacuum#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterTable_name(PVacuum.Table_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PVacuum#table_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitTable_name(PVacuum.Table_nameContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+// Generated from PVacuum.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PVacuum}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PVacuumVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PVacuum#query}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitQuery(PVacuum.QueryContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PVacuum#vacuum_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVacuum_stmt(PVacuum.Vacuum_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PVacuum#table_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTable_name(PVacuum.Table_nameContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,628 @@
+// Generated from PWhere.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class PWhere extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		KW_NULL=1, LPAREN=2, RPAREN=3, SEMICOLON=4, KW_SHOW=5, KW_FILES=6, KW_TABLES=7, 
+		KW_BEGIN=8, KW_TRANSACTION=9, KW_FROM=10, KW_WHERE=11, KW_AS=12, KW_STAR=13, 
+		KW_COMMA=14, KW_INSERT=15, KW_SELECT=16, KW_INTO=17, KW_VALUES=18, KW_CREATE=19, 
+		KW_TABLE=20, KW_DROP=21, KW_NOT=22, KW_DEFAULT=23, KW_PRIMARY=24, KW_KEY=25, 
+		KW_FOREIGN=26, KW_REFERENCES=27, KW_LIKE=28, KW_INT=29, KW_STR=30, NUMBER=31, 
+		KW_TEXT=32, KW_VARCHAR=33, KW_COMMIT=34, KW_ROLLBACK=35, KW_DELETE=36, 
+		KW_IS=37, KW_FOR=38, KW_DATABASE=39, KW_COPY=40, KW_WITH=41, KW_VACUUM=42, 
+		KW_INDEX=43, KW_ON=44, KW_USING=45, KW_UNIQUE=46, OP_Equal=47, OP_Less=48, 
+		OP_More=49, OP_EqualLess=50, OP_EqualMore=51, OP_DoubleEqua=52, OP_AND=53, 
+		OP_OR=54, OP_NOT=55, OP_NotEqual=56, FC_SUM=57, FC_AVG=58, FC_CNT=59, 
+		FC_MIN=60, FC_MAX=61, FC_LIKE=62, ID=63, UNDERSCORE=64, QUOTE=65, STRING=66, 
+		PLUS=67, MINUS=68, DIV=69, WS=70, LBRACE=71, RBRACE=72;
+	public static final int
+		RULE_condition = 0, RULE_expr = 1, RULE_column = 2, RULE_value = 3, RULE_pattern = 4;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"condition", "expr", "column", "value", "pattern"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'NULL'", "'('", "')'", "';'", "'SHOW'", "'FILES'", "'TABLES'", 
+			null, null, null, null, null, "'*'", "','", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'='", "'<'", "'>'", "'<='", "'>='", "'=='", null, 
+			null, null, null, null, null, null, null, null, null, null, "'_'", "'\"'", 
+			null, "'+'", "'-'", "'/'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "KW_NULL", "LPAREN", "RPAREN", "SEMICOLON", "KW_SHOW", "KW_FILES", 
+			"KW_TABLES", "KW_BEGIN", "KW_TRANSACTION", "KW_FROM", "KW_WHERE", "KW_AS", 
+			"KW_STAR", "KW_COMMA", "KW_INSERT", "KW_SELECT", "KW_INTO", "KW_VALUES", 
+			"KW_CREATE", "KW_TABLE", "KW_DROP", "KW_NOT", "KW_DEFAULT", "KW_PRIMARY", 
+			"KW_KEY", "KW_FOREIGN", "KW_REFERENCES", "KW_LIKE", "KW_INT", "KW_STR", 
+			"NUMBER", "KW_TEXT", "KW_VARCHAR", "KW_COMMIT", "KW_ROLLBACK", "KW_DELETE", 
+			"KW_IS", "KW_FOR", "KW_DATABASE", "KW_COPY", "KW_WITH", "KW_VACUUM", 
+			"KW_INDEX", "KW_ON", "KW_USING", "KW_UNIQUE", "OP_Equal", "OP_Less", 
+			"OP_More", "OP_EqualLess", "OP_EqualMore", "OP_DoubleEqua", "OP_AND", 
+			"OP_OR", "OP_NOT", "OP_NotEqual", "FC_SUM", "FC_AVG", "FC_CNT", "FC_MIN", 
+			"FC_MAX", "FC_LIKE", "ID", "UNDERSCORE", "QUOTE", "STRING", "PLUS", "MINUS", 
+			"DIV", "WS", "LBRACE", "RBRACE"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PWhere.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PWhere(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ConditionContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode LBRACE() { return getToken(PWhere.LBRACE, 0); }
+		public List<ConditionContext> condition() {
+			return getRuleContexts(ConditionContext.class);
+		}
+		public ConditionContext condition(int i) {
+			return getRuleContext(ConditionContext.class,i);
+		}
+		public TerminalNode RBRACE() { return getToken(PWhere.RBRACE, 0); }
+		public TerminalNode OP_NOT() { return getToken(PWhere.OP_NOT, 0); }
+		public TerminalNode OP_AND() { return getToken(PWhere.OP_AND, 0); }
+		public TerminalNode OP_OR() { return getToken(PWhere.OP_OR, 0); }
+		public ConditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_condition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).enterCondition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).exitCondition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PWhereVisitor ) return ((PWhereVisitor<? extends T>)visitor).visitCondition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConditionContext condition() throws RecognitionException {
+		return condition(0);
+	}
+
+	private ConditionContext condition(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ConditionContext _localctx = new ConditionContext(_ctx, _parentState);
+		ConditionContext _prevctx = _localctx;
+		int _startState = 0;
+		enterRecursionRule(_localctx, 0, RULE_condition, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(18);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ID:
+				{
+				setState(11);
+				expr();
+				}
+				break;
+			case LBRACE:
+				{
+				setState(12);
+				match(LBRACE);
+				setState(13);
+				condition(0);
+				setState(14);
+				match(RBRACE);
+				}
+				break;
+			case OP_NOT:
+				{
+				setState(16);
+				match(OP_NOT);
+				setState(17);
+				condition(1);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(28);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(26);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ConditionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_condition);
+						setState(20);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(21);
+						match(OP_AND);
+						setState(22);
+						condition(5);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ConditionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_condition);
+						setState(23);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(24);
+						match(OP_OR);
+						setState(25);
+						condition(4);
+						}
+						break;
+					}
+					} 
+				}
+				setState(30);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExprContext extends ParserRuleContext {
+		public ColumnContext column() {
+			return getRuleContext(ColumnContext.class,0);
+		}
+		public TerminalNode OP_Equal() { return getToken(PWhere.OP_Equal, 0); }
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public TerminalNode OP_NotEqual() { return getToken(PWhere.OP_NotEqual, 0); }
+		public TerminalNode OP_Less() { return getToken(PWhere.OP_Less, 0); }
+		public TerminalNode OP_More() { return getToken(PWhere.OP_More, 0); }
+		public TerminalNode OP_EqualLess() { return getToken(PWhere.OP_EqualLess, 0); }
+		public TerminalNode OP_EqualMore() { return getToken(PWhere.OP_EqualMore, 0); }
+		public TerminalNode KW_IS() { return getToken(PWhere.KW_IS, 0); }
+		public TerminalNode KW_NULL() { return getToken(PWhere.KW_NULL, 0); }
+		public TerminalNode KW_NOT() { return getToken(PWhere.KW_NOT, 0); }
+		public TerminalNode FC_LIKE() { return getToken(PWhere.FC_LIKE, 0); }
+		public PatternContext pattern() {
+			return getRuleContext(PatternContext.class,0);
+		}
+		public ExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).enterExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).exitExpr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PWhereVisitor ) return ((PWhereVisitor<? extends T>)visitor).visitExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExprContext expr() throws RecognitionException {
+		ExprContext _localctx = new ExprContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_expr);
+		int _la;
+		try {
+			setState(66);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(31);
+				column();
+				setState(32);
+				match(OP_Equal);
+				setState(33);
+				value();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(35);
+				column();
+				setState(36);
+				match(OP_NotEqual);
+				setState(37);
+				value();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(39);
+				column();
+				setState(40);
+				match(OP_Less);
+				setState(41);
+				value();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(43);
+				column();
+				setState(44);
+				match(OP_More);
+				setState(45);
+				value();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(47);
+				column();
+				setState(48);
+				match(OP_EqualLess);
+				setState(49);
+				value();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(51);
+				column();
+				setState(52);
+				match(OP_EqualMore);
+				setState(53);
+				value();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(55);
+				column();
+				setState(56);
+				match(KW_IS);
+				setState(58);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==KW_NOT) {
+					{
+					setState(57);
+					match(KW_NOT);
+					}
+				}
+
+				setState(60);
+				match(KW_NULL);
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(62);
+				column();
+				setState(63);
+				match(FC_LIKE);
+				setState(64);
+				pattern();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ColumnContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PWhere.ID, 0); }
+		public ColumnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).enterColumn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).exitColumn(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PWhereVisitor ) return ((PWhereVisitor<? extends T>)visitor).visitColumn(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ColumnContext column() throws RecognitionException {
+		ColumnContext _localctx = new ColumnContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_column);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(68);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ValueContext extends ParserRuleContext {
+		public TerminalNode NUMBER() { return getToken(PWhere.NUMBER, 0); }
+		public TerminalNode STRING() { return getToken(PWhere.STRING, 0); }
+		public TerminalNode KW_NULL() { return getToken(PWhere.KW_NULL, 0); }
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).exitValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PWhereVisitor ) return ((PWhereVisitor<? extends T>)visitor).visitValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_value);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(70);
+			_la = _input.LA(1);
+			if ( !(_la==KW_NULL || _la==NUMBER || _la==STRING) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class PatternContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(PWhere.STRING, 0); }
+		public PatternContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pattern; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).enterPattern(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PWhereListener ) ((PWhereListener)listener).exitPattern(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof PWhereVisitor ) return ((PWhereVisitor<? extends T>)visitor).visitPattern(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PatternContext pattern() throws RecognitionException {
+		PatternContext _localctx = new PatternContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_pattern);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(72);
+			match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 0:
+			return condition_sempred((ConditionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean condition_sempred(ConditionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 4);
+		case 1:
+			return precpred(_ctx, 3);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001HK\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002"+
+		"\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"+
+		"\u0001\u0000\u0003\u0000\u0013\b\u0000\u0001\u0000\u0001\u0000\u0001\u0000"+
+		"\u0001\u0000\u0001\u0000\u0001\u0000\u0005\u0000\u001b\b\u0000\n\u0000"+
+		"\f\u0000\u001e\t\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001"+
+		";\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0003\u0001C\b\u0001\u0001\u0002\u0001\u0002\u0001\u0003"+
+		"\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0000\u0001\u0000\u0005"+
+		"\u0000\u0002\u0004\u0006\b\u0000\u0001\u0003\u0000\u0001\u0001\u001f\u001f"+
+		"BBQ\u0000\u0012\u0001\u0000\u0000\u0000\u0002B\u0001\u0000\u0000\u0000"+
+		"\u0004D\u0001\u0000\u0000\u0000\u0006F\u0001\u0000\u0000\u0000\bH\u0001"+
+		"\u0000\u0000\u0000\n\u000b\u0006\u0000\uffff\uffff\u0000\u000b\u0013\u0003"+
+		"\u0002\u0001\u0000\f\r\u0005G\u0000\u0000\r\u000e\u0003\u0000\u0000\u0000"+
+		"\u000e\u000f\u0005H\u0000\u0000\u000f\u0013\u0001\u0000\u0000\u0000\u0010"+
+		"\u0011\u00057\u0000\u0000\u0011\u0013\u0003\u0000\u0000\u0001\u0012\n"+
+		"\u0001\u0000\u0000\u0000\u0012\f\u0001\u0000\u0000\u0000\u0012\u0010\u0001"+
+		"\u0000\u0000\u0000\u0013\u001c\u0001\u0000\u0000\u0000\u0014\u0015\n\u0004"+
+		"\u0000\u0000\u0015\u0016\u00055\u0000\u0000\u0016\u001b\u0003\u0000\u0000"+
+		"\u0005\u0017\u0018\n\u0003\u0000\u0000\u0018\u0019\u00056\u0000\u0000"+
+		"\u0019\u001b\u0003\u0000\u0000\u0004\u001a\u0014\u0001\u0000\u0000\u0000"+
+		"\u001a\u0017\u0001\u0000\u0000\u0000\u001b\u001e\u0001\u0000\u0000\u0000"+
+		"\u001c\u001a\u0001\u0000\u0000\u0000\u001c\u001d\u0001\u0000\u0000\u0000"+
+		"\u001d\u0001\u0001\u0000\u0000\u0000\u001e\u001c\u0001\u0000\u0000\u0000"+
+		"\u001f \u0003\u0004\u0002\u0000 !\u0005/\u0000\u0000!\"\u0003\u0006\u0003"+
+		"\u0000\"C\u0001\u0000\u0000\u0000#$\u0003\u0004\u0002\u0000$%\u00058\u0000"+
+		"\u0000%&\u0003\u0006\u0003\u0000&C\u0001\u0000\u0000\u0000\'(\u0003\u0004"+
+		"\u0002\u0000()\u00050\u0000\u0000)*\u0003\u0006\u0003\u0000*C\u0001\u0000"+
+		"\u0000\u0000+,\u0003\u0004\u0002\u0000,-\u00051\u0000\u0000-.\u0003\u0006"+
+		"\u0003\u0000.C\u0001\u0000\u0000\u0000/0\u0003\u0004\u0002\u000001\u0005"+
+		"2\u0000\u000012\u0003\u0006\u0003\u00002C\u0001\u0000\u0000\u000034\u0003"+
+		"\u0004\u0002\u000045\u00053\u0000\u000056\u0003\u0006\u0003\u00006C\u0001"+
+		"\u0000\u0000\u000078\u0003\u0004\u0002\u00008:\u0005%\u0000\u00009;\u0005"+
+		"\u0016\u0000\u0000:9\u0001\u0000\u0000\u0000:;\u0001\u0000\u0000\u0000"+
+		";<\u0001\u0000\u0000\u0000<=\u0005\u0001\u0000\u0000=C\u0001\u0000\u0000"+
+		"\u0000>?\u0003\u0004\u0002\u0000?@\u0005>\u0000\u0000@A\u0003\b\u0004"+
+		"\u0000AC\u0001\u0000\u0000\u0000B\u001f\u0001\u0000\u0000\u0000B#\u0001"+
+		"\u0000\u0000\u0000B\'\u0001\u0000\u0000\u0000B+\u0001\u0000\u0000\u0000"+
+		"B/\u0001\u0000\u0000\u0000B3\u0001\u0000\u0000\u0000B7\u0001\u0000\u0000"+
+		"\u0000B>\u0001\u0000\u0000\u0000C\u0003\u0001\u0000\u0000\u0000DE\u0005"+
+		"?\u0000\u0000E\u0005\u0001\u0000\u0000\u0000FG\u0007\u0000\u0000\u0000"+
+		"G\u0007\u0001\u0000\u0000\u0000HI\u0005B\u0000\u0000I\t\u0001\u0000\u0000"+
+		"\u0000\u0005\u0012\u001a\u001c:B";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
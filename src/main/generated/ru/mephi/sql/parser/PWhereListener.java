@@ -0,0 +1,60 @@
+// Generated from PWhere.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link PWhere}.
+ */
+public interface PWhereListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link PWhere#condition}.
+	 * @param ctx the parse tree
+	 */
+	void enterCondition(PWhere.ConditionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PWhere#condition}.
+	 * @param ctx the parse tree
+	 */
+	void exitCondition(PWhere.ConditionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PWhere#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr(PWhere.ExprContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PWhere#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr(PWhere.ExprContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PWhere#column}.
+	 * @param ctx the parse tree
+	 */
+	void enterColumn(PWhere.ColumnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PWhere#column}.
+	 * @param ctx the parse tree
+	 */
+	void exitColumn(PWhere.ColumnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PWhere#value}.
+	 * @param ctx the parse tree
+	 */
+	void enterValue(PWhere.ValueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PWhere#value}.
+	 * @param ctx the parse tree
+	 */
+	void exitValue(PWhere.ValueContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link PWhere#pattern}.
+	 * @param ctx the parse tree
+	 */
+	void enterPattern(PWhere.PatternContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link PWhere#pattern}.
+	 * @param ctx the parse tree
+	 */
+	void exitPattern(PWhere.PatternContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+// Generated from PWhere.g4 by ANTLR 4.13.2
+package ru.mephi.sql.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link PWhere}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface PWhereVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link PWhere#condition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCondition(PWhere.ConditionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PWhere#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExpr(PWhere.ExprContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PWhere#column}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitColumn(PWhere.ColumnContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PWhere#value}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValue(PWhere.ValueContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link PWhere#pattern}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPattern(PWhere.PatternContext ctx);
+}
\ No newline at end of file
@@ -1,11 +1,20 @@
 package ru.mephi.db.application.adapter.db;
 
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.RowFormat;
+import ru.mephi.db.domain.valueobject.RowId;
+
 import java.io.IOException;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface DataRepository {
 
     void createTableFile(String tableFilePath, String tableName, List<String> schema) throws IOException;
+    void createTableFile(String tableFilePath, String tableName, List<String> schema, int pageSize) throws IOException;
+    void createTableFile(String tableFilePath, String tableName, List<String> schema, int pageSize, RowFormat format)
+            throws IOException;
     void createDatabaseFile(String dbFilePath, String dbName) throws IOException;
     void addTableReference(String dbFilePath, String tableFilePath) throws IOException;
     
@@ -13,10 +22,26 @@ public interface DataRepository {
     void deleteTableFile(String tableFilePath) throws IOException;
 
     void addRecord(String tablePath, List<Object> data) throws IOException;
+    void addRecords(String tablePath, List<List<Object>> rows) throws IOException;
+    void appendRecords(String tablePath, List<List<Object>> rows) throws IOException;
     List<Object> readRecord(String tablePath, int recordIndex, int recordsOnPrevPages) throws IOException;
+    List<Object> readRecord(String tablePath, RowId rowId) throws IOException;
+    List<List<Object>> readRecords(String tablePath, List<Integer> sortedIndices) throws IOException;
+    RowId getRowId(String tablePath, int recordIndex) throws IOException;
+    RecordCursor openRecordCursor(String tablePath) throws IOException;
+    List<String> getTableSchema(String tablePath) throws IOException;
     boolean isTableExists(String dbFilePath, String tableFilePath) throws IOException;
+    void setDatabaseLock(Path databasePath, FileLock lock);
 
     void deleteRecord(String tablePath, int recordIndex) throws IOException;
+    int deleteRecords(String tablePath, List<Integer> sortedIndices) throws IOException;
+    int getRecordCount(String tablePath) throws IOException;
+    int truncateTable(String tablePath, int recordCount) throws IOException;
+    int vacuumTable(String tablePath) throws IOException;
+    boolean autoVacuumTable(String tablePath) throws IOException;
+    void createIndex(String tablePath, int columnIndex) throws IOException;
+    void createIndex(String tablePath, int columnIndex, IndexType type) throws IOException;
+    void addUniqueConstraint(String tablePath, int columnIndex) throws IOException;
 
     List<Integer> getAllRecordIndices(String tablePath) throws IOException;
     List<Integer> findRecordsByCondition(String tablePath, int column1, String operator, int column2) throws IOException;
@@ -26,4 +51,6 @@ public interface DataRepository {
     List<String> getAllTableNames(String dbFilePath) throws IOException;
     
     void removeTableReference(String dbFilePath, String tableFilePath) throws IOException ;
+
+    void closeTable(String tablePath);
 }
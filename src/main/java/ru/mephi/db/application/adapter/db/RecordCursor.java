@@ -0,0 +1,38 @@
+package ru.mephi.db.application.adapter.db;
+
+import ru.mephi.db.domain.valueobject.RowId;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Курсор последовательного чтения таблицы: проходит голову и части таблицы
+ * один раз, в порядке индексов записей.
+ */
+public interface RecordCursor extends Closeable {
+
+    /**
+     * Переходит к следующей записи
+     * @return false, если записей больше нет
+     */
+    boolean next() throws IOException;
+
+    /**
+     * Индекс текущей записи в таблице (0-based)
+     */
+    int getIndex();
+
+    /**
+     * Физический адрес текущей записи, не меняющийся при удалении других записей
+     */
+    RowId getRowId();
+
+    /**
+     * Значения полей текущей записи
+     */
+    List<Object> getRecord();
+
+    @Override
+    void close();
+}
@@ -42,11 +42,26 @@ public interface TransactionLogger {
      * Записывает вставку записи
      */
     void logInsertRecord(String transactionId, String tableName, List<Object> values) throws LogUnableWriteTransactionException;
+
+    /**
+     * Записывает вставку пакета записей одной записью журнала
+     */
+    void logInsertRecords(String transactionId, String tableName, List<List<Object>> rows) throws LogUnableWriteTransactionException;
+
+    /**
+     * Записывает загрузку записей из файла (путь к файлу и число записей, без самих данных)
+     */
+    void logCopyRecords(String transactionId, String tableName, String sourcePath, long rowCount) throws LogUnableWriteTransactionException;
     
     /**
      * Записывает удаление записи
      */
     void logDeleteRecord(String transactionId, String tableName, int recordIndex) throws LogUnableWriteTransactionException;
+
+    /**
+     * Записывает удаление набора записей одной записью журнала
+     */
+    void logDeleteRecords(String transactionId, String tableName, List<Integer> recordIndices) throws LogUnableWriteTransactionException;
     
     /**
      * Восстанавливает состояние из журнала
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ru.mephi.db.domain.valueobject.TableReadMode;
 
 @Data
 @NoArgsConstructor
@@ -13,10 +14,30 @@ public class ConnectionConfig {
 
     private Path dbPath;
 
+    // Способ чтения частей таблиц (свойство readMode файла info базы данных)
+    private TableReadMode readMode = TableReadMode.BUFFERED;
+
+    // Доля освободившихся слотов, при которой таблица сжимается после удаления
+    // (свойство autoVacuumRatio файла info базы данных, 0 - автосжатие выключено)
+    private double autoVacuumRatio;
+
+    // Сжатие заполненных частей таблиц (свойство compressParts файла info базы данных)
+    private boolean compressParts;
+
+    // Количество кадров буферного пула (свойство bufferPoolFrames файла info базы данных, 0 - по умолчанию)
+    private int bufferPoolFrames;
+
+    // Наибольший объём кадров буферного пула в байтах (свойство bufferPoolBytes, 0 - по умолчанию)
+    private long bufferPoolBytes;
+
     // Isolation level
     // Permissions and available operations
     // etc
 
+    public ConnectionConfig(Path dbPath) {
+        this.dbPath = dbPath;
+    }
+
     /**
      * Возвращает путь к файлу таблицы по её имени внутри папки dbPath.
      * @param tableName имя таблицы
@@ -154,6 +154,8 @@ public class TransactionManager {
         boolean mainExistsInMaster = dataRepository.isTableExists(masterPath.toString(), mainTablePath.toString());
     
         if (Files.exists(tempPath)) {
+            // Файл основной таблицы подменяется копией, открытые дескрипторы станут неактуальны
+            dataRepository.closeTable(mainTablePath.toString());
             Files.copy(tempPath, mainTablePath, StandardCopyOption.REPLACE_EXISTING);
             
             if(!mainExistsInMaster) {
@@ -207,6 +209,24 @@ public class TransactionManager {
         }
     }
 
+    /**
+     * Логирует вставку пакета записей
+     */
+    public void logInsertRecords(String tableName, List<List<Object>> rows) throws LogUnableWriteTransactionException {
+        if (inTransaction && currentTransactionId != null) {
+            transactionLogger.logInsertRecords(currentTransactionId, tableName, rows);
+        }
+    }
+
+    /**
+     * Логирует загрузку записей из файла
+     */
+    public void logCopyRecords(String tableName, String sourcePath, long rowCount) throws LogUnableWriteTransactionException {
+        if (inTransaction && currentTransactionId != null) {
+            transactionLogger.logCopyRecords(currentTransactionId, tableName, sourcePath, rowCount);
+        }
+    }
+
     /**
      * Логирует удаление записи
      */
@@ -216,6 +236,15 @@ public class TransactionManager {
         }
     }
 
+    /**
+     * Логирует удаление набора записей
+     */
+    public void logDeleteRecords(String tableName, List<Integer> recordIndices) throws LogUnableWriteTransactionException {
+        if (inTransaction && currentTransactionId != null) {
+            transactionLogger.logDeleteRecords(currentTransactionId, tableName, recordIndices);
+        }
+    }
+
     /**
      * Восстанавливает состояние базы данных из WAL
      * Применяет все операции из завершенных транзакций
@@ -3,25 +3,49 @@ package ru.mephi.db.application.core.sql.impl;
 import jakarta.inject.Inject;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
+import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.core.TransactionManager;
 import ru.mephi.db.application.core.sql.QueryExecutor;
 import ru.mephi.db.application.core.sql.QueryHandler;
+import ru.mephi.db.domain.valueobject.QueryType;
 import ru.mephi.db.exception.QueryExecutionException;
 import ru.mephi.db.domain.entity.Query;
 import ru.mephi.db.domain.entity.QueryResult;
 
+import java.io.IOException;
 import java.util.List;
 
 @AllArgsConstructor(onConstructor_ = @Inject)
 public class QueryExecutorImpl implements QueryExecutor {
     private final List<QueryHandler> handlers; // Должен включать BeginTransactionHandler
+    private final DataRepository dataRepository;
+    private final TransactionManager transactionManager;
 
     @SneakyThrows
     @Override
     public QueryResult execute(Query query) {
-        return handlers.stream()
+        QueryResult result = handlers.stream()
                 .filter(h -> h.canHandle(query.getType()))
                 .findFirst()
                 .orElseThrow(() -> new QueryExecutionException("No handler for: " + query.getType()))
                 .handle(query);
+
+        if (query.getType() == QueryType.DELETE && result.isSuccess()) {
+            autoVacuum(query.getTable());
+        }
+        return result;
+    }
+
+    /**
+     * Проверка после завершённого DELETE: таблица сжимается, если доля освободившихся
+     * слотов достигла порога автосжатия. Удаление уже выполнено, поэтому ошибка сжатия
+     * только сообщается и не меняет результат запроса.
+     */
+    private void autoVacuum(String tableName) {
+        try {
+            dataRepository.autoVacuumTable(transactionManager.getActualTablePath(tableName).toString());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Warning: Auto-vacuum of " + tableName + " failed: " + e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -44,6 +44,8 @@ public class SQLParserImpl implements SQLParser {
                 return parseRollback(tokens);
             } else if (upperSql.startsWith("SHOW FILES")) {
                 return parseShowFiles(tokens);
+            } else if (upperSql.startsWith("CREATE INDEX")) {
+                return parseCreateIndex(tokens);
             }else if(upperSql.startsWith("CREATE TABLE")){
                 return parseCreateTable(tokens);
             } else if (upperSql.startsWith("DROP TABLE")) {
@@ -51,6 +53,10 @@ public class SQLParserImpl implements SQLParser {
             }
             else if (upperSql.startsWith("SHOW TABLES")) {
                 return parseShowTables(tokens);
+            } else if (upperSql.startsWith("COPY")) {
+                return parseCopy(tokens);
+            } else if (upperSql.startsWith("VACUUM")) {
+                return parseVacuum(tokens);
             } else {
                 throw new SQLParseException("Unsupported SQL query type");
             }
@@ -77,6 +83,8 @@ public class SQLParserImpl implements SQLParser {
                     .type(QueryType.CREATE_TABLE)
                     .table(listener.getTableName())
                     .schema(listener.getShema())
+                    .tableOptions(listener.getTableOptions())
+                    .uniqueColumns(listener.getUniqueColumns())
                     .build();
         } catch (Exception e) {
             throw new SQLParseException("Failed to parse CREATE TABLE: " + e.getMessage());
@@ -154,11 +162,92 @@ public class SQLParserImpl implements SQLParser {
                     .type(QueryType.INSERT)
                     .table(listener.getTableName())
                     .values(listener.getValues())
+                    .rows(listener.getRows())
                     .build();
         } catch (Exception e) {
             throw new SQLParseException("Failed to parse INSERT query: " + e.getMessage());
         }
     }
+    private Query parseCopy(CommonTokenStream tokens) throws SQLParseException {
+        try {
+            PCopy parser = new PCopy(tokens);
+            parser.removeErrorListeners();
+            parser.addErrorListener(new BaseErrorListener() {
+                @Override
+                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+                                        int line, int charPos, String msg, RecognitionException e) {
+                    throw new RuntimeException("Syntax error in COPY at " + line + ":" + charPos + " - " + msg);
+                }
+            });
+
+            PCopy.QueryContext ctx = parser.query();
+            CopyQueryListener listener = new CopyQueryListener();
+            ParseTreeWalker.DEFAULT.walk(listener, ctx);
+
+            return Query.builder()
+                    .type(QueryType.COPY)
+                    .table(listener.getTableName())
+                    .sourcePath(listener.getSourcePath())
+                    .withHeader(listener.isWithHeader())
+                    .build();
+        } catch (Exception e) {
+            throw new SQLParseException("Failed to parse COPY: " + e.getMessage());
+        }
+    }
+
+    private Query parseVacuum(CommonTokenStream tokens) throws SQLParseException {
+        try {
+            PVacuum parser = new PVacuum(tokens);
+            parser.removeErrorListeners();
+            parser.addErrorListener(new BaseErrorListener() {
+                @Override
+                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+                                        int line, int charPos, String msg, RecognitionException e) {
+                    throw new RuntimeException("Syntax error in VACUUM at " + line + ":" + charPos + " - " + msg);
+                }
+            });
+
+            PVacuum.QueryContext ctx = parser.query();
+            VacuumListener listener = new VacuumListener();
+            ParseTreeWalker.DEFAULT.walk(listener, ctx);
+
+            return Query.builder()
+                    .type(QueryType.VACUUM)
+                    .table(listener.getTableName())
+                    .build();
+        } catch (Exception e) {
+            throw new SQLParseException("Failed to parse VACUUM: " + e.getMessage());
+        }
+    }
+
+    private Query parseCreateIndex(CommonTokenStream tokens) throws SQLParseException {
+        try {
+            PCreateIndex parser = new PCreateIndex(tokens);
+            parser.removeErrorListeners();
+            parser.addErrorListener(new BaseErrorListener() {
+                @Override
+                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+                                        int line, int charPos, String msg, RecognitionException e) {
+                    throw new RuntimeException("Syntax error in CREATE INDEX at " + line + ":" + charPos + " - " + msg);
+                }
+            });
+
+            PCreateIndex.QueryContext ctx = parser.query();
+            CreateIndexListener listener = new CreateIndexListener();
+            ParseTreeWalker.DEFAULT.walk(listener, ctx);
+
+            return Query.builder()
+                    .type(QueryType.CREATE_INDEX)
+                    .table(listener.getTableName())
+                    .indexName(listener.getIndexName())
+                    .indexType(listener.getIndexType())
+                    .columnIndices(List.of(listener.getColumnIndex()))
+                    .build();
+        } catch (Exception e) {
+            throw new SQLParseException("Failed to parse CREATE INDEX: " + e.getMessage());
+        }
+    }
+
     private Query parseDelete(CommonTokenStream tokens) throws SQLParseException {
         try {
             PDeleteParser parser = new PDeleteParser(tokens);
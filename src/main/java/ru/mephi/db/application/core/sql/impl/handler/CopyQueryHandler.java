@@ -0,0 +1,177 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import lombok.RequiredArgsConstructor;
+import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.application.core.sql.QueryHandler;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.QueryType;
+import ru.mephi.db.exception.LogUnableWriteTransactionException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Загружает записи из файла CSV/TSV: {@code COPY <table> FROM '<path>' [WITH HEADER]}.
+ * <p>
+ * Файл разбирается потоково, поля преобразуются по схеме таблицы, прочитанной
+ * один раз до загрузки, а записи
+ * передаются в репозиторий пакетами по {@link #BATCH_SIZE}, который раскладывает
+ * их по частям таблицы сразу целыми страницами. С {@code WITH HEADER} первая
+ * строка файла пропускается, без него загружается как данные.
+ * <p>
+ * Пакеты дописываются в конец таблицы, не занимая освободившиеся слоты, поэтому
+ * загруженные записи идут подряд за прежними. При ошибке таблица усекается до
+ * количества записей, запомненного перед загрузкой, и остаётся без изменений,
+ * а в журнал транзакций ничего не пишется.
+ */
+@RequiredArgsConstructor
+public class CopyQueryHandler implements QueryHandler {
+    /** Число записей, передаваемых в репозиторий одним пакетом */
+    private static final int BATCH_SIZE = 8192;
+
+    private final DataRepository dataRepository;
+    private final TransactionManager transactionManager;
+
+    @Override
+    public boolean canHandle(QueryType type) {
+        return type == QueryType.COPY;
+    }
+
+    @Override
+    public QueryResult handle(Query query) {
+        String tableName = query.getTable();
+        if (tableName == null || tableName.isEmpty() || query.getSourcePath() == null) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("Table name and source file are required for COPY")
+                    .rows(List.of())
+                    .build();
+        }
+
+        String tableFilePath = null;
+        int recordCountBefore = -1;
+        long copied = 0;
+        try {
+            Path source = Path.of(query.getSourcePath());
+            if (!Files.isRegularFile(source)) {
+                throw new IOException("Source file not found: " + source);
+            }
+
+            tableFilePath = transactionManager.getActualTablePath(tableName).toString();
+            int[] maxLengths = compileSchema(dataRepository.getTableSchema(tableFilePath));
+            recordCountBefore = dataRepository.getRecordCount(tableFilePath);
+
+            long start = System.nanoTime();
+            try (DelimitedRecordReader reader = new DelimitedRecordReader(
+                    new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8),
+                    DelimitedRecordReader.detectDelimiter(source))) {
+                List<List<Object>> batch = new ArrayList<>(BATCH_SIZE);
+                List<String> fields;
+                if (query.isWithHeader()) {
+                    reader.next();
+                }
+
+                while ((fields = reader.next()) != null) {
+                    batch.add(convert(maxLengths, fields, reader.getLineNumber()));
+                    if (batch.size() == BATCH_SIZE) {
+                        dataRepository.appendRecords(tableFilePath, batch);
+                        copied += batch.size();
+                        batch.clear();
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    dataRepository.appendRecords(tableFilePath, batch);
+                    copied += batch.size();
+                }
+            }
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long rowsPerSecond = seconds > 0 ? (long) (copied / seconds) : copied;
+            logCopy(tableName, source.toString(), copied);
+
+            return QueryResult.builder()
+                    .success(true)
+                    .message(String.format(Locale.ROOT, "Copied %d rows into %s in %.3f s (%d rows/s)",
+                            copied, tableName, seconds, rowsPerSecond))
+                    .rows(List.of(Map.of(
+                            "copied_rows", copied,
+                            "rows_per_second", rowsPerSecond
+                    )))
+                    .build();
+        } catch (Exception e) {
+            String message = "Failed to execute COPY: " + e.getMessage();
+            if (recordCountBefore >= 0) {
+                try {
+                    dataRepository.truncateTable(tableFilePath, recordCountBefore);
+                } catch (IOException | RuntimeException rollbackError) {
+                    message += " (failed to remove loaded rows: " + rollbackError.getMessage() + ")";
+                }
+            }
+            return QueryResult.builder()
+                    .success(false)
+                    .message(message)
+                    .rows(List.of())
+                    .build();
+        }
+    }
+
+    /**
+     * Наибольшая длина в байтах UTF-8 для каждого строкового поля схемы, -1 для {@code int}
+     */
+    private int[] compileSchema(List<String> schema) {
+        int[] maxLengths = new int[schema.size()];
+        for (int i = 0; i < maxLengths.length; i++) {
+            String type = schema.get(i);
+            maxLengths[i] = type.startsWith("str_") ? Integer.parseInt(type.substring(4)) : -1;
+        }
+        return maxLengths;
+    }
+
+    /**
+     * Преобразует поля строки файла в запись: {@code int} разбирается как целое число,
+     * длина строк проверяется в байтах UTF-8, как при записи в таблицу
+     */
+    private List<Object> convert(int[] maxLengths, List<String> fields, long line) {
+        if (fields.size() != maxLengths.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Line %d: expected %d fields, got %d", line, maxLengths.length, fields.size()));
+        }
+
+        List<Object> record = new ArrayList<>(fields.size());
+        for (int i = 0; i < maxLengths.length; i++) {
+            String value = fields.get(i);
+            if (maxLengths[i] < 0) {
+                try {
+                    record.add(Integer.parseInt(value.trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(String.format(
+                            "Line %d: field %d is not an integer: '%s'", line, i, value));
+                }
+            } else if (value.getBytes(StandardCharsets.UTF_8).length > maxLengths[i]) {
+                throw new IllegalArgumentException(String.format(
+                        "Line %d: field %d is longer than %d bytes", line, i, maxLengths[i]));
+            } else {
+                record.add(value);
+            }
+        }
+        return record;
+    }
+
+    private void logCopy(String tableName, String sourcePath, long copied) {
+        try {
+            transactionManager.logCopyRecords(tableName, sourcePath, copied);
+        } catch (LogUnableWriteTransactionException e) {
+            System.err.println("Warning: Failed to log copy operation: " + e.getMessage());
+        }
+    }
+}
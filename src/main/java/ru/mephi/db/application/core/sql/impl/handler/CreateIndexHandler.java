@@ -0,0 +1,65 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import lombok.RequiredArgsConstructor;
+import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.application.core.sql.QueryHandler;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.QueryType;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CreateIndexHandler implements QueryHandler {
+    private final DataRepository dataRepository;
+    private final TransactionManager transactionManager;
+
+    @Override
+    public boolean canHandle(QueryType type) {
+        return type == QueryType.CREATE_INDEX;
+    }
+
+    @Override
+    public QueryResult handle(Query query) {
+        String tableName = query.getTable();
+        if (tableName == null || tableName.isEmpty()) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("Table name is required for CREATE INDEX")
+                    .rows(List.of())
+                    .build();
+        }
+
+        // Индекс строится рядом с головным файлом, а временная таблица транзакции заменяет его при COMMIT
+        if (transactionManager.isInTransaction()) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("CREATE INDEX cannot run inside a transaction")
+                    .rows(List.of())
+                    .build();
+        }
+
+        try {
+            int columnIndex = query.getColumnIndices().get(0);
+            String tableFilePath = transactionManager.getActualTablePath(tableName).toString();
+            IndexType indexType = query.getIndexType() != null ? query.getIndexType() : IndexType.BTREE;
+            dataRepository.createIndex(tableFilePath, columnIndex, indexType);
+
+            String indexName = query.getIndexName() != null ? query.getIndexName() + " " : "";
+            return QueryResult.builder()
+                    .success(true)
+                    .message(String.format("Created %s index %son %s(col%d)",
+                            indexType.name().toLowerCase(), indexName, tableName, columnIndex))
+                    .rows(List.of())
+                    .build();
+        } catch (Exception e) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("Failed to execute CREATE INDEX: " + e.getMessage())
+                    .rows(List.of())
+                    .build();
+        }
+    }
+}
@@ -7,15 +7,23 @@ import ru.mephi.db.application.core.sql.QueryHandler;
 import ru.mephi.db.domain.entity.Query;
 import ru.mephi.db.domain.entity.QueryResult;
 import ru.mephi.db.domain.valueobject.QueryType;
+import ru.mephi.db.domain.valueobject.RowFormat;
 import ru.mephi.db.exception.LogUnableWriteTransactionException;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class CreateTableHandler implements QueryHandler {
+    /** Размер с необязательной единицей: байты, КБ или МБ */
+    private static final Pattern SIZE_PATTERN = Pattern.compile("(\\d{1,10})(B|K|KB|M|MB)?");
+
     private final DataRepository dataRepository;
     private final TransactionManager transactionManager;
 
@@ -36,7 +44,50 @@ public class CreateTableHandler implements QueryHandler {
                     .map(this::convertToStorageFormat)
                     .collect(Collectors.toList());
 
-            dataRepository.createTableFile(tableFilePath, tableName, storageSchema);
+            int pageSize = 0;
+            RowFormat format = RowFormat.FIXED;
+            boolean columnar = false;
+            Map<String, String> options = query.getTableOptions() != null ? query.getTableOptions() : Map.of();
+            for (Map.Entry<String, String> option : options.entrySet()) {
+                if (option.getKey().equals("page_size")) {
+                    pageSize = parseSize(option.getValue());
+                } else if (option.getKey().equals("format")) {
+                    format = parseRowFormat(option.getValue());
+                } else if (option.getKey().equals("storage")) {
+                    columnar = parseColumnarStorage(option.getValue());
+                } else {
+                    throw new IllegalArgumentException("Unknown table option: " + option.getKey());
+                }
+            }
+
+            if (columnar) {
+                if (format != RowFormat.FIXED) {
+                    throw new IllegalArgumentException(
+                            "Row format " + format + " is not supported by columnar storage");
+                }
+                format = RowFormat.COLUMNAR;
+            }
+
+            List<Integer> uniqueColumns = query.getUniqueColumns() != null ? query.getUniqueColumns() : List.of();
+            if (columnar && !uniqueColumns.isEmpty()) {
+                throw new IllegalArgumentException("PRIMARY KEY and UNIQUE are not supported by columnar storage");
+            }
+
+            dataRepository.createTableFile(tableFilePath, tableName, storageSchema, pageSize, format);
+            // Уникальность проверяется при вставке по индексу, который строится вместе с таблицей.
+            // Таблица без части ограничений не должна остаться: при ошибке она удаляется целиком
+            try {
+                for (int column : uniqueColumns) {
+                    dataRepository.addUniqueConstraint(tableFilePath, column);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                try {
+                    dataRepository.deleteTableFile(tableFilePath);
+                } catch (IOException deleteError) {
+                    e.addSuppressed(deleteError);
+                }
+                throw e;
+            }
 
             try {
                 transactionManager.logCreateTable(tableName, schema);
@@ -49,7 +100,7 @@ public class CreateTableHandler implements QueryHandler {
                     .message("Table created: " + tableName)
                     .rows(Collections.emptyList())
                     .build();
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             return QueryResult.builder()
                     .success(false)
                     .message("Creation failed: " + e.getMessage())
@@ -58,6 +109,52 @@ public class CreateTableHandler implements QueryHandler {
         }
     }
 
+    /**
+     * Разбирает размер вида {@code 65536}, {@code 64KB} или {@code 1MB} (единицы по 1024 байта).
+     */
+    private int parseSize(String value) {
+        Matcher matcher = SIZE_PATTERN.matcher(value.trim().toUpperCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid page size: " + value);
+        }
+
+        long size = Long.parseLong(matcher.group(1));
+        String unit = matcher.group(2);
+        if (unit != null && unit.startsWith("K")) {
+            size *= 1024;
+        } else if (unit != null && unit.startsWith("M")) {
+            size *= 1024 * 1024;
+        }
+        if (size <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid page size: " + value);
+        }
+        return (int) size;
+    }
+
+    /**
+     * Разбирает формат записи: {@code fixed} (строки полной ширины) или {@code varlen}.
+     */
+    private RowFormat parseRowFormat(String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "fixed": return RowFormat.FIXED;
+            case "varlen": return RowFormat.VARLEN;
+            default: throw new IllegalArgumentException(
+                    "Unknown row format: " + value + " (expected fixed or varlen)");
+        }
+    }
+
+    /**
+     * Разбирает способ хранения: {@code rows} (по строкам) или {@code columnar} (по столбцам).
+     */
+    private boolean parseColumnarStorage(String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "rows": return false;
+            case "columnar": return true;
+            default: throw new IllegalArgumentException(
+                    "Unknown table storage: " + value + " (expected rows or columnar)");
+        }
+    }
+
     private String convertToStorageFormat(String type) {
         if (type.startsWith("str_")) {
             return "str_" + type.substring(4);
@@ -13,6 +13,14 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Удаление записей по номеру или по условию WHERE.
+ * <p>
+ * Записи, подходящие под условие, отбираются через {@code findRecordsBy*}, а не собственным
+ * проходом курсора: репозиторий сам выбирает индекс столбца, чтение только нужных сегментов
+ * поколоночной таблицы или один проход {@link ru.mephi.db.application.adapter.db.RecordCursor}.
+ * Номера приходят по возрастанию и без повторов и передаются в {@code deleteRecords} как есть.
+ */
 @RequiredArgsConstructor
 public class DeleteQueryHandler implements QueryHandler {
     private final DataRepository dataRepository;
@@ -33,16 +41,12 @@ public class DeleteQueryHandler implements QueryHandler {
 
             if (query.getWhereClause() != null) {
                 List<Integer> matchingIndices = findMatchingIndices(query);
-                deletedCount = matchingIndices.size();
-                for (int i = matchingIndices.size() - 1; i >= 0; i--) {
-                    int recordIndex = matchingIndices.get(i);
-                    dataRepository.deleteRecord(tableFilePath, recordIndex);
-                    
-                    try {
-                        transactionManager.logDeleteRecord(tableName, recordIndex);
-                    } catch (LogUnableWriteTransactionException e) {
-                        System.err.println("Warning: Failed to log delete operation: " + e.getMessage());
-                    }
+                deletedCount = dataRepository.deleteRecords(tableFilePath, matchingIndices);
+
+                try {
+                    transactionManager.logDeleteRecords(tableName, matchingIndices);
+                } catch (LogUnableWriteTransactionException e) {
+                    System.err.println("Warning: Failed to log delete operation: " + e.getMessage());
                 }
             } else if (query.getRecordIndex() != null) {
                 deletedCount = 1;
@@ -0,0 +1,175 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Потоковый разбор файла CSV/TSV по записям.
+ * <p>
+ * Файл читается блоками фиксированного размера, поэтому в памяти находится
+ * только текущий блок и текущая запись, а размер файла не ограничен кучей.
+ * Поддерживаются поля в двойных кавычках (с удвоенной кавычкой внутри и
+ * переводами строк), окончания строк {@code \n} и {@code \r\n}; пустые строки пропускаются.
+ */
+class DelimitedRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+
+    private int position;
+    private int limit;
+    private long currentLine = 1;
+    private long recordLine;
+
+    DelimitedRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Определяет разделитель полей: по расширению файла ({@code .tsv}, {@code .tab} - табуляция,
+     * {@code .csv} - запятая), а для прочих файлов - по первой строке.
+     */
+    static char detectDelimiter(Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".tsv") || name.endsWith(".tab")) {
+            return '\t';
+        }
+        if (name.endsWith(".csv")) {
+            return ',';
+        }
+
+        try (BufferedReader firstLine = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = firstLine.readLine();
+            return line != null && line.indexOf('\t') >= 0 ? '\t' : ',';
+        }
+    }
+
+    /**
+     * Номер строки файла, с которой начинается последняя прочитанная запись.
+     */
+    long getLineNumber() {
+        return recordLine;
+    }
+
+    /**
+     * Читает следующую запись.
+     *
+     * @return поля записи или {@code null}, если файл закончился
+     * @throws IOException при ошибках чтения или незакрытой кавычке
+     */
+    List<String> next() throws IOException {
+        if (!skipEmptyLines()) {
+            return null;
+        }
+        recordLine = currentLine;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean inQuotes = false;
+
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                if (inQuotes) {
+                    throw new IOException("Unterminated quoted field at line " + recordLine);
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+
+            if (inQuotes) {
+                if (c == QUOTE) {
+                    if (peek() == QUOTE) {
+                        position++;
+                        field.append(QUOTE);
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        currentLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE && field.length() == 0) {
+                inQuotes = true;
+            } else if (c == '\n' || c == '\r') {
+                endLine(c);
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean skipEmptyLines() throws IOException {
+        while (true) {
+            int c = peek();
+            if (c < 0) {
+                return false;
+            }
+            if (c == BYTE_ORDER_MARK && currentLine == 1) {
+                position++;
+            } else if (c == '\n' || c == '\r') {
+                position++;
+                endLine(c);
+            } else {
+                return true;
+            }
+        }
+    }
+
+    private void endLine(int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            position++;
+        }
+        currentLine++;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c >= 0) {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            int read;
+            do {
+                read = reader.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            if (read < 0) {
+                return -1;
+            }
+            position = 0;
+            limit = read;
+        }
+        return buffer[position];
+    }
+}
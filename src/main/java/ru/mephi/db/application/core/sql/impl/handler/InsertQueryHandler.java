@@ -28,22 +28,31 @@ public class InsertQueryHandler implements QueryHandler {
             String tableName = query.getTable();
             String tableFilePath = transactionManager.getActualTablePath(tableName).toString();
 
-            List<Object> values = query.getValues();
-            dataRepository.addRecord(tableFilePath, values);
+            List<List<Object>> rows = query.getRows() != null ? query.getRows() : List.of(query.getValues());
+            boolean singleRow = rows.size() == 1;
+            if (singleRow) {
+                dataRepository.addRecord(tableFilePath, rows.get(0));
+            } else {
+                // Все строки запроса записываются одним пакетом и одной записью журнала
+                dataRepository.addRecords(tableFilePath, rows);
+            }
 
             try {
-                transactionManager.logInsertRecord(tableName, values);
+                if (singleRow) {
+                    transactionManager.logInsertRecord(tableName, rows.get(0));
+                } else {
+                    transactionManager.logInsertRecords(tableName, rows);
+                }
             } catch (LogUnableWriteTransactionException e) {
                 System.err.println("Warning: Failed to log insert operation: " + e.getMessage());
             }
 
             return QueryResult.builder()
                     .success(true)
-                    .message(String.format("Inserted 1 row into %s", tableName))
-                    .rows(List.of(Map.of(
-                            "inserted_rows", 1,
-                            "values", values
-                    )))
+                    .message(String.format("Inserted %d %s into %s", rows.size(), singleRow ? "row" : "rows", tableName))
+                    .rows(List.of(singleRow
+                            ? Map.of("inserted_rows", 1, "values", rows.get(0))
+                            : Map.of("inserted_rows", rows.size())))
                     .build();
         } catch (Exception e) {
             return QueryResult.builder()
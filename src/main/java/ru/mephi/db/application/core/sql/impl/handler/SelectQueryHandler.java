@@ -6,6 +6,7 @@ import ru.mephi.db.domain.entity.Query;
 import ru.mephi.db.domain.entity.QueryResult;
 import ru.mephi.db.domain.valueobject.QueryType;
 import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.adapter.db.RecordCursor;
 import ru.mephi.db.application.core.TransactionManager;
 
 import java.io.IOException;
@@ -37,8 +38,7 @@ public class SelectQueryHandler implements QueryHandler {
                 List<Integer> matchingIndices = findMatchingIndices(query);
                 resultData = getRecordsByIndices(tableFilePath, matchingIndices, query.getColumnIndices());
             } else {
-                List<Integer> allIndices = dataRepository.getAllRecordIndices(tableFilePath);
-                resultData = getRecordsByIndices(tableFilePath, allIndices, query.getColumnIndices());
+                resultData = getAllRecords(tableFilePath, query.getColumnIndices());
             }
 
             return QueryResult.builder()
@@ -143,30 +143,47 @@ public class SelectQueryHandler implements QueryHandler {
     }
 
 
+    private List<Map<String, Object>> getAllRecords(String tablePath, List<Integer> columnIndices) throws IOException {
+        List<Map<String, Object>> result = new ArrayList<>();
+
+        try (RecordCursor cursor = dataRepository.openRecordCursor(tablePath)) {
+            while (cursor.next()) {
+                result.add(toRow(cursor.getRecord(), columnIndices));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Читает записи с указанными индексами, не затрагивая части таблицы без них.
+     * Индексы должны идти по возрастанию, как их возвращают findRecordsBy*.
+     */
     private List<Map<String, Object>> getRecordsByIndices(
             String tablePath,
             List<Integer> indices,
             List<Integer> columnIndices
     ) throws IOException {
         List<Map<String, Object>> result = new ArrayList<>();
+        for (List<Object> record : dataRepository.readRecords(tablePath, indices)) {
+            result.add(toRow(record, columnIndices));
+        }
+        return result;
+    }
 
-        for (int index : indices) {
-            List<Object> record = dataRepository.readRecord(tablePath, index, 0); // Предполагаем, что 0 — это смещение
-            Map<String, Object> row = new HashMap<>();
+    private Map<String, Object> toRow(List<Object> record, List<Integer> columnIndices) {
+        Map<String, Object> row = new HashMap<>();
 
-            if (columnIndices == null || columnIndices.isEmpty()) {
-                for (int i = 0; i < record.size(); i++) {
-                    row.put(String.valueOf(i), record.get(i));
-                }
-            } else {
-                for (int colIndex : columnIndices) {
-                    if (colIndex < record.size()) {
-                        row.put(String.valueOf(colIndex), record.get(colIndex));
-                    }
+        if (columnIndices == null || columnIndices.isEmpty()) {
+            for (int i = 0; i < record.size(); i++) {
+                row.put(String.valueOf(i), record.get(i));
+            }
+        } else {
+            for (int colIndex : columnIndices) {
+                if (colIndex < record.size()) {
+                    row.put(String.valueOf(colIndex), record.get(colIndex));
                 }
             }
-            result.add(row);
         }
-        return result;
+        return row;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import lombok.RequiredArgsConstructor;
+import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.application.core.sql.QueryHandler;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.QueryType;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class VacuumHandler implements QueryHandler {
+    private final DataRepository dataRepository;
+    private final TransactionManager transactionManager;
+
+    @Override
+    public boolean canHandle(QueryType type) {
+        return type == QueryType.VACUUM;
+    }
+
+    @Override
+    public QueryResult handle(Query query) {
+        String tableName = query.getTable();
+        if (tableName == null || tableName.isEmpty()) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("Table name is required for VACUUM")
+                    .rows(List.of())
+                    .build();
+        }
+
+        // Временная таблица транзакции ссылается на части оригинала, переписывать их нельзя
+        if (transactionManager.isInTransaction()) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("VACUUM cannot run inside a transaction")
+                    .rows(List.of())
+                    .build();
+        }
+
+        try {
+            String tableFilePath = transactionManager.getActualTablePath(tableName).toString();
+            int removedParts = dataRepository.vacuumTable(tableFilePath);
+
+            return QueryResult.builder()
+                    .success(true)
+                    .message(String.format("Vacuumed %s: removed %d part files", tableName, removedParts))
+                    .rows(List.of(Map.of(
+                            "removed_parts", removedParts
+                    )))
+                    .build();
+        } catch (Exception e) {
+            return QueryResult.builder()
+                    .success(false)
+                    .message("Failed to execute VACUUM: " + e.getMessage())
+                    .rows(List.of())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.mephi.db.application.core.sql.impl.listener;
+
+import ru.mephi.sql.parser.PCopy;
+import ru.mephi.sql.parser.PCopyBaseListener;
+
+public class CopyQueryListener extends PCopyBaseListener {
+    private String tableName;
+    private String sourcePath;
+    private boolean withHeader;
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    public boolean isWithHeader() {
+        return withHeader;
+    }
+
+    @Override
+    public void enterTable_name(PCopy.Table_nameContext ctx) {
+        tableName = ctx.ID() != null ? ctx.ID().getText() : unquote(ctx.STRING().getText());
+    }
+
+    @Override
+    public void enterFile_path(PCopy.File_pathContext ctx) {
+        // Обратные слэши не раскрываются, чтобы пути Windows передавались как есть
+        sourcePath = unquote(ctx.STRING().getText());
+    }
+
+    @Override
+    public void enterCopy_option(PCopy.Copy_optionContext ctx) {
+        // WITH HEADER - первая строка файла содержит имена столбцов
+        String option = ctx.ID().getText();
+        if (!option.equalsIgnoreCase("HEADER")) {
+            throw new IllegalArgumentException("Unsupported COPY option: " + option);
+        }
+        withHeader = true;
+    }
+
+    private static String unquote(String text) {
+        return text.substring(1, text.length() - 1);
+    }
+}
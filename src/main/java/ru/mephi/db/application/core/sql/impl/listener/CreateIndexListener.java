@@ -0,0 +1,63 @@
+package ru.mephi.db.application.core.sql.impl.listener;
+
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.sql.parser.PCreateIndex;
+import ru.mephi.sql.parser.PCreateIndexBaseListener;
+
+public class CreateIndexListener extends PCreateIndexBaseListener {
+    private String tableName;
+    private String indexName;
+    private int columnIndex = -1;
+    private IndexType indexType = IndexType.BTREE;
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    public IndexType getIndexType() {
+        return indexType;
+    }
+
+    @Override
+    public void enterIndex_name(PCreateIndex.Index_nameContext ctx) {
+        indexName = ctx.ID().getText();
+    }
+
+    @Override
+    public void enterTable_name(PCreateIndex.Table_nameContext ctx) {
+        tableName = ctx.ID().getText();
+    }
+
+    @Override
+    public void enterColumn_ref(PCreateIndex.Column_refContext ctx) {
+        // Столбец задаётся номером: 2 или col2
+        String column = ctx.getText();
+        if (column.toLowerCase().startsWith("col")) {
+            column = column.substring(3);
+        }
+        try {
+            columnIndex = Integer.parseInt(column);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Column index must be a number: " + ctx.getText());
+        }
+    }
+
+    @Override
+    public void enterIndex_method(PCreateIndex.Index_methodContext ctx) {
+        // USING BTREE (по умолчанию) или USING HASH
+        String method = ctx.ID().getText();
+        try {
+            indexType = IndexType.valueOf(method.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported index method: " + method);
+        }
+    }
+}
@@ -4,11 +4,17 @@ import ru.mephi.sql.parser.PCreateTable;
 import ru.mephi.sql.parser.PCreateTableBaseListener;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 public class CreateTableListener extends PCreateTableBaseListener {
     private String tableName;
     private final List<String> shema = new ArrayList<>();
+    private final Map<String, String> tableOptions = new LinkedHashMap<>();
+    private final List<Integer> uniqueColumns = new ArrayList<>();
+    private Integer primaryKey;
 
     @Override
     public void enterTable_name(PCreateTable.Table_nameContext ctx) {
@@ -17,11 +23,37 @@ public class CreateTableListener extends PCreateTableBaseListener {
 
     @Override
     public void enterColumn_type_list(PCreateTable.Column_type_listContext ctx) {
-        for (PCreateTable.Column_typeContext typeCtx : ctx.column_type()) {
-            shema.add(typeCtx.type);
+        for (PCreateTable.Column_defContext defCtx : ctx.column_def()) {
+            int column = shema.size();
+            shema.add(defCtx.column_type().type);
+
+            for (PCreateTable.Column_constraintContext constraintCtx : defCtx.column_constraint()) {
+                if (constraintCtx.KW_PRIMARY() != null) {
+                    if (primaryKey != null && primaryKey != column) {
+                        throw new IllegalArgumentException("Table can have only one PRIMARY KEY column");
+                    }
+                    primaryKey = column;
+                }
+                // PRIMARY KEY и UNIQUE проверяются одинаково: в столбце нет повторяющихся значений
+                if (!uniqueColumns.contains(column)) {
+                    uniqueColumns.add(column);
+                }
+            }
         }
     }
 
+    @Override
+    public void enterTable_option(PCreateTable.Table_optionContext ctx) {
+        PCreateTable.Option_valueContext valueCtx = ctx.option_value();
+        // Значение вида "1MB" разбито лексером на число и единицу; getText склеивает их без пробелов
+        String value = valueCtx.STRING() != null
+                ? valueCtx.STRING().getText().substring(1, valueCtx.STRING().getText().length() - 1)
+                : valueCtx.getText();
+        tableOptions.put(ctx.ID().getText().toLowerCase(Locale.ROOT), value);
+    }
+
     public String getTableName() { return tableName; }
     public List<String> getShema() { return shema; }
-}
\ No newline at end of file
+    public Map<String, String> getTableOptions() { return tableOptions; }
+    public List<Integer> getUniqueColumns() { return uniqueColumns; }
+}
@@ -8,13 +8,20 @@ import java.util.List;
 
 public class InsertQueryListener extends PInsertBaseListener {
     private String tableName;
-    private final List<Object> values = new ArrayList<>();
+    private final List<List<Object>> rows = new ArrayList<>();
+    private List<Object> values;
 
     @Override
     public void enterTable_name(PInsert.Table_nameContext ctx) {
         this.tableName = ctx.ID().getText();
     }
 
+    @Override
+    public void enterRow(PInsert.RowContext ctx) {
+        values = new ArrayList<>();
+        rows.add(values);
+    }
+
     @Override
     public void enterValue(PInsert.ValueContext ctx) {
         if (ctx.NUMBER() != null) {
@@ -34,6 +41,10 @@ public class InsertQueryListener extends PInsertBaseListener {
     }
 
     public List<Object> getValues() {
-        return values;
+        return rows.isEmpty() ? List.of() : rows.get(0);
+    }
+
+    public List<List<Object>> getRows() {
+        return rows;
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package ru.mephi.db.application.core.sql.impl.listener;
+
+import ru.mephi.sql.parser.PVacuum;
+import ru.mephi.sql.parser.PVacuumBaseListener;
+
+public class VacuumListener extends PVacuumBaseListener {
+    private String tableName;
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public void enterTable_name(PVacuum.Table_nameContext ctx) {
+        tableName = ctx.ID().getText();
+    }
+}
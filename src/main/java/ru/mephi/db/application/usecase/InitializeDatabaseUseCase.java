@@ -1,6 +1,7 @@
 package ru.mephi.db.application.usecase;
 
 import lombok.AllArgsConstructor;
+import ru.mephi.db.application.adapter.db.DataRepository;
 import ru.mephi.db.application.adapter.io.IOUtils;
 import ru.mephi.db.application.adapter.io.InputBoundary;
 import ru.mephi.db.application.adapter.io.OutputBoundary;
@@ -23,6 +24,7 @@ public class InitializeDatabaseUseCase {
     private final InputBoundary input;
     private final OutputBoundary output;
     private final CreateDatabaseUseCase createDatabaseUseCase;
+    private final DataRepository dataRepository;
 
     public FileLock execute(Path dbPath) throws DatabaseException {
         if (!Files.exists(dbPath)) {
@@ -59,6 +61,7 @@ public class InitializeDatabaseUseCase {
             if (lock == null)
                 throw new DatabaseInitException("Database is already in use");
 
+            dataRepository.setDatabaseLock(dbPath, lock);
             return lock;
         } catch (IOException e) {
             throw new DatabaseInitException("Failed to acquire database lock");
@@ -3,12 +3,20 @@ package ru.mephi.db.di;
 import dagger.Module;
 import dagger.Provides;
 import ru.mephi.db.application.core.ConnectionConfig;
+import ru.mephi.db.domain.valueobject.TableReadMode;
 import ru.mephi.db.infrastructure.Constants;
 
 import javax.inject.Singleton;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
 import java.util.Scanner;
 
 @Module
@@ -28,7 +36,79 @@ public class AppModule {
     @Provides
     @Singleton
     public ConnectionConfig provideConnectionConfig() {
-        return new ConnectionConfig(this.dbPath);
+        Properties dbInfo = readDbInfo();
+        return new ConnectionConfig(this.dbPath, readTableReadMode(dbInfo), readAutoVacuumRatio(dbInfo),
+                readCompressParts(dbInfo),
+                (int) readPositiveNumber(dbInfo, Constants.DB_BUFFER_POOL_FRAMES_PROPERTY, Integer.MAX_VALUE),
+                readPositiveNumber(dbInfo, Constants.DB_BUFFER_POOL_BYTES_PROPERTY, Long.MAX_VALUE));
+    }
+
+    private Properties readDbInfo() {
+        Properties props = new Properties();
+        Path dbInfoFile = dbPath.resolve(Constants.DB_INFO_FILE);
+        if (!Files.exists(dbInfoFile))
+            return props;
+
+        try (Reader reader = Files.newBufferedReader(dbInfoFile, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read database info: " + dbInfoFile, e);
+        }
+        return props;
+    }
+
+    private TableReadMode readTableReadMode(Properties props) {
+        String readMode = props.getProperty(Constants.DB_READ_MODE_PROPERTY);
+        if (readMode == null)
+            return TableReadMode.BUFFERED;
+
+        try {
+            return TableReadMode.valueOf(readMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + Constants.DB_READ_MODE_PROPERTY + " in database info: " + readMode, e);
+        }
+    }
+
+    private double readAutoVacuumRatio(Properties props) {
+        String ratio = props.getProperty(Constants.DB_AUTO_VACUUM_PROPERTY);
+        if (ratio == null)
+            return 0;
+
+        try {
+            return Double.parseDouble(ratio.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + Constants.DB_AUTO_VACUUM_PROPERTY + " in database info: " + ratio, e);
+        }
+    }
+
+    private boolean readCompressParts(Properties props) {
+        String compress = props.getProperty(Constants.DB_COMPRESS_PARTS_PROPERTY);
+        if (compress == null)
+            return false;
+
+        switch (compress.trim().toLowerCase(Locale.ROOT)) {
+            case "true": return true;
+            case "false": return false;
+            default: throw new IllegalArgumentException("Invalid " + Constants.DB_COMPRESS_PARTS_PROPERTY + " in database info: " + compress);
+        }
+    }
+
+    /**
+     * Положительное число из свойства файла info; 0 - свойство не задано
+     */
+    private long readPositiveNumber(Properties props, String property, long max) {
+        String value = props.getProperty(property);
+        if (value == null)
+            return 0;
+
+        try {
+            long number = Long.parseLong(value.trim());
+            if (number > 0 && number <= max)
+                return number;
+        } catch (NumberFormatException e) {
+            // Сообщение общее для нечисловых и недопустимых значений
+        }
+        throw new IllegalArgumentException("Invalid " + property + " in database info: " + value);
     }
 
     public PrintStream providePrintStream() {
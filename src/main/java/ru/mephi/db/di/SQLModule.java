@@ -46,8 +46,11 @@ public abstract class SQLModule {
                 new RollbackHandler(transactionManager, dataRepository, connectionConfig),
                 new ShowFilesHandler(connectionConfig),
                 new DropTableHandler(dataRepository, transactionManager),
-                new ShowTablesHandler(dataRepository, connectionConfig)
-        ));
+                new ShowTablesHandler(dataRepository, connectionConfig),
+                new CopyQueryHandler(dataRepository, transactionManager),
+                new VacuumHandler(dataRepository, transactionManager),
+                new CreateIndexHandler(dataRepository, transactionManager)
+        ), dataRepository, transactionManager);
     }
 
     @Provides
@@ -4,14 +4,27 @@ import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
 import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.core.ConnectionConfig;
+import ru.mephi.db.infrastructure.db.BufferPool;
 import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
 
+import javax.inject.Singleton;
+
 @Module
 public abstract class DBModule {
 
     @Provides
-    public static DataRepositoryImpl provideDataRepositoryImpl(){
-        return new DataRepositoryImpl();
+    @Singleton
+    public static DataRepositoryImpl provideDataRepositoryImpl(ConnectionConfig connectionConfig){
+        int bufferPoolFrames = connectionConfig.getBufferPoolFrames() > 0
+                ? connectionConfig.getBufferPoolFrames() : BufferPool.DEFAULT_CAPACITY;
+        long bufferPoolBytes = connectionConfig.getBufferPoolBytes() > 0
+                ? connectionConfig.getBufferPoolBytes() : BufferPool.DEFAULT_MAX_BYTES;
+        DataRepositoryImpl dataRepository = new DataRepositoryImpl(bufferPoolFrames, bufferPoolBytes);
+        dataRepository.setReadMode(connectionConfig.getDbPath(), connectionConfig.getReadMode());
+        dataRepository.setAutoVacuumRatio(connectionConfig.getAutoVacuumRatio());
+        dataRepository.setCompressFullParts(connectionConfig.isCompressParts());
+        return dataRepository;
     }
 
     @Binds
@@ -2,9 +2,11 @@ package ru.mephi.db.domain.entity;
 
 import lombok.Builder;
 import lombok.Value;
+import ru.mephi.db.domain.valueobject.IndexType;
 import ru.mephi.db.domain.valueobject.QueryType;
 
 import java.util.List;
+import java.util.Map;
 
 @Value
 @Builder
@@ -13,13 +15,20 @@ public class Query {
 
     QueryType type;
     List<String> schema;
+    Map<String, String> tableOptions;
     String table;
     String whereClause;
     List<Integer> columnIndices;
     List<Object> values;
+    List<List<Object>> rows;
     Integer recordIndex;
+    String sourcePath;
+    boolean withHeader;
     String databasePath;
     String databaseName;
     String transactionName;
+    String indexName;
+    IndexType indexType;
+    List<Integer> uniqueColumns;
 
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package ru.mephi.db.domain.valueobject;
+
+public enum IndexType {
+    BTREE,
+    HASH,
+}
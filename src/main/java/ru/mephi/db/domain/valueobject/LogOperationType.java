@@ -7,5 +7,8 @@ public enum LogOperationType {
     CREATE_TABLE,
     DROP_TABLE,
     INSERT_RECORD,
+    INSERT_RECORDS,
+    COPY_RECORDS,
     DELETE_RECORD,
+    DELETE_RECORDS,
 }
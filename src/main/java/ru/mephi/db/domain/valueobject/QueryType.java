@@ -10,5 +10,8 @@ public enum QueryType {
     SHOW_FILES,
     SHOW_TABLES,
     DROP_TABLE,
-    CREATE_TABLE;
+    CREATE_TABLE,
+    COPY,
+    VACUUM,
+    CREATE_INDEX;
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package ru.mephi.db.domain.valueobject;
+
+public enum RowFormat {
+    FIXED,
+    VARLEN,
+    COLUMNAR,
+}
@@ -0,0 +1,38 @@
+package ru.mephi.db.domain.valueobject;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Физический адрес записи таблицы: номер части (0 - головной файл), номер слота записи в ней
+ * и поколение слота.
+ * <p>
+ * В отличие от индекса записи адрес не сдвигается при удалении других записей. Слот удалённой
+ * записи может быть занят новой записью, а сжатие таблицы (VACUUM) переносит записи в другие
+ * слоты; в обоих случаях запись слота получает новое поколение, и прежний адрес перестаёт
+ * быть действительным.
+ */
+@Value
+@AllArgsConstructor
+public class RowId {
+    int partNumber;
+    int slot;
+    /** Поколение слота на момент выдачи адреса; 0 - адрес без поколения */
+    int generation;
+
+    public RowId(int partNumber, int slot) {
+        this(partNumber, slot, 0);
+    }
+
+    /**
+     * Положение записи, упакованное в одно число: номер части в старших 32 битах, слот в младших.
+     * Поколение не упаковывается: индексы столбцов хранят только положение записи.
+     */
+    public long toLong() {
+        return (long) partNumber << 32 | (slot & 0xFFFFFFFFL);
+    }
+
+    public static RowId fromLong(long value) {
+        return new RowId((int) (value >>> 32), (int) value);
+    }
+}
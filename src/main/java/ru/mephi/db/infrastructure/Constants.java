@@ -9,6 +9,12 @@ public class Constants {
     public static final String DB_LOCK_FILE = ".lock";
     public static final String DB_LOG_FILE = ".log";
 
+    public static final String DB_READ_MODE_PROPERTY = "readMode";
+    public static final String DB_AUTO_VACUUM_PROPERTY = "autoVacuumRatio";
+    public static final String DB_COMPRESS_PARTS_PROPERTY = "compressParts";
+    public static final String DB_BUFFER_POOL_FRAMES_PROPERTY = "bufferPoolFrames";
+    public static final String DB_BUFFER_POOL_BYTES_PROPERTY = "bufferPoolBytes";
+
     public static final String TEST_PRINT_STREAM_FILE = "testPrintStreamFile.txt";
 
     public static final Set<String> EXIT_COMMANDS = Set.of("exit", "quit", ":q");
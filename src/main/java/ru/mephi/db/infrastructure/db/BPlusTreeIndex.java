@@ -0,0 +1,624 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.RowId;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Индекс {@code int}-столбца на B+-дереве ({@code CREATE INDEX ... ON t(N)}).
+ * <p>
+ * Файл {@code <таблица>.idxN} состоит из страниц по {@link #PAGE_SIZE} байт.
+ * Страница 0 - заголовок: магическое число, версия, номер столбца, отметка
+ * изменения таблицы, номер корневой страницы, количество страниц и элементов.
+ * Остальные страницы - узлы дерева: тип узла (1 байт), количество элементов
+ * и номер следующего листа (по 4 байта), затем элементы. Элемент листа - значение
+ * столбца (4 байта) и упакованный {@link RowId} (8 байт); листья связаны в список
+ * по возрастанию. Внутренний узел хранит номер первого потомка и тройки
+ * «значение, RowId, номер потомка», где пара «значение, RowId» - наименьший
+ * элемент поддерева этого потомка.
+ * <p>
+ * Элементы упорядочены по паре «значение, RowId», поэтому одинаковые значения
+ * разных записей различимы и удаляются точно. При удалении узлы не сливаются:
+ * недозаполненные листья остаются в дереве до перестроения индекса.
+ */
+final class BPlusTreeIndex implements TableIndex {
+
+    static final int PAGE_SIZE = 4096;
+
+    private static final int MAGIC = 0x42545245;
+    private static final int VERSION = 1;
+
+    private static final int STAMP_OFFSET = 12;
+    private static final int ROOT_OFFSET = 16;
+    private static final int PAGE_COUNT_OFFSET = 20;
+    private static final int ENTRY_COUNT_OFFSET = 24;
+
+    private static final byte LEAF = 1;
+    private static final byte INNER = 2;
+    private static final int NODE_HEADER_SIZE = 12;
+    private static final int LEAF_ENTRY_SIZE = 12;
+    private static final int INNER_ENTRY_SIZE = 16;
+    /** Наибольшее количество элементов листа */
+    static final int LEAF_CAPACITY = (PAGE_SIZE - NODE_HEADER_SIZE) / LEAF_ENTRY_SIZE;
+    /** Наибольшее количество разделителей внутреннего узла (потомков на один больше) */
+    static final int INNER_CAPACITY = (PAGE_SIZE - NODE_HEADER_SIZE - 4) / INNER_ENTRY_SIZE;
+
+    /** Количество страниц, кэшируемых в памяти */
+    private static final int CACHED_PAGES = 256;
+
+    private final Path path;
+    private final int column;
+    private final FileChannel channel;
+    private final Map<Integer, ByteBuffer> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+
+    private int stamp;
+    private int root;
+    private int pageCount;
+    private long entryCount;
+
+    private BPlusTreeIndex(Path path, int column, FileChannel channel) {
+        this.path = path;
+        this.column = column;
+        this.channel = channel;
+    }
+
+    /**
+     * Открывает существующий файл индекса
+     *
+     * @throws IOException если файл не является индексом этого столбца
+     */
+    static BPlusTreeIndex open(Path path, int column) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        BPlusTreeIndex index = new BPlusTreeIndex(path, column, channel);
+        try {
+            index.readHeader();
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            throw e;
+        }
+        return index;
+    }
+
+    /**
+     * Строит индекс заново по элементам таблицы: листья заполняются целиком
+     * слева направо, затем над ними строятся уровни внутренних узлов.
+     *
+     * @param keys    значения столбца
+     * @param rowIds  упакованные адреса записей в том же порядке
+     * @param count   количество элементов
+     */
+    static BPlusTreeIndex build(Path path, int column, int stamp, int[] keys, long[] rowIds, int count)
+            throws IOException {
+        sort(keys, rowIds, count);
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        BPlusTreeIndex index = new BPlusTreeIndex(path, column, channel);
+        try {
+            index.stamp = stamp;
+            index.pageCount = 1;
+            index.entryCount = count;
+
+            // Листья: первый элемент каждого нужен разделителем уровнем выше
+            List<Integer> level = new ArrayList<>();
+            List<long[]> firstEntries = new ArrayList<>();
+            int leafCount = Math.max(1, (count + LEAF_CAPACITY - 1) / LEAF_CAPACITY);
+            int firstLeaf = index.pageCount;
+            for (int leaf = 0; leaf < leafCount; leaf++) {
+                int from = leaf * LEAF_CAPACITY;
+                int to = Math.min(count, from + LEAF_CAPACITY);
+                ByteBuffer page = newNode(LEAF);
+                page.putInt(4, to - from);
+                page.putInt(8, leaf + 1 < leafCount ? firstLeaf + leaf + 1 : 0);
+                for (int i = from; i < to; i++) {
+                    setLeafEntry(page, i - from, keys[i], rowIds[i]);
+                }
+                int pageNumber = index.pageCount++;
+                index.writePage(pageNumber, page);
+                level.add(pageNumber);
+                firstEntries.add(from < to ? new long[] {keys[from], rowIds[from]} : null);
+            }
+
+            while (level.size() > 1) {
+                List<Integer> parents = new ArrayList<>();
+                List<long[]> parentFirst = new ArrayList<>();
+                for (int from = 0; from < level.size(); from += INNER_CAPACITY + 1) {
+                    int to = Math.min(level.size(), from + INNER_CAPACITY + 1);
+                    ByteBuffer page = newNode(INNER);
+                    page.putInt(4, to - from - 1);
+                    page.putInt(NODE_HEADER_SIZE, level.get(from));
+                    for (int i = from + 1; i < to; i++) {
+                        long[] first = firstEntries.get(i);
+                        setInnerEntry(page, i - from - 1, (int) first[0], first[1], level.get(i));
+                    }
+                    int pageNumber = index.pageCount++;
+                    index.writePage(pageNumber, page);
+                    parents.add(pageNumber);
+                    parentFirst.add(firstEntries.get(from));
+                }
+                level = parents;
+                firstEntries = parentFirst;
+            }
+
+            index.root = level.get(0);
+            index.writeHeader();
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            throw e;
+        }
+        return index;
+    }
+
+    @Override
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public IndexType getType() {
+        return IndexType.BTREE;
+    }
+
+    @Override
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public int getStamp() {
+        return stamp;
+    }
+
+    @Override
+    public void setStamp(int stamp) throws IOException {
+        this.stamp = stamp;
+        writeHeader();
+    }
+
+    long getEntryCount() {
+        return entryCount;
+    }
+
+    @Override
+    public void refresh() throws IOException {
+        int cachedStamp = stamp;
+        int cachedPageCount = pageCount;
+        long cachedEntryCount = entryCount;
+        readHeader();
+        if (stamp != cachedStamp || pageCount != cachedPageCount || entryCount != cachedEntryCount) {
+            pages.clear();
+        }
+    }
+
+    @Override
+    public boolean supports(String operator) {
+        switch (operator) {
+            case "==":
+            case "<":
+            case "<=":
+            case ">":
+            case ">=":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+
+    @Override
+    public List<RowId> find(String operator, Object key) throws IOException {
+        int value = (Integer) key;
+        switch (operator) {
+            case "==": return range(value, true, value, true);
+            case "<": return range(Integer.MIN_VALUE, true, value, false);
+            case "<=": return range(Integer.MIN_VALUE, true, value, true);
+            case ">": return range(value, false, Integer.MAX_VALUE, true);
+            case ">=": return range(value, true, Integer.MAX_VALUE, true);
+            default: throw new IllegalArgumentException("Unsupported index operator: " + operator);
+        }
+    }
+
+    /**
+     * Адреса записей со значениями столбца в диапазоне, по возрастанию значения
+     */
+    List<RowId> range(int low, boolean lowInclusive, int high, boolean highInclusive) throws IOException {
+        List<RowId> result = new ArrayList<>();
+        if (low > high || (low == high && !(lowInclusive && highInclusive))) {
+            return result;
+        }
+
+        long lowRowId = lowInclusive ? Long.MIN_VALUE : Long.MAX_VALUE;
+        int page = findLeaf(low, lowRowId);
+        ByteBuffer leaf = readPage(page);
+        int position = lowerBound(leaf, low, lowRowId);
+
+        while (true) {
+            int count = leaf.getInt(4);
+            for (; position < count; position++) {
+                int key = leafKey(leaf, position);
+                if (key > high || (key == high && !highInclusive)) {
+                    return result;
+                }
+                if (key > low || lowInclusive) {
+                    result.add(RowId.fromLong(leafRowId(leaf, position)));
+                }
+            }
+            int next = leaf.getInt(8);
+            if (next == 0) {
+                return result;
+            }
+            leaf = readPage(next);
+            position = 0;
+        }
+    }
+
+    @Override
+    public void insert(Object key, RowId rowId) throws IOException {
+        int value = (Integer) key;
+        long packed = rowId.toLong();
+
+        int[] path = new int[32];
+        int depth = 0;
+        int page = root;
+        ByteBuffer node = readPage(page);
+        while (node.get(0) == INNER) {
+            path[depth++] = page;
+            page = innerChild(node, upperBound(node, value, packed));
+            node = readPage(page);
+        }
+
+        int count = node.getInt(4);
+        int position = lowerBound(node, value, packed);
+        if (position < count && leafKey(node, position) == value && leafRowId(node, position) == packed) {
+            return;
+        }
+
+        ByteBuffer leaf = copy(node);
+        insertLeafEntry(leaf, position, value, packed);
+        entryCount++;
+        if (count + 1 <= LEAF_CAPACITY) {
+            writePage(page, leaf);
+            writeHeader();
+            return;
+        }
+
+        // Лист переполнен: правая половина уходит в новый лист
+        int split = (count + 1) / 2;
+        ByteBuffer right = newNode(LEAF);
+        right.putInt(4, count + 1 - split);
+        right.putInt(8, leaf.getInt(8));
+        for (int i = split; i <= count; i++) {
+            setLeafEntry(right, i - split, leafKey(leaf, i), leafRowId(leaf, i));
+        }
+        int rightPage = pageCount++;
+        leaf.putInt(4, split);
+        leaf.putInt(8, rightPage);
+        writePage(rightPage, right);
+        writePage(page, leaf);
+
+        int separatorKey = leafKey(right, 0);
+        long separatorRowId = leafRowId(right, 0);
+        int child = rightPage;
+
+        while (depth > 0) {
+            int parentPage = path[--depth];
+            ByteBuffer parent = copy(readPage(parentPage));
+            int parentCount = parent.getInt(4);
+            insertInnerEntry(parent, upperBound(parent, separatorKey, separatorRowId),
+                    separatorKey, separatorRowId, child);
+            if (parentCount + 1 <= INNER_CAPACITY) {
+                writePage(parentPage, parent);
+                writeHeader();
+                return;
+            }
+
+            // Средний разделитель поднимается выше, его потомок становится первым в правом узле
+            int middle = (parentCount + 1) / 2;
+            ByteBuffer rightInner = newNode(INNER);
+            rightInner.putInt(4, parentCount - middle);
+            rightInner.putInt(NODE_HEADER_SIZE, innerChild(parent, middle + 1));
+            for (int i = middle + 1; i <= parentCount; i++) {
+                setInnerEntry(rightInner, i - middle - 1, innerKey(parent, i), innerRowId(parent, i),
+                        innerChild(parent, i + 1));
+            }
+            separatorKey = innerKey(parent, middle);
+            separatorRowId = innerRowId(parent, middle);
+            parent.putInt(4, middle);
+            child = pageCount++;
+            writePage(child, rightInner);
+            writePage(parentPage, parent);
+        }
+
+        // Разделился корень: дерево растёт на уровень
+        ByteBuffer newRoot = newNode(INNER);
+        newRoot.putInt(4, 1);
+        newRoot.putInt(NODE_HEADER_SIZE, root);
+        setInnerEntry(newRoot, 0, separatorKey, separatorRowId, child);
+        root = pageCount++;
+        writePage(root, newRoot);
+        writeHeader();
+    }
+
+    @Override
+    public void delete(Object key, RowId rowId) throws IOException {
+        int value = (Integer) key;
+        long packed = rowId.toLong();
+
+        int page = findLeaf(value, packed);
+        ByteBuffer node = readPage(page);
+        int position = lowerBound(node, value, packed);
+        if (position >= node.getInt(4) || leafKey(node, position) != value || leafRowId(node, position) != packed) {
+            return;
+        }
+
+        ByteBuffer leaf = copy(node);
+        int count = leaf.getInt(4);
+        int from = NODE_HEADER_SIZE + (position + 1) * LEAF_ENTRY_SIZE;
+        int to = NODE_HEADER_SIZE + position * LEAF_ENTRY_SIZE;
+        leaf.put(to, leaf, from, (count - position - 1) * LEAF_ENTRY_SIZE);
+        leaf.putInt(4, count - 1);
+        entryCount--;
+        writePage(page, leaf);
+        writeHeader();
+    }
+
+    @Override
+    public void close() {
+        pages.clear();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // файл индекса уже недоступен, закрывать нечего
+        }
+    }
+
+    /**
+     * Лист, в котором находится (или должен находиться) элемент
+     */
+    private int findLeaf(int key, long rowId) throws IOException {
+        int page = root;
+        ByteBuffer node = readPage(page);
+        for (int depth = 0; node.get(0) == INNER; depth++) {
+            if (depth > 32) {
+                throw new IOException("Index tree is too deep, possible cycle: " + path);
+            }
+            page = innerChild(node, upperBound(node, key, rowId));
+            node = readPage(page);
+        }
+        return page;
+    }
+
+    /**
+     * Позиция первого элемента листа, не меньшего заданного
+     */
+    private static int lowerBound(ByteBuffer leaf, int key, long rowId) {
+        int low = 0;
+        int high = leaf.getInt(4);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(leafKey(leaf, middle), leafRowId(leaf, middle), key, rowId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Номер потомка внутреннего узла, в поддереве которого находится элемент:
+     * количество разделителей, не больших заданного элемента
+     */
+    private static int upperBound(ByteBuffer inner, int key, long rowId) {
+        int low = 0;
+        int high = inner.getInt(4);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(innerKey(inner, middle), innerRowId(inner, middle), key, rowId) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(int key1, long rowId1, int key2, long rowId2) {
+        int cmp = Integer.compare(key1, key2);
+        return cmp != 0 ? cmp : Long.compare(rowId1, rowId2);
+    }
+
+    private static ByteBuffer newNode(byte type) {
+        ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+        page.put(0, type);
+        return page;
+    }
+
+    /**
+     * Копия страницы для изменения. Буфер вмещает один лишний элемент: перед
+     * разделением узла в него вставляется элемент сверх ёмкости.
+     */
+    private static ByteBuffer copy(ByteBuffer page) {
+        ByteBuffer copy = ByteBuffer.allocate(PAGE_SIZE + INNER_ENTRY_SIZE);
+        copy.put(0, page, 0, PAGE_SIZE);
+        return copy;
+    }
+
+    private static int leafKey(ByteBuffer leaf, int position) {
+        return leaf.getInt(NODE_HEADER_SIZE + position * LEAF_ENTRY_SIZE);
+    }
+
+    private static long leafRowId(ByteBuffer leaf, int position) {
+        return leaf.getLong(NODE_HEADER_SIZE + position * LEAF_ENTRY_SIZE + 4);
+    }
+
+    private static void setLeafEntry(ByteBuffer leaf, int position, int key, long rowId) {
+        leaf.putInt(NODE_HEADER_SIZE + position * LEAF_ENTRY_SIZE, key);
+        leaf.putLong(NODE_HEADER_SIZE + position * LEAF_ENTRY_SIZE + 4, rowId);
+    }
+
+    /**
+     * Вставляет элемент в лист, сдвигая последующие
+     */
+    private static void insertLeafEntry(ByteBuffer leaf, int position, int key, long rowId) {
+        int count = leaf.getInt(4);
+        int from = NODE_HEADER_SIZE + position * LEAF_ENTRY_SIZE;
+        leaf.put(from + LEAF_ENTRY_SIZE, leaf, from, (count - position) * LEAF_ENTRY_SIZE);
+        setLeafEntry(leaf, position, key, rowId);
+        leaf.putInt(4, count + 1);
+    }
+
+    private static int innerKey(ByteBuffer inner, int position) {
+        return inner.getInt(NODE_HEADER_SIZE + 4 + position * INNER_ENTRY_SIZE);
+    }
+
+    private static long innerRowId(ByteBuffer inner, int position) {
+        return inner.getLong(NODE_HEADER_SIZE + 4 + position * INNER_ENTRY_SIZE + 4);
+    }
+
+    /**
+     * Номер потомка: 0 - первый, {@code i} - потомок справа от разделителя {@code i - 1}
+     */
+    private static int innerChild(ByteBuffer inner, int child) {
+        return child == 0
+                ? inner.getInt(NODE_HEADER_SIZE)
+                : inner.getInt(NODE_HEADER_SIZE + 4 + (child - 1) * INNER_ENTRY_SIZE + 12);
+    }
+
+    private static void setInnerEntry(ByteBuffer inner, int position, int key, long rowId, int child) {
+        int offset = NODE_HEADER_SIZE + 4 + position * INNER_ENTRY_SIZE;
+        inner.putInt(offset, key);
+        inner.putLong(offset + 4, rowId);
+        inner.putInt(offset + 12, child);
+    }
+
+    private static void insertInnerEntry(ByteBuffer inner, int position, int key, long rowId, int child) {
+        int count = inner.getInt(4);
+        int from = NODE_HEADER_SIZE + 4 + position * INNER_ENTRY_SIZE;
+        inner.put(from + INNER_ENTRY_SIZE, inner, from, (count - position) * INNER_ENTRY_SIZE);
+        setInnerEntry(inner, position, key, rowId, child);
+        inner.putInt(4, count + 1);
+    }
+
+    /**
+     * Сортирует элементы по паре «значение, RowId». Элементы упорядочиваются
+     * по значению сортировкой чисел вида «значение, позиция», а адреса с одинаковым
+     * значением - отдельно внутри каждой группы.
+     */
+    private static void sort(int[] keys, long[] rowIds, int count) {
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (long) keys[i] << 32 | i;
+        }
+        Arrays.sort(order);
+
+        int[] sortedKeys = new int[count];
+        long[] sortedRowIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            int position = (int) order[i];
+            sortedKeys[i] = keys[position];
+            sortedRowIds[i] = rowIds[position];
+        }
+        for (int from = 0; from < count; ) {
+            int to = from + 1;
+            while (to < count && sortedKeys[to] == sortedKeys[from]) {
+                to++;
+            }
+            Arrays.sort(sortedRowIds, from, to);
+            from = to;
+        }
+        System.arraycopy(sortedKeys, 0, keys, 0, count);
+        System.arraycopy(sortedRowIds, 0, rowIds, 0, count);
+    }
+
+    private ByteBuffer readPage(int pageNumber) throws IOException {
+        ByteBuffer page = pages.get(pageNumber);
+        if (page != null) {
+            return page;
+        }
+        if (pageNumber <= 0 || pageNumber >= pageCount) {
+            throw new IOException("Invalid index page " + pageNumber + " in " + path);
+        }
+
+        page = ByteBuffer.allocate(PAGE_SIZE);
+        readFully(page, (long) pageNumber * PAGE_SIZE);
+        byte type = page.get(0);
+        int count = page.getInt(4);
+        if ((type != LEAF && type != INNER) || count < 0
+                || count > (type == LEAF ? LEAF_CAPACITY : INNER_CAPACITY)) {
+            throw new IOException("Corrupted index page " + pageNumber + " in " + path);
+        }
+        pages.put(pageNumber, page);
+        return page;
+    }
+
+    private void writePage(int pageNumber, ByteBuffer page) throws IOException {
+        ByteBuffer buffer = page.duplicate().clear().limit(PAGE_SIZE);
+        long position = (long) pageNumber * PAGE_SIZE;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        pages.put(pageNumber, page);
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(32);
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != column) {
+            throw new IOException("Not an index of column " + column + ": " + path);
+        }
+        stamp = header.getInt(STAMP_OFFSET);
+        root = header.getInt(ROOT_OFFSET);
+        pageCount = header.getInt(PAGE_COUNT_OFFSET);
+        entryCount = header.getLong(ENTRY_COUNT_OFFSET);
+        if (pageCount < 2 || root <= 0 || root >= pageCount
+                || channel.size() < (long) pageCount * PAGE_SIZE) {
+            throw new IOException("Corrupted index header: " + path);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(32);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, column);
+        header.putInt(STAMP_OFFSET, stamp);
+        header.putInt(ROOT_OFFSET, root);
+        header.putInt(PAGE_COUNT_OFFSET, pageCount);
+        header.putLong(ENTRY_COUNT_OFFSET, entryCount);
+        long position = 0;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Index file is truncated: " + path);
+            }
+            position += read;
+        }
+        buffer.clear();
+    }
+}
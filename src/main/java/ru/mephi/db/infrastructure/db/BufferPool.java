@@ -0,0 +1,416 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.domain.valueobject.TableReadMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Общий буферный пул кадров частей таблиц с вытеснением по алгоритму CLOCK.
+ * <p>
+ * Кадр хранит образ файла части целиком. Операция закрепляет кадр
+ * ({@link #pin}), работает с ним в памяти и открепляет ({@link #unpin});
+ * при снятии последнего закрепления изменённые блоки кадра записываются
+ * на диск, так что файлы между операциями репозитория всегда актуальны.
+ * <p>
+ * Файлы могут изменяться в обход репозитория, поэтому кадр сверяется
+ * с отметкой файла (ключ файла, размер, время модификации) один раз
+ * за операцию, см. {@link #beginOperation()}.
+ * <p>
+ * В режиме {@link TableReadMode#MAPPED} кадр является отображением файла
+ * в память: загрузка не копирует данные, а записи сразу попадают в страничный
+ * кэш файла, поэтому сбрасывать такие кадры не нужно.
+ * <p>
+ * Сжатые части ({@link PartCompression}) в любом режиме распаковываются в память;
+ * изменённый кадр такой части записывается на диск целиком в несжатом виде.
+ * <p>
+ * Части таблиц бывают разного размера, поэтому кроме количества кадров пул ограничивает
+ * объём образов в куче: при его превышении вытесняются незакреплённые кадры. Отображения
+ * файлов в память в этот объём не входят.
+ */
+public class BufferPool {
+
+    /** Количество кадров по умолчанию */
+    public static final int DEFAULT_CAPACITY = 256;
+    /** Объём образов кадров в куче по умолчанию */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    /**
+     * Окно, в пределах которого время модификации файла не считается надёжным:
+     * запись, сделанная в тот же тик часов файловой системы, его не сдвинет
+     */
+    private static final long RACY_WINDOW_MILLIS = 1000;
+
+    private final PageFrame[] frames;
+    private final Map<Path, Integer> frameIndex = new HashMap<>();
+    /** Наибольший объём образов кадров в куче; кадр больше него всё равно загружается */
+    private final long maxBytes;
+    /** Текущий объём образов кадров в куче */
+    private long residentBytes;
+    private int clockHand;
+    private long epoch;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public BufferPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BufferPool(int capacity) {
+        this(capacity, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param capacity количество кадров
+     * @param maxBytes наибольший объём образов кадров в куче
+     */
+    public BufferPool(int capacity, long maxBytes) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer pool capacity must be positive: " + capacity);
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Buffer pool size must be positive: " + maxBytes);
+        }
+        this.frames = new PageFrame[capacity];
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Начинает новую операцию: каждый кадр при первом закреплении в ней
+     * заново сверяется с файлом на диске.
+     */
+    void beginOperation() {
+        epoch++;
+    }
+
+    /**
+     * Закрепляет кадр части таблицы, загружая его с диска при промахе
+     * или если файл изменился.
+     *
+     * @param handle открытая таблица, через которую читается файл части
+     * @param path нормализованный абсолютный путь к файлу части
+     * @throws IOException если все кадры закреплены или файл не читается
+     */
+    PageFrame pin(TableHandle handle, Path path) throws IOException {
+        Integer slot = frameIndex.get(path);
+        if (slot != null) {
+            PageFrame frame = frames[slot];
+            boolean sameMode = frame.isCompressed()
+                    || frame.isMapped() == (handle.getReadMode() == TableReadMode.MAPPED);
+            // Закреплённый кадр уже сверен в текущей операции и перечитываться не может
+            if (frame.getPinCount() > 0
+                    || sameMode && (frame.getValidatedEpoch() == epoch || isUpToDate(frame))) {
+                hitCount++;
+                frame.setValidatedEpoch(epoch);
+                frame.pin();
+                return frame;
+            }
+
+            // Файл изменён в обход пула - перечитываем содержимое
+            missCount++;
+            residentBytes -= getHeapBytes(frame);
+            try {
+                load(handle, frame);
+            } catch (IOException e) {
+                frames[slot] = null;
+                frameIndex.remove(path);
+                throw e;
+            }
+            residentBytes += getHeapBytes(frame);
+            frame.pin();
+            trim();
+            return frame;
+        }
+
+        missCount++;
+        int victim = findVictim();
+        PageFrame evicted = frames[victim];
+        PageFrame frame = new PageFrame(path);
+        if (evicted != null) {
+            frameIndex.remove(evicted.getPath(), victim);
+            evictionCount++;
+            residentBytes -= getHeapBytes(evicted);
+            frame.setContent(evicted.getBuffer(), 0);
+        }
+        frames[victim] = frame;
+        try {
+            load(handle, frame);
+        } catch (IOException e) {
+            frames[victim] = null;
+            throw e;
+        }
+        residentBytes += getHeapBytes(frame);
+        frameIndex.put(path, victim);
+        frame.pin();
+        trim();
+        return frame;
+    }
+
+    /**
+     * Снимает закрепление кадра. Последнее открепление записывает
+     * изменённые блоки на диск.
+     */
+    void unpin(TableHandle handle, PageFrame frame) throws IOException {
+        try {
+            if (frame.getPinCount() == 1 && frame.isDirty()) {
+                if (frame.isMapped()) {
+                    // Записи в отображение уже находятся в страничном кэше файла
+                    frame.clearDirty();
+                } else {
+                    flush(handle, frame);
+                }
+            }
+        } catch (IOException e) {
+            // Содержимое кадра разошлось с диском, кадр больше не используется
+            invalidate(frame.getPath());
+            throw e;
+        } finally {
+            frame.unpin();
+        }
+    }
+
+    /**
+     * Убирает кадр файла из пула (например, после удаления или подмены файла).
+     */
+    void invalidate(Path path) {
+        Integer slot = frameIndex.remove(path);
+        if (slot != null && frames[slot].getPinCount() == 0) {
+            residentBytes -= getHeapBytes(frames[slot]);
+            frames[slot] = null;
+        }
+    }
+
+    public int getCapacity() {
+        return frames.length;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Объём образов кадров, занятый в куче
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private int findVictim() throws IOException {
+        // Не больше двух оборотов: на первом сбрасываются биты обращения
+        for (int step = 0; step < frames.length * 2; step++) {
+            int slot = clockHand;
+            clockHand = (clockHand + 1) % frames.length;
+
+            PageFrame frame = frames[slot];
+            if (frame == null) {
+                return slot;
+            }
+            if (frame.getPinCount() > 0) {
+                continue;
+            }
+            if (frame.isReferenced()) {
+                frame.setReferenced(false);
+                continue;
+            }
+            return slot;
+        }
+        throw new IOException("Buffer pool exhausted: all " + frames.length + " frames are pinned");
+    }
+
+    /**
+     * Вытесняет незакреплённые кадры, пока объём образов в куче превышает предел
+     */
+    private void trim() {
+        for (int step = 0; step < frames.length && residentBytes > maxBytes; step++) {
+            int slot = clockHand;
+            clockHand = (clockHand + 1) % frames.length;
+
+            PageFrame frame = frames[slot];
+            if (frame == null || frame.getPinCount() > 0 || getHeapBytes(frame) == 0) {
+                continue;
+            }
+            frameIndex.remove(frame.getPath(), slot);
+            frames[slot] = null;
+            residentBytes -= getHeapBytes(frame);
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Объём образа кадра в куче; отображение файла памяти кучи не занимает
+     */
+    private static long getHeapBytes(PageFrame frame) {
+        ByteBuffer buffer = frame.getBuffer();
+        return buffer == null || frame.isMapped() || buffer.isDirect() ? 0 : buffer.capacity();
+    }
+
+    private boolean isUpToDate(PageFrame frame) throws IOException {
+        if (frame.isRacy() && !frame.isMapped()) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(frame.getPath(), BasicFileAttributes.class);
+            if (frame.isMapped()) {
+                // Отображение видит любые записи в тот же файл; устаревает только при подмене или смене размера
+                return frame.matches(attributes.fileKey(), attributes.size(), null);
+            }
+            return frame.matches(attributes.fileKey(), attributes.size(), attributes.lastModifiedTime());
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private void load(TableHandle handle, PageFrame frame) throws IOException {
+        // Отметка снимается до чтения: изменение во время чтения сдвинет время модификации
+        BasicFileAttributes attributes = Files.readAttributes(frame.getPath(), BasicFileAttributes.class);
+        FileChannel channel = handle.channel(frame.getPath(), attributes.fileKey());
+
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Table part is too large for a buffer frame: " + frame.getPath());
+        }
+
+        if (PartCompression.isCompressed(channel)) {
+            ByteBuffer buffer = PartCompression.decompress(channel, frame.isMapped() ? null : frame.getBuffer());
+            frame.setContent(buffer, buffer.limit());
+            frame.setCompressed(true);
+            stamp(frame, attributes);
+            return;
+        }
+
+        if (handle.getReadMode() == TableReadMode.MAPPED) {
+            frame.setContent(map(channel, size), (int) size);
+            stamp(frame, attributes);
+            return;
+        }
+
+        ByteBuffer buffer = frame.getBuffer();
+        if (buffer == null || frame.isMapped() || buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate((int) size);
+        }
+        buffer.clear().limit((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        frame.setContent(buffer, buffer.position());
+        stamp(frame, attributes);
+    }
+
+    private ByteBuffer map(FileChannel channel, long size) throws IOException {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (NonWritableChannelException e) {
+            // Файл открыт только для чтения
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private void flush(TableHandle handle, PageFrame frame) throws IOException {
+        if (frame.isCompressed()) {
+            inflatePart(handle, frame);
+            return;
+        }
+
+        writeDirtyBlocks(handle.channel(frame.getPath()), frame);
+        frame.clearDirty();
+        stampWritten(frame);
+    }
+
+    /**
+     * Записывает в файл изменённые блоки кадра подряд идущими участками
+     */
+    static void writeDirtyBlocks(FileChannel channel, PageFrame frame) throws IOException {
+        BitSet dirty = frame.getDirtyBlocks();
+
+        for (int from = dirty.nextSetBit(0); from >= 0; from = dirty.nextSetBit(from)) {
+            int to = dirty.nextClearBit(from);
+            int start = from * PageFrame.DIRTY_BLOCK_SIZE;
+            int end = (int) Math.min((long) to * PageFrame.DIRTY_BLOCK_SIZE, frame.length());
+
+            ByteBuffer chunk = frame.getBuffer().duplicate();
+            chunk.limit(end).position(start);
+            while (chunk.hasRemaining()) {
+                channel.write(chunk, chunk.position());
+            }
+            from = to;
+        }
+    }
+
+    /**
+     * Заменяет сжатый файл части несжатым образом кадра. Образ пишется в соседний
+     * файл и подменяет часть атомарным переименованием, поэтому прерванная запись
+     * не повреждает сжатую часть.
+     */
+    private void inflatePart(TableHandle handle, PageFrame frame) throws IOException {
+        Path path = frame.getPath();
+        Path copy = path.resolveSibling(path.getFileName() + ".inflate");
+        ByteBuffer image = frame.getBuffer().duplicate();
+        image.clear().limit((int) frame.length());
+        try (FileChannel channel = FileChannel.open(copy, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (image.hasRemaining()) {
+                channel.write(image, image.position());
+            }
+        }
+
+        handle.closePart(path);
+        try {
+            Files.move(copy, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(copy, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        frame.setCompressed(false);
+        frame.clearDirty();
+        stampWritten(frame);
+    }
+
+    private void stamp(PageFrame frame, BasicFileAttributes attributes) {
+        boolean racy = attributes.lastModifiedTime().toMillis() > System.currentTimeMillis() - RACY_WINDOW_MILLIS;
+        stamp(frame, attributes, racy);
+    }
+
+    /**
+     * Запоминает отметку файла, только что записанного из кадра. Содержимое файла
+     * совпадает с кадром, поэтому отметка надёжна, хотя время модификации попадает
+     * в окно ненадёжности: перечитывается только файл, изменённый в обход пула.
+     */
+    private void stampWritten(PageFrame frame) throws IOException {
+        stamp(frame, Files.readAttributes(frame.getPath(), BasicFileAttributes.class), false);
+    }
+
+    private void stamp(PageFrame frame, BasicFileAttributes attributes, boolean racy) {
+        // Время модификации отображения меняется при записи через него самого и не сверяется
+        FileTime lastModified = frame.isMapped() ? null : attributes.lastModifiedTime();
+        frame.stamp(attributes.fileKey(), attributes.size(), lastModified, racy);
+        frame.setValidatedEpoch(epoch);
+    }
+}
@@ -0,0 +1,488 @@
+package ru.mephi.db.infrastructure.db;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Каталог базы данных ({@code Master.txt}) в памяти: таблицы в порядке регистрации
+ * и хеш-индекс по нормализованному пути.
+ * <p>
+ * Формат файла: магическое число {@link #MAGIC}, версия формата, следующий свободный
+ * идентификатор таблицы, количество записей каталога (4 байта каждое), длина имени
+ * базы данных (2 байта) и имя в UTF-8. За заголовком идут записи переменной длины:
+ * идентификатор таблицы (4 байта), путь к таблице и текст схемы (2 байта длины и UTF-8).
+ * Путь к таблице из директории каталога хранится относительно неё, остальные - абсолютными.
+ * <p>
+ * Новая запись дописывается за последней, после чего в заголовке обновляется
+ * количество записей - до этого недописанная запись не видна. При удалении файл
+ * переписывается целиком во временный файл, который атомарно подменяет старый.
+ * <p>
+ * Файлы прежних форматов (50 байт имени, количество таблиц и 100-байтные абсолютные
+ * пути; версия 2, хранившая в записи количество записей и частей таблицы) читаются
+ * как есть и переводятся в новый формат при первом изменении.
+ * <p>
+ * Каталог обновляется вместе с файлом (сквозная запись). Если каталог базы данных
+ * заблокирован этим процессом, файл больше никто не меняет и каталог не сверяется
+ * с диском; иначе он сверяется с отметкой файла (ключ, размер, время модификации)
+ * так же, как кадры {@link BufferPool}.
+ */
+final class Catalog {
+
+    /**
+     * Магическое число файла каталога: байты 0xCA 0x7A не образуют символ UTF-8,
+     * поэтому с именем базы данных в файле прежнего формата оно не совпадает
+     */
+    static final int MAGIC = 0xCA7A1060;
+    /** Версия формата каталога */
+    static final int VERSION = 3;
+    /** Версия формата, в записях которой за идентификатором шли количество записей и частей */
+    private static final int VERSION_WITH_COUNTS = 2;
+
+    /**
+     * Смещение следующего свободного идентификатора таблицы; за ним следует
+     * количество записей каталога, изменение которого фиксирует добавление
+     */
+    private static final int NEXT_ID_OFFSET = 8;
+    /** Смещение длины имени базы данных */
+    private static final int NAME_OFFSET = 16;
+    /** Максимальная длина пути или схемы в байтах (длина хранится в 2 байтах) */
+    private static final int MAX_STRING_BYTES = Short.MAX_VALUE;
+
+    /** Размер заголовка прежнего формата (50 байт имени + количество таблиц) */
+    private static final int LEGACY_HEADER_SIZE = 50 + 4;
+    /** Размер пути к таблице в прежнем формате */
+    private static final int LEGACY_POINTER_SIZE = DataRepositoryImpl.DB_POINTER_SIZE;
+
+    /**
+     * Окно, в пределах которого время модификации файла не считается надёжным:
+     * запись, сделанная в тот же тик часов файловой системы, его не сдвинет
+     */
+    private static final long RACY_WINDOW_MILLIS = 1000;
+
+    /**
+     * Запись каталога о таблице
+     */
+    static final class Entry {
+        private final int id;
+        private final String path;
+        private List<String> schema;
+        /** Смещение записи в файле; -1 - запись прочитана из файла прежнего формата */
+        private long offset = -1;
+
+        Entry(int id, String path, List<String> schema) {
+            this.id = id;
+            this.path = path;
+            this.schema = schema;
+        }
+
+        int getId() {
+            return id;
+        }
+
+        /** Нормализованный абсолютный путь к таблице */
+        String getPath() {
+            return path;
+        }
+
+        List<String> getSchema() {
+            return schema;
+        }
+
+        void setSchema(List<String> schema) {
+            this.schema = schema;
+        }
+    }
+
+    private final Path file;
+    private final Path directory;
+    private final String databaseName;
+    private final boolean legacy;
+    private int nextId;
+    private long endOffset;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Entry> positions = new HashMap<>();
+    private final List<String> tableNames = new ArrayList<>();
+
+    private Object fileKey;
+    private long fileSize;
+    private FileTime lastModified;
+    private boolean racy;
+
+    private Catalog(Path file, String databaseName, boolean legacy) {
+        this.file = file;
+        this.directory = file.getParent();
+        this.databaseName = databaseName;
+        this.legacy = legacy;
+    }
+
+    /**
+     * Создаёт пустой файл каталога, заменяя существующий
+     *
+     * @param file нормализованный абсолютный путь к файлу базы данных
+     */
+    static void create(Path file, String databaseName) throws IOException {
+        Catalog catalog = new Catalog(file, databaseName, false);
+        catalog.nextId = 1;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(0);
+            raf.write(catalog.encodeHeader(0));
+        }
+    }
+
+    /**
+     * Читает каталог из файла нового или прежнего формата
+     *
+     * @param file нормализованный абсолютный путь к файлу базы данных
+     * @param attributes отметка файла, соответствующая читаемому содержимому
+     * @throws IOException если файл повреждён
+     */
+    static Catalog read(Path file, BasicFileAttributes attributes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        Catalog catalog;
+        try {
+            catalog = buffer.remaining() >= 4 && buffer.getInt(0) == MAGIC
+                    ? readCurrent(file, buffer)
+                    : readLegacy(file, buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupted database file: truncated entry", e);
+        }
+        catalog.stamp(attributes);
+        return catalog;
+    }
+
+    private static Catalog readCurrent(Path file, ByteBuffer buffer) throws IOException {
+        buffer.position(4);
+        int version = buffer.getInt();
+        if (version != VERSION && version != VERSION_WITH_COUNTS) {
+            throw new IOException("Unsupported database file version: " + version);
+        }
+        int nextId = buffer.getInt();
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IOException("Corrupted database file: invalid table count");
+        }
+
+        // Записи версии 2 дописывать нельзя: файл переводится в новый формат при изменении
+        Catalog catalog = new Catalog(file, readString(buffer), version != VERSION);
+        for (int i = 0; i < count; i++) {
+            long offset = buffer.position();
+            int id = buffer.getInt();
+            if (version == VERSION_WITH_COUNTS) {
+                // Количество записей и частей - устаревший снимок, он не читается
+                buffer.position(buffer.position() + 8);
+            }
+            String storedPath = readString(buffer);
+            String schema = readString(buffer);
+
+            Entry entry = new Entry(id, catalog.resolve(storedPath), decodeSchema(schema));
+            entry.offset = offset;
+            catalog.put(entry);
+        }
+        // Байты за последней записью - недописанное добавление, они будут перезаписаны
+        catalog.nextId = nextId;
+        catalog.endOffset = buffer.position();
+        return catalog;
+    }
+
+    private static Catalog readLegacy(Path file, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < LEGACY_HEADER_SIZE) {
+            throw new IOException("Corrupted database file");
+        }
+
+        int tableCount = buffer.getInt(50);
+        long requiredSize = LEGACY_HEADER_SIZE + (long) tableCount * LEGACY_POINTER_SIZE;
+        if (tableCount < 0 || buffer.remaining() < requiredSize) {
+            throw new IOException("Corrupted database file: invalid table count");
+        }
+
+        String name = new String(buffer.array(), 0, 50, StandardCharsets.UTF_8).trim();
+        Catalog catalog = new Catalog(file, name, true);
+        int id = 1;
+        for (int i = 0; i < tableCount; i++) {
+            String storedPath = new String(buffer.array(), LEGACY_HEADER_SIZE + i * LEGACY_POINTER_SIZE,
+                    LEGACY_POINTER_SIZE, StandardCharsets.UTF_8).trim();
+            if (!storedPath.isEmpty()) {
+                catalog.put(new Entry(id++, catalog.resolve(storedPath), List.of()));
+            }
+        }
+        catalog.nextId = id;
+        return catalog;
+    }
+
+    /**
+     * Файл прочитан в одном из прежних форматов и ещё не переведён в новый
+     */
+    boolean isLegacy() {
+        return legacy;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Нормализованные абсолютные пути к таблицам в порядке регистрации
+     */
+    List<String> getTablePaths() {
+        List<String> tablePaths = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            tablePaths.add(entry.path);
+        }
+        return tablePaths;
+    }
+
+    /**
+     * Имена таблиц (имена файлов без расширения .txt) в порядке регистрации
+     */
+    List<String> getTableNames() {
+        return Collections.unmodifiableList(tableNames);
+    }
+
+    boolean contains(Path tablePath) {
+        return positions.containsKey(tablePath.normalize().toString());
+    }
+
+    Entry get(Path tablePath) {
+        return positions.get(tablePath.normalize().toString());
+    }
+
+    /**
+     * Дописывает запись о таблице в файл и каталог
+     *
+     * @param tablePath нормализованный абсолютный путь к таблице
+     * @throws IllegalArgumentException если путь или схема не помещаются в запись
+     */
+    void add(Path tablePath, List<String> schema) throws IOException {
+        requireCurrentFormat();
+        Entry entry = new Entry(nextId, tablePath.toString(), schema);
+        byte[] bytes = encodeEntry(entry);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(endOffset);
+            raf.write(bytes);
+            // Запись становится видимой вместе с новым количеством
+            raf.seek(NEXT_ID_OFFSET);
+            raf.writeInt(nextId + 1);
+            raf.writeInt(entries.size() + 1);
+        }
+        entry.offset = endOffset;
+        endOffset += bytes.length;
+        nextId++;
+        put(entry);
+        stamp(Files.readAttributes(file, BasicFileAttributes.class));
+    }
+
+    /**
+     * Убирает таблицу из каталога и файла; оставшиеся таблицы сохраняют порядок.
+     *
+     * @return {@code false}, если таблицы в каталоге нет
+     */
+    boolean remove(Path tablePath) throws IOException {
+        requireCurrentFormat();
+        Entry removed = get(tablePath);
+        if (removed == null) {
+            return false;
+        }
+
+        List<Entry> remaining = new ArrayList<>(entries);
+        remaining.remove(removed);
+        write(remaining);
+        return true;
+    }
+
+    /**
+     * Переводит каталог прежнего формата в новый: файл переписывается целиком.
+     *
+     * @return каталог записанного файла
+     */
+    Catalog migrate() throws IOException {
+        Catalog migrated = new Catalog(file, databaseName, false);
+        migrated.nextId = nextId;
+        migrated.write(new ArrayList<>(entries));
+        return migrated;
+    }
+
+    /**
+     * Записывает каталог с указанными записями во временный файл и подменяет им файл каталога
+     */
+    private void write(List<Entry> newEntries) throws IOException {
+        byte[] header = encodeHeader(newEntries.size());
+        List<byte[]> encoded = new ArrayList<>(newEntries.size());
+        long size = header.length;
+        for (Entry entry : newEntries) {
+            byte[] bytes = encodeEntry(entry);
+            encoded.add(bytes);
+            size += bytes.length;
+        }
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Database cannot contain more tables");
+        }
+
+        ByteBuffer image = ByteBuffer.allocate((int) size);
+        image.put(header);
+        for (byte[] bytes : encoded) {
+            image.put(bytes);
+        }
+
+        Path tempPath = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.write(tempPath, image.array());
+            try {
+                Files.move(tempPath, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+
+        entries.clear();
+        positions.clear();
+        tableNames.clear();
+        long offset = header.length;
+        for (int i = 0; i < newEntries.size(); i++) {
+            Entry entry = newEntries.get(i);
+            entry.offset = offset;
+            offset += encoded.get(i).length;
+            put(entry);
+        }
+        endOffset = offset;
+        stamp(Files.readAttributes(file, BasicFileAttributes.class));
+    }
+
+    /**
+     * Запоминает отметку файла, соответствующую содержимому каталога
+     */
+    void stamp(BasicFileAttributes attributes) {
+        this.fileKey = attributes.fileKey();
+        this.fileSize = attributes.size();
+        this.lastModified = attributes.lastModifiedTime();
+        this.racy = lastModified.toMillis() > System.currentTimeMillis() - RACY_WINDOW_MILLIS;
+    }
+
+    /**
+     * Проверяет, что файл на диске не менялся с момента снятия отметки
+     */
+    boolean matches(BasicFileAttributes attributes) {
+        return !racy
+                && Objects.equals(fileKey, attributes.fileKey())
+                && fileSize == attributes.size()
+                && Objects.equals(lastModified, attributes.lastModifiedTime());
+    }
+
+    private void requireCurrentFormat() {
+        if (legacy) {
+            throw new IllegalStateException("Database file must be migrated before modification: " + file);
+        }
+    }
+
+    private void put(Entry entry) {
+        entries.add(entry);
+        positions.putIfAbsent(entry.path, entry);
+        Path fileName = Paths.get(entry.path).getFileName();
+        if (fileName != null) {
+            tableNames.add(toTableName(fileName.toString()));
+        }
+    }
+
+    /**
+     * Путь к таблице в памяти: хранимый относительный путь разрешается от директории каталога
+     */
+    private String resolve(String storedPath) {
+        Path path = Paths.get(storedPath);
+        if (!path.isAbsolute() && directory != null) {
+            path = directory.resolve(path);
+        }
+        return path.normalize().toString();
+    }
+
+    /**
+     * Путь к таблице в файле: относительный для таблиц из директории каталога
+     */
+    private String relativize(String tablePath) {
+        Path path = Paths.get(tablePath);
+        if (directory != null && path.startsWith(directory)) {
+            return directory.relativize(path).toString();
+        }
+        return tablePath;
+    }
+
+    private byte[] encodeHeader(int count) {
+        byte[] name = encodeString(databaseName);
+        ByteBuffer header = ByteBuffer.allocate(NAME_OFFSET + name.length);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(nextId);
+        header.putInt(count);
+        header.put(name);
+        return header.array();
+    }
+
+    private byte[] encodeEntry(Entry entry) {
+        byte[] path = encodeString(relativize(entry.path));
+        byte[] schema = encodeString(String.join(";", entry.schema));
+        ByteBuffer bytes = ByteBuffer.allocate(4 + path.length + schema.length);
+        bytes.putInt(entry.id);
+        bytes.put(path);
+        bytes.put(schema);
+        return bytes.array();
+    }
+
+    private static byte[] encodeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Table path exceeds maximum length");
+        }
+        return ByteBuffer.allocate(2 + bytes.length)
+                .putShort((short) bytes.length)
+                .put(bytes)
+                .array();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> decodeSchema(String schema) {
+        if (schema.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(schema.split(";"));
+    }
+
+    private static String toTableName(String fileName) {
+        // Удаляем расширение .txt если есть
+        if (fileName.toLowerCase().endsWith(".txt")) {
+            return fileName.substring(0, fileName.length() - 4);
+        }
+        return fileName;
+    }
+}
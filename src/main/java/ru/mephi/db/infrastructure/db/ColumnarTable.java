@@ -0,0 +1,465 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.application.adapter.db.RecordCursor;
+import ru.mephi.db.domain.valueobject.RowId;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Поколоночное хранение таблицы ({@code WITH (storage = columnar)}).
+ * <p>
+ * Головной файл хранит только заголовок: схему, число строк в сегментах
+ * (смещение 50) и число живых строк (смещение 54). Значения каждого столбца
+ * лежат в отдельных файлах-сегментах рядом с головой:
+ * <ul>
+ *     <li>{@code <таблица>.cN} - для {@code int} упакованный массив по 4 байта
+ *     на строку, для строк - подряд записанные байты значений;</li>
+ *     <li>{@code <таблица>.cN.off} - для строк смещение конца значения
+ *     в сегменте данных, 8 байт на строку;</li>
+ *     <li>{@code <таблица>.deleted} - вектор удалений, бит на строку сегментов.</li>
+ * </ul>
+ * Сегменты дописываются с позиции, которую задаёт счётчик строк головы, поэтому
+ * строки, не дошедшие до обновления головы, перезаписываются следующей вставкой.
+ * Предикат или проекция по одному столбцу читает только его сегмент.
+ * <p>
+ * Сжатие записывает сегменты заново под следующим номером поколения, который хранится
+ * в голове: к именам файлов поколения N > 0 добавляется {@code .gN}. Сегменты прежнего
+ * поколения остаются нетронутыми, пока их не заменит новая голова.
+ */
+final class ColumnarTable {
+
+    /** Количество строк, читаемых из сегмента за одно обращение */
+    static final int CHUNK_ROWS = 8192;
+
+    private final TableHandle handle;
+    private final TableLayout layout;
+    private final Path base;
+    private final int generation;
+
+    /**
+     * @param base путь к файлам таблицы без расширения ({@code <директория>/<таблица>})
+     * @param generation номер поколения сегментов из головы
+     */
+    ColumnarTable(TableHandle handle, TableLayout layout, Path base, int generation) {
+        this.handle = handle;
+        this.layout = layout;
+        this.base = base;
+        this.generation = generation;
+    }
+
+    TableLayout getLayout() {
+        return layout;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Сегменты той же таблицы другого поколения
+     */
+    ColumnarTable atGeneration(int generation) {
+        return new ColumnarTable(handle, layout, base, generation);
+    }
+
+    /**
+     * Все файлы сегментов таблицы, в том числе ещё не созданные
+     */
+    List<Path> getFiles() {
+        List<Path> files = new ArrayList<>();
+        for (int field = 0; field < layout.getFieldCount(); field++) {
+            files.add(segment(field));
+            if (!layout.isInt(field)) {
+                files.add(offsets(field));
+            }
+        }
+        files.add(deletedPath());
+        return files;
+    }
+
+    /**
+     * Дописывает строки за последней строкой сегментов.
+     *
+     * @param physicalRows число строк в сегментах по счётчику головы
+     */
+    void append(List<List<Object>> rows, int physicalRows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        for (List<Object> row : rows) {
+            for (int field = 0; field < layout.getFieldCount(); field++) {
+                if (!layout.isInt(field) && ((String) row.get(field)).getBytes(StandardCharsets.UTF_8).length
+                        > layout.getMaxLength(field)) {
+                    throw new IllegalArgumentException("String too long for field " + field);
+                }
+            }
+        }
+        clearDeletedFrom(physicalRows);
+
+        for (int field = 0; field < layout.getFieldCount(); field++) {
+            if (layout.isInt(field)) {
+                ByteBuffer values = ByteBuffer.allocate(rows.size() * TableLayout.INT_SIZE);
+                for (List<Object> row : rows) {
+                    values.putInt((Integer) row.get(field));
+                }
+                write(segment(field), (long) physicalRows * TableLayout.INT_SIZE, values.flip());
+                continue;
+            }
+
+            long dataEnd = physicalRows == 0 ? 0 : readLong(offsets(field), (physicalRows - 1) * 8L);
+            ByteBuffer ends = ByteBuffer.allocate(rows.size() * 8);
+            List<byte[]> values = new ArrayList<>(rows.size());
+            long end = dataEnd;
+            for (List<Object> row : rows) {
+                byte[] value = ((String) row.get(field)).getBytes(StandardCharsets.UTF_8);
+                values.add(value);
+                end += value.length;
+                ends.putLong(end);
+            }
+
+            ByteBuffer data = ByteBuffer.allocate(Math.toIntExact(end - dataEnd));
+            for (byte[] value : values) {
+                data.put(value);
+            }
+            write(segment(field), dataEnd, data.flip());
+            write(offsets(field), physicalRows * 8L, ends.flip());
+        }
+    }
+
+    /**
+     * Отмечает в векторе удалений строки записей с указанными индексами.
+     *
+     * @param sortedIndices индексы живых записей по возрастанию
+     */
+    void delete(int[] sortedIndices, int physicalRows) throws IOException {
+        BitSet deleted = readDeleted(physicalRows);
+        int[] rows = new int[sortedIndices.length];
+        int row = -1;
+        int index = -1;
+        for (int i = 0; i < sortedIndices.length; i++) {
+            while (index < sortedIndices[i]) {
+                row = deleted.nextClearBit(row + 1);
+                index++;
+            }
+            if (row >= physicalRows) {
+                throw new IllegalArgumentException("Invalid record index: " + sortedIndices[i]);
+            }
+            rows[i] = row;
+        }
+
+        for (int deletedRow : rows) {
+            deleted.set(deletedRow);
+        }
+        writeDeleted(deleted, physicalRows);
+    }
+
+    /**
+     * Значения целого столбца для строк сегментов {@code [from, to)}
+     */
+    int[] readInts(int field, int from, int to) throws IOException {
+        int size = TableLayout.INT_SIZE;
+        ByteBuffer buffer = read(segment(field), (long) from * size, (to - from) * size);
+        int[] values = new int[to - from];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Значения строкового столбца для строк сегментов {@code [from, to)}: смещения
+     * и байты данных диапазона читаются двумя обращениями
+     */
+    String[] readStrings(int field, int from, int to) throws IOException {
+        String[] values = new String[to - from];
+        if (values.length == 0) {
+            return values;
+        }
+
+        long[] ends = new long[to - from];
+        read(offsets(field), from * 8L, ends.length * 8).asLongBuffer().get(ends);
+        long start = from == 0 ? 0 : readLong(offsets(field), (from - 1) * 8L);
+
+        byte[] data = new byte[Math.toIntExact(ends[ends.length - 1] - start)];
+        read(segment(field), start, data.length).get(data);
+
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            int length = Math.toIntExact(ends[i] - start) - position;
+            if (length < 0 || length > layout.getMaxLength(field)) {
+                throw new IOException("Invalid string length in column segment: " + segment(field));
+            }
+            values[i] = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+        return values;
+    }
+
+    /**
+     * Значения столбца для строк сегментов {@code [from, to)} ({@link Integer} или {@link String})
+     */
+    Object[] readColumn(int field, int from, int to) throws IOException {
+        if (!layout.isInt(field)) {
+            return readStrings(field, from, to);
+        }
+
+        int[] ints = readInts(field, from, to);
+        Object[] values = new Object[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            values[i] = ints[i];
+        }
+        return values;
+    }
+
+    /**
+     * Одна строка сегментов целиком
+     */
+    List<Object> readRow(int physicalRow) throws IOException {
+        List<Object> record = new ArrayList<>(layout.getFieldCount());
+        for (int field = 0; field < layout.getFieldCount(); field++) {
+            record.add(readColumn(field, physicalRow, physicalRow + 1)[0]);
+        }
+        return record;
+    }
+
+    /**
+     * Вектор удалений; биты за пределами {@code physicalRows} не учитываются
+     */
+    BitSet readDeleted(int physicalRows) throws IOException {
+        Path path = deletedPath();
+        if (!Files.exists(path)) {
+            return new BitSet();
+        }
+
+        FileChannel channel = handle.channel(path);
+        int length = (int) Math.min(channel.size(), (physicalRows + 7L) / 8);
+        BitSet deleted = BitSet.valueOf(read(path, 0, length));
+        deleted.clear(physicalRows, Math.max(physicalRows, deleted.length()));
+        return deleted;
+    }
+
+    void writeDeleted(BitSet deleted, int physicalRows) throws IOException {
+        byte[] bits = Arrays.copyOf(deleted.toByteArray(), (physicalRows + 7) / 8);
+        write(deletedPath(), 0, ByteBuffer.wrap(bits));
+        handle.channel(deletedPath()).truncate(bits.length);
+    }
+
+    /**
+     * Номер строки сегментов, соответствующей записи с указанным индексом
+     */
+    static int toPhysicalRow(BitSet deleted, int recordIndex) {
+        int row = recordIndex;
+        // Каждая удалённая строка до найденной сдвигает искомую строку на одну позицию
+        for (int skipped = deleted.get(0, row + 1).cardinality(); skipped > 0; ) {
+            int next = row + skipped;
+            skipped = deleted.get(row + 1, next + 1).cardinality();
+            row = next;
+        }
+        return row;
+    }
+
+    /**
+     * Записывает сегменты без удалённых строк в файлы другого поколения. Файлы этого
+     * поколения не изменяются; недописанные файлы нового поколения удаляются при ошибке.
+     *
+     * @param target сегменты нового поколения
+     * @return число строк в новых сегментах
+     */
+    int compactInto(ColumnarTable target, BitSet deleted, int physicalRows) throws IOException {
+        int liveRows = physicalRows - deleted.cardinality();
+        // Остатки прерванного сжатия: новое поколение ещё не записано в голову
+        target.deleteFiles();
+        try {
+            for (int field = 0; field < layout.getFieldCount(); field++) {
+                Path segmentCopy = target.segment(field);
+                Path offsetsCopy = layout.isInt(field) ? null : target.offsets(field);
+
+                long intPosition = 0;
+                long dataEnd = 0;
+                long offsetPosition = 0;
+                for (int from = 0; from < physicalRows; from += CHUNK_ROWS) {
+                    int to = Math.min(physicalRows, from + CHUNK_ROWS);
+                    int live = to - from - deleted.get(from, to).cardinality();
+                    if (layout.isInt(field)) {
+                        int[] values = readInts(field, from, to);
+                        ByteBuffer buffer = ByteBuffer.allocate(live * TableLayout.INT_SIZE);
+                        for (int i = 0; i < values.length; i++) {
+                            if (!deleted.get(from + i)) {
+                                buffer.putInt(values[i]);
+                            }
+                        }
+                        writeNew(segmentCopy, intPosition, buffer.flip());
+                        intPosition += buffer.limit();
+                        continue;
+                    }
+
+                    String[] values = readStrings(field, from, to);
+                    ByteBuffer ends = ByteBuffer.allocate(live * 8);
+                    List<byte[]> data = new ArrayList<>(live);
+                    long chunkStart = dataEnd;
+                    for (int i = 0; i < values.length; i++) {
+                        if (!deleted.get(from + i)) {
+                            byte[] value = values[i].getBytes(StandardCharsets.UTF_8);
+                            data.add(value);
+                            dataEnd += value.length;
+                            ends.putLong(dataEnd);
+                        }
+                    }
+                    ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(dataEnd - chunkStart));
+                    data.forEach(bytes::put);
+                    writeNew(segmentCopy, chunkStart, bytes.flip());
+                    writeNew(offsetsCopy, offsetPosition, ends.flip());
+                    offsetPosition += ends.limit();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            target.deleteFiles();
+            throw e;
+        }
+        return liveRows;
+    }
+
+    /**
+     * Удаляет все файлы сегментов этого поколения
+     */
+    void deleteFiles() throws IOException {
+        for (Path path : getFiles()) {
+            handle.closePart(path);
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Курсор по живым строкам: столбцы читаются блоками по {@link #CHUNK_ROWS} строк
+     */
+    RecordCursor openCursor(int physicalRows) throws IOException {
+        BitSet deleted = readDeleted(physicalRows);
+        return new RecordCursor() {
+            private Object[][] columns = new Object[layout.getFieldCount()][];
+            private int chunkStart;
+            private int chunkEnd;
+            private int row = -1;
+            private int index = -1;
+
+            @Override
+            public boolean next() throws IOException {
+                do {
+                    row++;
+                    if (row >= physicalRows) {
+                        return false;
+                    }
+                    if (row >= chunkEnd) {
+                        chunkStart = row;
+                        chunkEnd = Math.min(physicalRows, row + CHUNK_ROWS);
+                        for (int field = 0; field < columns.length; field++) {
+                            columns[field] = readColumn(field, chunkStart, chunkEnd);
+                        }
+                    }
+                } while (deleted.get(row));
+                index++;
+                return true;
+            }
+
+            @Override
+            public int getIndex() {
+                return index;
+            }
+
+            @Override
+            public RowId getRowId() {
+                return new RowId(0, row, generation);
+            }
+
+            @Override
+            public List<Object> getRecord() {
+                List<Object> record = new ArrayList<>(columns.length);
+                for (Object[] column : columns) {
+                    record.add(column[row - chunkStart]);
+                }
+                return record;
+            }
+
+            @Override
+            public void close() {
+                columns = new Object[0][];
+                row = physicalRows;
+            }
+        };
+    }
+
+    private Path segment(int field) {
+        return file(".c" + field);
+    }
+
+    private Path offsets(int field) {
+        return file(".c" + field + ".off");
+    }
+
+    private Path deletedPath() {
+        return file(".deleted");
+    }
+
+    private Path file(String suffix) {
+        String name = base.getFileName() + suffix;
+        return base.resolveSibling(generation == 0 ? name : name + ".g" + generation);
+    }
+
+    /**
+     * Сбрасывает биты вектора удалений от {@code physicalRows}: строки, записанные
+     * туда раньше без обновления головы, больше не существуют
+     */
+    private void clearDeletedFrom(int physicalRows) throws IOException {
+        Path path = deletedPath();
+        if (Files.exists(path) && handle.channel(path).size() * 8 > physicalRows) {
+            writeDeleted(readDeleted(physicalRows), physicalRows);
+        }
+    }
+
+    private long readLong(Path path, long position) throws IOException {
+        return read(path, position, 8).getLong();
+    }
+
+    private ByteBuffer read(Path path, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        if (length == 0) {
+            return buffer;
+        }
+
+        FileChannel channel = handle.channel(path);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Column segment is truncated: " + path);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void write(Path path, long position, ByteBuffer buffer) throws IOException {
+        if (!Files.exists(path)) {
+            Files.createFile(path);
+        }
+        FileChannel channel = handle.channel(path);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    /**
+     * Запись в новый файл сегмента в обход пула открытых файлов таблицы
+     */
+    private static void writeNew(Path path, long position, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+    }
+}
@@ -1,16 +1,37 @@
 package ru.mephi.db.infrastructure.db;
 
 import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.adapter.db.RecordCursor;
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.RowFormat;
+import ru.mephi.db.domain.valueobject.RowId;
+import ru.mephi.db.domain.valueobject.TableReadMode;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -19,22 +40,265 @@ public class DataRepositoryImpl implements DataRepository {
 
     /** Размер заголовка файла базы данных (50 байт для имени + 4 байта для количества таблиц) */
     private static final int DB_HEADER_SIZE = 50 + 4;
-    /** Размер указателя на таблицу в файле базы данных */
+    /** Размер указателя на таблицу в файле базы данных прежнего формата ({@link Catalog}) */
     public static final int DB_POINTER_SIZE = 100;
-    /** Максимальный размер файла таблицы */
-    private static final int TABLE_MAX_SIZE = 65536;
+    /** Размер части таблицы по умолчанию и для таблиц, созданных без записанного размера */
+    private static final int DEFAULT_PAGE_SIZE = 65536;
+    /** Верхняя граница размера части, выбираемого по ширине записи */
+    private static final int MAX_DEFAULT_PAGE_SIZE = 1024 * 1024;
+    /**
+     * Максимальный размер части таблицы. Часть целиком помещается в кадр буферного пула,
+     * а общий объём кадров ограничен пулом ({@link BufferPool#DEFAULT_MAX_BYTES}).
+     */
+    public static final int MAX_PAGE_SIZE = 64 * 1024 * 1024;
+    /** Количество записей, на которое рассчитывается размер части по умолчанию */
+    private static final int MIN_ROWS_PER_PAGE = 256;
 
     /** Размер заголовка файла таблицы (50 байт для имени + 4 байта для количества записей на этой странице
      * + 4 байта для количества записей во всей таблице + 100 байт для схемы таблицы + 100 байт для указателя) */
-    private static final int TABLE_HEADER_SIZE = 50 + 4 + 4 + 100 + 100;
+    static final int TABLE_HEADER_SIZE = 50 + 4 + 4 + 100 + 100;
     /** Размер блока схемы таблицы в заголовке */
     private static final int TABLE_SCHEMA_SIZE = 100;
+    /** Смещение блока схемы в заголовке */
+    private static final int TABLE_SCHEMA_OFFSET = 50 + 4 + 4;
+    /**
+     * Версия заголовка, записываемая первым байтом блока схемы. В заголовке этой версии
+     * схема хранится в двоичном виде: количество полей (1 байт) и по 2 байта на поле
+     * (0 - {@code int}, N - {@code str_N}), а служебные поля занимают отведённую им
+     * область в конце блока при любой схеме. В заголовке прежнего формата блок начинается
+     * с текста схемы, который не может начинаться с этого байта.
+     */
+    private static final byte TABLE_HEADER_VERSION = 2;
+    /**
+     * Наибольшая длина текста схемы в заголовке прежнего формата, оставляющая в конце блока
+     * место для служебных полей. Схема длиннее (до {@link #TABLE_SCHEMA_SIZE} байт) занимает
+     * блок целиком, и служебных полей у такой таблицы нет (см. {@link #hasHeaderFields}).
+     */
+    private static final int TABLE_SCHEMA_TEXT_SIZE = 79;
+    /**
+     * Смещение служебной области в конце блока схемы: номер хвостовой части (4 байта)
+     * и смещение свободного места в ней (4 байта, 0 - неизвестно). За ними следуют размер
+     * частей таблицы, число свободных слотов части и версия формата записи. В заголовке
+     * прежнего формата область начинается за нулевым байтом, завершающим текст схемы.
+     */
+    private static final int TABLE_TAIL_OFFSET = TABLE_SCHEMA_OFFSET + TABLE_SCHEMA_TEXT_SIZE + 1;
+    /** Смещение размера частей таблицы в заголовке (4 байта, 0 - {@link #DEFAULT_PAGE_SIZE}) */
+    private static final int TABLE_PAGE_SIZE_OFFSET = TABLE_TAIL_OFFSET + 8;
+    /**
+     * Смещение порядкового номера части в цепочке (4 байта) в файлах {@code _partN}.
+     * Номера файлов после сжатия таблицы идут с пропусками, поэтому положение части
+     * в цепочке хранится отдельно; 0 - не записано (часть создана раньше, номер файла
+     * совпадает с положением). В головном файле то же место занимает положение хвоста.
+     */
+    private static final int TABLE_PART_ORDINAL_OFFSET = TABLE_TAIL_OFFSET;
+    /**
+     * Смещение номера поколения сегментов (4 байта) в голове поколоночной таблицы ({@link ColumnarTable}).
+     * У такой таблицы нет частей, и место положения хвоста свободно.
+     */
+    private static final int COLUMNAR_GENERATION_OFFSET = TABLE_TAIL_OFFSET;
+    /** Смещение счётчика освободившихся после удаления слотов части (4 байта) */
+    private static final int TABLE_FREE_SLOTS_OFFSET = TABLE_PAGE_SIZE_OFFSET + 4;
+    /**
+     * Смещение версии формата записи (4 байта): номер {@link RowFormat}, 0 - строки
+     * дополняются до полной ширины поля (таблицы, созданные до появления поля)
+     */
+    static final int TABLE_FORMAT_OFFSET = TABLE_FREE_SLOTS_OFFSET + 4;
     /** Максимальное количество полей в схеме */
     private static final int MAX_SCHEMA_FIELDS = 20;
+    /**
+     * Смещение счётчика поколений слотов (4 байта) в головном файле с заголовком версии
+     * {@link #TABLE_HEADER_VERSION}, сразу за двоичной схемой наибольшей длины. Каждая
+     * записанная в слот запись получает следующее значение счётчика, которое хранится
+     * в старших 32 битах её элемента индекса смещений и входит в {@link RowId}.
+     */
+    private static final int TABLE_SLOT_GENERATION_OFFSET = TABLE_SCHEMA_OFFSET + 2 + 2 * MAX_SCHEMA_FIELDS;
     /** Размер указателя на следующую часть таблицы */
     private static final int TABLE_POINTER_SIZE = 100;
     /** Максимально допустимая длина строкового поля в таблице (в символах).*/
     private static final int MAX_STRING_LENGTH = 1000;
+    /** Максимальное количество одновременно открытых таблиц */
+    private static final int MAX_OPEN_TABLES = 32;
+    /** Максимальное количество открытых файлов частей одной таблицы */
+    private static final int MAX_OPEN_PARTS_PER_TABLE = 16;
+    /** Нулевые байты для дополнения строк до фиксированной ширины поля */
+    private static final byte[] STRING_PADDING = new byte[MAX_STRING_LENGTH];
+    /** Суффикс файла переполнения таблицы формата VARLEN: {@code <таблица>.overflow} */
+    private static final String OVERFLOW_FILE_SUFFIX = ".overflow";
+    /** Суффикс файла каталога частей таблицы ({@link PartDirectory}): {@code <таблица>.parts} */
+    private static final String PART_DIRECTORY_SUFFIX = ".parts";
+    /** Суффикс файла индекса столбца ({@link BPlusTreeIndex}): {@code <таблица>.idxN} */
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+    /** Суффикс файла хэш-индекса столбца ({@link HashIndex}): {@code <таблица>.hashN} */
+    private static final String HASH_INDEX_FILE_SUFFIX = ".hash";
+    /**
+     * Признак указателя на следующую часть, хранящегося номером части (первый байт области
+     * указателя). За ним следуют номер следующей части (4 байта, 0 - частей больше нет),
+     * отметка изменения таблицы (4 байта, значима в головном файле), длина (2 байта) и основа
+     * имени файлов частей в UTF-8. Последние 4 байта области головного файла - набор
+     * уникальных столбцов. Область без признака - путь к следующей части текстом.
+     */
+    private static final byte PART_POINTER_MARKER = 1;
+    /** Смещение отметки каталога частей в области указателя */
+    private static final int POINTER_STAMP_OFFSET = 1 + 4;
+    /** Смещение основы имени частей в области указателя */
+    private static final int POINTER_STEM_OFFSET = POINTER_STAMP_OFFSET + 4;
+    /**
+     * Смещение набора уникальных столбцов ({@code PRIMARY KEY}, {@code UNIQUE}) в области
+     * указателя: бит N - столбец N. Набор копируется вместе с головным файлом, а индексы,
+     * по которым проверяется уникальность, строятся по нему при открытии таблицы.
+     */
+    private static final int POINTER_UNIQUE_OFFSET = TABLE_POINTER_SIZE - 4;
+    /** Наибольшая длина основы имени частей, не задевающая набор уникальных столбцов */
+    private static final int MAX_POINTER_STEM_LENGTH = POINTER_UNIQUE_OFFSET - POINTER_STEM_OFFSET - 2;
+    /** Имя файла части таблицы: {@code <таблица>_partN.txt} */
+    private static final Pattern TABLE_PART_NAME = Pattern.compile("(.+)_part(\\d+)\\.txt");
+
+    /** Общий буферный пул кадров частей таблиц */
+    private final BufferPool bufferPool;
+    /** Способ чтения частей таблиц для каждой базы данных (директории) */
+    private final Map<Path, TableReadMode> readModes = new HashMap<>();
+    /** Доля освободившихся слотов, при которой таблица сжимается после запроса DELETE (0 - не сжимается) */
+    private double autoVacuumRatio;
+    /** Сохранять заполненные части, в которые больше не дописываются записи, в сжатом виде */
+    private boolean compressFullParts;
+
+    /** Каталоги (содержимое файла базы данных) по нормализованному абсолютному пути файла */
+    private final Map<Path, Catalog> catalogs = new HashMap<>();
+    /** Блокировки директорий баз данных, удерживаемые этим процессом */
+    private final Map<Path, FileLock> databaseLocks = new HashMap<>();
+
+    /** Открытые таблицы по нормализованному абсолютному пути головного файла (LRU) */
+    private final Map<Path, TableHandle> openTables = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, TableHandle> eldest) {
+            if (size() > MAX_OPEN_TABLES) {
+                eldest.getValue().close();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public DataRepositoryImpl() {
+        this(BufferPool.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param bufferPoolCapacity количество кадров буферного пула
+     */
+    public DataRepositoryImpl(int bufferPoolCapacity) {
+        this(bufferPoolCapacity, BufferPool.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param bufferPoolCapacity количество кадров буферного пула
+     * @param bufferPoolBytes наибольший объём образов кадров буферного пула в куче
+     */
+    public DataRepositoryImpl(int bufferPoolCapacity, long bufferPoolBytes) {
+        this.bufferPool = new BufferPool(bufferPoolCapacity, bufferPoolBytes);
+    }
+
+    /**
+     * Буферный пул репозитория (размер и счётчики попаданий/промахов).
+     */
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * Задаёт способ чтения частей таблиц базы данных: копирование в буферный
+     * пул или отображение файлов в память. Открытые таблицы базы переоткрываются.
+     *
+     * @param databasePath директория базы данных
+     * @param readMode способ чтения
+     */
+    public void setReadMode(Path databasePath, TableReadMode readMode) {
+        Path key = databasePath.toAbsolutePath().normalize();
+        readModes.put(key, readMode);
+
+        for (Path tablePath : new ArrayList<>(openTables.keySet())) {
+            if (key.equals(tablePath.getParent())) {
+                closeTable(tablePath.toString());
+            }
+        }
+    }
+
+    private TableReadMode getReadMode(Path tablePath) {
+        return readModes.getOrDefault(tablePath.getParent(), TableReadMode.BUFFERED);
+    }
+
+    /**
+     * Возвращает открытую таблицу, переиспользуя ранее открытые файлы.
+     * Если головной файл был удалён или подменён, таблица открывается заново.
+     *
+     * @param tablePath путь к головному файлу таблицы
+     * @throws FileNotFoundException если файла таблицы не существует
+     */
+    private TableHandle openTable(String tablePath) throws IOException {
+        // Каждое обращение к таблице - новая операция для буферного пула
+        bufferPool.beginOperation();
+
+        Path key = Paths.get(tablePath).toAbsolutePath().normalize();
+        TableHandle handle = openTables.get(key);
+        if (handle != null) {
+            if (handle.isValid()) {
+                return handle;
+            }
+            openTables.remove(key);
+            handle.close();
+        }
+
+        if (!Files.exists(key)) {
+            throw new FileNotFoundException("Table file not found: " + key);
+        }
+        handle = new TableHandle(key, getReadMode(key), MAX_OPEN_PARTS_PER_TABLE);
+        openTables.put(key, handle);
+        return handle;
+    }
+
+    /**
+     * Закрывает все открытые файлы таблицы. Должен вызываться перед тем, как
+     * файлы таблицы заменяются или удаляются в обход репозитория.
+     *
+     * @param tablePath путь к головному файлу таблицы
+     */
+    @Override
+    public void closeTable(String tablePath) {
+        Path key = Paths.get(tablePath).toAbsolutePath().normalize();
+        bufferPool.invalidate(key);
+        TableHandle handle = openTables.remove(key);
+        if (handle != null) {
+            handle.close();
+        }
+    }
+
+    /**
+     * Закрепляет в буферном пуле кадр части открытой таблицы
+     */
+    private PageFrame pin(TableHandle handle, String partPath) throws IOException {
+        return bufferPool.pin(handle, Paths.get(partPath).toAbsolutePath().normalize());
+    }
+
+    /**
+     * Закрепляет кадр части, если её файл существует, иначе возвращает {@code null}
+     */
+    private PageFrame pinIfExists(TableHandle handle, String partPath) throws IOException {
+        if (partPath == null) {
+            return null;
+        }
+        try {
+            return pin(handle, partPath);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Открепляет кадр, записывая его изменения на диск
+     */
+    private void unpin(TableHandle handle, PageFrame frame) throws IOException {
+        bufferPool.unpin(handle, frame);
+    }
 
     /**
      * Создает новый файл базы данных в формате TXT с указанным именем.
@@ -56,13 +320,9 @@ public class DataRepositoryImpl implements DataRepository {
             throw new IllegalArgumentException("Database name must be 50 characters or less");
         }
 
-        try (RandomAccessFile file = new RandomAccessFile(dbFilePath, "rw")) {
-            byte[] nameBytes = dbName.getBytes(StandardCharsets.UTF_8);
-            byte[] paddedName = new byte[50];
-            System.arraycopy(nameBytes, 0, paddedName, 0, Math.min(nameBytes.length, 50));
-            file.write(paddedName);
-            file.writeInt(0);
-        }
+        Path dbPath = Paths.get(dbFilePath).toAbsolutePath().normalize();
+        Catalog.create(dbPath, dbName);
+        catalogs.remove(dbPath);
     }
 
     /**
@@ -87,35 +347,16 @@ public class DataRepositoryImpl implements DataRepository {
             throw new FileNotFoundException("Table file not found: " + tablePath);
         }
 
-        try (RandomAccessFile file = new RandomAccessFile(dbFilePath, "rw")) {
-            if (file.length() < DB_HEADER_SIZE) {
-                throw new IOException("Corrupted database file");
-            }
-
-            file.seek(50);
-            int tableCount = file.readInt();
-
-            long newPointerOffset = DB_HEADER_SIZE + (long) tableCount * DB_POINTER_SIZE;
-            if (newPointerOffset + DB_POINTER_SIZE > TABLE_MAX_SIZE) {
-                throw new IllegalStateException("Database cannot contain more tables");
-            }
-
-            String pathToStore = tablePath.toString();
-            byte[] pathBytes = pathToStore.getBytes(StandardCharsets.UTF_8);
-
-            if (pathBytes.length > DB_POINTER_SIZE) {
-                throw new IllegalArgumentException("Table path exceeds maximum length");
-            }
-            if (isTableExists(dbFilePath, pathToStore)) {
-                throw new IllegalArgumentException("Table reference already exists in database: " + pathToStore);
-            }
-            file.seek(50);
-            file.writeInt(tableCount + 1);
+        if (getCatalog(dbPath).contains(tablePath)) {
+            throw new IllegalArgumentException("Table reference already exists in database: " + tablePath);
+        }
 
-            file.seek(newPointerOffset);
-            byte[] pointer = new byte[DB_POINTER_SIZE];
-            System.arraycopy(pathBytes, 0, pointer, 0, pathBytes.length);
-            file.write(pointer);
+        Catalog catalog = getWritableCatalog(dbPath);
+        try {
+            catalog.add(tablePath, readCatalogSchema(tablePath));
+        } catch (IOException e) {
+            catalogs.remove(dbPath);
+            throw e;
         }
     }
 
@@ -143,33 +384,86 @@ public class DataRepositoryImpl implements DataRepository {
             searchPath = searchPath.normalize();
         }
 
-        String searchPathStr = searchPath.toString();
-        try (RandomAccessFile file = new RandomAccessFile(dbPath.toFile(), "r")) {
-            if (file.length() < DB_HEADER_SIZE) {
-                throw new IOException("Corrupted database file");
-            }
+        return getCatalog(dbPath).contains(searchPath);
+    }
 
-            file.seek(50);
-            int tableCount = file.readInt();
+    /**
+     * Запоминает блокировку директории базы данных, удерживаемую этим процессом.
+     * Пока блокировка действует, файл базы данных никто другой не меняет, и его
+     * содержимое берётся из памяти без сверки с диском.
+     *
+     * @param databasePath директория базы данных
+     * @param lock блокировка файла {@code .lock} директории
+     */
+    @Override
+    public void setDatabaseLock(Path databasePath, FileLock lock) {
+        databaseLocks.put(databasePath.toAbsolutePath().normalize(), lock);
+    }
 
-            long requiredSize = DB_HEADER_SIZE + (long) tableCount * DB_POINTER_SIZE;
-            if (file.length() < requiredSize) {
-                throw new IOException("Corrupted database file: invalid table count");
-            }
+    /**
+     * Каталог файла базы данных. Читается с диска при первом обращении и заново,
+     * если файл изменён в обход репозитория (когда директория не заблокирована этим процессом).
+     *
+     * @param dbPath нормализованный абсолютный путь к файлу базы данных
+     */
+    private Catalog getCatalog(Path dbPath) throws IOException {
+        Catalog catalog = catalogs.get(dbPath);
+        FileLock lock = databaseLocks.get(dbPath.getParent());
+        if (catalog != null && lock != null && lock.isValid()) {
+            return catalog;
+        }
 
-            file.seek(DB_HEADER_SIZE);
-            byte[] pointerBuffer = new byte[DB_POINTER_SIZE];
+        BasicFileAttributes attributes = Files.readAttributes(dbPath, BasicFileAttributes.class);
+        if (catalog != null && catalog.matches(attributes)) {
+            return catalog;
+        }
 
-            for (int i = 0; i < tableCount; i++) {
-                file.readFully(pointerBuffer);
-                String storedPath = new String(pointerBuffer, StandardCharsets.UTF_8).trim();
+        catalog = Catalog.read(dbPath, attributes);
+        catalogs.put(dbPath, catalog);
+        return catalog;
+    }
 
-                if (searchPathStr.equals(storedPath)) {
-                    return true;
-                }
+    /**
+     * Каталог файла базы данных, готовый к изменению. Файл прежнего формата при первом
+     * изменении переписывается в новом, схемы таблиц читаются из их заголовков.
+     *
+     * @param dbPath нормализованный абсолютный путь к файлу базы данных
+     */
+    private Catalog getWritableCatalog(Path dbPath) throws IOException {
+        Catalog catalog = getCatalog(dbPath);
+        if (!catalog.isLegacy()) {
+            return catalog;
+        }
+
+        for (Catalog.Entry entry : catalog.getEntries()) {
+            entry.setSchema(readCatalogSchema(Paths.get(entry.getPath())));
+        }
+        try {
+            catalog = catalog.migrate();
+        } catch (IOException e) {
+            catalogs.remove(dbPath);
+            throw e;
+        }
+        catalogs.put(dbPath, catalog);
+        return catalog;
+    }
+
+    /**
+     * Читает из заголовка таблицы схему для каталога. Если заголовок не читается, схема пуста:
+     * таблица регистрируется и без неё.
+     */
+    private List<String> readCatalogSchema(Path tablePath) {
+        try (RandomAccessFile file = new RandomAccessFile(tablePath.toFile(), "r")) {
+            if (file.length() < TABLE_HEADER_SIZE) {
+                return List.of();
             }
+            byte[] schemaBytes = new byte[TABLE_SCHEMA_SIZE];
+            file.seek(TABLE_SCHEMA_OFFSET);
+            file.readFully(schemaBytes);
+            return decodeSchema(schemaBytes);
+        } catch (IOException e) {
+            return List.of();
         }
-        return false;
     }
 
     /**
@@ -183,7 +477,43 @@ public class DataRepositoryImpl implements DataRepository {
      */
     @Override
     public void createTableFile(String tableFilePath, String tableName, List<String> schema) throws IOException {
+        createTableFile(tableFilePath, tableName, schema, 0);
+    }
+
+    /**
+     * Создает файл таблицы с указанной схемой и размером частей.
+     *
+     * @param tableFilePath абсолютный путь к файлу таблицы (с расширением .txt)
+     * @param tableName название таблицы (максимум 50 байт в UTF-8)
+     * @param schema схема таблицы (список полей формата "int" или "str_<длина>")
+     * @param pageSize размер каждой части таблицы в байтах; 0 - выбрать по ширине записи
+     * @throws IOException если произошла ошибка ввода-вывода
+     * @throws IllegalArgumentException если параметры невалидны или в часть не помещается запись
+     */
+    @Override
+    public void createTableFile(String tableFilePath, String tableName, List<String> schema, int pageSize)
+            throws IOException {
+        createTableFile(tableFilePath, tableName, schema, pageSize, RowFormat.FIXED);
+    }
+
+    /**
+     * Создает файл таблицы с указанной схемой, размером частей и форматом записи.
+     *
+     * @param tableFilePath абсолютный путь к файлу таблицы (с расширением .txt)
+     * @param tableName название таблицы (максимум 50 байт в UTF-8)
+     * @param schema схема таблицы (список полей формата "int" или "str_<длина>")
+     * @param pageSize размер каждой части таблицы в байтах; 0 - выбрать по ширине записи
+     * @param format формат записи: строки полной ширины, короткие строки с файлом переполнения
+     *               или поколоночное хранение в сегментах столбцов
+     * @throws IOException если произошла ошибка ввода-вывода
+     * @throws IllegalArgumentException если параметры невалидны или в часть не помещается запись
+     */
+    @Override
+    public void createTableFile(String tableFilePath, String tableName, List<String> schema, int pageSize,
+                                RowFormat format) throws IOException {
         validateSchema(schema);
+        pageSize = choosePageSize(TableLayout.compile(schema, format), pageSize);
+        byte[] schemaBytes = encodeSchema(schema);
 
         Path path = Paths.get(tableFilePath).getParent();
         if (path != null && !Files.exists(path)) {
@@ -203,10 +533,12 @@ public class DataRepositoryImpl implements DataRepository {
         }
 
         // Создаем файл таблицы
+        closeTable(tableFilePath);
         try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "rw")) {
-            byte[] buffer = new byte[TABLE_MAX_SIZE];
-            file.write(buffer);
-            file.seek(0);
+            // Файл расширяется без записи нулей: незаписанное место читается нулями.
+            // Поколоночная таблица хранит в головном файле только заголовок
+            file.setLength(0);
+            file.setLength(format == RowFormat.COLUMNAR ? TABLE_HEADER_SIZE : pageSize);
 
             byte[] nameBytes = tableName.getBytes(StandardCharsets.UTF_8);
             byte[] paddedName = new byte[50];
@@ -216,19 +548,56 @@ public class DataRepositoryImpl implements DataRepository {
             file.writeInt(0);
             file.writeInt(0);
 
-            byte[] schemaBytes = encodeSchema(schema);
-            byte[] paddedSchema = new byte[TABLE_SCHEMA_SIZE];
-            System.arraycopy(schemaBytes, 0, paddedSchema, 0, Math.min(schemaBytes.length, TABLE_SCHEMA_SIZE));
-            file.write(paddedSchema);
+            file.write(schemaBytes);
 
             byte[] emptyPointer = new byte[TABLE_POINTER_SIZE];
             file.write(emptyPointer);
+
+            file.seek(TABLE_PAGE_SIZE_OFFSET);
+            file.writeInt(pageSize);
+            file.seek(TABLE_FORMAT_OFFSET);
+            file.writeInt(format.ordinal());
         }
 
         // Добавляем ссылку на таблицу в Master DB
         addTableReference(masterDbPath, tableFilePath);
     }
 
+    /**
+     * Проверяет заданный размер части или выбирает его по ширине записи: наименьшая
+     * степень двойки, вмещающая {@link #MIN_ROWS_PER_PAGE} записей, в пределах
+     * от {@link #DEFAULT_PAGE_SIZE} до {@link #MAX_DEFAULT_PAGE_SIZE}.
+     */
+    private int choosePageSize(TableLayout layout, int pageSize) {
+        long slotWidth = layout.getRowWidth() + 8L;
+        if (pageSize == 0) {
+            long wanted = Long.highestOneBit(slotWidth * MIN_ROWS_PER_PAGE - 1) << 1;
+            return (int) Math.max(DEFAULT_PAGE_SIZE, Math.min(MAX_DEFAULT_PAGE_SIZE, wanted));
+        }
+
+        if (pageSize < 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + " bytes");
+        }
+        if (pageSize < TABLE_HEADER_SIZE + slotWidth) {
+            throw new IllegalArgumentException("Page size " + pageSize + " is too small for a record of "
+                    + layout.getRowWidth() + " bytes");
+        }
+        return pageSize;
+    }
+
+    /**
+     * Размер частей таблицы из заголовка головного файла. Для таблиц, созданных
+     * до появления поля, размер части равен размеру головного файла.
+     */
+    private int readPageSize(PageFrame head) throws IOException {
+        if (!hasHeaderFields(head)) {
+            return (int) head.length();
+        }
+        head.seek(TABLE_PAGE_SIZE_OFFSET);
+        int pageSize = head.readInt();
+        return pageSize > 0 ? pageSize : (int) head.length();
+    }
+
     /**
      * Удаляет файл базы данных и все связанные с ним таблицы.
      *
@@ -246,35 +615,15 @@ public class DataRepositoryImpl implements DataRepository {
             throw new FileNotFoundException("Database file not found: " + dbPath);
         }
 
-        try (RandomAccessFile dbFile = new RandomAccessFile(dbPath.toFile(), "r")) {
-            if (dbFile.length() < DB_HEADER_SIZE) {
-                throw new IOException("Corrupted database file: too small");
-            }
-
-            dbFile.seek(50);
-            int tableCount = dbFile.readInt();
-
-            long maxPointerOffset = DB_HEADER_SIZE + (long) tableCount * DB_POINTER_SIZE;
-            if (maxPointerOffset > dbFile.length()) {
-                throw new IOException("Corrupted database file: invalid table count");
-            }
-
-            for (int i = 0; i < tableCount; i++) {
-                dbFile.seek(DB_HEADER_SIZE + (long) i * DB_POINTER_SIZE);
-                byte[] pointerBytes = new byte[DB_POINTER_SIZE];
-                dbFile.readFully(pointerBytes);
-                String tablePath = new String(pointerBytes, StandardCharsets.UTF_8).trim();
-
-                if (!tablePath.isEmpty()) {
-                    Path tableFilePath = Paths.get(tablePath).normalize();
-                    if (Files.exists(tableFilePath)) {
-                        deleteTableFile(tableFilePath.toString());
-                    }
-                }
+        for (String tablePath : getCatalog(dbPath).getTablePaths()) {
+            Path tableFilePath = Paths.get(tablePath);
+            if (Files.exists(tableFilePath)) {
+                deleteTableFile(tableFilePath.toString());
             }
         }
 
         Files.deleteIfExists(dbPath);
+        catalogs.remove(dbPath);
     }
 
     /**
@@ -297,6 +646,10 @@ public class DataRepositoryImpl implements DataRepository {
             throw new IOException("Table file is not readable: " + tableFilePath);
         }
 
+        // Файл переполнения и сегменты столбцов удаляются только вместе с головным файлом
+        // <таблица>.txt, но не с его копиями
+        List<Path> ownedFiles = getOwnedTableFiles(tablePath);
+        closeTable(tableFilePath);
 
         Path path = Paths.get(tableFilePath).getParent();
         if (path != null && !Files.exists(path)) {
@@ -313,9 +666,10 @@ public class DataRepositoryImpl implements DataRepository {
 
         List<Path> allTableParts = new ArrayList<>();
         Path currentPart = tablePath;
-        int partsLimit = 1000; //либо больше взять число(чтоб бесконечного цикла не было)
+        Set<Path> visitedParts = new HashSet<>();
 
-        while (currentPart != null && partsLimit --> 0) {
+        while (currentPart != null) {
+            visitPart(visitedParts, currentPart.toString());
             if (!Files.exists(currentPart)) {
                 throw new IOException("Table part not found: " + currentPart);
             }
@@ -330,24 +684,29 @@ public class DataRepositoryImpl implements DataRepository {
                     continue;
                 }
 
-                tableFile.seek(DB_HEADER_SIZE + TABLE_SCHEMA_SIZE);
                 byte[] pointerBytes = new byte[TABLE_POINTER_SIZE];
-                try {
+                String nextPart = null;
+                if (tableFile.length() >= TABLE_HEADER_SIZE) {
+                    tableFile.seek(TABLE_HEADER_SIZE - TABLE_POINTER_SIZE);
                     tableFile.readFully(pointerBytes);
-                } catch (EOFException e) {
-                    throw new IOException("Corrupted table part: incomplete pointer in " + currentPart, e);
+                    if (pointerBytes[0] == PART_POINTER_MARKER) {
+                        nextPart = decodePartPointer(currentPart, pointerBytes);
+                    }
                 }
-
-                String nextPart = new String(pointerBytes, StandardCharsets.UTF_8).trim();
-                currentPart = nextPart.isEmpty() ? null : Paths.get(nextPart).normalize();
+                if (pointerBytes[0] != PART_POINTER_MARKER) {
+                    tableFile.seek(DB_HEADER_SIZE + TABLE_SCHEMA_SIZE);
+                    try {
+                        tableFile.readFully(pointerBytes);
+                    } catch (EOFException e) {
+                        throw new IOException("Corrupted table part: incomplete pointer in " + currentPart, e);
+                    }
+                    nextPart = new String(pointerBytes, StandardCharsets.UTF_8).trim();
+                }
+                currentPart = nextPart == null || nextPart.isEmpty() ? null : Paths.get(nextPart).normalize();
             } catch (IOException e) {
                 throw new IOException("Failed to read next part pointer from " + currentPart, e);
             }
         }
-        // Проверка на слишком большое количество частей
-        if (partsLimit <= 0) {
-            throw new IOException("Too many table parts, possible infinite loop detected");
-        }
 
         List<Path> failedToDelete = new ArrayList<>();
         boolean primaryPartFailed = false;
@@ -363,6 +722,7 @@ public class DataRepositoryImpl implements DataRepository {
                 }
 
                 Files.delete(part);
+                bufferPool.invalidate(part.toAbsolutePath().normalize());
             } catch (IOException e) {
                 failedToDelete.add(allTableParts.get(i));
 
@@ -374,6 +734,13 @@ public class DataRepositoryImpl implements DataRepository {
         if (primaryPartFailed) {
             throw new IOException("Failed to delete primary table part: " + allTableParts);
         }
+        for (Path ownedFile : ownedFiles) {
+            Files.deleteIfExists(ownedFile);
+        }
+        Files.deleteIfExists(getPartDirectoryPath(tablePath));
+        for (Path indexFile : getIndexFiles(tablePath)) {
+            Files.deleteIfExists(indexFile);
+        }
 
         if (!failedToDelete.isEmpty()) {
             throw new IOException("Failed to delete some table parts: " + failedToDelete);
@@ -399,51 +766,16 @@ public class DataRepositoryImpl implements DataRepository {
             throw new FileNotFoundException("Database file not found");
         }
 
-        try (RandomAccessFile file = new RandomAccessFile(dbFilePath, "rw")) {
-            if (file.length() < DB_HEADER_SIZE) {
-                throw new IOException("Corrupted database file");
-            }
-
-            file.seek(50);
-            int tableCount = file.readInt();
-
-            List<String> remainingTables = new ArrayList<>(tableCount);
-            byte[] pointerBuffer = new byte[DB_POINTER_SIZE];
-            for (int i = 0; i < tableCount; i++) {
-                file.seek(DB_HEADER_SIZE + (long) i * DB_POINTER_SIZE);
-                file.readFully(pointerBuffer);
-
-                Path currentPath = Paths.get(
-                        new String(pointerBuffer, StandardCharsets.UTF_8).trim()
-                ).normalize();
-
-                if (!currentPath.equals(targetPath)) {
-                    remainingTables.add(currentPath.toString());
-                }
-            }
-
-            if (remainingTables.size() == tableCount) {
-                return;
-            }
-
-            file.seek(50);
-            file.writeInt(remainingTables.size());
-
-            byte[] allPointers = new byte[remainingTables.size() * DB_POINTER_SIZE];
-            for (int i = 0; i < remainingTables.size(); i++) {
-                byte[] pathBytes = remainingTables.get(i).getBytes(StandardCharsets.UTF_8);
-                System.arraycopy(
-                        pathBytes, 0,
-                        allPointers, i * DB_POINTER_SIZE,
-                        Math.min(pathBytes.length, DB_POINTER_SIZE)
-                );
-            }
-
-            file.seek(DB_HEADER_SIZE);
-            file.write(allPointers);
+        Path catalogPath = dbPath.toAbsolutePath().normalize();
+        if (!getCatalog(catalogPath).contains(targetPath)) {
+            return;
+        }
 
-            // Усечение файла
-            file.setLength(DB_HEADER_SIZE + (long) remainingTables.size() * DB_POINTER_SIZE);
+        try {
+            getWritableCatalog(catalogPath).remove(targetPath);
+        } catch (IOException e) {
+            catalogs.remove(catalogPath);
+            throw e;
         }
     }
 
@@ -460,34 +792,38 @@ public class DataRepositoryImpl implements DataRepository {
     //}
 
     /**
-     * Кодирует схему таблицы в бинарный формат
+     * Кодирует проверенную схему таблицы в блок схемы заголовка версии {@link #TABLE_HEADER_VERSION}.
+     * Схема из {@link #MAX_SCHEMA_FIELDS} полей занимает 42 байта и не доходит до служебных полей.
      */
-    private byte[] encodeSchema(List<String> schema) throws IOException {
+    private byte[] encodeSchema(List<String> schema) {
+        ByteBuffer block = ByteBuffer.allocate(TABLE_SCHEMA_SIZE);
+        block.put(TABLE_HEADER_VERSION);
+        block.put((byte) schema.size());
         for (String field : schema) {
-            if (field.contains(";")) {
-                throw new IllegalArgumentException("Field cannot contain ';' character: " + field);
-            }
+            block.putShort(field.equals("int") ? 0 : (short) Integer.parseInt(field.substring(4)));
         }
-
-        String schemaStr = String.join(";", schema);
-        byte[] schemaBytes = schemaStr.getBytes(StandardCharsets.UTF_8);
-        if (schemaBytes.length > TABLE_SCHEMA_SIZE) {
-            throw new IOException("Schema too large (" + schemaBytes.length +
-                    " bytes), maximum is " + TABLE_SCHEMA_SIZE);
-        }
-
-        byte[] paddedSchema = new byte[TABLE_SCHEMA_SIZE];
-        Arrays.fill(paddedSchema, (byte) 0);
-        System.arraycopy(schemaBytes, 0, paddedSchema, 0, schemaBytes.length);
-        return paddedSchema;
+        return block.array();
     }
 
     /**
-     * Декодирует схему таблицы из бинарного формата
+     * Декодирует схему таблицы из блока схемы заголовка: двоичного в заголовке
+     * версии {@link #TABLE_HEADER_VERSION} или текстового в заголовке прежнего формата
      */
     private List<String> decodeSchema(byte[] schemaBytes) {
+        if (schemaBytes[0] == TABLE_HEADER_VERSION) {
+            ByteBuffer block = ByteBuffer.wrap(schemaBytes);
+            int fieldCount = block.get(1);
+            List<String> schema = new ArrayList<>(fieldCount);
+            block.position(2);
+            for (int i = 0; i < fieldCount; i++) {
+                int length = block.getShort();
+                schema.add(length == 0 ? "int" : "str_" + length);
+            }
+            return schema;
+        }
+
         int length = 0;
-        while (length < schemaBytes.length && schemaBytes[length] != 0) {
+        while (length < TABLE_SCHEMA_SIZE && schemaBytes[length] != 0) {
             length++;
         }
 
@@ -497,6 +833,23 @@ public class DataRepositoryImpl implements DataRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Проверяет, есть ли в заголовке файла таблицы служебные поля: положение хвоста, размер
+     * частей, свободные слоты и формат записи. В заголовке версии {@link #TABLE_HEADER_VERSION}
+     * поля есть всегда. В заголовке прежнего формата они есть только у таблиц со схемой
+     * не длиннее {@link #TABLE_SCHEMA_TEXT_SIZE} байт - за текстом такой схемы стоит нулевой
+     * байт; у остальных конец блока занят текстом, и поля считаются незаписанными.
+     *
+     * @param header буфер, начинающийся с заголовка файла таблицы
+     */
+    static boolean hasHeaderFields(ByteBuffer header) {
+        return header.get(TABLE_SCHEMA_OFFSET) == TABLE_HEADER_VERSION || header.get(TABLE_TAIL_OFFSET - 1) == 0;
+    }
+
+    private boolean hasHeaderFields(PageFrame file) {
+        return file.length() >= TABLE_HEADER_SIZE && hasHeaderFields(file.getBuffer());
+    }
+
     /**
      * Проверяет корректность схемы таблицы.
      * @param schema Список полей в формате:
@@ -537,15 +890,90 @@ public class DataRepositoryImpl implements DataRepository {
         }
     }
 
+    /**
+     * Возвращает раскладку записи открытой таблицы, читая схему из головного файла один раз
+     */
+    private TableLayout getTableLayout(TableHandle handle) throws IOException {
+        if (handle.getLayout() == null) {
+            PageFrame head = pin(handle, handle.getHeadPath().toString());
+            try {
+                TableLayout layout = TableLayout.compile(getTableSchema(head), readRowFormat(head));
+                // Копия головы (временная таблица транзакции) хранит то же имя и делит файлы с оригиналом
+                if (layout.getFormat() == RowFormat.VARLEN) {
+                    handle.setOverflowPath(getOverflowPath(handle.getHeadPath(), readTableName(head)));
+                } else if (layout.getFormat() == RowFormat.COLUMNAR) {
+                    Path base = handle.getHeadPath().resolveSibling(readTableName(head));
+                    head.seek(COLUMNAR_GENERATION_OFFSET);
+                    handle.setColumnarTable(new ColumnarTable(handle, layout, base, head.readInt()));
+                }
+                handle.setLayout(layout);
+            } finally {
+                unpin(handle, head);
+            }
+        }
+        return handle.getLayout();
+    }
+
+    /**
+     * Формат записи таблицы из заголовка головного файла
+     */
+    private RowFormat readRowFormat(PageFrame head) throws IOException {
+        if (!hasHeaderFields(head)) {
+            return RowFormat.FIXED;
+        }
+        head.seek(TABLE_FORMAT_OFFSET);
+        int version = head.readInt();
+        if (version < 0 || version >= RowFormat.values().length) {
+            throw new IOException("Unsupported row format version " + version + ": " + head.getPath());
+        }
+        return RowFormat.values()[version];
+    }
+
+    /**
+     * Файл переполнения таблицы: {@code <таблица>.overflow} рядом с головным файлом
+     */
+    private Path getOverflowPath(Path headPath, String tableName) {
+        return headPath.toAbsolutePath().normalize().resolveSibling(tableName + OVERFLOW_FILE_SUFFIX);
+    }
+
+    /**
+     * Файлы, принадлежащие головному файлу: переполнение и сегменты столбцов. Пусто, если файл
+     * не является основным файлом таблицы {@code <таблица>.txt} (например, это копия транзакции)
+     */
+    private List<Path> getOwnedTableFiles(Path headPath) throws IOException {
+        byte[] nameBytes = new byte[50];
+        ByteBuffer header = ByteBuffer.allocate(TABLE_FORMAT_OFFSET + 4);
+        try (RandomAccessFile file = new RandomAccessFile(headPath.toFile(), "r")) {
+            if (file.length() < header.capacity()) {
+                return List.of();
+            }
+            file.readFully(header.array());
+        }
+        header.get(0, nameBytes);
+        int version = hasHeaderFields(header) ? header.getInt(TABLE_FORMAT_OFFSET) : 0;
+
+        String tableName = new String(nameBytes, StandardCharsets.UTF_8).trim();
+        if (tableName.isEmpty() || !headPath.getFileName().toString().equals(tableName + ".txt")) {
+            return List.of();
+        }
+
+        List<Path> files = new ArrayList<>();
+        files.add(getOverflowPath(headPath, tableName));
+        if (version == RowFormat.COLUMNAR.ordinal()) {
+            files.addAll(getColumnarTable(openTable(headPath.toString())).getFiles());
+        }
+        return files;
+    }
+
     /**
      * Читает схему таблицы из файла
      */
-    private List<String> getTableSchema(RandomAccessFile file) throws IOException {
+    private List<String> getTableSchema(PageFrame file) throws IOException {
         if (file.length() < TABLE_HEADER_SIZE) {
             throw new IOException("File too small to contain schema");
         }
 
-        file.seek(TABLE_HEADER_SIZE - TABLE_SCHEMA_SIZE - TABLE_POINTER_SIZE);
+        file.seek(TABLE_SCHEMA_OFFSET);
         byte[] schemaBytes = new byte[TABLE_SCHEMA_SIZE];
         file.readFully(schemaBytes);
         return decodeSchema(schemaBytes);
@@ -554,32 +982,31 @@ public class DataRepositoryImpl implements DataRepository {
     /**
      * Проверяет соответствие данных схеме таблицы
      */
-    private void validateDataAgainstSchema(List<Object> data, List<String> schema) {
-        if (data == null || schema == null) {
+    private void validateDataAgainstSchema(List<Object> data, TableLayout layout) {
+        if (data == null || layout == null) {
             throw new IllegalArgumentException("Data and schema cannot be null");
         }
 
-        if (data.size() != schema.size()) {
+        if (data.size() != layout.getFieldCount()) {
             throw new IllegalArgumentException(
                     String.format("Data size (%d) doesn't match schema size (%d)",
-            data.size(), schema.size()));
+            data.size(), layout.getFieldCount()));
         }
 
-        for (int i = 0; i < schema.size(); i++) {
-            String fieldType = schema.get(i);
+        for (int i = 0; i < layout.getFieldCount(); i++) {
             Object value = data.get(i);
 
-            if (fieldType.equals("int")) {
+            if (layout.isInt(i)) {
                 if (!(value instanceof Integer)) {
                     throw new IllegalArgumentException(
                             String.format("Field %d must be Integer, got %s",
                     i, value.getClass().getSimpleName()));
                 }
-            } else if (fieldType.startsWith("str_")) {
+            } else {
                 if (!(value instanceof String)) {
                     throw new IllegalArgumentException("Field " + i + " must be String");
                 }
-                int maxLength = Integer.parseInt(fieldType.substring(4));
+                int maxLength = layout.getMaxLength(i);
                 if (((String)value).length() > maxLength) {
                     throw new IllegalArgumentException("String too long for field " + i +
                             ", max length: " + maxLength);
@@ -599,89 +1026,586 @@ public class DataRepositoryImpl implements DataRepository {
     public void addRecord(String tablePath, List<Object> data) throws IOException {
         //validateTxtExtension(tablePath);
 
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "rw")) {
-            // Читаем схему и проверяем данные
-            List<String> schema = getTableSchema(file);
-            validateDataAgainstSchema(data, schema);
+        TableHandle handle = openTable(tablePath);
+        // Читаем раскладку записи и проверяем данные
+        TableLayout layout = getTableLayout(handle);
+        validateDataAgainstSchema(data, layout);
+        checkUniqueColumns(handle, layout, List.of(data));
 
-            // Получаем текущее количество записей на этой странице
-            file.seek(50);
-            int recordCountInThisPage = file.readInt();
-            // Получаем текущее количество записей на этой странице
-            int recordCountInTable = file.readInt();
+        addRecords(handle, layout, List.of(data), true);
+    }
 
-            // Определяем позицию для записи данных (после заголовка и существующих данных)
-            long dataPosition;
-            if (recordCountInThisPage == 0) {
-                dataPosition = TABLE_HEADER_SIZE;
-            } else {
-                // Переходим к началу индекса смещений
-                file.seek(file.length() - recordCountInThisPage * 8L);
+    /**
+     * Добавляет в таблицу пакет записей. Данные проверяются по схеме один раз до записи,
+     * записи раскладываются по частям в памяти, а каждая новая заполненная часть
+     * записывается на диск целиком одной операцией вместе с индексом смещений и заголовком.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param rows записи в порядке добавления
+     * @throws IOException при ошибках ввода-вывода
+     * @throws IllegalArgumentException если хотя бы одна запись не соответствует схеме
+     */
+    @Override
+    public void addRecords(String tablePath, List<List<Object>> rows) throws IOException {
+        addRecords(tablePath, rows, true);
+    }
 
-                // Читаем последнее смещение и вычисляем конец данных
-                long lastOffset = file.readLong();
+    /**
+     * Дописывает пакет записей в конец таблицы, не занимая слоты, освободившиеся после
+     * удалений. Записанные так записи получают номера подряд после уже имеющихся, поэтому
+     * загрузку можно отменить через {@link #truncateTable(String, int)}.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param rows записи в порядке добавления
+     * @throws IOException при ошибках ввода-вывода
+     * @throws IllegalArgumentException если хотя бы одна запись не соответствует схеме
+     */
+    @Override
+    public void appendRecords(String tablePath, List<List<Object>> rows) throws IOException {
+        addRecords(tablePath, rows, false);
+    }
 
-                file.seek(lastOffset);
-                dataPosition = file.getFilePointer() + calculateRecordSize(schema, data);
-            }
+    private void addRecords(String tablePath, List<List<Object>> rows, boolean reuseFreeSlots) throws IOException {
+        //validateTxtExtension(tablePath);
 
-            //Если нужна новая страница
-            if(dataPosition + calculateRecordSize(schema, data) >= file.length() - (recordCountInThisPage + 1) * 8L){
+        if (rows == null) {
+            throw new IllegalArgumentException("Rows cannot be null");
+        }
+
+        TableHandle handle = openTable(tablePath);
+        TableLayout layout = getTableLayout(handle);
+        for (List<Object> data : rows) {
+            validateDataAgainstSchema(data, layout);
+        }
+
+        if (!rows.isEmpty()) {
+            checkUniqueColumns(handle, layout, rows);
+            addRecords(handle, layout, rows, reuseFreeSlots);
+        }
+    }
 
-                String nextTablePath = getNextTablePartPath(file);
+    /**
+     * Дописывает записи в хвостовую часть открытой таблицы. Хвост и свободное место
+     * в нём берутся из заголовка головного файла, поэтому вставка меняет только
+     * хвостовую часть и общий счётчик записей в голове. Записи, не поместившиеся
+     * в хвост, раскладываются по новым частям, собранным в памяти.
+     *
+     * @param reuseFreeSlots занимать ли сначала слоты, освободившиеся после удалений
+     */
+    private void addRecords(TableHandle handle, TableLayout layout, List<List<Object>> rows,
+                            boolean reuseFreeSlots) throws IOException {
+        if (handle.getColumnarTable() != null) {
+            addColumnarRecords(handle, rows);
+            return;
+        }
 
-                if (nextTablePath == null) {
-                    // Создаем новую страницу таблицы
-                    nextTablePath = generateNextTablePartPath(tablePath);
+        Path filledPart = null;
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            syncPartDirectory(handle, head);
+            List<TableIndex> indexes = getIndexes(handle, head);
+            // Адреса записанных записей для индексов столбцов
+            RowId[] rowIds = indexes.isEmpty() ? null : new RowId[rows.size()];
+            head.seek(54);
+            int recordCountInTable = head.readInt();
+
+            TableTail tail = findTableTail(handle, head, layout);
+
+            // Сначала занимаем слоты, освободившиеся после удалений, затем дописываем в хвост
+            int written = 0;
+            long freeSlots = reuseFreeSlots ? countFreeSlots(head, layout, tail, recordCountInTable) : 0;
+            if (freeSlots > 0) {
+                written = reuseFreeSlots(handle, head, layout, rows, rowIds, tail, freeSlots);
+            }
 
-                    // Читаем параметры из текущей таблицы
-                    file.seek(0);
-                    byte[] nameBytes = new byte[50];
-                    file.readFully(nameBytes);
-                    String tableName = new String(nameBytes, StandardCharsets.UTF_8).trim();
+            PageFrame file = tail.isHead() ? head : pin(handle, tail.path);
+            try {
+                int appended = fillTablePart(handle, head, file, layout, rows, rowIds, written, tail.freeOffset);
+                written += appended;
+                tail = new TableTail(tail.path, tail.partNumber, tail.ordinal,
+                        tail.freeOffset + (long) appended * layout.getRowWidth());
+
+                if (written < rows.size()) {
+                    Path base = getPartChainBase(handle, head);
+                    String tableName = readTableName(head);
+                    int pageSize = readPageSize(head);
+                    String firstPartPath = generateNextTablePartPath(base.toString());
+
+                    String partPath = firstPartPath;
+                    PageFrame page = null;
+                    while (written < rows.size()) {
+                        if (page != null) {
+                            // Предыдущая часть записывается, когда известен путь следующей
+                            partPath = generateNextTablePartPath(base, getPartNumber(page.getPath()));
+                            updateNextTablePointer(page, partPath);
+                            writeFullTablePart(page);
+                        }
 
-                    file.seek(50 + 4 + 4); // Пропускаем счетчик записей
-                    byte[] schemaBytes = new byte[TABLE_SCHEMA_SIZE];
-                    file.readFully(schemaBytes);
-                    List<String> tableSchema = decodeSchema(schemaBytes);
+                        page = newTablePart(partPath, tableName, recordCountInTable + written, layout,
+                                pageSize, tail.ordinal + 1);
+                        int count = fillTablePart(handle, head, page, layout, rows, rowIds, written,
+                                TABLE_HEADER_SIZE);
+                        if (count == 0) {
+                            throw new IOException("Record does not fit into an empty table part");
+                        }
+                        written += count;
+                        tail = new TableTail(partPath, getPartNumber(page.getPath()), tail.ordinal + 1,
+                                TABLE_HEADER_SIZE + (long) count * layout.getRowWidth());
+                    }
+                    writeTablePart(page);
 
-                    // Обновляем указатель на следующую часть в текущей таблице
-                    createNewTablePart(nextTablePath, tableName, recordCountInTable, tableSchema);
-                    updateNextTablePointer(file, nextTablePath);
+                    // Новые части подключаются к цепочке только после того, как записаны на диск
+                    updateNextTablePointer(file, firstPartPath);
+                    filledPart = file == head ? null : file.getPath();
+                }
+            } finally {
+                if (file != head) {
+                    unpin(handle, file);
                 }
+            }
+
+            // Обновляем общий счетчик и положение хвоста в головном файле
+            head.seek(54);
+            head.writeInt(recordCountInTable + rows.size());
+            writeTableTail(head, tail.partNumber, tail.partNumber < 0 ? 0 : tail.freeOffset);
 
-                file.seek(54);
-                file.writeInt(recordCountInTable + 1);
-                // Добавляем запись в новую страницу
-                addRecord(nextTablePath, data);
+            List<TableIndex> updated = new ArrayList<>(indexes.size());
+            for (TableIndex index : indexes) {
+                if (insertIntoIndex(index, rows, rowIds)) {
+                    updated.add(index);
+                }
             }
-            //Если вмещается на эту страницу
-            else {
+            stampIndexes(updated, stampTable(handle, head));
+        } catch (IOException | RuntimeException e) {
+            handle.setPartDirectory(null);
+            invalidateIndexes(handle);
+            throw e;
+        } finally {
+            unpin(handle, head);
+        }
+
+        // Бывший хвост заполнен и больше не получает дописываемых записей
+        if (filledPart != null && compressFullParts) {
+            compressTablePart(handle, filledPart);
+        }
+    }
 
-                // Записываем данные
-                file.seek(dataPosition);
-                writeData(file, data, schema);
+    /**
+     * Дописывает в часть подряд идущие записи начиная с {@code from}, пока они помещаются
+     * между концом данных и индексом смещений.
+     *
+     * @param head       закреплённый головной файл со счётчиком поколений слотов
+     * @param rowIds     адреса записанных записей по номерам в {@code rows}; {@code null} - не нужны
+     * @param freeOffset смещение, с которого пишется первая запись
+     * @return количество записанных записей
+     */
+    private int fillTablePart(TableHandle handle, PageFrame head, PageFrame file, TableLayout layout,
+                              List<List<Object>> rows, RowId[] rowIds, int from, long freeOffset) throws IOException {
+        file.seek(50);
+        int recordCountInThisPage = file.readInt();
+
+        int count = 0;
+        long dataPosition = freeOffset;
+        while (from + count < rows.size()
+                && dataPosition + layout.getRowWidth() < file.length() - (recordCountInThisPage + count + 1) * 8L) {
+            // Записываем данные
+            file.seek(dataPosition);
+            writeData(handle, file, rows.get(from + count), layout);
+
+            // Добавляем смещение в конец файла
+            long entry = toOffsetEntry(dataPosition, nextSlotGeneration(head));
+            file.seek(file.length() - (recordCountInThisPage + count + 1) * 8L);
+            file.writeLong(entry);
+            if (rowIds != null) {
+                rowIds[from + count] = toRowId(handle, file, layout, entry);
+            }
 
-                // Добавляем смещение в конец файла
-                long offsetPosition = file.length() - (recordCountInThisPage + 1) * 8L;
-                file.seek(offsetPosition);
-                file.writeLong(dataPosition);
+            dataPosition += layout.getRowWidth();
+            count++;
+        }
 
-                // Обновляем счетчик записей
-                file.seek(50);
-                file.writeInt(recordCountInThisPage + 1);
-                file.writeInt(recordCountInTable + 1);
+        // Обновляем счетчик записей части
+        writePartRecordCount(handle, file, recordCountInThisPage + count);
+        return count;
+    }
+
+    /**
+     * Количество слотов таблицы, освободившихся после удалений. Все части, кроме хвоста,
+     * при создании заполняются целиком, поэтому число когда-либо занятых слотов
+     * вычисляется по положению хвоста в цепочке и свободному месту в нём.
+     */
+    private long countFreeSlots(PageFrame head, TableLayout layout, TableTail tail, int recordCountInTable)
+            throws IOException {
+        // Без счётчика поколений занятый заново слот не отличить от прежнего, поэтому
+        // освободившиеся слоты таблиц с заголовком прежнего формата не переиспользуются
+        if (tail.partNumber < 0 || !hasSlotGenerations(head)) {
+            return 0;
+        }
+        long slotsBeforeTail = (long) tail.ordinal * getPartCapacity(readPageSize(head), layout);
+        long slotsInTail = (tail.freeOffset - TABLE_HEADER_SIZE) / layout.getRowWidth();
+        return slotsBeforeTail + slotsInTail - recordCountInTable;
+    }
+
+    /**
+     * Количество записей, помещающихся в часть указанного размера вместе с индексом смещений
+     */
+    private int getPartCapacity(long partSize, TableLayout layout) {
+        return (int) ((partSize - TABLE_HEADER_SIZE - 1) / (layout.getRowWidth() + 8));
+    }
+
+    /**
+     * Размещает записи в освободившихся слотах частей до хвоста включительно. Цепочка
+     * проходится от части из подсказки открытой таблицы и, если свободные слоты ещё
+     * остались, от головы до этой части.
+     *
+     * @return количество размещённых записей
+     */
+    private int reuseFreeSlots(TableHandle handle, PageFrame head, TableLayout layout, List<List<Object>> rows,
+                               RowId[] rowIds, TableTail tail, long freeSlots) throws IOException {
+        Path headPath = head.getPath();
+        Path tailPath = Paths.get(tail.path).toAbsolutePath().normalize();
+        Path startPath = handle.getFreeSlotsHintPath() != null && handle.getFreeSlotsHint() <= tail.ordinal
+                ? handle.getFreeSlotsHintPath()
+                : headPath;
+        int written = 0;
+
+        for (int pass = 0; pass < 2; pass++) {
+            if (pass == 1 && startPath.equals(headPath)) {
+                break;
+            }
+            Path partPath = pass == 0 ? startPath : headPath;
+            Path stopPath = pass == 0 ? null : startPath;
+
+            Set<Path> visitedParts = new HashSet<>();
+            while (partPath != null && !partPath.equals(stopPath)) {
+                if (written == rows.size() || freeSlots <= 0) {
+                    return written;
+                }
+                visitPart(visitedParts, partPath.toString());
+
+                PageFrame file = partPath.equals(headPath) ? head : pinIfExists(handle, partPath.toString());
+                if (file == null) {
+                    // Часть из подсказки уже удалена
+                    break;
+                }
+                try {
+                    boolean isTail = partPath.equals(tailPath);
+                    long limit = isTail
+                            ? tail.freeOffset
+                            : TABLE_HEADER_SIZE + (long) getPartCapacity(file.length(), layout) * layout.getRowWidth();
+                    int count = fillFreeSlots(handle, head, file, layout, rows, rowIds, written, limit);
+                    written += count;
+                    freeSlots -= count;
+                    handle.setFreeSlotsHint(file == head ? 0 : readPartOrdinal(file), partPath);
+
+                    String nextPath = isTail ? null : getNextTablePartPath(file);
+                    partPath = nextPath == null ? null : Paths.get(nextPath).toAbsolutePath().normalize();
+                } finally {
+                    if (file != head) {
+                        unpin(handle, file);
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Записывает записи в освободившиеся слоты части, если они учтены в её заголовке.
+     * Слот свободен, если на него не ссылается ни одно смещение индекса.
+     *
+     * @param head   закреплённый головной файл со счётчиком поколений слотов
+     * @param rowIds адреса записанных записей по номерам в {@code rows}; {@code null} - не нужны
+     * @param limit  граница, до которой слоты части уже использовались
+     * @return количество записанных записей
+     */
+    private int fillFreeSlots(TableHandle handle, PageFrame head, PageFrame file, TableLayout layout,
+                              List<List<Object>> rows, RowId[] rowIds, int from, long limit) throws IOException {
+        if (!hasHeaderFields(file)) {
+            return 0;
+        }
+        file.seek(TABLE_FREE_SLOTS_OFFSET);
+        int freeSlots = file.readInt();
+        if (freeSlots <= 0) {
+            return 0;
+        }
+
+        file.seek(50);
+        int recordCountInThisPage = file.readInt();
+        int rowWidth = layout.getRowWidth();
+        int capacity = getPartCapacity(file.length(), layout);
+
+        BitSet usedSlots = new BitSet(capacity);
+        file.seek(file.length() - recordCountInThisPage * 8L);
+        for (int i = 0; i < recordCountInThisPage; i++) {
+            long offset = entryOffset(file.readLong()) - TABLE_HEADER_SIZE;
+            if (offset < 0 || offset % rowWidth != 0) {
+                // Записи не выровнены по слотам - место части повторно не используется
+                return 0;
+            }
+            usedSlots.set((int) (offset / rowWidth));
+        }
+
+        int count = 0;
+        int slot = usedSlots.nextClearBit(0);
+        while (from + count < rows.size() && recordCountInThisPage + count < capacity) {
+            long dataPosition = TABLE_HEADER_SIZE + (long) slot * rowWidth;
+            if (dataPosition + rowWidth > limit) {
+                break;
+            }
+
+            file.seek(dataPosition);
+            writeData(handle, file, rows.get(from + count), layout);
+
+            // Смещение добавляется в конец индекса: запись занимает последнюю позицию в части.
+            // Новое поколение отличает её от записи, занимавшей слот до удаления
+            long entry = toOffsetEntry(dataPosition, nextSlotGeneration(head));
+            file.seek(file.length() - (recordCountInThisPage + count + 1) * 8L);
+            file.writeLong(entry);
+            if (rowIds != null) {
+                rowIds[from + count] = toRowId(handle, file, layout, entry);
+            }
+
+            count++;
+            slot = usedSlots.nextClearBit(slot + 1);
+        }
+
+        // Слоты кончились раньше записей - счётчик в заголовке разошёлся с индексом
+        boolean exhausted = from + count < rows.size();
+        writePartRecordCount(handle, file, recordCountInThisPage + count);
+        file.seek(TABLE_FREE_SLOTS_OFFSET);
+        file.writeInt(exhausted ? 0 : freeSlots - count);
+        return count;
+    }
+
+    /**
+     * Хвостовая часть таблицы и начало свободного места в ней
+     */
+    private static class TableTail {
+        /** Путь к файлу части */
+        final String path;
+        /** Номер части {@code _partN} (0 - головной файл, -1 - имя не по шаблону) */
+        final int partNumber;
+        /** Порядковый номер части в цепочке (0 - головной файл) */
+        final int ordinal;
+        /** Смещение, с которого пишется следующая запись */
+        final long freeOffset;
+
+        TableTail(String path, int partNumber, int ordinal, long freeOffset) {
+            this.path = path;
+            this.partNumber = partNumber;
+            this.ordinal = ordinal;
+            this.freeOffset = freeOffset;
+        }
+
+        boolean isHead() {
+            return ordinal == 0;
+        }
+    }
+
+    /**
+     * Находит хвостовую часть таблицы. Положение хвоста из заголовка головного файла
+     * проверяется по самой хвостовой части; если оно не записано (таблица создана
+     * раньше) или не сходится с файлами, цепочка частей проходится от головы.
+     */
+    private TableTail findTableTail(TableHandle handle, PageFrame head, TableLayout layout) throws IOException {
+        int partNumber = 0;
+        long freeOffset = 0;
+        if (hasHeaderFields(head)) {
+            head.seek(TABLE_TAIL_OFFSET);
+            partNumber = head.readInt();
+            freeOffset = head.readInt();
+        }
+
+        if (freeOffset >= TABLE_HEADER_SIZE) {
+            String tailPath = partNumber == 0 ? head.getPath().toString() : getTablePartPath(handle, head, partNumber);
+            PageFrame file = partNumber == 0 ? head : pinIfExists(handle, tailPath);
+            if (file != null) {
+                try {
+                    if (isTableTail(file, layout, freeOffset)) {
+                        int ordinal = file == head ? 0 : readPartOrdinal(file);
+                        return new TableTail(tailPath, partNumber, ordinal, freeOffset);
+                    }
+                } finally {
+                    if (file != head) {
+                        unpin(handle, file);
+                    }
+                }
+            }
+        }
+
+        // Проходим цепочку частей до последней
+        String partPath = head.getPath().toString();
+        int ordinal = 0;
+        Set<Path> visitedParts = new HashSet<>();
+        while (true) {
+            visitPart(visitedParts, partPath);
+            PageFrame file = partPath.equals(head.getPath().toString()) ? head : pin(handle, partPath);
+            try {
+                String nextPath = getNextTablePartPath(file);
+                if (nextPath == null) {
+                    file.seek(50);
+                    int recordCountInThisPage = file.readInt();
+                    long dataPosition = TABLE_HEADER_SIZE;
+                    // Конец данных - за самой дальней записью индекса: записи
+                    // в освободившихся слотах стоят в индексе после более дальних
+                    file.seek(file.length() - recordCountInThisPage * 8L);
+                    for (int i = 0; i < recordCountInThisPage; i++) {
+                        dataPosition = Math.max(dataPosition, entryOffset(file.readLong()) + layout.getRowWidth());
+                    }
+                    return new TableTail(partPath, file == head ? 0 : getPartNumber(Paths.get(partPath)), ordinal,
+                            dataPosition);
+                }
+                partPath = nextPath;
+                ordinal++;
+            } finally {
+                if (file != head) {
+                    unpin(handle, file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что часть является последней и свободное место в ней не пересекается с записями
+     */
+    private boolean isTableTail(PageFrame file, TableLayout layout, long freeOffset) throws IOException {
+        if (getNextTablePartPath(file) != null) {
+            return false;
+        }
+
+        file.seek(50);
+        int recordCountInThisPage = file.readInt();
+        long indexStart = file.length() - recordCountInThisPage * 8L;
+        if (recordCountInThisPage < 0 || freeOffset > indexStart) {
+            return false;
+        }
+        if (recordCountInThisPage == 0) {
+            return true;
+        }
+
+        file.seek(indexStart);
+        return entryOffset(file.readLong()) + layout.getRowWidth() <= freeOffset;
+    }
+
+    /**
+     * Записывает положение хвоста таблицы в заголовок головного файла
+     */
+    private void writeTableTail(PageFrame head, int partNumber, long freeOffset) throws IOException {
+        if (!hasHeaderFields(head)) {
+            return;
+        }
+        head.seek(TABLE_TAIL_OFFSET);
+        head.writeInt(Math.max(partNumber, 0));
+        head.writeInt((int) freeOffset);
+    }
+
+    /**
+     * Путь, от имени которого нумеруются части таблицы. Обычно это головной файл, но голова
+     * может быть копией (например, временной таблицей транзакции) со ссылкой на части оригинала.
+     */
+    private Path getPartChainBase(TableHandle handle, PageFrame head) throws IOException {
+        String firstPart = getNextTablePartPath(head);
+        if (firstPart != null) {
+            Matcher matcher = TABLE_PART_NAME.matcher(Paths.get(firstPart).getFileName().toString());
+            if (matcher.matches()) {
+                return Paths.get(firstPart).resolveSibling(matcher.group(1) + ".txt");
             }
         }
+        return handle.getHeadPath();
+    }
+
+    /**
+     * Путь к части таблицы с указанным номером или {@code null}, если у таблицы нет частей
+     */
+    private String getTablePartPath(TableHandle handle, PageFrame head, int partNumber) throws IOException {
+        if (getNextTablePartPath(head) == null) {
+            return null;
+        }
+        Path base = getPartChainBase(handle, head);
+        String baseName = base.getFileName().toString().replace(".txt", "");
+        return base.resolveSibling(baseName + "_part" + partNumber + ".txt").toString();
+    }
+
+    /**
+     * Номер части по имени файла {@code <таблица>_partN.txt} или -1
+     */
+    private int getPartNumber(Path partPath) {
+        Matcher matcher = TABLE_PART_NAME.matcher(partPath.getFileName().toString());
+        if (!matcher.matches()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(matcher.group(2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Читает имя таблицы из заголовка
+     */
+    private String readTableName(PageFrame file) throws IOException {
+        file.seek(0);
+        byte[] nameBytes = new byte[50];
+        file.readFully(nameBytes);
+        return new String(nameBytes, StandardCharsets.UTF_8).trim();
     }
 
     /**
      * Получает путь к следующей части таблицы из текущего файла
      */
-    private String getNextTablePartPath(RandomAccessFile file) throws IOException {
+    /**
+     * Отмечает часть, до которой дошёл обход цепочки. Количество частей таблицы не
+     * ограничено, поэтому зацикленная цепочка распознаётся по повторному заходу в часть.
+     *
+     * @param visitedParts части, уже пройденные этим обходом
+     * @throws IOException если часть уже встречалась в обходе
+     */
+    private static void visitPart(Set<Path> visitedParts, String partPath) throws IOException {
+        if (!visitedParts.add(Paths.get(partPath).toAbsolutePath().normalize())) {
+            throw new IOException("Table part chain loops back to " + partPath);
+        }
+    }
+
+    private String getNextTablePartPath(PageFrame file) throws IOException {
+        return decodePartPointer(file.getPath(), readPartPointer(file));
+    }
+
+    private byte[] readPartPointer(PageFrame file) throws IOException {
         file.seek(TABLE_HEADER_SIZE - TABLE_POINTER_SIZE);
         byte[] pointerBytes = new byte[TABLE_POINTER_SIZE];
         file.readFully(pointerBytes);
+        return pointerBytes;
+    }
+
+    /**
+     * Путь к следующей части по области указателя файла части или {@code null}.
+     * Номер части разрешается в файл {@code <основа>_partN.txt} рядом с файлом, из которого
+     * прочитан указатель, поэтому копия головного файла ссылается на те же части.
+     *
+     * @param filePath путь к файлу, из которого прочитан указатель
+     */
+    private String decodePartPointer(Path filePath, byte[] pointerBytes) {
+        if (pointerBytes[0] == PART_POINTER_MARKER) {
+            ByteBuffer pointer = ByteBuffer.wrap(pointerBytes);
+            int nextPart = pointer.getInt(1);
+            if (nextPart <= 0) {
+                return null;
+            }
+            int stemLength = Math.min(pointer.getShort(POINTER_STEM_OFFSET), TABLE_POINTER_SIZE - POINTER_STEM_OFFSET - 2);
+            String stem;
+            if (stemLength > 0) {
+                stem = new String(pointerBytes, POINTER_STEM_OFFSET + 2, stemLength, StandardCharsets.UTF_8);
+            } else {
+                // Основа не поместилась в указатель - берётся из имени самого файла
+                String fileName = filePath.getFileName().toString();
+                Matcher matcher = TABLE_PART_NAME.matcher(fileName);
+                stem = matcher.matches() ? matcher.group(1) : fileName.replace(".txt", "");
+            }
+            return filePath.resolveSibling(stem + "_part" + nextPart + ".txt").toString();
+        }
+
         String nextPath = new String(pointerBytes, StandardCharsets.UTF_8).trim();
         if (nextPath.isEmpty()) {
             return null;
@@ -694,11 +1618,14 @@ public class DataRepositoryImpl implements DataRepository {
     }
 
     /**
-     * Создает новую часть таблицы с теми же параметрами
+     * Собирает в памяти образ новой пустой части таблицы с теми же параметрами
+     *
+     * @param ordinal порядковый номер части в цепочке (0 - образ головного файла)
      */
-    private void createNewTablePart(String tableFilePath, String tableName, int recordCountInTable, List<String> schema)
-            throws IOException {
+    private PageFrame newTablePart(String tableFilePath, String tableName, int recordCountInTable, TableLayout layout,
+                                   int pageSize, int ordinal) throws IOException {
         //validateTxtExtension(tableFilePath);
+        List<String> schema = layout.getSchema();
         validateSchema(schema);
 
         Path path = Paths.get(tableFilePath).getParent();
@@ -710,33 +1637,132 @@ public class DataRepositoryImpl implements DataRepository {
             throw new IllegalArgumentException("Table name must be 50 characters or less");
         }
 
-        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "rw")) {
-            byte[] buffer = new byte[TABLE_MAX_SIZE];
-            file.write(buffer);
-            file.seek(0);
+        PageFrame file = new PageFrame(Paths.get(tableFilePath).toAbsolutePath().normalize());
+        file.setContent(ByteBuffer.allocate(pageSize), pageSize);
 
-            byte[] nameBytes = tableName.getBytes(StandardCharsets.UTF_8);
-            byte[] paddedName = new byte[50];
-            System.arraycopy(nameBytes, 0, paddedName, 0, Math.min(nameBytes.length, 50));
-            file.write(paddedName);
+        byte[] nameBytes = tableName.getBytes(StandardCharsets.UTF_8);
+        byte[] paddedName = new byte[50];
+        System.arraycopy(nameBytes, 0, paddedName, 0, Math.min(nameBytes.length, 50));
+        file.write(paddedName);
 
-            file.writeInt(0);
-            file.writeInt(recordCountInTable);
+        file.writeInt(0);
+        file.writeInt(recordCountInTable);
 
-            byte[] schemaBytes = encodeSchema(schema);
-            byte[] paddedSchema = new byte[TABLE_SCHEMA_SIZE];
-            System.arraycopy(schemaBytes, 0, paddedSchema, 0, Math.min(schemaBytes.length, TABLE_SCHEMA_SIZE));
-            file.write(paddedSchema);
+        byte[] schemaBytes = encodeSchema(schema);
+        file.write(schemaBytes);
 
-            byte[] emptyPointer = new byte[TABLE_POINTER_SIZE];
-            file.write(emptyPointer);
+        byte[] emptyPointer = new byte[TABLE_POINTER_SIZE];
+        file.write(emptyPointer);
+
+        if (ordinal > 0) {
+            file.seek(TABLE_PART_ORDINAL_OFFSET);
+            file.writeInt(ordinal);
+        }
+        file.seek(TABLE_PAGE_SIZE_OFFSET);
+        file.writeInt(pageSize);
+        file.seek(TABLE_FORMAT_OFFSET);
+        file.writeInt(layout.getFormat().ordinal());
+        return file;
+    }
+
+    /**
+     * Порядковый номер части (не головного файла) в цепочке
+     */
+    private int readPartOrdinal(PageFrame part) throws IOException {
+        int ordinal = 0;
+        if (hasHeaderFields(part)) {
+            part.seek(TABLE_PART_ORDINAL_OFFSET);
+            ordinal = part.readInt();
+        }
+        // Части, созданные до появления поля или без служебных полей, нумеровались подряд
+        return ordinal > 0 ? ordinal : Math.max(getPartNumber(part.getPath()), 1);
+    }
+
+    /**
+     * Записывает собранную в памяти часть таблицы на диск. Файл расширяется до размера
+     * части без записи нулей, а записываются только заполненные участки образа: заголовок,
+     * данные и индекс смещений. Остальное место остаётся незаписанным и читается нулями.
+     */
+    private void writeTablePart(PageFrame file) throws IOException {
+        bufferPool.invalidate(file.getPath());
+
+        try (RandomAccessFile partFile = new RandomAccessFile(file.getPath().toFile(), "rw")) {
+            partFile.setLength(0);
+            partFile.setLength(file.length());
+            BufferPool.writeDirtyBlocks(partFile.getChannel(), file);
+        }
+    }
+
+    /**
+     * Записывает собранную в памяти заполненную часть, за которой в цепочке
+     * следует другая: при включённом сжатии частей - в сжатом виде
+     */
+    private void writeFullTablePart(PageFrame file) throws IOException {
+        ByteBuffer compressed = compressFullParts
+                ? PartCompression.compress(file.getBuffer(), (int) file.length())
+                : null;
+        if (compressed == null) {
+            writeTablePart(file);
+            return;
+        }
+
+        bufferPool.invalidate(file.getPath());
+        writePartFile(file.getPath(), compressed);
+    }
+
+    /**
+     * Заменяет файл заполненной части её сжатым образом. Сжатый образ пишется
+     * в соседний файл и подменяет часть атомарным переименованием.
+     */
+    private void compressTablePart(TableHandle handle, Path partPath) throws IOException {
+        ByteBuffer compressed;
+        PageFrame file = pin(handle, partPath.toString());
+        try {
+            compressed = file.isCompressed() ? null : PartCompression.compress(file.getBuffer(), (int) file.length());
+        } finally {
+            unpin(handle, file);
+        }
+        if (compressed == null) {
+            return;
+        }
+
+        Path copy = partPath.resolveSibling(partPath.getFileName() + ".compress");
+        try {
+            writePartFile(copy, compressed);
+            bufferPool.invalidate(partPath);
+            handle.closePart(partPath);
+            try {
+                Files.move(copy, partPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(copy, partPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    private void writePartFile(Path path, ByteBuffer content) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content, content.position());
+            }
         }
     }
 
     /**
      * Обновляет указатель на следующую часть таблицы
      */
-    private void updateNextTablePointer(RandomAccessFile file, String nextTablePath) throws IOException {
+    private void updateNextTablePointer(PageFrame file, String nextTablePath) throws IOException {
+        Path nextPath = Paths.get(nextTablePath);
+        Matcher matcher = TABLE_PART_NAME.matcher(nextPath.getFileName().toString());
+        int partNumber = getPartNumber(nextPath);
+        if (matcher.matches() && partNumber > 0) {
+            writePartPointer(file, partNumber, matcher.group(1), readDirectoryStamp(file));
+            return;
+        }
+
+        // Файл не по шаблону имён частей - указатель хранится путём
         byte[] pathBytes = nextTablePath.getBytes(StandardCharsets.UTF_8);
         byte[] pointer = new byte[TABLE_POINTER_SIZE];
         System.arraycopy(pathBytes, 0, pointer, 0, Math.min(pathBytes.length, TABLE_POINTER_SIZE));
@@ -745,6 +1771,114 @@ public class DataRepositoryImpl implements DataRepository {
         file.write(pointer);
     }
 
+    /**
+     * Записывает область указателя в формате с номером части
+     *
+     * @param nextPart номер следующей части, 0 - частей больше нет
+     */
+    private void writePartPointer(PageFrame file, int nextPart, String stem, int stamp) throws IOException {
+        byte[] stemBytes = stem.getBytes(StandardCharsets.UTF_8);
+        if (stemBytes.length > MAX_POINTER_STEM_LENGTH) {
+            stemBytes = new byte[0];
+        }
+
+        ByteBuffer pointer = ByteBuffer.allocate(TABLE_POINTER_SIZE);
+        pointer.put(PART_POINTER_MARKER);
+        pointer.putInt(nextPart);
+        pointer.putInt(stamp);
+        pointer.putShort((short) stemBytes.length);
+        pointer.put(stemBytes);
+        pointer.putInt(POINTER_UNIQUE_OFFSET, readUniqueColumns(file));
+
+        file.seek(TABLE_HEADER_SIZE - TABLE_POINTER_SIZE);
+        file.write(pointer.array());
+    }
+
+    /**
+     * Отметка каталога частей из головного файла; 0 - не записана
+     */
+    private int readDirectoryStamp(PageFrame head) throws IOException {
+        if (head.length() < TABLE_HEADER_SIZE) {
+            return 0;
+        }
+        byte[] pointer = readPartPointer(head);
+        return pointer[0] == PART_POINTER_MARKER ? ByteBuffer.wrap(pointer).getInt(POINTER_STAMP_OFFSET) : 0;
+    }
+
+    /**
+     * Набор уникальных столбцов из головного файла: бит N - столбец N
+     */
+    private int readUniqueColumns(PageFrame head) throws IOException {
+        if (head.length() < TABLE_HEADER_SIZE) {
+            return 0;
+        }
+        ByteBuffer pointer = ByteBuffer.wrap(readPartPointer(head));
+        // Длинная основа имени частей, записанная раньше, занимает место набора
+        if (pointer.get(0) != PART_POINTER_MARKER || pointer.getShort(POINTER_STEM_OFFSET) > MAX_POINTER_STEM_LENGTH) {
+            return 0;
+        }
+        return pointer.getInt(POINTER_UNIQUE_OFFSET);
+    }
+
+    /**
+     * Записывает в головной файл набор уникальных столбцов. Область указателя должна
+     * быть в формате с номером части (см. {@link #writeDirectoryStamp}).
+     */
+    private void writeUniqueColumns(PageFrame head, int uniqueColumns) throws IOException {
+        ByteBuffer pointer = ByteBuffer.wrap(readPartPointer(head));
+        if (pointer.get(0) != PART_POINTER_MARKER) {
+            throw new IOException("Table part pointer has no room for constraints: " + head.getPath());
+        }
+        if (pointer.getShort(POINTER_STEM_OFFSET) > MAX_POINTER_STEM_LENGTH) {
+            // Основа имени частей уступает место набору и берётся из имени файла
+            writePartPointer(head, pointer.getInt(1), "", pointer.getInt(POINTER_STAMP_OFFSET));
+        }
+        head.seek(TABLE_HEADER_SIZE - TABLE_POINTER_SIZE + POINTER_UNIQUE_OFFSET);
+        head.writeInt(uniqueColumns);
+    }
+
+    /**
+     * Записывает в головной файл новую отметку каталога частей. Указатель, хранящийся
+     * путём, при этом переводится в формат с номером части.
+     *
+     * @return {@code false}, если указатель нельзя перевести (файл части не по шаблону имён)
+     */
+    private boolean writeDirectoryStamp(PageFrame head, int stamp) throws IOException {
+        byte[] pointer = readPartPointer(head);
+        if (pointer[0] == PART_POINTER_MARKER) {
+            head.seek(TABLE_HEADER_SIZE - TABLE_POINTER_SIZE + POINTER_STAMP_OFFSET);
+            head.writeInt(stamp);
+            return true;
+        }
+
+        String nextPath = decodePartPointer(head.getPath(), pointer);
+        if (nextPath == null) {
+            writePartPointer(head, 0, "", stamp);
+            return true;
+        }
+        Matcher matcher = TABLE_PART_NAME.matcher(Paths.get(nextPath).getFileName().toString());
+        int partNumber = getPartNumber(Paths.get(nextPath));
+        if (!matcher.matches() || partNumber <= 0) {
+            return false;
+        }
+        writePartPointer(head, partNumber, matcher.group(1), stamp);
+        return true;
+    }
+
+    /**
+     * Путь к первой несуществующей части таблицы с номером больше {@code partNumber}
+     */
+    private String generateNextTablePartPath(Path base, int partNumber) {
+        String baseName = base.getFileName().toString().replace(".txt", "");
+        while (true) {
+            partNumber++;
+            Path newPath = base.resolveSibling(baseName + "_part" + partNumber + ".txt");
+            if (!Files.exists(newPath)) {
+                return newPath.toString();
+            }
+        }
+    }
+
     /**
      * Генерирует путь для новой части таблицы
      */
@@ -774,267 +1908,2141 @@ public class DataRepositoryImpl implements DataRepository {
     }
 
     /**
-     * Вычисляет размер записи в байтах.
-     * @param schema Схема таблицы (например, ["int", "str_10"])
-     * @return Размер записи в байтах
-     * @throws IllegalArgumentException если схема содержит неизвестный тип
+     * Записывает данные в файл согласно схеме
      */
-    private int calculateRecordSize(List<String> schema, List<Object> data) {
-        if (schema == null) {
-            throw new IllegalArgumentException("Schema cannot be null");
-        }
+    private void writeData(TableHandle handle, PageFrame file, List<Object> data, TableLayout layout) throws IOException {
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            Object value = data.get(i);
 
-        int size = 0;
-        for (String type : schema) {
-            if (type.equals("int")) {
-                size += 4; // int = 4 байта
-            }
-            else if (type.startsWith("str_")) {
-                try {
-                    int maxLength = Integer.parseInt(type.substring(4));
-                    size += 4 + maxLength; // 4 байта на длину + данные
-                } catch (NumberFormatException e) {
-                    throw new IllegalArgumentException("Invalid string length in type: " + type);
+            if (layout.isInt(i)) {
+                if (!(value instanceof Integer)) {
+                    throw new IllegalArgumentException("Field " + i + " must be Integer");
+                }
+
+                file.writeInt((Integer) value);
+            } else {
+                if (!(value instanceof String str)) {
+                    throw new IllegalArgumentException("Field " + i + " must be String");
+                }
+
+                byte[] strBytes = str.getBytes(StandardCharsets.UTF_8);
+                int maxLength = layout.getMaxLength(i);
+                int inlineLength = layout.getInlineLength(i);
+
+                if (strBytes.length > maxLength) {
+                    throw new IllegalArgumentException("String too long for field " + i);
+                }
+
+                file.writeInt(strBytes.length);
+                if (strBytes.length > inlineLength) {
+                    // Значение не помещается в запись: в ней остаётся смещение в файле переполнения
+                    file.writeLong(writeOverflow(handle, strBytes));
+                    file.write(STRING_PADDING, 0, inlineLength - 8);
+                } else {
+                    file.write(strBytes);
+                    file.write(STRING_PADDING, 0, inlineLength - strBytes.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Читает запись из таблицы по индексу
+     */
+    @Override
+    public List<Object> readRecord(String tablePath, int recordIndex, int recordsOnPrevPages) throws IOException {
+        //validateTxtExtension(tablePath);
+
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return readColumnarRecord(handle, recordIndex);
+        }
+        return readRecord(handle, tablePath, recordIndex, recordsOnPrevPages);
+    }
+
+    /**
+     * Читает запись по её физическому адресу: часть открывается по номеру,
+     * а данные записи берутся из слота без обхода цепочки частей.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param rowId адрес записи, полученный из {@link #getRowId} или курсора
+     * @return значения полей записи
+     * @throws IOException при ошибках чтения
+     * @throws IllegalArgumentException если по адресу нет живой записи или слот с выдачи
+     *                                  адреса занят другой записью (поколение не совпадает)
+     */
+    @Override
+    public List<Object> readRecord(String tablePath, RowId rowId) throws IOException {
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return readColumnarRecord(handle, rowId);
+        }
+
+        TableLayout layout = getTableLayout(handle);
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            PageFrame file = rowId.getPartNumber() == 0
+                    ? head
+                    : rowId.getPartNumber() > 0
+                    ? pinIfExists(handle, getTablePartPath(handle, head, rowId.getPartNumber()))
+                    : null;
+            if (file == null) {
+                throw new IllegalArgumentException("Invalid row id: " + rowId);
+            }
+            try {
+                long dataOffset = TABLE_HEADER_SIZE + (long) rowId.getSlot() * layout.getRowWidth();
+                // Слот удалённой записи мог занять новая запись: у неё другое поколение
+                if (rowId.getSlot() < 0
+                        || findOffsetEntry(file, dataOffset) != toOffsetEntry(dataOffset, rowId.getGeneration())) {
+                    throw new IllegalArgumentException("Invalid row id: " + rowId);
+                }
+                return readData(handle, file, layout, dataOffset);
+            } finally {
+                if (file != head) {
+                    unpin(handle, file);
+                }
+            }
+        } finally {
+            unpin(handle, head);
+        }
+    }
+
+    /**
+     * Читает записи с указанными индексами. Части с записями находятся по каталогу
+     * частей, поэтому части без нужных записей не читаются; без каталога цепочка
+     * проходится от головы один раз.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param sortedIndices индексы записей (0-based) по возрастанию
+     * @return записи в порядке индексов
+     * @throws IOException при ошибках чтения
+     * @throws IllegalArgumentException если индексы не упорядочены или выходят за пределы таблицы
+     */
+    @Override
+    public List<List<Object>> readRecords(String tablePath, List<Integer> sortedIndices) throws IOException {
+        TableHandle handle = openTable(tablePath);
+        List<List<Object>> records = new ArrayList<>(sortedIndices.size());
+        for (int i = 1; i < sortedIndices.size(); i++) {
+            if (sortedIndices.get(i) < sortedIndices.get(i - 1)) {
+                throw new IllegalArgumentException("Record indices must be sorted: "
+                        + sortedIndices.get(i - 1) + " before " + sortedIndices.get(i));
+            }
+        }
+        if (getColumnarTable(handle) != null) {
+            for (int recordIndex : sortedIndices) {
+                records.add(readColumnarRecord(handle, recordIndex));
+            }
+            return records;
+        }
+        if (sortedIndices.isEmpty()) {
+            return records;
+        }
+
+        TableLayout layout = getTableLayout(handle);
+        String headPath = handle.getHeadPath().toString();
+        PageFrame head = pin(handle, headPath);
+        try {
+            head.seek(54);
+            int recordCountInTable = head.readInt();
+            int firstIndex = sortedIndices.get(0);
+            int lastIndex = sortedIndices.get(sortedIndices.size() - 1);
+            if (firstIndex < 0 || lastIndex >= recordCountInTable) {
+                throw new IllegalArgumentException("Invalid record index: "
+                        + (firstIndex < 0 ? firstIndex : lastIndex) + ", available records: " + recordCountInTable);
+            }
+
+            PartDirectory directory = getPartDirectory(handle, head);
+            String partPath = headPath;
+            long firstInPart = 0;
+            Set<Path> visitedParts = new HashSet<>();
+            int next = 0;
+            while (next < sortedIndices.size()) {
+                // Часть со следующей записью берётся из каталога, без каталога - следующая в цепочке
+                int expectedCount = -1;
+                int ordinal = directory == null ? -1 : directory.find(sortedIndices.get(next));
+                if (ordinal >= 0) {
+                    partPath = ordinal == 0
+                            ? headPath
+                            : getTablePartPath(handle, head, directory.getPartNumber(ordinal));
+                    firstInPart = directory.getFirstRecord(ordinal);
+                    expectedCount = directory.getCount(ordinal);
+                }
+                if (partPath == null) {
+                    throw new IOException("Record index " + sortedIndices.get(next)
+                            + " is beyond the last table part");
+                }
+                if (ordinal < 0) {
+                    visitPart(visitedParts, partPath);
+                }
+
+                PageFrame file = partPath.equals(headPath) ? head : pin(handle, partPath);
+                try {
+                    file.seek(50);
+                    int recordsInPage = file.readInt();
+                    if (expectedCount >= 0 && recordsInPage != expectedCount) {
+                        // Каталог разошёлся с частью - оставшиеся записи ищутся от головы
+                        invalidatePartDirectory(handle);
+                        directory = null;
+                        partPath = headPath;
+                        firstInPart = 0;
+                        continue;
+                    }
+
+                    for (; next < sortedIndices.size() && sortedIndices.get(next) < firstInPart + recordsInPage;
+                         next++) {
+                        records.add(readRecordInPage(handle, file, layout,
+                                (int) (sortedIndices.get(next) - firstInPart)));
+                    }
+                    firstInPart += recordsInPage;
+                    partPath = getNextTablePartPath(file);
+                } finally {
+                    if (file != head) {
+                        unpin(handle, file);
+                    }
+                }
+            }
+        } finally {
+            unpin(handle, head);
+        }
+        return records;
+    }
+
+    /**
+     * Находит в индексе смещений части элемент записи по смещению. Маркер удаления
+     * в слоте для проверки, что запись жива, не годится: им может начинаться и живая запись.
+     *
+     * @return элемент индекса смещений или -1, если живой записи по смещению нет
+     */
+    private long findOffsetEntry(PageFrame file, long dataOffset) throws IOException {
+        file.seek(50);
+        int recordsInPage = file.readInt();
+        long indexStart = file.length() - recordsInPage * 8L;
+        if (indexStart < TABLE_HEADER_SIZE || dataOffset >= indexStart) {
+            return -1;
+        }
+
+        file.seek(indexStart);
+        for (int i = 0; i < recordsInPage; i++) {
+            long entry = file.readLong();
+            if (entryOffset(entry) == dataOffset) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Физический адрес записи по её текущему индексу. Часть с записью находится
+     * по каталогу частей, если он есть, иначе обходом цепочки.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param recordIndex индекс записи (0-based)
+     * @return адрес записи, не меняющийся при удалении других записей
+     * @throws IOException при ошибках чтения
+     * @throws IllegalArgumentException если записи с таким индексом нет
+     */
+    @Override
+    public RowId getRowId(String tablePath, int recordIndex) throws IOException {
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return getColumnarRowId(handle, recordIndex);
+        }
+
+        TableLayout layout = getTableLayout(handle);
+        String partPath = handle.getHeadPath().toString();
+        long firstInPart = 0;
+        int expectedCount = -1;
+
+        PageFrame head = pin(handle, partPath);
+        try {
+            head.seek(54);
+            int recordCountInTable = head.readInt();
+            if (recordIndex < 0 || recordIndex >= recordCountInTable) {
+                throw new IllegalArgumentException("Invalid record index: " + recordIndex +
+                        ", available records: " + recordCountInTable);
+            }
+
+            PartDirectory directory = getPartDirectory(handle, head);
+            int ordinal = directory == null ? -1 : directory.find(recordIndex);
+            if (ordinal > 0) {
+                partPath = getTablePartPath(handle, head, directory.getPartNumber(ordinal));
+                firstInPart = directory.getFirstRecord(ordinal);
+                expectedCount = directory.getCount(ordinal);
+            }
+        } finally {
+            unpin(handle, head);
+        }
+
+        Set<Path> visitedParts = new HashSet<>();
+        while (partPath != null) {
+            if (expectedCount < 0) {
+                visitPart(visitedParts, partPath);
+            }
+
+            PageFrame file = pin(handle, partPath);
+            try {
+                file.seek(50);
+                int recordsInPage = file.readInt();
+                if (expectedCount >= 0 && recordsInPage != expectedCount) {
+                    // Каталог разошёлся с частью - ищем от головы
+                    invalidatePartDirectory(handle);
+                    partPath = handle.getHeadPath().toString();
+                    firstInPart = 0;
+                    expectedCount = -1;
+                    continue;
+                }
+                expectedCount = -1;
+
+                if (recordIndex < firstInPart + recordsInPage) {
+                    return toRowId(handle, file, layout, readOffsetEntry(file, (int) (recordIndex - firstInPart)));
+                }
+                firstInPart += recordsInPage;
+                partPath = getNextTablePartPath(file);
+            } finally {
+                unpin(handle, file);
+            }
+        }
+        throw new IllegalArgumentException("Invalid record index: " + recordIndex +
+                ", available records: " + firstInPart);
+    }
+
+    /**
+     * Читает запись через каталог частей: часть с записью находится двоичным поиском.
+     *
+     * @param head закреплённый головной файл
+     * @return {@code null}, если каталога нет, записи с таким номером нет или каталог
+     *         разошёлся с частями - тогда запись ищется обходом цепочки
+     */
+    private List<Object> readRecordFromDirectory(TableHandle handle, PageFrame head, TableLayout layout,
+                                                 int recordIndex) throws IOException {
+        PartDirectory directory = getPartDirectory(handle, head);
+        int ordinal = directory == null ? -1 : directory.find(recordIndex);
+        if (ordinal < 0) {
+            return null;
+        }
+
+        PageFrame file = ordinal == 0
+                ? head
+                : pinIfExists(handle, getTablePartPath(handle, head, directory.getPartNumber(ordinal)));
+        if (file == null) {
+            invalidatePartDirectory(handle);
+            return null;
+        }
+        try {
+            file.seek(50);
+            if (file.readInt() != directory.getCount(ordinal)) {
+                invalidatePartDirectory(handle);
+                return null;
+            }
+            return readRecordInPage(handle, file, layout, (int) (recordIndex - directory.getFirstRecord(ordinal)));
+        } finally {
+            if (file != head) {
+                unpin(handle, file);
+            }
+        }
+    }
+
+    /**
+     * Каталог частей открытой таблицы, согласованный с головным файлом. Берётся из памяти
+     * или из файла каталога, если их отметка и количество записей совпадают с головным
+     * файлом, иначе строится обходом цепочки и сохраняется.
+     *
+     * @return {@code null}, если у таблицы нет частей или отметка каталога не записана
+     */
+    private PartDirectory getPartDirectory(TableHandle handle, PageFrame head) throws IOException {
+        int stamp = readDirectoryStamp(head);
+        if (stamp == 0 || getNextTablePartPath(head) == null) {
+            return null;
+        }
+        head.seek(54);
+        int recordCountInTable = head.readInt();
+
+        PartDirectory directory = handle.getPartDirectory();
+        if (directory != null && directory.getStamp() == stamp && directory.getRecordCount() == recordCountInTable) {
+            return directory;
+        }
+
+        Path directoryPath = getPartDirectoryPath(handle.getHeadPath());
+        directory = null;
+        if (Files.exists(directoryPath)) {
+            try (FileChannel channel = FileChannel.open(directoryPath, StandardOpenOption.READ)) {
+                directory = PartDirectory.read(channel);
+            } catch (NoSuchFileException e) {
+                // Каталог удалён другим экземпляром - строится заново
+            }
+        }
+        if (directory == null || directory.getStamp() != stamp || directory.getRecordCount() != recordCountInTable) {
+            directory = buildPartDirectory(handle, head, stamp);
+            if (directory == null) {
+                handle.setPartDirectory(null);
+                return null;
+            }
+            savePartDirectory(handle, directory);
+        }
+        handle.setPartDirectory(directory);
+        return directory;
+    }
+
+    /**
+     * Строит каталог частей обходом цепочки
+     *
+     * @return {@code null}, если части нельзя адресовать номером (имя файла не по шаблону)
+     */
+    private PartDirectory buildPartDirectory(TableHandle handle, PageFrame head, int stamp) throws IOException {
+        PartDirectory directory = new PartDirectory(stamp);
+        head.seek(50);
+        directory.add(0, head.readInt());
+
+        for (String partPath = getNextTablePartPath(head); partPath != null; ) {
+            Path part = Paths.get(partPath).toAbsolutePath().normalize();
+            int partNumber = getPartNumber(part);
+            if (partNumber <= 0 || !part.toString().equals(getTablePartPath(handle, head, partNumber))) {
+                return null;
+            }
+
+            PageFrame file = pin(handle, partPath);
+            try {
+                file.seek(50);
+                if (!directory.add(partNumber, file.readInt())) {
+                    return null;
+                }
+                partPath = getNextTablePartPath(file);
+            } finally {
+                unpin(handle, file);
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * Записывает каталог частей в файл. Ошибка записи не мешает пользоваться каталогом
+     * в памяти: устаревший файл будет отвергнут по отметке.
+     */
+    private void savePartDirectory(TableHandle handle, PartDirectory directory) {
+        Path directoryPath = getPartDirectoryPath(handle.getHeadPath());
+        try (FileChannel channel = FileChannel.open(directoryPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            directory.write(channel);
+        } catch (IOException e) {
+            // Каталог частей - производные данные, они восстанавливаются обходом цепочки
+        }
+    }
+
+    /**
+     * Сбрасывает каталог частей, разошедшийся с частями таблицы
+     */
+    private void invalidatePartDirectory(TableHandle handle) throws IOException {
+        handle.setPartDirectory(null);
+        Files.deleteIfExists(getPartDirectoryPath(handle.getHeadPath()));
+    }
+
+    /**
+     * Сбрасывает каталог частей в памяти, если таблицу изменили в обход этого репозитория
+     */
+    private void syncPartDirectory(TableHandle handle, PageFrame head) throws IOException {
+        PartDirectory directory = handle.getPartDirectory();
+        if (directory == null) {
+            return;
+        }
+        head.seek(54);
+        int recordCountInTable = head.readInt();
+        if (directory.getStamp() != readDirectoryStamp(head) || directory.getRecordCount() != recordCountInTable) {
+            handle.setPartDirectory(null);
+        }
+    }
+
+    /**
+     * Отмечает изменение таблицы: в головной файл пишется новая отметка, а поддерживаемый
+     * в памяти каталог частей сохраняется с ней же. По отметке каталог частей и индексы
+     * столбцов проверяют, что таблицу не меняли без них.
+     *
+     * @return новая отметка; 0, если её нельзя записать (части не адресуются номером)
+     */
+    private int stampTable(TableHandle handle, PageFrame head) throws IOException {
+        int stamp = newDirectoryStamp();
+        PartDirectory directory = handle.getPartDirectory();
+        if (!writeDirectoryStamp(head, stamp)) {
+            handle.setPartDirectory(null);
+            return 0;
+        }
+        if (directory != null && getNextTablePartPath(head) != null) {
+            directory.setStamp(stamp);
+            savePartDirectory(handle, directory);
+        }
+        return stamp;
+    }
+
+    private int newDirectoryStamp() {
+        int stamp;
+        do {
+            stamp = ThreadLocalRandom.current().nextInt();
+        } while (stamp == 0);
+        return stamp;
+    }
+
+    /**
+     * Обновляет счётчик записей части и её количество в каталоге частей
+     */
+    private void writePartRecordCount(TableHandle handle, PageFrame file, int count) throws IOException {
+        file.seek(50);
+        file.writeInt(count);
+
+        PartDirectory directory = handle.getPartDirectory();
+        if (directory != null) {
+            int partNumber = file.getPath().equals(handle.getHeadPath()) ? 0 : getPartNumber(file.getPath());
+            if (partNumber < 0) {
+                handle.setPartDirectory(null);
+            } else {
+                directory.putCount(partNumber, count);
+            }
+        }
+    }
+
+    /**
+     * Файл каталога частей: {@code <таблица>.parts} рядом с головным файлом
+     */
+    private Path getPartDirectoryPath(Path headPath) {
+        return headPath.resolveSibling(getHeadFileStem(headPath) + PART_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Файл индекса столбца рядом с головным файлом: {@code <таблица>.idxN}
+     * для B+-дерева и {@code <таблица>.hashN} для хэш-индекса
+     */
+    private Path getIndexPath(Path headPath, int column, IndexType type) {
+        String suffix = type == IndexType.HASH ? HASH_INDEX_FILE_SUFFIX : INDEX_FILE_SUFFIX;
+        return headPath.resolveSibling(getHeadFileStem(headPath) + suffix + column);
+    }
+
+    /**
+     * Файлы индексов столбцов таблицы, существующие рядом с головным файлом
+     */
+    private List<Path> getIndexFiles(Path headPath) throws IOException {
+        String stem = getHeadFileStem(headPath);
+        Path directory = headPath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, path -> {
+            String fileName = path.getFileName().toString();
+            for (String suffix : List.of(INDEX_FILE_SUFFIX, HASH_INDEX_FILE_SUFFIX)) {
+                String prefix = stem + suffix;
+                if (fileName.startsWith(prefix) && fileName.substring(prefix.length()).matches("\\d+")) {
+                    return true;
+                }
+            }
+            return false;
+        })) {
+            List<Path> files = new ArrayList<>();
+            stream.forEach(files::add);
+            return files;
+        }
+    }
+
+    /**
+     * Имя головного файла без расширения {@code .txt}
+     */
+    private String getHeadFileStem(Path headPath) {
+        String fileName = headPath.getFileName().toString();
+        if (fileName.toLowerCase().endsWith(".txt")) {
+            fileName = fileName.substring(0, fileName.length() - 4);
+        }
+        return fileName;
+    }
+
+    /**
+     * Индексы столбцов открытой таблицы, согласованные с головным файлом. Файлы индексов
+     * ищутся при первом обращении к таблице; индекс, отметка которого разошлась с головным
+     * файлом, перестраивается обходом цепочки частей.
+     *
+     * @param head закреплённый головной файл
+     * @return пустой список, если индексов нет или их нельзя согласовать с таблицей
+     */
+    private List<TableIndex> getIndexes(TableHandle handle, PageFrame head) throws IOException {
+        List<TableIndex> indexes = handle.getIndexes();
+        List<Integer> unopened = new ArrayList<>();
+        List<IndexType> unopenedTypes = new ArrayList<>();
+        if (indexes == null) {
+            indexes = new ArrayList<>();
+            handle.setIndexes(indexes);
+            TableLayout layout = getTableLayout(handle);
+            if (handle.getColumnarTable() == null) {
+                int uniqueColumns = readUniqueColumns(head);
+                for (int column = 0; column < layout.getFieldCount(); column++) {
+                    for (IndexType type : IndexType.values()) {
+                        if (Files.exists(getIndexPath(handle.getHeadPath(), column, type))) {
+                            unopened.add(column);
+                            unopenedTypes.add(type);
+                        }
+                    }
+                    // Уникальность проверяется по индексу: недостающий индекс строится
+                    if ((uniqueColumns & (1 << column)) != 0 && !unopened.contains(column)) {
+                        unopened.add(column);
+                        unopenedTypes.add(getUniqueIndexType(layout, column));
+                    }
+                }
+            }
+        }
+        if (indexes.isEmpty() && unopened.isEmpty()) {
+            return indexes;
+        }
+
+        int stamp = readDirectoryStamp(head);
+        if (stamp == 0) {
+            stamp = stampTable(handle, head);
+        }
+        if (stamp == 0) {
+            // Части не адресуются номером - индексы не используются и не поддерживаются
+            return List.of();
+        }
+
+        for (int i = 0; i < unopened.size(); i++) {
+            int column = unopened.get(i);
+            IndexType type = unopenedTypes.get(i);
+            Path indexPath = getIndexPath(handle.getHeadPath(), column, type);
+            TableIndex index;
+            try {
+                index = type == IndexType.HASH ? HashIndex.open(indexPath, column)
+                        : BPlusTreeIndex.open(indexPath, column);
+            } catch (IOException e) {
+                index = null;
+            }
+            if (index == null || index.getStamp() != stamp) {
+                if (index != null) {
+                    index.close();
+                }
+                index = buildIndex(handle, indexPath, column, type, stamp);
+            }
+            indexes.add(index);
+        }
+
+        for (int i = 0; i < indexes.size(); i++) {
+            TableIndex index = indexes.get(i);
+            boolean valid;
+            try {
+                index.refresh();
+                valid = index.getStamp() == stamp;
+            } catch (IOException e) {
+                valid = false;
+            }
+            if (!valid) {
+                index.close();
+                indexes.set(i, buildIndex(handle, index.getPath(), index.getColumn(), index.getType(), stamp));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Строит индекс столбца заново по всем записям таблицы
+     */
+    private TableIndex buildIndex(TableHandle handle, Path indexPath, int column, IndexType type, int stamp)
+            throws IOException {
+        // Для B+-дерева собираются значения столбца, для хэш-индекса - их хэши
+        int[] keys = new int[type == IndexType.HASH ? 0 : 1024];
+        long[] hashes = new long[type == IndexType.HASH ? 1024 : 0];
+        long[] rowIds = new long[1024];
+        int count = 0;
+        try (RecordCursor cursor = new PartChainCursor(handle)) {
+            while (cursor.next()) {
+                if (count == rowIds.length) {
+                    rowIds = Arrays.copyOf(rowIds, count * 2);
+                    keys = Arrays.copyOf(keys, type == IndexType.HASH ? 0 : count * 2);
+                    hashes = Arrays.copyOf(hashes, type == IndexType.HASH ? count * 2 : 0);
+                }
+                Object value = cursor.getRecord().get(column);
+                if (type == IndexType.HASH) {
+                    hashes[count] = HashIndex.hash(value);
+                } else {
+                    keys[count] = (Integer) value;
+                }
+                rowIds[count] = cursor.getRowId().toLong();
+                count++;
+            }
+        }
+
+        try {
+            return type == IndexType.HASH ? HashIndex.build(indexPath, column, stamp, hashes, rowIds, count)
+                    : BPlusTreeIndex.build(indexPath, column, stamp, keys, rowIds, count);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(indexPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Добавляет в индекс записанные записи
+     *
+     * @return {@code false}, если индекс не удалось изменить: он остаётся с прежней
+     *         отметкой и будет перестроен при следующем обращении
+     */
+    private boolean insertIntoIndex(TableIndex index, List<List<Object>> rows, RowId[] rowIds) {
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                index.insert(rows.get(i).get(index.getColumn()), rowIds[i]);
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Удаляет из индекса удалённые записи
+     *
+     * @param position номер индекса в списке индексов таблицы и значения в {@code keys}
+     * @return {@code false}, если индекс не удалось изменить: он будет перестроен
+     */
+    private boolean deleteFromIndex(TableIndex index, int position, List<List<Object>> keys, List<RowId> rowIds) {
+        try {
+            for (int i = 0; i < rowIds.size(); i++) {
+                index.delete(keys.get(i).get(position), rowIds.get(i));
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Согласует изменённые индексы с новой отметкой головного файла
+     *
+     * @param stamp отметка из {@link #stampTable}; 0 - индексы остаются несогласованными
+     */
+    private void stampIndexes(List<TableIndex> indexes, int stamp) {
+        if (stamp == 0) {
+            return;
+        }
+        for (TableIndex index : indexes) {
+            try {
+                index.setStamp(stamp);
+            } catch (IOException e) {
+                // Индекс с прежней отметкой будет перестроен
+            }
+        }
+    }
+
+    /**
+     * Помечает индексы открытой таблицы для перестроения, например после ошибки
+     * изменения таблицы, часть которого могла попасть на диск
+     */
+    private void invalidateIndexes(TableHandle handle) {
+        if (handle.getIndexes() == null) {
+            return;
+        }
+        for (TableIndex index : handle.getIndexes()) {
+            try {
+                index.setStamp(0);
+            } catch (IOException e) {
+                // Файл индекса недоступен - он будет перестроен или отвергнут при открытии
+            }
+        }
+    }
+
+    /**
+     * Находит записи по условию с константой через индекс столбца. Для равенства
+     * предпочитается хэш-индекс: он читает страницы одной корзины, а не путь от корня дерева.
+     *
+     * @return {@code null}, если подходящего индекса нет или он разошёлся с таблицей
+     */
+    private List<Integer> findRecordsByIndex(TableHandle handle, int column, String operator, Object constant)
+            throws IOException {
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            return findRecordsByIndex(handle, head, getIndexes(handle, head), column, operator, constant);
+        } finally {
+            unpin(handle, head);
+        }
+    }
+
+    /**
+     * Находит записи по условию с константой через один из индексов таблицы
+     *
+     * @param head    закреплённый головной файл
+     * @param indexes индексы из {@link #getIndexes}
+     * @return {@code null}, если подходящего индекса нет или он разошёлся с таблицей
+     */
+    private List<Integer> findRecordsByIndex(TableHandle handle, PageFrame head, List<TableIndex> indexes,
+                                             int column, String operator, Object constant) throws IOException {
+        TableIndex chosen = null;
+        for (TableIndex index : indexes) {
+            if (index.getColumn() == column && index.supports(operator)
+                    && (chosen == null || index.getType() == IndexType.HASH)) {
+                chosen = index;
+            }
+        }
+        if (chosen == null) {
+            return null;
+        }
+
+        List<Integer> indices = toRecordIndices(handle, head, chosen.find(operator, constant),
+                chosen.isExact() ? null : chosen, constant);
+        if (indices == null) {
+            invalidateIndexes(handle);
+        }
+        return indices;
+    }
+
+    /**
+     * Вид индекса, поддерживающего уникальность столбца: B+-дерево для {@code int}, хэш для строк
+     */
+    private IndexType getUniqueIndexType(TableLayout layout, int column) {
+        return layout.isInt(column) ? IndexType.BTREE : IndexType.HASH;
+    }
+
+    /**
+     * Проверяет, что добавляемые записи не повторяют значения уникальных столбцов
+     * ни друг друга, ни записей таблицы. Каждое значение ищется одним обращением
+     * к индексу столбца; таблица просматривается, только если индекс недоступен.
+     *
+     * @throws IllegalArgumentException если значение уникального столбца уже есть
+     */
+    private void checkUniqueColumns(TableHandle handle, TableLayout layout, List<List<Object>> rows)
+            throws IOException {
+        if (handle.getColumnarTable() != null) {
+            return;
+        }
+
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            int uniqueColumns = readUniqueColumns(head);
+            if (uniqueColumns == 0) {
+                return;
+            }
+
+            List<TableIndex> indexes = getIndexes(handle, head);
+            for (int column = 0; column < layout.getFieldCount(); column++) {
+                if ((uniqueColumns & (1 << column)) == 0) {
+                    continue;
+                }
+
+                Set<Object> values = new HashSet<>();
+                Set<Object> existing = null;
+                for (List<Object> row : rows) {
+                    Object value = row.get(column);
+                    boolean duplicate = !values.add(value);
+                    if (!duplicate && existing == null) {
+                        List<Integer> found = findRecordsByIndex(handle, head, indexes, column, "==", value);
+                        if (found != null) {
+                            duplicate = !found.isEmpty();
+                        } else {
+                            existing = readColumnValues(handle, column);
+                        }
+                    }
+                    if (!duplicate && existing != null) {
+                        duplicate = existing.contains(value);
+                    }
+                    if (duplicate) {
+                        throw new IllegalArgumentException(String.format(
+                                "Duplicate value %s in unique column col%d", value, column));
+                    }
+                }
+            }
+        } finally {
+            unpin(handle, head);
+        }
+    }
+
+    /**
+     * Все значения столбца таблицы за один проход по частям
+     */
+    private Set<Object> readColumnValues(TableHandle handle, int column) throws IOException {
+        Set<Object> values = new HashSet<>();
+        try (RecordCursor cursor = new PartChainCursor(handle)) {
+            while (cursor.next()) {
+                values.add(cursor.getRecord().get(column));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Номера записей по их адресам в порядке возрастания. Просматриваются только
+     * индексы смещений частей, в которых лежат записи.
+     *
+     * @param head     закреплённый головной файл
+     * @param recheck  неточный индекс, нашедший адреса: записи, значение столбца которых
+     *                 не равно {@code key}, отбрасываются; {@code null} - проверка не нужна
+     * @return {@code null}, если адрес не указывает на живую запись таблицы
+     */
+    private List<Integer> toRecordIndices(TableHandle handle, PageFrame head, List<RowId> rowIds,
+                                          TableIndex recheck, Object key) throws IOException {
+        if (rowIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        TableLayout layout = getTableLayout(handle);
+        int rowWidth = layout.getRowWidth();
+        PartDirectory directory = getPartDirectory(handle, head);
+
+        Map<Integer, BitSet> slotsByPart = new HashMap<>();
+        for (RowId rowId : rowIds) {
+            if (rowId.getSlot() < 0) {
+                return null;
+            }
+            slotsByPart.computeIfAbsent(rowId.getPartNumber(), part -> new BitSet()).set(rowId.getSlot());
+        }
+
+        int[] indices = new int[rowIds.size()];
+        int found = 0;
+        for (Map.Entry<Integer, BitSet> entry : slotsByPart.entrySet()) {
+            int partNumber = entry.getKey();
+            int ordinal = partNumber == 0 ? 0 : directory == null ? -1 : directory.getOrdinal(partNumber);
+            if (ordinal < 0) {
+                return null;
+            }
+            PageFrame file = ordinal == 0 ? head : pinIfExists(handle, getTablePartPath(handle, head, partNumber));
+            if (file == null) {
+                return null;
+            }
+            try {
+                file.seek(50);
+                int recordsInPage = file.readInt();
+                if (directory != null && recordsInPage != directory.getCount(ordinal)) {
+                    return null;
+                }
+                long firstRecord = directory == null ? 0 : directory.getFirstRecord(ordinal);
+
+                // Индекс смещений хранится с конца файла: первым читается смещение последней записи
+                BitSet slots = entry.getValue();
+                int wanted = slots.cardinality();
+                int partFrom = found;
+                long[] offsets = recheck == null ? null : new long[wanted];
+                file.seek(file.length() - recordsInPage * 8L);
+                for (int i = recordsInPage - 1; i >= 0 && wanted > 0; i--) {
+                    long offset = entryOffset(file.readLong()) - TABLE_HEADER_SIZE;
+                    if (offset >= 0 && offset % rowWidth == 0 && slots.get((int) (offset / rowWidth))) {
+                        if (offsets != null) {
+                            offsets[found - partFrom] = offset + TABLE_HEADER_SIZE;
+                        }
+                        indices[found++] = (int) (firstRecord + i);
+                        wanted--;
+                    }
+                }
+                if (wanted > 0) {
+                    return null;
+                }
+
+                // Совпадение хэшей не означает совпадения значений: значение читается из записи
+                if (offsets != null) {
+                    int kept = partFrom;
+                    for (int i = partFrom; i < found; i++) {
+                        if (key.equals(readField(handle, file, layout, offsets[i - partFrom], recheck.getColumn()))) {
+                            indices[kept++] = indices[i];
+                        }
+                    }
+                    found = kept;
+                }
+            } finally {
+                if (file != head) {
+                    unpin(handle, file);
+                }
+            }
+        }
+        if (recheck == null && found != indices.length) {
+            return null;
+        }
+
+        Arrays.sort(indices, 0, found);
+        List<Integer> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(indices[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Читает запись открытой таблицы, начиная поиск с указанной части
+     */
+    private List<Object> readRecord(TableHandle handle, String partPath, int recordIndex, int recordsOnPrevPages)
+            throws IOException {
+        TableLayout layout = getTableLayout(handle);
+        PageFrame file = pin(handle, partPath);
+        int recordCountInThisPage;
+        String nextTablePath;
+        try {
+            // Получаем текущее количество записей на этой странице
+            file.seek(50);
+            recordCountInThisPage = file.readInt();
+            // Получаем текущее количество записей этой таблице (актуально только в головном файле)
+            int recordCountInTable = file.readInt();
+
+            if (file.getPath().equals(handle.getHeadPath())
+                    && (recordIndex < 0 || recordIndex >= recordCountInTable)) {
+                throw new IllegalArgumentException("Invalid record index: " + recordIndex +
+                        ", available records: " + recordCountInTable);
+            }
+
+            if (recordsOnPrevPages + recordCountInThisPage >= recordIndex + 1) {
+                return readRecordInPage(handle, file, layout, recordIndex - recordsOnPrevPages);
+            }
+            if (recordsOnPrevPages == 0 && file.getPath().equals(handle.getHeadPath())) {
+                // Запись не в головном файле: часть с ней берётся из каталога частей
+                List<Object> record = readRecordFromDirectory(handle, file, layout, recordIndex);
+                if (record != null) {
+                    return record;
+                }
+            }
+            nextTablePath = getNextTablePartPath(file);
+            if (nextTablePath == null) {
+                throw new IllegalArgumentException("Invalid record index: " + recordIndex +
+                        ", available records: " + (recordsOnPrevPages + recordCountInThisPage));
+            }
+        } finally {
+            unpin(handle, file);
+        }
+
+        return readRecord(handle, nextTablePath, recordIndex, recordsOnPrevPages + recordCountInThisPage);
+    }
+
+    /**
+     * Читает запись по её номеру внутри одной части таблицы
+     */
+    private List<Object> readRecordInPage(TableHandle handle, PageFrame file, TableLayout layout, int pageIndex)
+            throws IOException {
+        return readData(handle, file, layout, readRecordOffset(file, pageIndex));
+    }
+
+    /**
+     * Смещение данных записи по её номеру внутри части из индекса смещений
+     */
+    private long readRecordOffset(PageFrame file, int pageIndex) throws IOException {
+        return entryOffset(readOffsetEntry(file, pageIndex));
+    }
+
+    /**
+     * Элемент индекса смещений записи по её номеру внутри части: смещение данных
+     * в младших 32 битах и поколение слота в старших
+     */
+    private long readOffsetEntry(PageFrame file, int pageIndex) throws IOException {
+        long indexPosition = file.length() - (pageIndex + 1) * 8L;
+        if (indexPosition < TABLE_HEADER_SIZE) {
+            throw new IOException("Invalid index position");
+        }
+
+        file.seek(indexPosition);
+        long entry = file.readLong();
+        long dataOffset = entryOffset(entry);
+        if (dataOffset < TABLE_HEADER_SIZE || dataOffset >= file.length()) {
+            throw new IOException("Invalid data offset in index: " + dataOffset);
+        }
+        return entry;
+    }
+
+    /**
+     * Смещение данных записи из элемента индекса смещений. Части не больше
+     * {@link #MAX_PAGE_SIZE}, поэтому смещение занимает младшие 32 бита элемента.
+     */
+    private static long entryOffset(long entry) {
+        return entry & 0xFFFFFFFFL;
+    }
+
+    private static long toOffsetEntry(long dataOffset, int generation) {
+        return (long) generation << 32 | dataOffset;
+    }
+
+    /**
+     * Есть ли в головном файле счётчик поколений слотов (заголовок версии {@link #TABLE_HEADER_VERSION})
+     */
+    private boolean hasSlotGenerations(PageFrame head) {
+        return head.length() >= TABLE_HEADER_SIZE && head.getBuffer().get(TABLE_SCHEMA_OFFSET) == TABLE_HEADER_VERSION;
+    }
+
+    /**
+     * Выдаёт поколение для записи, занимающей слот. Значения счётчика не повторяются,
+     * поэтому адрес удалённой записи не совпадает с адресом записи, занявшей её слот позже.
+     * В головном файле прежнего формата счётчика нет, и поколение всегда 0.
+     */
+    private int nextSlotGeneration(PageFrame head) throws IOException {
+        if (!hasSlotGenerations(head)) {
+            return 0;
+        }
+        head.seek(TABLE_SLOT_GENERATION_OFFSET);
+        int generation = head.readInt() + 1;
+        head.seek(TABLE_SLOT_GENERATION_OFFSET);
+        head.writeInt(generation);
+        return generation;
+    }
+
+    /**
+     * Физический адрес записи по её элементу индекса смещений
+     */
+    private RowId toRowId(TableHandle handle, PageFrame file, TableLayout layout, long entry)
+            throws IOException {
+        int partNumber = file.getPath().equals(handle.getHeadPath()) ? 0 : getPartNumber(file.getPath());
+        if (partNumber < 0) {
+            throw new IOException("Table part cannot be addressed by row id: " + file.getPath());
+        }
+        int slot = (int) ((entryOffset(entry) - TABLE_HEADER_SIZE) / layout.getRowWidth());
+        return new RowId(partNumber, slot, (int) (entry >>> 32));
+    }
+
+    /**
+     * Открывает курсор последовательного чтения всех записей таблицы.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @throws IOException при ошибках чтения
+     */
+    @Override
+    public RecordCursor openRecordCursor(String tablePath) throws IOException {
+        //validateTxtExtension(tablePath);
+
+        TableHandle handle = openTable(tablePath);
+        ColumnarTable columnar = getColumnarTable(handle);
+        if (columnar != null) {
+            return columnar.openCursor(readColumnarCounts(handle)[0]);
+        }
+        return new PartChainCursor(handle);
+    }
+
+    /**
+     * Возвращает схему таблицы (например, ["int", "str_10"]).
+     *
+     * @param tablePath путь к файлу таблицы
+     * @throws IOException при ошибках чтения
+     */
+    @Override
+    public List<String> getTableSchema(String tablePath) throws IOException {
+        //validateTxtExtension(tablePath);
+
+        return getTableLayout(openTable(tablePath)).getSchema();
+    }
+
+    /**
+     * Курсор, проходящий цепочку голова -> _part1 -> _part2 один раз.
+     * Записи части декодируются целиком за одно закрепление её кадра,
+     * поэтому между вызовами {@link #next()} кадры не удерживаются.
+     */
+    private class PartChainCursor implements RecordCursor {
+        private final TableHandle handle;
+        private final TableLayout layout;
+
+        private String nextPartPath;
+        private List<List<Object>> partRecords = List.of();
+        private List<RowId> partRowIds = List.of();
+        private int partStartIndex;
+        private int positionInPart = -1;
+        private final Set<Path> visitedParts = new HashSet<>();
+
+        PartChainCursor(TableHandle handle) throws IOException {
+            this.handle = handle;
+            this.layout = getTableLayout(handle);
+            this.nextPartPath = handle.getHeadPath().toString();
+        }
+
+        @Override
+        public boolean next() throws IOException {
+            while (positionInPart + 1 >= partRecords.size()) {
+                if (nextPartPath == null) {
+                    return false;
+                }
+                partStartIndex += partRecords.size();
+                readPart(nextPartPath);
+            }
+            positionInPart++;
+            return true;
+        }
+
+        @Override
+        public int getIndex() {
+            return partStartIndex + positionInPart;
+        }
+
+        @Override
+        public RowId getRowId() {
+            return partRowIds.get(positionInPart);
+        }
+
+        @Override
+        public List<Object> getRecord() {
+            return partRecords.get(positionInPart);
+        }
+
+        @Override
+        public void close() {
+            partRecords = List.of();
+            partRowIds = List.of();
+            nextPartPath = null;
+        }
+
+        private void readPart(String partPath) throws IOException {
+            visitPart(visitedParts, partPath);
+
+            PageFrame file = pin(handle, partPath);
+            try {
+                file.seek(50);
+                int recordsInPage = file.readInt();
+
+                List<List<Object>> records = new ArrayList<>(recordsInPage);
+                List<RowId> rowIds = new ArrayList<>(recordsInPage);
+                for (int i = 0; i < recordsInPage; i++) {
+                    long entry = readOffsetEntry(file, i);
+                    records.add(readData(handle, file, layout, entryOffset(entry)));
+                    rowIds.add(toRowId(handle, file, layout, entry));
+                }
+
+                partRecords = records;
+                partRowIds = rowIds;
+                positionInPart = -1;
+                nextPartPath = getNextTablePartPath(file);
+            } finally {
+                unpin(handle, file);
+            }
+        }
+    }
+
+    /**
+     * Читает данные из файла согласно схеме
+     */
+    private List<Object> readData(TableHandle handle, PageFrame file, TableLayout layout, long dataOffset)
+            throws IOException {
+        List<Object> record = new ArrayList<>(layout.getFieldCount());
+
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            record.add(readField(handle, file, layout, dataOffset, i));
+        }
+
+        return record;
+    }
+
+    /**
+     * Читает одно поле записи: его положение вычисляется по раскладке без чтения предыдущих полей
+     */
+    private Object readField(TableHandle handle, PageFrame file, TableLayout layout, long dataOffset, int field)
+            throws IOException {
+        file.seek(dataOffset + layout.getOffset(field));
+        if (layout.isInt(field)) {
+            return file.readInt();
+        }
+
+        int maxLength = layout.getMaxLength(field);
+        int length = file.readInt();
+        if (length < 0 || length > maxLength) {
+            throw new IOException("String length exceeds max allowed size: " + length + " > " + maxLength);
+        }
+
+        if (length > layout.getInlineLength(field)) {
+            return new String(readOverflow(handle, file.readLong(), length), StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes = new byte[length];
+        file.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Дописывает длинное строковое значение ({@code длина + байты}) в конец файла переполнения таблицы
+     *
+     * @return смещение значения в файле переполнения
+     */
+    private long writeOverflow(TableHandle handle, byte[] value) throws IOException {
+        Path overflowPath = handle.getOverflowPath();
+        if (overflowPath == null) {
+            throw new IOException("Table has no overflow file: " + handle.getHeadPath());
+        }
+        if (!Files.exists(overflowPath)) {
+            Files.createFile(overflowPath);
+        }
+
+        FileChannel channel = handle.channel(overflowPath);
+        long position = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + value.length);
+        buffer.putInt(value.length).put(value).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+        return position;
+    }
+
+    /**
+     * Читает значение из файла переполнения таблицы по смещению, сохранённому в записи
+     */
+    private byte[] readOverflow(TableHandle handle, long position, int length) throws IOException {
+        Path overflowPath = handle.getOverflowPath();
+        if (overflowPath == null) {
+            throw new IOException("Table has no overflow file: " + handle.getHeadPath());
+        }
+
+        FileChannel channel = handle.channel(overflowPath);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + length);
+        while (buffer.hasRemaining()) {
+            if (position < 0 || channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Overflow value out of file bounds at " + position + ": " + overflowPath);
+            }
+        }
+        buffer.flip();
+        if (buffer.getInt() != length) {
+            throw new IOException("Overflow value length mismatch at " + position + ": " + overflowPath);
+        }
+
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Удаляет запись по указанному индексу.
+     *
+     * @param tablePath   путь к файлу таблицы
+     * @param recordIndex индекс записи (0-based)
+     * @throws IOException              при ошибках чтения/записи
+     * @throws IllegalArgumentException если индекс некорректен
+     */
+    @Override
+    public void deleteRecord(String tablePath, int recordIndex) throws IOException {
+        //validateTxtExtension(tablePath);
+
+        if (recordIndex < 0) {
+            throw new IllegalArgumentException("Invalid record index: " + recordIndex);
+        }
+
+        deleteRecords(tablePath, List.of(recordIndex));
+    }
+
+    /**
+     * Удаляет набор записей за один проход по цепочке частей.
+     * <p>
+     * Индексы каждой части собираются в вектор удалений, после чего часть
+     * обрабатывается целиком: слоты помечаются удалёнными, индекс смещений
+     * уплотняется, а счётчики части обновляются один раз. Общее количество
+     * записей в головном файле уменьшается один раз в конце.
+     *
+     * @param tablePath     путь к файлу таблицы
+     * @param sortedIndices индексы записей (0-based) до удаления, строго по возрастанию
+     * @return количество удалённых записей
+     * @throws IOException              при ошибках чтения/записи
+     * @throws IllegalArgumentException если индексы не упорядочены или выходят за пределы таблицы
+     */
+    @Override
+    public int deleteRecords(String tablePath, List<Integer> sortedIndices) throws IOException {
+        int[] indices = new int[sortedIndices.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = sortedIndices.get(i);
+            if (indices[i] < 0) {
+                throw new IllegalArgumentException("Invalid record index: " + indices[i]);
+            }
+            if (i > 0 && indices[i] <= indices[i - 1]) {
+                throw new IllegalArgumentException("Record indices must be sorted and distinct: "
+                        + indices[i - 1] + " before " + indices[i]);
+            }
+        }
+        if (indices.length == 0) {
+            return 0;
+        }
+
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return deleteColumnarRecords(handle, indices);
+        }
+        return deleteRecords(handle, indices);
+    }
+
+    /**
+     * Количество записей в таблице
+     *
+     * @param tablePath путь к файлу таблицы
+     * @throws IOException при ошибках чтения
+     */
+    @Override
+    public int getRecordCount(String tablePath) throws IOException {
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return readColumnarCounts(handle)[1];
+        }
+
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            head.seek(54);
+            return head.readInt();
+        } finally {
+            unpin(handle, head);
+        }
+    }
+
+    /**
+     * Удаляет все записи с номерами от {@code recordCount} до конца таблицы. Вместе с
+     * {@link #appendRecords(String, List)} возвращает таблицу к состоянию до загрузки:
+     * удаляются ровно дописанные записи, их значения убираются из индексов, а слоты
+     * становятся свободными до следующего сжатия.
+     *
+     * @param tablePath   путь к файлу таблицы
+     * @param recordCount количество записей, которое остаётся в таблице
+     * @return количество удалённых записей
+     * @throws IOException              при ошибках чтения/записи
+     * @throws IllegalArgumentException если в таблице меньше {@code recordCount} записей
+     */
+    @Override
+    public int truncateTable(String tablePath, int recordCount) throws IOException {
+        int total = getRecordCount(tablePath);
+        if (recordCount < 0 || recordCount > total) {
+            throw new IllegalArgumentException("Invalid record count: " + recordCount +
+                    ", total records: " + total);
+        }
+        if (recordCount == total) {
+            return 0;
+        }
+
+        int[] indices = new int[total - recordCount];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = recordCount + i;
+        }
+
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return deleteColumnarRecords(handle, indices);
+        }
+        return deleteRecords(handle, indices);
+    }
+
+    private int deleteRecords(TableHandle handle, int[] indices) throws IOException {
+        String headPath = handle.getHeadPath().toString();
+        TableLayout layout = getTableLayout(handle);
+        int totalRecords;
+        List<TableIndex> indexes;
+
+        String startPath = headPath;
+        long firstInStart = 0;
+
+        PageFrame head = pin(handle, headPath);
+        try {
+            checkPartSize(head);
+            syncPartDirectory(handle, head);
+            indexes = getIndexes(handle, head);
+            head.seek(54);
+            totalRecords = head.readInt();
+            int lastIndex = indices[indices.length - 1];
+            if (lastIndex >= totalRecords) {
+                throw new IllegalArgumentException("Invalid record index: " + lastIndex +
+                        ", total records: " + totalRecords);
+            }
+
+            // Части перед первой удаляемой записью пропускаются по каталогу частей
+            PartDirectory directory = getPartDirectory(handle, head);
+            int ordinal = directory == null ? -1 : directory.find(indices[0]);
+            if (ordinal > 0) {
+                String partPath = getTablePartPath(handle, head, directory.getPartNumber(ordinal));
+                PageFrame file = pinIfExists(handle, partPath);
+                try {
+                    if (file != null) {
+                        file.seek(50);
+                        if (file.readInt() == directory.getCount(ordinal)) {
+                            startPath = partPath;
+                            firstInStart = directory.getFirstRecord(ordinal);
+                        }
+                    }
+                } finally {
+                    if (file != null) {
+                        unpin(handle, file);
+                    }
+                }
+                if (startPath.equals(headPath)) {
+                    invalidatePartDirectory(handle);
+                }
+            }
+        } finally {
+            unpin(handle, head);
+        }
+
+        // Значения индексируемых столбцов и адреса удалённых записей
+        List<List<Object>> deletedKeys = new ArrayList<>();
+        List<RowId> deletedRowIds = new ArrayList<>();
+
+        int deleted = 0;
+        try {
+            long firstInPart = firstInStart;
+            int next = 0;
+            Set<Path> visitedParts = new HashSet<>();
+            for (String partPath = startPath; next < indices.length; ) {
+                if (partPath == null) {
+                    throw new IOException("Record index " + indices[next] + " is beyond the last table part");
+                }
+                visitPart(visitedParts, partPath);
+
+                PageFrame file = pin(handle, partPath);
+                try {
+                    checkPartSize(file);
+                    file.seek(50);
+                    int recordsInPage = file.readInt();
+
+                    // Вектор удалений части: локальные номера удаляемых записей
+                    BitSet deletion = new BitSet(recordsInPage);
+                    for (; next < indices.length && indices[next] < firstInPart + recordsInPage; next++) {
+                        deletion.set((int) (indices[next] - firstInPart));
+                    }
+                    if (!deletion.isEmpty()) {
+                        // Значения читаются до того, как маркер удаления затрёт начало записи
+                        List<List<Object>> partKeys = new ArrayList<>();
+                        List<RowId> partRowIds = new ArrayList<>();
+                        if (!indexes.isEmpty()) {
+                            for (int i = deletion.nextSetBit(0); i >= 0; i = deletion.nextSetBit(i + 1)) {
+                                long entry = readOffsetEntry(file, i);
+                                List<Object> keys = new ArrayList<>(indexes.size());
+                                for (TableIndex index : indexes) {
+                                    keys.add(readField(handle, file, layout, entryOffset(entry), index.getColumn()));
+                                }
+                                partKeys.add(keys);
+                                partRowIds.add(toRowId(handle, file, layout, entry));
+                            }
+                        }
+                        deleteFromPart(handle, file, recordsInPage, deletion);
+                        deleted += deletion.cardinality();
+                        deletedKeys.addAll(partKeys);
+                        deletedRowIds.addAll(partRowIds);
+                    }
+
+                    firstInPart += recordsInPage;
+                    partPath = getNextTablePartPath(file);
+                } finally {
+                    unpin(handle, file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            handle.setPartDirectory(null);
+            throw e;
+        } finally {
+            // Счётчик отражает части, которые успели обработаться
+            if (deleted > 0) {
+                head = pin(handle, headPath);
+                try {
+                    head.seek(54);
+                    head.writeInt(totalRecords - deleted);
+
+                    List<TableIndex> updated = new ArrayList<>(indexes.size());
+                    for (int i = 0; i < indexes.size(); i++) {
+                        if (deleteFromIndex(indexes.get(i), i, deletedKeys, deletedRowIds)) {
+                            updated.add(indexes.get(i));
+                        }
+                    }
+                    stampIndexes(updated, stampTable(handle, head));
+                } finally {
+                    unpin(handle, head);
                 }
             }
-            else {
-                throw new IllegalArgumentException("Unknown field type: " + type);
-            }
         }
-        return size;
+        return deleted;
+    }
+
+    private void checkPartSize(PageFrame file) throws IOException {
+        if (file.length() < TABLE_HEADER_SIZE + 8) {
+            throw new IOException("File is too small or corrupted");
+        }
     }
 
     /**
-     * Записывает данные в файл согласно схеме
+     * Удаляет из части записи, отмеченные в векторе удалений.
+     * <p>
+     * Изменяются только счётчики части, маркеры удалённых слотов и индекс смещений
+     * этой части. Исходные байты этих участков сохраняются в журнале отката
+     * кадра, и при ошибке кадр возвращается в исходное состояние до записи на диск.
      */
-    private void writeData(RandomAccessFile file, List<Object> data, List<String> schema) throws IOException {
-        byte[] paddingBuffer = new byte[1024];
-
-        for (int i = 0; i < schema.size(); i++) {
-            String type = schema.get(i);
-            Object value = data.get(i);
+    private void deleteFromPart(TableHandle handle, PageFrame file, int recordsInPage, BitSet deletion)
+            throws IOException {
+        PageUndo undo = new PageUndo(file);
+        try {
+            long indexStart = file.length() - (long) recordsInPage * 8;
+            if (indexStart < TABLE_HEADER_SIZE) {
+                throw new IOException("Invalid index start position");
+            }
 
-            if (type.equals("int")) {
-                if (!(value instanceof Integer)) {
-                    throw new IllegalArgumentException("Field " + i + " must be Integer");
+            // Запись i хранится в file.length() - (i + 1) * 8, вместе с поколением слота
+            long[] entries = new long[recordsInPage];
+            for (int i = 0; i < recordsInPage; i++) {
+                file.seek(file.length() - (long) (i + 1) * 8);
+                entries[i] = file.readLong();
+            }
+            for (int i = deletion.nextSetBit(0); i >= 0; i = deletion.nextSetBit(i + 1)) {
+                long offset = entryOffset(entries[i]);
+                if (offset < TABLE_HEADER_SIZE || offset >= indexStart) {
+                    throw new IOException("Invalid record offset in index: " + offset);
                 }
+            }
 
-                file.writeInt((Integer) value);
-            } else if (type.startsWith("str_")) {
-                if (!(value instanceof String str)) {
-                    throw new IllegalArgumentException("Field " + i + " must be String");
-                }
+            boolean headerFields = hasHeaderFields(file);
+            undo.save(50, 4);
+            if (headerFields) {
+                undo.save(TABLE_FREE_SLOTS_OFFSET, 4);
+            }
+            undo.save(indexStart, recordsInPage * 8);
 
-                byte[] strBytes = str.getBytes(StandardCharsets.UTF_8);
-                int maxLength = Integer.parseInt(type.substring(4));
+            for (int i = deletion.nextSetBit(0); i >= 0; i = deletion.nextSetBit(i + 1)) {
+                undo.save(entryOffset(entries[i]), 1);
+                file.seek(entryOffset(entries[i]));
+                file.writeByte(0xFF); // Маркер удаления
+            }
 
-                if (strBytes.length > maxLength) {
-                    throw new IllegalArgumentException("String too long for field " + i);
+            // Оставшиеся записи сдвигаются к концу файла, сохраняя порядок
+            int kept = 0;
+            for (int i = 0; i < recordsInPage; i++) {
+                if (!deletion.get(i)) {
+                    file.seek(file.length() - (long) (kept + 1) * 8);
+                    file.writeLong(entries[i]);
+                    kept++;
                 }
+            }
 
-                file.writeInt(strBytes.length);
-                file.write(strBytes);
+            writePartRecordCount(handle, file, kept);
 
-                int paddingSize = maxLength - strBytes.length;
-                while (paddingSize > 0) {
-                    int chunk = Math.min(paddingSize, paddingBuffer.length);
-                    file.write(paddingBuffer, 0, chunk);
-                    paddingSize -= chunk;
-                }
+            // Слоты записей становятся свободными и будут заняты следующими вставками
+            if (headerFields) {
+                file.seek(TABLE_FREE_SLOTS_OFFSET);
+                int freeSlots = file.readInt();
+                file.seek(TABLE_FREE_SLOTS_OFFSET);
+                file.writeInt(freeSlots + recordsInPage - kept);
             }
-            else {
-                throw new IllegalArgumentException("Unknown field type: " + type);
+
+            boolean isHead = file.getPath().equals(handle.getHeadPath());
+            int ordinal = isHead ? 0 : readPartOrdinal(file);
+            if (handle.getFreeSlotsHintPath() == null || ordinal < handle.getFreeSlotsHint()) {
+                handle.setFreeSlotsHint(ordinal, file.getPath());
             }
+        } catch (Exception e) {
+            undo.rollback();
+            throw new IOException("Failed to delete record", e);
         }
     }
 
     /**
-     * Читает запись из таблицы по индексу
+     * Создаёт индекс {@code int}-столбца на B+-дереве ({@code CREATE INDEX})
+     *
+     * @see #createIndex(String, int, IndexType)
      */
     @Override
-    public List<Object> readRecord(String tablePath, int recordIndex, int recordsOnPrevPages) throws IOException {
-        //validateTxtExtension(tablePath);
-
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "r")) {
-            // Получаем текущее количество записей на этой странице
-            file.seek(50);
-            int recordCountInThisPage = file.readInt();
-            // Получаем текущее количество записей этой таблице
-            int recordCountInTable = file.readInt();
+    public void createIndex(String tablePath, int columnIndex) throws IOException {
+        createIndex(tablePath, columnIndex, IndexType.BTREE);
+    }
 
-            if (recordIndex < 0 || recordIndex >= recordCountInTable) {
-                throw new IllegalArgumentException("Invalid record index: " + recordIndex +
-                        ", available records: " + recordCountInTable);
-            }
+    /**
+     * Создаёт индекс столбца ({@code CREATE INDEX ... USING BTREE|HASH}). Индекс строится
+     * по записям таблицы и дальше поддерживается при вставке и удалении. B+-дерево строится
+     * по {@code int}-столбцу и отбирает записи по условиям {@code =, <, <=, >, >=} с константой,
+     * хэш-индекс - по столбцу любого типа и только по условию {@code =}.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param columnIndex индекс столбца (0-based)
+     * @param type вид индекса
+     * @throws IOException при ошибках ввода-вывода или если части таблицы не адресуются номером
+     * @throws IllegalArgumentException если B+-дерево строится не по {@code int}-столбцу,
+     *         такой индекс уже есть или таблица хранится по столбцам
+     */
+    @Override
+    public void createIndex(String tablePath, int columnIndex, IndexType type) throws IOException {
+        TableHandle handle = openTable(tablePath);
+        TableLayout layout = getTableLayout(handle);
+        if (columnIndex < 0 || columnIndex >= layout.getFieldCount()) {
+            throw new IllegalArgumentException(
+                    String.format("Column index out of bounds (0-%d)", layout.getFieldCount() - 1));
+        }
+        if (handle.getColumnarTable() != null) {
+            throw new IllegalArgumentException("Indexes are not supported for columnar tables");
+        }
+        if (type == IndexType.BTREE && !layout.isInt(columnIndex)) {
+            throw new IllegalArgumentException("B+tree index requires an int column: col" + columnIndex);
+        }
 
-            if (recordsOnPrevPages + recordCountInThisPage < recordIndex + 1) {
-                String nextTablePath = getNextTablePartPath(file);
-                return readRecord(nextTablePath, recordIndex, recordsOnPrevPages + recordCountInThisPage);
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            List<TableIndex> indexes = getIndexes(handle, head);
+            for (TableIndex index : indexes) {
+                if (index.getColumn() == columnIndex && index.getType() == type) {
+                    throw new IllegalArgumentException(
+                            type + " index already exists on column col" + columnIndex);
+                }
             }
 
-            long indexPosition = file.length() - (recordIndex - recordsOnPrevPages + 1) * 8L;
-            if (indexPosition < TABLE_HEADER_SIZE) {
-                throw new IOException("Invalid index position");
+            int stamp = readDirectoryStamp(head);
+            if (stamp == 0) {
+                stamp = stampTable(handle, head);
             }
-
-            file.seek(indexPosition);
-            long dataOffset = file.readLong();
-            if (dataOffset < TABLE_HEADER_SIZE || dataOffset >= file.length()) {
-                throw new IOException("Invalid data offset in index: " + dataOffset);
+            if (stamp == 0) {
+                throw new IOException("Table parts cannot be addressed by row id: " + handle.getHeadPath());
             }
-
-            return readData(file, getTableSchema(file), dataOffset);
+            handle.getIndexes().add(buildIndex(handle, getIndexPath(handle.getHeadPath(), columnIndex, type),
+                    columnIndex, type, stamp));
+        } finally {
+            unpin(handle, head);
         }
     }
 
     /**
-     * Читает данные из файла согласно схеме
+     * Объявляет столбец уникальным ({@code PRIMARY KEY} или {@code UNIQUE} в {@code CREATE TABLE}).
+     * Столбец отмечается в головном файле, а уникальность проверяется при каждой вставке
+     * по индексу столбца: существующему индексу, поддерживающему равенство, или новому
+     * B+-дереву для {@code int} и хэш-индексу для строк.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @param columnIndex индекс столбца (0-based)
+     * @throws IOException при ошибках ввода-вывода или если части таблицы не адресуются номером
+     * @throws IllegalArgumentException если в столбце уже есть повторяющиеся значения
+     *         или таблица хранится по столбцам
      */
-    private List<Object> readData(RandomAccessFile file, List<String> schema, long dataOffset) throws IOException {
-        List<Object> record = new ArrayList<>();
-        file.seek(dataOffset);
+    @Override
+    public void addUniqueConstraint(String tablePath, int columnIndex) throws IOException {
+        TableHandle handle = openTable(tablePath);
+        TableLayout layout = getTableLayout(handle);
+        if (columnIndex < 0 || columnIndex >= layout.getFieldCount()) {
+            throw new IllegalArgumentException(
+                    String.format("Column index out of bounds (0-%d)", layout.getFieldCount() - 1));
+        }
+        if (handle.getColumnarTable() != null) {
+            throw new IllegalArgumentException("Unique constraints are not supported for columnar tables");
+        }
 
-        for (String type : schema) {
-            if (type.equals("int")) {
-                record.add(file.readInt());
-            } else if (type.startsWith("str_")) {
-                int maxLength = Integer.parseInt(type.substring(4));
-                int length = file.readInt();
-                if (length > maxLength) {
-                    throw new IOException("String length exceeds max allowed size: " + length + " > " + maxLength);
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            int uniqueColumns = readUniqueColumns(head);
+            if ((uniqueColumns & (1 << columnIndex)) != 0) {
+                return;
+            }
+
+            Set<Object> values = new HashSet<>();
+            try (RecordCursor cursor = new PartChainCursor(handle)) {
+                while (cursor.next()) {
+                    Object value = cursor.getRecord().get(columnIndex);
+                    if (!values.add(value)) {
+                        throw new IllegalArgumentException(
+                                String.format("Duplicate value %s in column col%d", value, columnIndex));
+                    }
                 }
+            }
 
-                byte[] bytes = new byte[length];
-                file.readFully(bytes);
-                record.add(new String(bytes, StandardCharsets.UTF_8));
+            List<TableIndex> indexes = getIndexes(handle, head);
+            int stamp = readDirectoryStamp(head);
+            if (stamp == 0) {
+                stamp = stampTable(handle, head);
+            }
+            if (stamp == 0) {
+                throw new IOException("Table parts cannot be addressed by row id: " + handle.getHeadPath());
+            }
 
-                file.skipBytes(maxLength - length);
-            } else {
-                throw new IOException("Unknown field type: " + type);
+            boolean indexed = false;
+            for (TableIndex index : indexes) {
+                indexed |= index.getColumn() == columnIndex && index.supports("==");
             }
+            if (!indexed) {
+                IndexType type = getUniqueIndexType(layout, columnIndex);
+                handle.getIndexes().add(buildIndex(handle, getIndexPath(handle.getHeadPath(), columnIndex, type),
+                        columnIndex, type, stamp));
+            }
+            writeUniqueColumns(head, uniqueColumns | 1 << columnIndex);
+        } finally {
+            unpin(handle, head);
         }
-
-        return record;
     }
 
     /**
-     * Удаляет запись по указанному индексу.
+     * Сжимает таблицу: переписывает живые записи подряд в плотно заполненные части,
+     * объединяя полупустые, пересчитывает счётчики и указатели и удаляет старые части.
+     * <p>
+     * Новые части пишутся под ещё не занятыми номерами, а головной файл собирается
+     * во временном файле и атомарно подменяет старый. До подмены головы таблица
+     * остаётся прежней, после неё старые части больше не используются и удаляются.
      *
-     * @param tablePath   путь к файлу таблицы
-     * @param recordIndex индекс записи (0-based)
-     * @throws IOException              при ошибках чтения/записи
-     * @throws IllegalArgumentException если индекс некорректен
+     * @param tablePath путь к файлу таблицы
+     * @return количество удалённых файлов частей
+     * @throws IOException при ошибках ввода-вывода
+     * @throws IllegalStateException если части таблицы используются другим головным файлом
      */
     @Override
-    public void deleteRecord(String tablePath, int recordIndex) throws IOException {
+    public int vacuumTable(String tablePath) throws IOException {
         //validateTxtExtension(tablePath);
 
-        if (recordIndex < 0) {
-            throw new IllegalArgumentException("Invalid record index: " + recordIndex);
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            compactColumnarTable(handle);
+            return 0;
         }
+        return vacuumTable(handle, getTableLayout(handle));
+    }
 
-        Path backupPath = createBackup(tablePath);
+    /**
+     * Задаёт долю освободившихся слотов, при которой {@link #autoVacuumTable(String)}
+     * сжимает таблицу. Само удаление записей таблицу не сжимает.
+     *
+     * @param ratio доля от 0 до 1; 0 выключает автоматическое сжатие
+     */
+    public void setAutoVacuumRatio(double ratio) {
+        if (!(ratio >= 0 && ratio < 1)) {
+            throw new IllegalArgumentException("Auto-vacuum ratio must be in [0, 1): " + ratio);
+        }
+        this.autoVacuumRatio = ratio;
+    }
 
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "rw")) {
-            // 1. Проверка минимального размера файла
-            if (file.length() < TABLE_HEADER_SIZE + 8) {
-                throw new IOException("File is too small or corrupted");
-            }
+    /**
+     * Включает хранение заполненных частей таблиц в сжатом виде ({@link PartCompression}).
+     * Часть сжимается, когда за ней в цепочке появляется следующая; изменённая позже
+     * часть снова записывается несжатой и сжимается заново при сжатии таблицы (VACUUM).
+     */
+    public void setCompressFullParts(boolean compressFullParts) {
+        this.compressFullParts = compressFullParts;
+    }
 
-            file.seek(50);
-            int recordsInPage = file.readInt();
-            int totalRecords = file.readInt();
+    /**
+     * Сжимает построчную таблицу, если доля освободившихся слотов достигла порога
+     * {@link #setAutoVacuumRatio(double)}. Вызывается исполнителем запросов после того,
+     * как DELETE завершился, а не изнутри удаления записей.
+     *
+     * @param tablePath путь к файлу таблицы
+     * @return {@code true}, если таблица была сжата
+     * @throws IOException при ошибках чтения/записи
+     */
+    @Override
+    public boolean autoVacuumTable(String tablePath) throws IOException {
+        if (autoVacuumRatio <= 0) {
+            return false;
+        }
 
-            if (recordIndex >= totalRecords) {
-                throw new IllegalArgumentException("Invalid record index: " + recordIndex +
-                        ", total records: " + totalRecords);
+        TableHandle handle = openTable(tablePath);
+        if (getColumnarTable(handle) != null) {
+            return false;
+        }
+        return autoVacuum(handle);
+    }
+
+    /**
+     * Сжимает таблицу, если доля освободившихся слотов достигла порога и сжатие
+     * позволит удалить хотя бы одну часть
+     */
+    private boolean autoVacuum(TableHandle handle) throws IOException {
+        TableLayout layout = getTableLayout(handle);
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            if (!getPartChainBase(handle, head).toAbsolutePath().normalize().equals(handle.getHeadPath())) {
+                // Голова - копия со ссылками на части оригинала (временная таблица транзакции)
+                return false;
             }
+            head.seek(54);
+            int recordCountInTable = head.readInt();
+            TableTail tail = findTableTail(handle, head, layout);
+            long freeSlots = countFreeSlots(head, layout, tail, recordCountInTable);
+            long usedSlots = freeSlots + recordCountInTable;
+
+            if (tail.ordinal == 0 || freeSlots < getPartCapacity(readPageSize(head), layout)
+                    || freeSlots < usedSlots * autoVacuumRatio) {
+                return false;
+            }
+        } finally {
+            unpin(handle, head);
+        }
+        vacuumTable(handle, layout);
+        return true;
+    }
 
-            if (recordIndex >= recordsInPage) {
-                file.seek(TABLE_HEADER_SIZE - TABLE_POINTER_SIZE);
-                byte[] pointer = new byte[TABLE_POINTER_SIZE];
-                file.readFully(pointer);
-                String nextPagePath = new String(pointer, StandardCharsets.UTF_8).trim();
+    /**
+     * Поколоночное хранилище открытой таблицы или {@code null} для построчной таблицы
+     */
+    private ColumnarTable getColumnarTable(TableHandle handle) throws IOException {
+        getTableLayout(handle);
+        return handle.getColumnarTable();
+    }
 
-                if (!nextPagePath.isEmpty()) {
-                    deleteRecord(nextPagePath, recordIndex - recordsInPage);
+    /**
+     * Счётчики поколоночной таблицы из головного файла: строки в сегментах и живые записи
+     */
+    private int[] readColumnarCounts(TableHandle handle) throws IOException {
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            head.seek(50);
+            return new int[] {head.readInt(), head.readInt()};
+        } finally {
+            unpin(handle, head);
+        }
+    }
 
-                    // Обновляем общий счетчик записей
-                    file.seek(50);
-                    file.writeInt(recordIndex);
-                    file.writeInt(totalRecords - 1);
-                }
-                return;
-            }
-            List<Long> offsets = readOffsets(file, recordsInPage);
-            long deletedOffset = offsets.remove(recordIndex);
-            file.seek(deletedOffset);
-            file.writeByte(0xFF); // Маркер удаления
+    private void writeColumnarCounts(TableHandle handle, int physicalRows, int liveRows) throws IOException {
+        PageFrame head = pin(handle, handle.getHeadPath().toString());
+        try {
+            head.seek(50);
+            head.writeInt(physicalRows);
+            head.writeInt(liveRows);
+        } finally {
+            unpin(handle, head);
+        }
+    }
 
-            updateFileAfterDeletion(file, recordsInPage - 1, offsets);
-            file.seek(54);
-            file.writeInt(totalRecords - 1);
+    /**
+     * Дописывает записи в сегменты столбцов; счётчики головы обновляются последними
+     */
+    private void addColumnarRecords(TableHandle handle, List<List<Object>> rows) throws IOException {
+        int[] counts = readColumnarCounts(handle);
+        handle.getColumnarTable().append(rows, counts[0]);
+        writeColumnarCounts(handle, counts[0] + rows.size(), counts[1] + rows.size());
+    }
 
-            Files.delete(backupPath);
-        } catch (Exception e) {
-            restoreFromBackup(tablePath, backupPath);
-            throw new IOException("Failed to delete record", e);
+    private List<Object> readColumnarRecord(TableHandle handle, int recordIndex) throws IOException {
+        int[] counts = readColumnarCounts(handle);
+        if (recordIndex < 0 || recordIndex >= counts[1]) {
+            throw new IllegalArgumentException("Invalid record index: " + recordIndex +
+                    ", available records: " + counts[1]);
         }
+
+        ColumnarTable columnar = handle.getColumnarTable();
+        return columnar.readRow(ColumnarTable.toPhysicalRow(columnar.readDeleted(counts[0]), recordIndex));
     }
 
-    /** Чтение смещений */
-    private List<Long> readOffsets(RandomAccessFile file, int recordCount) throws IOException {
-        long indexStart = file.length() - (long) recordCount * 8;
-        if (indexStart < TABLE_HEADER_SIZE) {
-            throw new IOException("Invalid index start position");
+    private List<Object> readColumnarRecord(TableHandle handle, RowId rowId) throws IOException {
+        int physicalRows = readColumnarCounts(handle)[0];
+        ColumnarTable columnar = handle.getColumnarTable();
+        int row = rowId.getSlot();
+        // Сжатие переписывает сегменты в новом поколении, и строки получают другие номера
+        if (rowId.getPartNumber() != 0 || rowId.getGeneration() != columnar.getGeneration()
+                || row < 0 || row >= physicalRows || columnar.readDeleted(physicalRows).get(row)) {
+            throw new IllegalArgumentException("Invalid row id: " + rowId);
         }
+        return columnar.readRow(row);
+    }
 
-        List<Long> offsets = new ArrayList<>();
-        file.seek(indexStart);
+    private RowId getColumnarRowId(TableHandle handle, int recordIndex) throws IOException {
+        int[] counts = readColumnarCounts(handle);
+        if (recordIndex < 0 || recordIndex >= counts[1]) {
+            throw new IllegalArgumentException("Invalid record index: " + recordIndex +
+                    ", available records: " + counts[1]);
+        }
 
-        for (int i = 0; i < recordCount; i++) {
-            offsets.add(0, file.readLong());
+        ColumnarTable columnar = handle.getColumnarTable();
+        return new RowId(0, ColumnarTable.toPhysicalRow(columnar.readDeleted(counts[0]), recordIndex),
+                columnar.getGeneration());
+    }
+
+    private int deleteColumnarRecords(TableHandle handle, int[] indices) throws IOException {
+        int[] counts = readColumnarCounts(handle);
+        int lastIndex = indices[indices.length - 1];
+        if (lastIndex >= counts[1]) {
+            throw new IllegalArgumentException("Invalid record index: " + lastIndex +
+                    ", total records: " + counts[1]);
         }
 
-        return offsets;
+        handle.getColumnarTable().delete(indices, counts[0]);
+        writeColumnarCounts(handle, counts[0], counts[1] - indices.length);
+        return indices.length;
     }
 
     /**
-     * Усечение файла до нового размера и обновление индекса смещений.
+     * Переписывает сегменты поколоночной таблицы без удалённых строк.
+     * <p>
+     * Как и при сжатии построчной таблицы, новые сегменты пишутся под следующим номером
+     * поколения, а головной файл с новыми счётчиками собирается во временном файле и
+     * атомарно подменяет старый. До подмены головы таблица читает прежние сегменты,
+     * после неё прежние сегменты больше не используются и удаляются.
+     *
+     * @throws IllegalStateException если сегменты принадлежат другому головному файлу
      */
-    private void updateFileAfterDeletion(RandomAccessFile file, int newRecordCount, List<Long> offsets) throws IOException {
-        file.seek(50);
-        file.writeInt(newRecordCount);
+    private void compactColumnarTable(TableHandle handle) throws IOException {
+        Path headPath = handle.getHeadPath();
+        Path newHeadPath = headPath.resolveSibling(headPath.getFileName() + ".vacuum");
+        ColumnarTable columnar = handle.getColumnarTable();
+        ColumnarTable compacted = columnar.atGeneration(columnar.getGeneration() + 1);
+
+        PageFrame head = pin(handle, headPath.toString());
+        try {
+            // Копия головы (временная таблица транзакции) читает сегменты оригинала
+            if (!headPath.getFileName().toString().equals(readTableName(head) + ".txt")) {
+                throw new IllegalStateException("Table segments are shared with another head file: " + headPath);
+            }
+
+            head.seek(50);
+            int physicalRows = head.readInt();
+            BitSet deleted = columnar.readDeleted(physicalRows);
+            if (deleted.isEmpty()) {
+                return;
+            }
+
+            int liveRows = columnar.compactInto(compacted, deleted, physicalRows);
+            try {
+                byte[] header = new byte[Math.toIntExact(head.length())];
+                head.seek(0);
+                head.readFully(header);
+                ByteBuffer.wrap(header)
+                        .putInt(50, liveRows)
+                        .putInt(54, liveRows)
+                        .putInt(COLUMNAR_GENERATION_OFFSET, compacted.getGeneration());
+                Files.write(newHeadPath, header);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(newHeadPath);
+                compacted.deleteFiles();
+                throw e;
+            }
+        } finally {
+            unpin(handle, head);
+        }
 
-        // Перезаписываем индексы смещений
-        long newIndexStart = file.length() - (long) newRecordCount * 8;
-        file.seek(newIndexStart);
-        for (int i = offsets.size() - 1; i >= 0; i--) {
-            file.writeLong(offsets.get(i));
+        // Подмена головы - момент, с которого таблица состоит из новых сегментов
+        closeTable(headPath.toString());
+        try {
+            Files.move(newHeadPath, headPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(newHeadPath, headPath, StandardCopyOption.REPLACE_EXISTING);
         }
+        columnar.deleteFiles();
     }
 
     /**
-     * Создание резервной копии файла таблицы.
-     * Возвращает путь к созданному backup-файлу с расширением .bak.
+     * Индексы живых записей поколоночной таблицы, значения выбранных столбцов которых
+     * удовлетворяют условию. Читаются только сегменты этих столбцов.
      */
-    private Path createBackup(String tablePath) throws IOException {
-        Path path = Paths.get(tablePath);
-        Path backup = path.resolveSibling(path.getFileName() + ".bak");
-        Files.copy(path, backup, StandardCopyOption.REPLACE_EXISTING);
-        return backup;
+    private List<Integer> findColumnarRecords(TableHandle handle, int[] fields, Predicate<Object[]> condition)
+            throws IOException {
+        ColumnarTable columnar = handle.getColumnarTable();
+        int physicalRows = readColumnarCounts(handle)[0];
+        BitSet deleted = columnar.readDeleted(physicalRows);
+
+        List<Integer> matchingIndices = new ArrayList<>();
+        Object[][] columns = new Object[fields.length][];
+        Object[] values = new Object[fields.length];
+        int index = 0;
+        for (int from = 0; from < physicalRows; from += ColumnarTable.CHUNK_ROWS) {
+            int to = Math.min(physicalRows, from + ColumnarTable.CHUNK_ROWS);
+            for (int i = 0; i < fields.length; i++) {
+                columns[i] = columnar.readColumn(fields[i], from, to);
+            }
+
+            for (int row = from; row < to; row++) {
+                if (deleted.get(row)) {
+                    continue;
+                }
+                for (int i = 0; i < fields.length; i++) {
+                    values[i] = columns[i][row - from];
+                }
+                if (condition.test(values)) {
+                    matchingIndices.add(index);
+                }
+                index++;
+            }
+        }
+        return matchingIndices;
     }
 
-    /**
-     * Восстановление таблицы из резервной копии.
-     * Заменяет текущий файл таблицы backup-файлом, если он существует.
-     */
-    private void restoreFromBackup(String tablePath, Path backup) throws IOException {
-        Path target = Paths.get(tablePath);
-        if (Files.exists(target)) {
-            Files.delete(target);
+    private int vacuumTable(TableHandle handle, TableLayout layout) throws IOException {
+        Path headPath = handle.getHeadPath();
+        Path newHeadPath = headPath.resolveSibling(headPath.getFileName() + ".vacuum");
+        List<Path> oldParts = new ArrayList<>();
+        int newPartCount = 0;
+
+        PageFrame head = pin(handle, headPath.toString());
+        try {
+            Path base = getPartChainBase(handle, head);
+            if (!base.toAbsolutePath().normalize().equals(headPath)) {
+                throw new IllegalStateException("Table parts are shared with another head file: " + base);
+            }
+
+            String tableName = readTableName(head);
+            int pageSize = readPageSize(head);
+            int capacity = getPartCapacity(pageSize, layout);
+            int rowWidth = layout.getRowWidth();
+            byte[] row = new byte[rowWidth];
+
+            // Старые части и наибольший занятый ими номер
+            int lastPartNumber = 0;
+            Set<Path> visitedParts = new HashSet<>(List.of(headPath));
+            for (String partPath = getNextTablePartPath(head); partPath != null; ) {
+                visitPart(visitedParts, partPath);
+                Path part = Paths.get(partPath).toAbsolutePath().normalize();
+                oldParts.add(part);
+                lastPartNumber = Math.max(lastPartNumber, getPartNumber(part));
+
+                PageFrame file = pin(handle, partPath);
+                try {
+                    partPath = getNextTablePartPath(file);
+                } finally {
+                    unpin(handle, file);
+                }
+            }
+
+            PageFrame newHead = newTablePart(newHeadPath.toString(), tableName, 0, layout, pageSize, 0);
+            // Счётчик поколений продолжается: перенесённые записи получают новые поколения,
+            // и адреса, выданные до сжатия, не совпадут ни с одним новым
+            if (hasSlotGenerations(head)) {
+                head.seek(TABLE_SLOT_GENERATION_OFFSET);
+                int generation = head.readInt();
+                newHead.seek(TABLE_SLOT_GENERATION_OFFSET);
+                newHead.writeInt(generation);
+            }
+            PageFrame page = newHead;
+            int pageNumber = 0;
+            int pageOrdinal = 0;
+            int countInPage = 0;
+            int written = 0;
+
+            for (int partIndex = -1; partIndex < oldParts.size(); partIndex++) {
+                PageFrame file = partIndex < 0 ? head : pin(handle, oldParts.get(partIndex).toString());
+                try {
+                    file.seek(50);
+                    int recordCountInThisPage = file.readInt();
+                    long indexStart = file.length() - recordCountInThisPage * 8L;
+                    if (recordCountInThisPage < 0 || indexStart < TABLE_HEADER_SIZE) {
+                        throw new IOException("Invalid record count in table part: " + file.getPath());
+                    }
+
+                    for (int i = 0; i < recordCountInThisPage; i++) {
+                        file.seek(file.length() - (i + 1) * 8L);
+                        long dataOffset = entryOffset(file.readLong());
+                        if (dataOffset < TABLE_HEADER_SIZE || dataOffset + rowWidth > indexStart) {
+                            throw new IOException("Invalid data offset in index: " + dataOffset);
+                        }
+
+                        if (countInPage == capacity) {
+                            // Часть заполнена: следующая получает первый свободный номер
+                            String nextPath = generateNextTablePartPath(base, lastPartNumber);
+                            lastPartNumber = getPartNumber(Paths.get(nextPath));
+                            updateNextTablePointer(page, nextPath);
+                            if (page != newHead) {
+                                writeFullTablePart(page);
+                            }
+                            pageOrdinal++;
+                            page = newTablePart(nextPath, tableName, written, layout, pageSize, pageOrdinal);
+                            pageNumber = lastPartNumber;
+                            newPartCount++;
+                            countInPage = 0;
+                        }
+
+                        // Запись копируется без разбора полей
+                        file.seek(dataOffset);
+                        file.readFully(row);
+                        long dataPosition = TABLE_HEADER_SIZE + (long) countInPage * rowWidth;
+                        page.seek(dataPosition);
+                        page.write(row);
+                        long entry = toOffsetEntry(dataPosition, nextSlotGeneration(newHead));
+                        page.seek(page.length() - (countInPage + 1) * 8L);
+                        page.writeLong(entry);
+
+                        countInPage++;
+                        written++;
+                        page.seek(50);
+                        page.writeInt(countInPage);
+                    }
+                } finally {
+                    if (file != head) {
+                        unpin(handle, file);
+                    }
+                }
+            }
+            if (page != newHead) {
+                writeTablePart(page);
+            }
+
+            newHead.seek(54);
+            newHead.writeInt(written);
+            writeTableTail(newHead, pageNumber, TABLE_HEADER_SIZE + (long) countInPage * rowWidth);
+            // Новая отметка: адреса записей изменились, индексы столбцов перестраиваются
+            writeDirectoryStamp(newHead, newDirectoryStamp());
+            writeUniqueColumns(newHead, readUniqueColumns(head));
+            writeTablePart(newHead);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(newHeadPath);
+            throw e;
+        } finally {
+            unpin(handle, head);
+        }
+
+        // Подмена головы - момент, с которого таблица состоит из новых частей
+        closeTable(headPath.toString());
+        try {
+            Files.move(newHeadPath, headPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(newHeadPath, headPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        for (Path part : oldParts) {
+            bufferPool.invalidate(part);
+            Files.deleteIfExists(part);
         }
-        Files.move(backup, target);
+        Files.deleteIfExists(getPartDirectoryPath(headPath));
+        return oldParts.size() - newPartCount;
     }
 
     /**
@@ -1053,46 +4061,34 @@ public class DataRepositoryImpl implements DataRepository {
             throws IOException {
         //validateTxtExtension(tablePath);
 
-        List<Integer> matchingIndices = new ArrayList<>();
-        int currentIndex = 0;
-
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "r")) {
-            // Получаем схему таблицы
-            List<String> schema = getTableSchema(file);
-
-            // Валидация индексов колонок
-            if (column1 < 0 || column1 >= schema.size() ||
-                    column2 < 0 || column2 >= schema.size()) {
-                throw new IllegalArgumentException(
-                        String.format("Column indices out of bounds (0-%d)", schema.size()-1));
-            }
+        TableHandle handle = openTable(tablePath);
+        // Получаем раскладку записи таблицы
+        TableLayout layout = getTableLayout(handle);
 
-            // Валидация оператора
-            if (!Arrays.asList(">", "<", ">=", "<=", "==", "!=").contains(operator)) {
-                throw new IllegalArgumentException(
-                        "Unsupported operator. Valid operators: >, <, >=, <=, ==, !=");
-            }
+        // Валидация индексов колонок
+        if (column1 < 0 || column1 >= layout.getFieldCount() ||
+                column2 < 0 || column2 >= layout.getFieldCount()) {
+            throw new IllegalArgumentException(
+                    String.format("Column indices out of bounds (0-%d)", layout.getFieldCount()-1));
+        }
 
-            // Получаем общее количество записей
-            file.seek(50);
-            int recordsInPage = file.readInt();
+        // Валидация оператора
+        if (!Arrays.asList(">", "<", ">=", "<=", "==", "!=").contains(operator)) {
+            throw new IllegalArgumentException(
+                    "Unsupported operator. Valid operators: >, <, >=, <=, ==, !=");
+        }
 
-            // Читаем все записи на текущей странице
-            for (int i = 0; i < recordsInPage; i++) {
-                List<Object> record = readRecord(tablePath, currentIndex, 0);
-                if (checkCondition(record, column1, operator, column2)) {
-                    matchingIndices.add(currentIndex);
-                }
-                currentIndex++;
-            }
+        if (handle.getColumnarTable() != null) {
+            return findColumnarRecords(handle, new int[] {column1, column2},
+                    values -> checkCondition(Arrays.asList(values), 0, operator, 1));
+        }
 
-            // Рекурсивно проверяем следующую часть таблицы, если есть
-            String nextTablePath = getNextTablePartPath(file);
-            if (nextTablePath != null) {
-                List<Integer> indicesFromNextPart = findRecordsByCondition(
-                        nextTablePath, column1, operator, column2);
-                for (int index : indicesFromNextPart) {
-                    matchingIndices.add(currentIndex + index);
+        // Читаем все записи таблицы за один проход по частям
+        List<Integer> matchingIndices = new ArrayList<>();
+        try (RecordCursor cursor = new PartChainCursor(handle)) {
+            while (cursor.next()) {
+                if (checkCondition(cursor.getRecord(), column1, operator, column2)) {
+                    matchingIndices.add(cursor.getIndex());
                 }
             }
         }
@@ -1156,58 +4152,47 @@ public class DataRepositoryImpl implements DataRepository {
             throws IOException {
         //validateTxtExtension(tablePath);
 
-        List<Integer> matchingIndices = new ArrayList<>();
-        int currentIndex = 0;
-
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "r")) {
-            List<String> schema = getTableSchema(file);
+        TableHandle handle = openTable(tablePath);
+        // Получаем раскладку записи таблицы
+        TableLayout layout = getTableLayout(handle);
 
-            // Валидация индекса колонки
-            if (columnIndex < 0 || columnIndex >= schema.size()) {
-                throw new IllegalArgumentException(
-                        String.format("Column index out of bounds (0-%d)", schema.size()-1));
-            }
+        // Валидация индекса колонки
+        if (columnIndex < 0 || columnIndex >= layout.getFieldCount()) {
+            throw new IllegalArgumentException(
+                    String.format("Column index out of bounds (0-%d)", layout.getFieldCount()-1));
+        }
 
-            // Валидация оператора
-            if (!Arrays.asList(">", "<", ">=", "<=", "==", "!=").contains(operator)) {
-                throw new IllegalArgumentException(
-                        "Unsupported operator. Valid operators: >, <, >=, <=, ==, !=");
-            }
+        // Валидация оператора
+        if (!Arrays.asList(">", "<", ">=", "<=", "==", "!=").contains(operator)) {
+            throw new IllegalArgumentException(
+                    "Unsupported operator. Valid operators: >, <, >=, <=, ==, !=");
+        }
 
-            // Проверка соответствия типа константы типу колонки
-            String columnType = schema.get(columnIndex);
-            if (columnType.equals("int") && !isNumeric(constant)) {
-                throw new IllegalArgumentException(
-                        "Column type is int but constant is " + constant.getClass().getSimpleName());
-            }
+        // Проверка соответствия типа константы типу колонки
+        boolean intColumn = layout.isInt(columnIndex);
+        if (intColumn && !isNumeric(constant)) {
+            throw new IllegalArgumentException(
+                    "Column type is int but constant is " + constant.getClass().getSimpleName());
+        }
+        Object typedConstant = intColumn ? (Object) Integer.parseInt(constant) : constant;
 
-            // Получаем количество записей
-            file.seek(50);
-            int recordsInPage = file.readInt();
+        if (handle.getColumnarTable() != null) {
+            return findColumnarRecords(handle, new int[] {columnIndex},
+                    values -> checkConditionWithConstant(values[0], operator, typedConstant));
+        }
 
-            // Читаем все записи на текущей странице
-            for (int i = 0; i < recordsInPage; i++) {
-                List<Object> record = readRecord(tablePath, currentIndex, 0);
-                if (columnType.equals("int")) {
-                    if (checkConditionWithConstant(record.get(columnIndex), operator, Integer.parseInt(constant))) {
-                        matchingIndices.add(currentIndex);
-                    }
-                }
-                else {
-                    if (checkConditionWithConstant(record.get(columnIndex), operator, constant)) {
-                        matchingIndices.add(currentIndex);
-                    }
-                }
-                currentIndex++;
-            }
+        // Индекс столбца отбирает записи без чтения таблицы
+        List<Integer> indexedIndices = findRecordsByIndex(handle, columnIndex, operator, typedConstant);
+        if (indexedIndices != null) {
+            return indexedIndices;
+        }
 
-            // Рекурсивно проверяем следующую часть таблицы, если есть
-            String nextTablePath = getNextTablePartPath(file);
-            if (nextTablePath != null) {
-                List<Integer> indicesFromNextPart = findRecordsByConstant(
-                        nextTablePath, columnIndex, operator, constant);
-                for (int index : indicesFromNextPart) {
-                    matchingIndices.add(currentIndex + index);
+        // Читаем все записи таблицы за один проход по частям
+        List<Integer> matchingIndices = new ArrayList<>();
+        try (RecordCursor cursor = new PartChainCursor(handle)) {
+            while (cursor.next()) {
+                if (checkConditionWithConstant(cursor.getRecord().get(columnIndex), operator, typedConstant)) {
+                    matchingIndices.add(cursor.getIndex());
                 }
             }
         }
@@ -1279,57 +4264,43 @@ public class DataRepositoryImpl implements DataRepository {
     ) throws IOException {
         //validateTxtExtension(tablePath);
 
-        List<Integer> matchingIndices = new ArrayList<>();
-        int currentIndex = 0;
-
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "r")) {
-            // Получаем схему таблицы
-            List<String> schema = getTableSchema(file);
+        TableHandle handle = openTable(tablePath);
+        // Получаем раскладку записи таблицы
+        TableLayout layout = getTableLayout(handle);
 
-            // Валидация индекса колонки
-            if (columnIndex < 0 || columnIndex >= schema.size()) {
-                throw new IllegalArgumentException(
-                        String.format("Column index out of bounds (0-%d)", schema.size()-1));
-            }
+        // Валидация индекса колонки
+        if (columnIndex < 0 || columnIndex >= layout.getFieldCount()) {
+            throw new IllegalArgumentException(
+                    String.format("Column index out of bounds (0-%d)", layout.getFieldCount()-1));
+        }
 
-            // Проверяем что колонка строкового типа
-            String columnType = schema.get(columnIndex);
-            if (!columnType.startsWith("str_")) {
-                throw new IllegalArgumentException(
-                        "Pattern search is only supported for string columns");
-            }
+        // Проверяем что колонка строкового типа
+        if (layout.getKind(columnIndex) != TableLayout.FieldKind.STRING) {
+            throw new IllegalArgumentException(
+                    "Pattern search is only supported for string columns");
+        }
 
-            // Компилируем шаблон в регулярное выражение
-            String regex = convertPatternToRegex(pattern, caseSensitive);
-            Pattern compiledPattern = Pattern.compile(regex);
+        // Компилируем шаблон в регулярное выражение
+        String regex = convertPatternToRegex(pattern, caseSensitive);
+        Pattern compiledPattern = Pattern.compile(regex);
 
-            // Получаем количество записей
-            file.seek(50);
-            int recordsInPage = file.readInt();
+        if (handle.getColumnarTable() != null) {
+            return findColumnarRecords(handle, new int[] {columnIndex},
+                    values -> compiledPattern.matcher((String) values[0]).matches());
+        }
 
-            // Читаем все записи на текущей странице
-            for (int i = 0; i < recordsInPage; i++) {
-                List<Object> record = readRecord(tablePath, currentIndex, 0);
-                Object value = record.get(columnIndex);
+        // Читаем все записи таблицы за один проход по частям
+        List<Integer> matchingIndices = new ArrayList<>();
+        try (RecordCursor cursor = new PartChainCursor(handle)) {
+            while (cursor.next()) {
+                Object value = cursor.getRecord().get(columnIndex);
 
                 if (value != null) {
-                    String strValue = (String) value;
-                    Matcher matcher = compiledPattern.matcher(strValue);
+                    Matcher matcher = compiledPattern.matcher((String) value);
                     if (matcher.matches()) {
-                        matchingIndices.add(currentIndex);
+                        matchingIndices.add(cursor.getIndex());
                     }
                 }
-                currentIndex++;
-            }
-
-            // Рекурсивно проверяем следующую часть таблицы, если есть
-            String nextTablePath = getNextTablePartPath(file);
-            if (nextTablePath != null) {
-                List<Integer> indicesFromNextPart = findRecordsByPattern(
-                        nextTablePath, columnIndex, pattern, caseSensitive);
-                for (int index : indicesFromNextPart) {
-                    matchingIndices.add(currentIndex + index);
-                }
             }
         }
 
@@ -1369,15 +4340,20 @@ public class DataRepositoryImpl implements DataRepository {
 
         List<Integer> allIndices = new ArrayList<>();
 
-        try (RandomAccessFile file = new RandomAccessFile(tablePath, "r")) {
+        TableHandle handle = openTable(tablePath);
+        PageFrame file = pin(handle, tablePath);
+        int recordsInTable;
+        try {
             // Получаем количество записей на текущей странице
             file.seek(54);
-            int recordsInTable = file.readInt();
+            recordsInTable = file.readInt();
+        } finally {
+            unpin(handle, file);
+        }
 
-            // Добавляем индексы таблицы
-            for (int i = 0; i < recordsInTable; i++) {
-                allIndices.add(i);
-            }
+        // Добавляем индексы таблицы
+        for (int i = 0; i < recordsInTable; i++) {
+            allIndices.add(i);
         }
 
         return allIndices;
@@ -1398,47 +4374,7 @@ public class DataRepositoryImpl implements DataRepository {
             throw new FileNotFoundException("Database file not found: " + dbPath);
         }
 
-        List<String> tableNames = new ArrayList<>();
-
-        try (RandomAccessFile dbFile = new RandomAccessFile(dbPath.toFile(), "r")) {
-            // Проверяем минимальный размер файла
-            if (dbFile.length() < DB_HEADER_SIZE) {
-                throw new IOException("Corrupted database file: too small");
-            }
-
-            // Читаем количество таблиц
-            dbFile.seek(50);
-            int tableCount = dbFile.readInt();
-
-            // Проверяем, что файл достаточно большой для хранения указанного количества таблиц
-            long requiredSize = DB_HEADER_SIZE + (long) tableCount * DB_POINTER_SIZE;
-            if (dbFile.length() < requiredSize) {
-                throw new IOException("Corrupted database file: invalid table count");
-            }
-
-            // Читаем пути ко всем таблицам
-            for (int i = 0; i < tableCount; i++) {
-                dbFile.seek(DB_HEADER_SIZE + (long) i * DB_POINTER_SIZE);
-                byte[] pointerBytes = new byte[DB_POINTER_SIZE];
-                dbFile.readFully(pointerBytes);
-                String tablePath = new String(pointerBytes, StandardCharsets.UTF_8).trim();
-
-                if (!tablePath.isEmpty()) {
-                    // Извлекаем имя таблицы из пути
-                    Path tableFilePath = Paths.get(tablePath).getFileName();
-                    if (tableFilePath != null) {
-                        String fileName = tableFilePath.toString();
-                        // Удаляем расширение .txt если есть
-                        if (fileName.toLowerCase().endsWith(".txt")) {
-                            fileName = fileName.substring(0, fileName.length() - 4);
-                        }
-                        tableNames.add(fileName);
-                    }
-                }
-            }
-        }
-
-        return tableNames;
+        return new ArrayList<>(getCatalog(dbPath).getTableNames());
     }
 
 //    public static void main(String[] args) {
@@ -0,0 +1,680 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.RowId;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Хэш-индекс столбца для условий на равенство ({@code CREATE INDEX ... USING HASH})
+ * на линейном хэшировании.
+ * <p>
+ * Файл {@code <таблица>.hashN} состоит из страниц по {@link #PAGE_SIZE} байт.
+ * Страница 0 - заголовок: магическое число, версия, номер столбца, отметка изменения
+ * таблицы, уровень и указатель разделения линейного хэширования, количество корзин,
+ * страниц и элементов, голова списка свободных страниц и номера страниц каталога
+ * корзин. Страница каталога хранит номера первых страниц {@link #BUCKETS_PER_DIRECTORY_PAGE}
+ * корзин. Страница корзины: тип (1 байт), количество элементов и номер следующей
+ * страницы переполнения (по 4 байта), затем элементы - 64-битный хэш значения
+ * и упакованный {@link RowId}.
+ * <p>
+ * Корзина значения вычисляется по хэшу за O(1), а каталог корзин держится в памяти,
+ * поэтому поиск читает только страницы одной корзины. Когда средняя заполненность
+ * корзин превышает {@link #MAX_LOAD_PERCENT}%, делится одна корзина - та, на которую
+ * указывает указатель разделения. Сами значения в индексе не хранятся: записи
+ * с совпавшим хэшем проверяются по таблице ({@link #isExact()}).
+ */
+final class HashIndex implements TableIndex {
+
+    static final int PAGE_SIZE = 4096;
+
+    private static final int MAGIC = 0x48415348;
+    private static final int VERSION = 1;
+
+    private static final int STAMP_OFFSET = 12;
+    private static final int LEVEL_OFFSET = 16;
+    private static final int SPLIT_OFFSET = 20;
+    private static final int BUCKET_COUNT_OFFSET = 24;
+    private static final int PAGE_COUNT_OFFSET = 28;
+    private static final int FREE_PAGE_OFFSET = 32;
+    private static final int ENTRY_COUNT_OFFSET = 36;
+    private static final int DIRECTORY_COUNT_OFFSET = 44;
+    private static final int HEADER_SIZE = 48;
+
+    private static final byte BUCKET = 1;
+    private static final byte FREE = 2;
+    private static final int BUCKET_HEADER_SIZE = 12;
+    private static final int ENTRY_SIZE = 16;
+    /** Наибольшее количество элементов страницы корзины */
+    static final int BUCKET_CAPACITY = (PAGE_SIZE - BUCKET_HEADER_SIZE) / ENTRY_SIZE;
+
+    /** Количество корзин нового индекса; на уровне {@code L} их {@code INITIAL_BUCKETS << L} */
+    private static final int INITIAL_BUCKETS = 4;
+    static final int BUCKETS_PER_DIRECTORY_PAGE = PAGE_SIZE / 4;
+    private static final int MAX_DIRECTORY_PAGES = (PAGE_SIZE - HEADER_SIZE) / 4;
+    private static final int MAX_BUCKETS = MAX_DIRECTORY_PAGES * BUCKETS_PER_DIRECTORY_PAGE;
+    /** Заполненность корзин в процентах, при превышении которой делится очередная корзина */
+    private static final int MAX_LOAD_PERCENT = 75;
+    /** Заполненность корзин при построении индекса, оставляющая место для вставок */
+    private static final int BUILD_LOAD_PERCENT = 50;
+
+    /** Количество страниц, кэшируемых в памяти */
+    private static final int CACHED_PAGES = 256;
+
+    private final Path path;
+    private final int column;
+    private final FileChannel channel;
+    private final Map<Integer, ByteBuffer> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+
+    private int stamp;
+    private int level;
+    private int split;
+    private int bucketCount;
+    private int pageCount;
+    private int freePage;
+    private long entryCount;
+    private int[] directoryPages = new int[0];
+    /** Номер первой страницы каждой корзины */
+    private int[] bucketPages = new int[0];
+
+    private HashIndex(Path path, int column, FileChannel channel) {
+        this.path = path;
+        this.column = column;
+        this.channel = channel;
+    }
+
+    /**
+     * Открывает существующий файл индекса
+     *
+     * @throws IOException если файл не является хэш-индексом этого столбца
+     */
+    static HashIndex open(Path path, int column) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        HashIndex index = new HashIndex(path, column, channel);
+        try {
+            index.readHeader();
+            index.readDirectory();
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            throw e;
+        }
+        return index;
+    }
+
+    /**
+     * Строит индекс заново по элементам таблицы: количество корзин выбирается
+     * по числу элементов, элементы раскладываются по корзинам за один проход
+     * и записываются страницами подряд.
+     *
+     * @param hashes хэши значений столбца ({@link #hash})
+     * @param rowIds упакованные адреса записей в том же порядке
+     * @param count  количество элементов
+     */
+    static HashIndex build(Path path, int column, int stamp, long[] hashes, long[] rowIds, int count)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        HashIndex index = new HashIndex(path, column, channel);
+        try {
+            long wanted = (long) count * 100 / ((long) BUCKET_CAPACITY * BUILD_LOAD_PERCENT) + 1;
+            int buckets = (int) Math.max(INITIAL_BUCKETS, Math.min(wanted, MAX_BUCKETS));
+            index.level = 31 - Integer.numberOfLeadingZeros(buckets / INITIAL_BUCKETS);
+            index.split = buckets - (INITIAL_BUCKETS << index.level);
+            index.bucketCount = buckets;
+            index.stamp = stamp;
+            index.entryCount = count;
+
+            // Элементы упорядочиваются по корзинам подсчётом
+            int[] starts = new int[buckets + 1];
+            int[] bucketOf = new int[count];
+            for (int i = 0; i < count; i++) {
+                bucketOf[i] = index.bucketOf(hashes[i]);
+                starts[bucketOf[i] + 1]++;
+            }
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                starts[bucket + 1] += starts[bucket];
+            }
+            long[] sortedHashes = new long[count];
+            long[] sortedRowIds = new long[count];
+            int[] positions = Arrays.copyOf(starts, buckets);
+            for (int i = 0; i < count; i++) {
+                int position = positions[bucketOf[i]]++;
+                sortedHashes[position] = hashes[i];
+                sortedRowIds[position] = rowIds[i];
+            }
+
+            int directoryCount = (buckets + BUCKETS_PER_DIRECTORY_PAGE - 1) / BUCKETS_PER_DIRECTORY_PAGE;
+            index.directoryPages = new int[directoryCount];
+            for (int i = 0; i < directoryCount; i++) {
+                index.directoryPages[i] = 1 + i;
+            }
+            index.pageCount = 1 + directoryCount;
+            index.bucketPages = new int[buckets];
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                index.bucketPages[bucket] = index.pageCount;
+                index.writeChain(index.allocatePage(), sortedHashes, sortedRowIds, starts[bucket],
+                        starts[bucket + 1]);
+            }
+
+            for (int i = 0; i < directoryCount; i++) {
+                ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+                int from = i * BUCKETS_PER_DIRECTORY_PAGE;
+                for (int bucket = from; bucket < Math.min(buckets, from + BUCKETS_PER_DIRECTORY_PAGE); bucket++) {
+                    page.putInt((bucket - from) * 4, index.bucketPages[bucket]);
+                }
+                index.writePage(index.directoryPages[i], page);
+            }
+            index.writeHeader();
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            throw e;
+        }
+        return index;
+    }
+
+    /**
+     * 64-битный хэш значения столбца: FNV-1a по байтам строки в UTF-8 или само
+     * число, перемешанные финализатором SplitMix64, чтобы младшие биты,
+     * по которым выбирается корзина, зависели от всех битов значения
+     */
+    static long hash(Object key) {
+        long hash;
+        if (key instanceof Integer) {
+            hash = (Integer) key;
+        } else {
+            hash = 0xcbf29ce484222325L;
+            for (byte b : ((String) key).getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xFF;
+                hash *= 0x100000001b3L;
+            }
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public IndexType getType() {
+        return IndexType.HASH;
+    }
+
+    @Override
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public int getStamp() {
+        return stamp;
+    }
+
+    @Override
+    public void setStamp(int stamp) throws IOException {
+        this.stamp = stamp;
+        writeHeader();
+    }
+
+    long getEntryCount() {
+        return entryCount;
+    }
+
+    int getBucketCount() {
+        return bucketCount;
+    }
+
+    @Override
+    public void refresh() throws IOException {
+        int cachedStamp = stamp;
+        int cachedPageCount = pageCount;
+        int cachedBucketCount = bucketCount;
+        long cachedEntryCount = entryCount;
+        readHeader();
+        if (stamp != cachedStamp || pageCount != cachedPageCount || bucketCount != cachedBucketCount
+                || entryCount != cachedEntryCount) {
+            pages.clear();
+            readDirectory();
+        }
+    }
+
+    @Override
+    public boolean supports(String operator) {
+        return operator.equals("==");
+    }
+
+    @Override
+    public boolean isExact() {
+        return false;
+    }
+
+    @Override
+    public List<RowId> find(String operator, Object key) throws IOException {
+        if (!supports(operator)) {
+            throw new IllegalArgumentException("Unsupported index operator: " + operator);
+        }
+
+        long hash = hash(key);
+        List<RowId> result = new ArrayList<>();
+        int chainLength = 0;
+        for (int page = bucketPages[bucketOf(hash)]; page != 0; ) {
+            checkChainLength(++chainLength);
+            ByteBuffer bucket = readBucket(page);
+            int count = bucket.getInt(4);
+            for (int i = 0; i < count; i++) {
+                if (entryHash(bucket, i) == hash) {
+                    result.add(RowId.fromLong(entryRowId(bucket, i)));
+                }
+            }
+            page = bucket.getInt(8);
+        }
+        return result;
+    }
+
+    @Override
+    public void insert(Object key, RowId rowId) throws IOException {
+        long hash = hash(key);
+        long packed = rowId.toLong();
+
+        // Страница с местом для элемента и последняя страница цепочки корзины
+        int target = 0;
+        int last = 0;
+        int chainLength = 0;
+        for (int page = bucketPages[bucketOf(hash)]; page != 0; ) {
+            checkChainLength(++chainLength);
+            ByteBuffer bucket = readBucket(page);
+            int count = bucket.getInt(4);
+            for (int i = 0; i < count; i++) {
+                if (entryHash(bucket, i) == hash && entryRowId(bucket, i) == packed) {
+                    return;
+                }
+            }
+            if (target == 0 && count < BUCKET_CAPACITY) {
+                target = page;
+            }
+            last = page;
+            page = bucket.getInt(8);
+        }
+
+        if (target == 0) {
+            // Цепочка заполнена: добавляется страница переполнения
+            target = allocatePage();
+            writePage(target, newBucket());
+            ByteBuffer previous = copy(readBucket(last));
+            previous.putInt(8, target);
+            writePage(last, previous);
+        }
+        ByteBuffer bucket = copy(readBucket(target));
+        int count = bucket.getInt(4);
+        setEntry(bucket, count, hash, packed);
+        bucket.putInt(4, count + 1);
+        writePage(target, bucket);
+        entryCount++;
+
+        if (entryCount * 100 > (long) bucketCount * BUCKET_CAPACITY * MAX_LOAD_PERCENT
+                && bucketCount < MAX_BUCKETS) {
+            splitBucket();
+        }
+        writeHeader();
+    }
+
+    @Override
+    public void delete(Object key, RowId rowId) throws IOException {
+        long hash = hash(key);
+        long packed = rowId.toLong();
+
+        int bucketNumber = bucketOf(hash);
+        int previous = 0;
+        int chainLength = 0;
+        for (int page = bucketPages[bucketNumber]; page != 0; ) {
+            checkChainLength(++chainLength);
+            ByteBuffer bucket = readBucket(page);
+            int count = bucket.getInt(4);
+            for (int i = 0; i < count; i++) {
+                if (entryHash(bucket, i) != hash || entryRowId(bucket, i) != packed) {
+                    continue;
+                }
+
+                // На место удалённого элемента переносится последний элемент страницы
+                ByteBuffer changed = copy(bucket);
+                setEntry(changed, i, entryHash(bucket, count - 1), entryRowId(bucket, count - 1));
+                changed.putInt(4, count - 1);
+                if (count == 1 && previous != 0) {
+                    // Пустая страница переполнения исключается из цепочки
+                    ByteBuffer previousBucket = copy(readBucket(previous));
+                    previousBucket.putInt(8, changed.getInt(8));
+                    writePage(previous, previousBucket);
+                    freePage(page);
+                } else {
+                    writePage(page, changed);
+                }
+                entryCount--;
+                writeHeader();
+                return;
+            }
+            previous = page;
+            page = bucket.getInt(8);
+        }
+    }
+
+    @Override
+    public void close() {
+        pages.clear();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // файл индекса уже недоступен, закрывать нечего
+        }
+    }
+
+    /**
+     * Номер корзины хэша: корзины до указателя разделения уже разделены
+     * и адресуются по хэшу следующего уровня
+     */
+    private int bucketOf(long hash) {
+        long positive = hash & Long.MAX_VALUE;
+        long buckets = (long) INITIAL_BUCKETS << level;
+        int bucket = (int) (positive % buckets);
+        if (bucket < split) {
+            bucket = (int) (positive % (buckets * 2));
+        }
+        return bucket;
+    }
+
+    /**
+     * Делит корзину, на которую указывает указатель разделения: элементы, адресуемые
+     * хэшем следующего уровня в новую корзину, переносятся в неё
+     */
+    private void splitBucket() throws IOException {
+        int bucket = split;
+        int newBucket = bucketCount;
+        long buckets = (long) INITIAL_BUCKETS << level;
+
+        // Все элементы корзины; страницы переполнения освобождаются и выделяются заново
+        long[] hashes = new long[BUCKET_CAPACITY];
+        long[] rowIds = new long[BUCKET_CAPACITY];
+        int count = 0;
+        int first = bucketPages[bucket];
+        int chainLength = 0;
+        for (int page = first; page != 0; ) {
+            checkChainLength(++chainLength);
+            ByteBuffer bucketPage = readBucket(page);
+            int pageCount = bucketPage.getInt(4);
+            if (count + pageCount > hashes.length) {
+                hashes = Arrays.copyOf(hashes, Math.max(hashes.length * 2, count + pageCount));
+                rowIds = Arrays.copyOf(rowIds, hashes.length);
+            }
+            for (int i = 0; i < pageCount; i++) {
+                hashes[count] = entryHash(bucketPage, i);
+                rowIds[count] = entryRowId(bucketPage, i);
+                count++;
+            }
+            int next = bucketPage.getInt(8);
+            if (page != first) {
+                freePage(page);
+            }
+            page = next;
+        }
+
+        // Остающиеся элементы - в начало массивов, переносимые - в конец
+        int staying = 0;
+        for (int moving = count; staying < moving; ) {
+            if ((hashes[staying] & Long.MAX_VALUE) % (buckets * 2) == bucket) {
+                staying++;
+            } else {
+                moving--;
+                long hash = hashes[staying];
+                long rowId = rowIds[staying];
+                hashes[staying] = hashes[moving];
+                rowIds[staying] = rowIds[moving];
+                hashes[moving] = hash;
+                rowIds[moving] = rowId;
+            }
+        }
+
+        if (newBucket % BUCKETS_PER_DIRECTORY_PAGE == 0) {
+            int directoryPage = allocatePage();
+            writePage(directoryPage, ByteBuffer.allocate(PAGE_SIZE));
+            directoryPages = Arrays.copyOf(directoryPages, directoryPages.length + 1);
+            directoryPages[directoryPages.length - 1] = directoryPage;
+        }
+        int newFirst = allocatePage();
+        writeChain(first, hashes, rowIds, 0, staying);
+        writeChain(newFirst, hashes, rowIds, staying, count);
+
+        if (newBucket == bucketPages.length) {
+            bucketPages = Arrays.copyOf(bucketPages, Math.max(16, bucketPages.length * 2));
+        }
+        bucketPages[newBucket] = newFirst;
+        writeDirectoryEntry(newBucket);
+
+        bucketCount++;
+        split++;
+        if (split == buckets) {
+            level++;
+            split = 0;
+        }
+    }
+
+    /**
+     * Записывает элементы в цепочку корзины, начинающуюся со страницы {@code first};
+     * недостающие страницы переполнения выделяются
+     */
+    private void writeChain(int first, long[] hashes, long[] rowIds, int from, int to) throws IOException {
+        int page = first;
+        int position = from;
+        while (true) {
+            int count = Math.min(BUCKET_CAPACITY, to - position);
+            ByteBuffer bucket = newBucket();
+            for (int i = 0; i < count; i++) {
+                setEntry(bucket, i, hashes[position + i], rowIds[position + i]);
+            }
+            bucket.putInt(4, count);
+            position += count;
+
+            int next = position < to ? allocatePage() : 0;
+            bucket.putInt(8, next);
+            writePage(page, bucket);
+            if (next == 0) {
+                return;
+            }
+            page = next;
+        }
+    }
+
+    private int allocatePage() throws IOException {
+        if (freePage == 0) {
+            return pageCount++;
+        }
+        int page = freePage;
+        ByteBuffer free = readPage(page);
+        if (free.get(0) != FREE) {
+            throw new IOException("Corrupted free page list in " + path);
+        }
+        freePage = free.getInt(8);
+        return page;
+    }
+
+    private void freePage(int page) throws IOException {
+        ByteBuffer free = ByteBuffer.allocate(PAGE_SIZE);
+        free.put(0, FREE);
+        free.putInt(8, freePage);
+        writePage(page, free);
+        freePage = page;
+    }
+
+    private void checkChainLength(int chainLength) throws IOException {
+        if (chainLength > pageCount) {
+            throw new IOException("Hash bucket chain is cyclic in " + path);
+        }
+    }
+
+    private static ByteBuffer newBucket() {
+        ByteBuffer bucket = ByteBuffer.allocate(PAGE_SIZE);
+        bucket.put(0, BUCKET);
+        return bucket;
+    }
+
+    private static ByteBuffer copy(ByteBuffer page) {
+        ByteBuffer copy = ByteBuffer.allocate(PAGE_SIZE);
+        copy.put(0, page, 0, PAGE_SIZE);
+        return copy;
+    }
+
+    private static long entryHash(ByteBuffer bucket, int position) {
+        return bucket.getLong(BUCKET_HEADER_SIZE + position * ENTRY_SIZE);
+    }
+
+    private static long entryRowId(ByteBuffer bucket, int position) {
+        return bucket.getLong(BUCKET_HEADER_SIZE + position * ENTRY_SIZE + 8);
+    }
+
+    private static void setEntry(ByteBuffer bucket, int position, long hash, long rowId) {
+        bucket.putLong(BUCKET_HEADER_SIZE + position * ENTRY_SIZE, hash);
+        bucket.putLong(BUCKET_HEADER_SIZE + position * ENTRY_SIZE + 8, rowId);
+    }
+
+    private ByteBuffer readBucket(int pageNumber) throws IOException {
+        ByteBuffer page = readPage(pageNumber);
+        int count = page.getInt(4);
+        if (page.get(0) != BUCKET || count < 0 || count > BUCKET_CAPACITY) {
+            throw new IOException("Corrupted hash bucket page " + pageNumber + " in " + path);
+        }
+        return page;
+    }
+
+    private ByteBuffer readPage(int pageNumber) throws IOException {
+        ByteBuffer page = pages.get(pageNumber);
+        if (page != null) {
+            return page;
+        }
+        if (pageNumber <= 0 || pageNumber >= pageCount) {
+            throw new IOException("Invalid index page " + pageNumber + " in " + path);
+        }
+
+        page = ByteBuffer.allocate(PAGE_SIZE);
+        readFully(page, (long) pageNumber * PAGE_SIZE);
+        pages.put(pageNumber, page);
+        return page;
+    }
+
+    private void writePage(int pageNumber, ByteBuffer page) throws IOException {
+        ByteBuffer buffer = page.duplicate().clear();
+        long position = (long) pageNumber * PAGE_SIZE;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        pages.put(pageNumber, page);
+    }
+
+    private void writeDirectoryEntry(int bucket) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(4);
+        entry.putInt(0, bucketPages[bucket]);
+        long position = (long) directoryPages[bucket / BUCKETS_PER_DIRECTORY_PAGE] * PAGE_SIZE
+                + (bucket % BUCKETS_PER_DIRECTORY_PAGE) * 4L;
+        while (entry.hasRemaining()) {
+            position += channel.write(entry, position);
+        }
+        pages.remove(directoryPages[bucket / BUCKETS_PER_DIRECTORY_PAGE]);
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != column) {
+            throw new IOException("Not a hash index of column " + column + ": " + path);
+        }
+        stamp = header.getInt(STAMP_OFFSET);
+        level = header.getInt(LEVEL_OFFSET);
+        split = header.getInt(SPLIT_OFFSET);
+        bucketCount = header.getInt(BUCKET_COUNT_OFFSET);
+        pageCount = header.getInt(PAGE_COUNT_OFFSET);
+        freePage = header.getInt(FREE_PAGE_OFFSET);
+        entryCount = header.getLong(ENTRY_COUNT_OFFSET);
+        int directoryCount = header.getInt(DIRECTORY_COUNT_OFFSET);
+        if (level < 0 || level > 30 || split < 0 || split >= INITIAL_BUCKETS << level
+                || bucketCount != (INITIAL_BUCKETS << level) + split || bucketCount > MAX_BUCKETS
+                || directoryCount != (bucketCount + BUCKETS_PER_DIRECTORY_PAGE - 1) / BUCKETS_PER_DIRECTORY_PAGE
+                || pageCount < 2 || channel.size() < (long) pageCount * PAGE_SIZE) {
+            throw new IOException("Corrupted index header: " + path);
+        }
+
+        ByteBuffer directory = ByteBuffer.allocate(directoryCount * 4);
+        readFully(directory, HEADER_SIZE);
+        directoryPages = new int[directoryCount];
+        for (int i = 0; i < directoryCount; i++) {
+            directoryPages[i] = directory.getInt(i * 4);
+            if (directoryPages[i] <= 0 || directoryPages[i] >= pageCount) {
+                throw new IOException("Corrupted index header: " + path);
+            }
+        }
+    }
+
+    /**
+     * Читает каталог корзин целиком в память
+     */
+    private void readDirectory() throws IOException {
+        bucketPages = new int[Math.max(16, bucketCount)];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            ByteBuffer page = readPage(directoryPages[bucket / BUCKETS_PER_DIRECTORY_PAGE]);
+            bucketPages[bucket] = page.getInt((bucket % BUCKETS_PER_DIRECTORY_PAGE) * 4);
+            if (bucketPages[bucket] <= 0 || bucketPages[bucket] >= pageCount) {
+                throw new IOException("Corrupted hash bucket directory in " + path);
+            }
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + directoryPages.length * 4);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, column);
+        header.putInt(STAMP_OFFSET, stamp);
+        header.putInt(LEVEL_OFFSET, level);
+        header.putInt(SPLIT_OFFSET, split);
+        header.putInt(BUCKET_COUNT_OFFSET, bucketCount);
+        header.putInt(PAGE_COUNT_OFFSET, pageCount);
+        header.putInt(FREE_PAGE_OFFSET, freePage);
+        header.putLong(ENTRY_COUNT_OFFSET, entryCount);
+        header.putInt(DIRECTORY_COUNT_OFFSET, directoryPages.length);
+        for (int i = 0; i < directoryPages.length; i++) {
+            header.putInt(HEADER_SIZE + i * 4, directoryPages[i]);
+        }
+        long position = 0;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Index file is truncated: " + path);
+            }
+            position += read;
+        }
+        buffer.clear();
+    }
+}
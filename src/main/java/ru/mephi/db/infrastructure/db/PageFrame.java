@@ -0,0 +1,242 @@
+package ru.mephi.db.infrastructure.db;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Кадр буферного пула: образ одного файла части таблицы в памяти.
+ * Повторяет курсорный интерфейс {@link java.io.RandomAccessFile}
+ * ({@code seek/readInt/writeLong/...}), поэтому код разбора формата
+ * работает с кадром так же, как раньше работал с файлом.
+ * Изменённые области отмечаются блоками по {@link #DIRTY_BLOCK_SIZE} байт
+ * и записываются на диск пулом при снятии последнего закрепления.
+ * Кадр может быть отображением файла в память ({@link MappedByteBuffer}),
+ * тогда записи сразу попадают в файл, или распакованным образом сжатой
+ * части ({@link PartCompression}).
+ */
+class PageFrame {
+
+    /** Гранулярность отслеживания изменённых областей кадра */
+    static final int DIRTY_BLOCK_SIZE = 512;
+
+    private final Path path;
+    private ByteBuffer buffer;
+    private int length;
+    private int position;
+    private boolean compressed;
+
+    private final BitSet dirtyBlocks = new BitSet();
+
+    // Отметка файла на диске, по которой проверяется актуальность кадра
+    private Object fileKey;
+    private long fileSize;
+    private FileTime lastModified;
+    private boolean racy;
+    private long validatedEpoch = -1;
+
+    private int pinCount;
+    private boolean referenced;
+
+    PageFrame(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    boolean isMapped() {
+        return buffer instanceof MappedByteBuffer;
+    }
+
+    void setContent(ByteBuffer buffer, int length) {
+        this.buffer = buffer;
+        this.length = length;
+        this.position = 0;
+        this.compressed = false;
+        this.dirtyBlocks.clear();
+    }
+
+    /**
+     * Кадр содержит распакованный образ части, которая хранится на диске в сжатом виде
+     */
+    boolean isCompressed() {
+        return compressed;
+    }
+
+    void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    // ---- Курсорный доступ в стиле RandomAccessFile ----
+
+    long length() {
+        return length;
+    }
+
+    long getFilePointer() {
+        return position;
+    }
+
+    void seek(long pos) throws IOException {
+        if (pos < 0 || pos > length) {
+            throw new IOException("Seek position out of page bounds: " + pos);
+        }
+        position = (int) pos;
+    }
+
+    int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, length - position));
+        position += skipped;
+        return skipped;
+    }
+
+    int readInt() throws IOException {
+        ensureReadable(4);
+        int value = buffer.getInt(position);
+        position += 4;
+        return value;
+    }
+
+    long readLong() throws IOException {
+        ensureReadable(8);
+        long value = buffer.getLong(position);
+        position += 8;
+        return value;
+    }
+
+    void readFully(byte[] bytes) throws IOException {
+        ensureReadable(bytes.length);
+        buffer.get(position, bytes);
+        position += bytes.length;
+    }
+
+    void writeByte(int value) throws IOException {
+        ensureWritable(1);
+        buffer.put(position, (byte) value);
+        markDirty(position, 1);
+        position += 1;
+    }
+
+    void writeInt(int value) throws IOException {
+        ensureWritable(4);
+        buffer.putInt(position, value);
+        markDirty(position, 4);
+        position += 4;
+    }
+
+    void writeLong(long value) throws IOException {
+        ensureWritable(8);
+        buffer.putLong(position, value);
+        markDirty(position, 8);
+        position += 8;
+    }
+
+    void write(byte[] bytes) throws IOException {
+        write(bytes, 0, bytes.length);
+    }
+
+    void write(byte[] bytes, int offset, int count) throws IOException {
+        ensureWritable(count);
+        buffer.put(position, bytes, offset, count);
+        markDirty(position, count);
+        position += count;
+    }
+
+    private void ensureReadable(int count) throws EOFException {
+        if (position + count > length) {
+            throw new EOFException("Read beyond end of table part: " + path);
+        }
+    }
+
+    private void ensureWritable(int count) throws IOException {
+        if (buffer.isReadOnly()) {
+            throw new IOException("Table part is read-only: " + path);
+        }
+        if (position + count > length) {
+            throw new IOException("Write beyond end of table part: " + path);
+        }
+    }
+
+    // ---- Отслеживание изменений ----
+
+    private void markDirty(int offset, int count) {
+        dirtyBlocks.set(offset / DIRTY_BLOCK_SIZE, (offset + count - 1) / DIRTY_BLOCK_SIZE + 1);
+    }
+
+    boolean isDirty() {
+        return !dirtyBlocks.isEmpty();
+    }
+
+    BitSet getDirtyBlocks() {
+        return dirtyBlocks;
+    }
+
+    void clearDirty() {
+        dirtyBlocks.clear();
+    }
+
+    // ---- Состояние в пуле ----
+
+    int getPinCount() {
+        return pinCount;
+    }
+
+    void pin() {
+        pinCount++;
+        referenced = true;
+    }
+
+    void unpin() {
+        pinCount--;
+    }
+
+    boolean isReferenced() {
+        return referenced;
+    }
+
+    void setReferenced(boolean referenced) {
+        this.referenced = referenced;
+    }
+
+    long getValidatedEpoch() {
+        return validatedEpoch;
+    }
+
+    void setValidatedEpoch(long validatedEpoch) {
+        this.validatedEpoch = validatedEpoch;
+    }
+
+    boolean isRacy() {
+        return racy;
+    }
+
+    /**
+     * Запоминает отметку файла, соответствующую содержимому кадра.
+     *
+     * @param racy отметка снята в пределах разрешения времени модификации,
+     *             и последующее изменение файла может её не сдвинуть
+     */
+    void stamp(Object fileKey, long fileSize, FileTime lastModified, boolean racy) {
+        this.fileKey = fileKey;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.racy = racy;
+    }
+
+    boolean matches(Object fileKey, long fileSize, FileTime lastModified) {
+        return Objects.equals(this.fileKey, fileKey)
+                && this.fileSize == fileSize
+                && Objects.equals(this.lastModified, lastModified);
+    }
+}
@@ -0,0 +1,49 @@
+package ru.mephi.db.infrastructure.db;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Журнал отката одной операции над закреплённым кадром.
+ * <p>
+ * Перед изменением участка кадра его исходные байты сохраняются
+ * ({@link #save}); если операция не завершилась, {@link #rollback()}
+ * возвращает их на место до открепления кадра, и на диск попадает
+ * исходное содержимое. Объём журнала определяется только изменяемыми
+ * участками страницы и не зависит от размера таблицы.
+ */
+final class PageUndo {
+
+    private final PageFrame frame;
+    private final List<Long> offsets = new ArrayList<>();
+    private final List<byte[]> images = new ArrayList<>();
+
+    PageUndo(PageFrame frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Запоминает исходное содержимое участка кадра перед его изменением.
+     */
+    void save(long offset, int length) throws IOException {
+        byte[] image = new byte[length];
+        frame.seek(offset);
+        frame.readFully(image);
+        offsets.add(offset);
+        images.add(image);
+    }
+
+    /**
+     * Возвращает сохранённые участки в обратном порядке, так что
+     * пересекающиеся участки восстанавливаются в исходном виде.
+     */
+    void rollback() throws IOException {
+        for (int i = images.size() - 1; i >= 0; i--) {
+            frame.seek(offsets.get(i));
+            frame.write(images.get(i));
+        }
+        offsets.clear();
+        images.clear();
+    }
+}
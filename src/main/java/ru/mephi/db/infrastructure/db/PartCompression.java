@@ -0,0 +1,127 @@
+package ru.mephi.db.infrastructure.db;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Сжатый формат заполненных частей таблицы.
+ * <p>
+ * Файл сжатой части начинается с исходного заголовка части, в поле версии формата
+ * которого установлен {@link #COMPRESSED_FLAG}; за заголовком следуют размер образа
+ * части (4 байта) и образ части целиком, сжатый {@link Deflater}. Заголовок остаётся
+ * несжатым, поэтому указатель на следующую часть читается без распаковки.
+ * Буферный пул распаковывает такую часть при загрузке кадра, а при записи изменений
+ * сохраняет её снова в несжатом виде.
+ */
+final class PartCompression {
+
+    /** Признак сжатой части в поле версии формата заголовка */
+    static final int COMPRESSED_FLAG = 1 << 16;
+
+    /** Смещение размера несжатого образа, за которым начинаются сжатые данные */
+    private static final int IMAGE_LENGTH_OFFSET = DataRepositoryImpl.TABLE_HEADER_SIZE;
+    private static final int DATA_OFFSET = IMAGE_LENGTH_OFFSET + 4;
+
+    private PartCompression() {
+    }
+
+    /**
+     * Сжимает образ части.
+     *
+     * @return содержимое файла сжатой части или {@code null}, если сжатие не уменьшает файл
+     *         или в заголовке части нет служебных полей
+     */
+    static ByteBuffer compress(ByteBuffer image, int length) {
+        // Признак сжатия хранится в служебных полях заголовка
+        if (length <= DATA_OFFSET || !DataRepositoryImpl.hasHeaderFields(image)) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        image.get(0, bytes);
+
+        byte[] file = new byte[length];
+        System.arraycopy(bytes, 0, file, 0, IMAGE_LENGTH_OFFSET);
+        ByteBuffer header = ByteBuffer.wrap(file);
+        header.putInt(DataRepositoryImpl.TABLE_FORMAT_OFFSET,
+                header.getInt(DataRepositoryImpl.TABLE_FORMAT_OFFSET) | COMPRESSED_FLAG);
+        header.putInt(IMAGE_LENGTH_OFFSET, length);
+
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            int size = DATA_OFFSET;
+            while (!deflater.finished() && size < file.length) {
+                size += deflater.deflate(file, size, file.length - size);
+            }
+            return deflater.finished() && size < length ? ByteBuffer.wrap(file, 0, size) : null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Проверяет по заголовку, что файл части хранится в сжатом виде
+     */
+    static boolean isCompressed(FileChannel channel) throws IOException {
+        if (channel.size() < DATA_OFFSET) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(DataRepositoryImpl.TABLE_FORMAT_OFFSET + 4);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return false;
+            }
+        }
+        return DataRepositoryImpl.hasHeaderFields(header)
+                && (header.getInt(DataRepositoryImpl.TABLE_FORMAT_OFFSET) & COMPRESSED_FLAG) != 0;
+    }
+
+    /**
+     * Читает и распаковывает образ сжатой части.
+     *
+     * @param buffer буфер для образа, используется при достаточной ёмкости
+     */
+    static ByteBuffer decompress(FileChannel channel, ByteBuffer buffer) throws IOException {
+        long size = channel.size();
+        ByteBuffer file = ByteBuffer.allocate((int) size);
+        while (file.hasRemaining()) {
+            if (channel.read(file, file.position()) < 0) {
+                throw new IOException("Compressed table part is truncated");
+            }
+        }
+
+        int length = file.getInt(IMAGE_LENGTH_OFFSET);
+        if (length < DataRepositoryImpl.TABLE_HEADER_SIZE || length > DataRepositoryImpl.MAX_PAGE_SIZE) {
+            throw new IOException("Invalid compressed table part size: " + length);
+        }
+        if (buffer == null || !buffer.hasArray() || buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(length);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(file.array(), DATA_OFFSET, (int) size - DATA_OFFSET);
+            int inflated = 0;
+            while (inflated < length && !inflater.finished()) {
+                int count = inflater.inflate(buffer.array(), inflated, length - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != length || !inflater.finished()) {
+                throw new IOException("Compressed table part is corrupted");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed table part is corrupted", e);
+        } finally {
+            inflater.end();
+        }
+        return buffer.clear().limit(length);
+    }
+}
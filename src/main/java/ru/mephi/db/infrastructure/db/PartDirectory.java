@@ -0,0 +1,215 @@
+package ru.mephi.db.infrastructure.db;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Каталог частей таблицы: номера файлов частей в порядке цепочки и количество
+ * записей в каждой (головной файл - часть с номером 0). Часть, содержащая запись
+ * с заданным номером, находится двоичным поиском по накопленным количествам
+ * без обхода цепочки.
+ * <p>
+ * Каталог хранится в файле {@code <таблица>.parts} рядом с головным файлом:
+ * магическое число, отметка каталога и количество частей (4 байта каждое),
+ * затем пары «номер части, количество записей». Каталог действителен, пока его
+ * отметка совпадает с отметкой в головном файле, которая меняется при каждом
+ * изменении таблицы с частями.
+ */
+final class PartDirectory {
+
+    private static final int MAGIC = 0x50415254;
+    private static final int HEADER_SIZE = 12;
+    private static final int ENTRY_SIZE = 8;
+
+    private int stamp;
+    private int size;
+    private int[] partNumbers = new int[16];
+    private int[] counts = new int[16];
+    private final Map<Integer, Integer> ordinals = new HashMap<>();
+
+    /** Номер первой записи каждой части; пересчитывается после изменения количеств */
+    private long[] firstRecords = new long[0];
+    private boolean firstRecordsValid;
+
+    PartDirectory(int stamp) {
+        this.stamp = stamp;
+    }
+
+    int getStamp() {
+        return stamp;
+    }
+
+    void setStamp(int stamp) {
+        this.stamp = stamp;
+    }
+
+    /**
+     * Количество частей вместе с головным файлом
+     */
+    int size() {
+        return size;
+    }
+
+    int getPartNumber(int ordinal) {
+        return partNumbers[ordinal];
+    }
+
+    int getCount(int ordinal) {
+        return counts[ordinal];
+    }
+
+    /**
+     * Порядковый номер части в цепочке
+     *
+     * @return -1, если части с таким номером нет в каталоге
+     */
+    int getOrdinal(int partNumber) {
+        return ordinals.getOrDefault(partNumber, -1);
+    }
+
+    /**
+     * Номер первой записи части в таблице
+     */
+    long getFirstRecord(int ordinal) {
+        updateFirstRecords();
+        return firstRecords[ordinal];
+    }
+
+    /**
+     * Количество записей во всех частях
+     */
+    long getRecordCount() {
+        updateFirstRecords();
+        return size == 0 ? 0 : firstRecords[size - 1] + counts[size - 1];
+    }
+
+    /**
+     * Добавляет часть в конец цепочки
+     *
+     * @return {@code false}, если часть с таким номером уже есть в каталоге
+     */
+    boolean add(int partNumber, int count) {
+        if (ordinals.putIfAbsent(partNumber, size) != null) {
+            return false;
+        }
+        if (size == partNumbers.length) {
+            partNumbers = Arrays.copyOf(partNumbers, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        partNumbers[size] = partNumber;
+        counts[size] = count;
+        size++;
+        firstRecordsValid = false;
+        return true;
+    }
+
+    /**
+     * Задаёт количество записей части; часть, которой ещё нет, добавляется в конец цепочки
+     */
+    void putCount(int partNumber, int count) {
+        Integer ordinal = ordinals.get(partNumber);
+        if (ordinal == null) {
+            add(partNumber, count);
+            return;
+        }
+        counts[ordinal] = count;
+        firstRecordsValid = false;
+    }
+
+    /**
+     * Порядковый номер части, содержащей запись
+     *
+     * @return -1, если записи с таким номером нет
+     */
+    int find(long recordIndex) {
+        if (recordIndex < 0 || recordIndex >= getRecordCount()) {
+            return -1;
+        }
+
+        // Последняя часть, начинающаяся не дальше записи: пустые части перед ней пропускаются
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (firstRecords[middle] <= recordIndex) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Читает каталог из файла
+     *
+     * @return {@code null}, если файл пуст или повреждён
+     */
+    static PartDirectory read(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                return null;
+            }
+        }
+        buffer.flip();
+
+        int size = buffer.getInt(8);
+        if (buffer.getInt(0) != MAGIC || size < 0 || size > (fileSize - HEADER_SIZE) / ENTRY_SIZE) {
+            return null;
+        }
+
+        PartDirectory directory = new PartDirectory(buffer.getInt(4));
+        buffer.position(HEADER_SIZE);
+        for (int i = 0; i < size; i++) {
+            if (!directory.add(buffer.getInt(), buffer.getInt())) {
+                return null;
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * Записывает каталог в файл целиком
+     */
+    void write(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + size * ENTRY_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(stamp);
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(partNumbers[i]);
+            buffer.putInt(counts[i]);
+        }
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+        channel.truncate(buffer.limit());
+    }
+
+    private void updateFirstRecords() {
+        if (firstRecordsValid) {
+            return;
+        }
+        if (firstRecords.length < size) {
+            firstRecords = new long[partNumbers.length];
+        }
+        long first = 0;
+        for (int i = 0; i < size; i++) {
+            firstRecords[i] = first;
+            first += counts[i];
+        }
+        firstRecordsValid = true;
+    }
+}
@@ -0,0 +1,238 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.domain.valueobject.TableReadMode;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Открытая таблица: разрешённый путь к головному файлу, раскладка записи
+ * и ограниченный LRU-пул открытых файлов головы и частей {@code _partN},
+ * через каналы которых {@link BufferPool} читает и записывает кадры.
+ * Живёт между вызовами {@link DataRepositoryImpl}, чтобы не открывать и не
+ * закрывать файлы на каждую операцию.
+ */
+class TableHandle implements Closeable {
+
+    private final Path headPath;
+    private final TableReadMode readMode;
+    private final Object headFileKey;
+    private final int maxOpenParts;
+    private final Map<Path, RandomAccessFile> openParts;
+    private final Map<Path, Object> openPartKeys = new HashMap<>();
+
+    private TableLayout layout;
+    private Path overflowPath;
+    private ColumnarTable columnarTable;
+    private PartDirectory partDirectory;
+    private List<TableIndex> indexes;
+    private int freeSlotsHint;
+    private Path freeSlotsHintPath;
+
+    TableHandle(Path headPath, TableReadMode readMode, int maxOpenParts) throws IOException {
+        this.headPath = headPath;
+        this.readMode = readMode;
+        this.maxOpenParts = maxOpenParts;
+        this.openParts = new LinkedHashMap<>(16, 0.75f, true);
+        this.headFileKey = readFileKey(headPath);
+    }
+
+    Path getHeadPath() {
+        return headPath;
+    }
+
+    /**
+     * Способ чтения частей таблицы в буферный пул (копирование или отображение в память).
+     */
+    TableReadMode getReadMode() {
+        return readMode;
+    }
+
+    /**
+     * Раскладка записи таблицы; {@code null}, пока схема ещё не прочитана.
+     * Сбрасывается вместе с таблицей при её закрытии (DROP/CREATE).
+     */
+    TableLayout getLayout() {
+        return layout;
+    }
+
+    void setLayout(TableLayout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Файл переполнения с длинными строковыми значениями таблицы формата VARLEN;
+     * {@code null}, пока раскладка не прочитана или формат не использует переполнение.
+     */
+    Path getOverflowPath() {
+        return overflowPath;
+    }
+
+    void setOverflowPath(Path overflowPath) {
+        this.overflowPath = overflowPath;
+    }
+
+    /**
+     * Сегменты колонок таблицы формата COLUMNAR;
+     * {@code null}, пока раскладка не прочитана или таблица хранится по строкам.
+     */
+    ColumnarTable getColumnarTable() {
+        return columnarTable;
+    }
+
+    void setColumnarTable(ColumnarTable columnarTable) {
+        this.columnarTable = columnarTable;
+    }
+
+    /**
+     * Каталог частей таблицы, поддерживаемый при изменениях через этот репозиторий;
+     * {@code null}, пока не построен или после расхождения с частями.
+     */
+    PartDirectory getPartDirectory() {
+        return partDirectory;
+    }
+
+    void setPartDirectory(PartDirectory partDirectory) {
+        this.partDirectory = partDirectory;
+    }
+
+    /**
+     * Открытые индексы столбцов таблицы; {@code null}, пока файлы индексов не найдены.
+     * Закрываются вместе с таблицей.
+     */
+    List<TableIndex> getIndexes() {
+        return indexes;
+    }
+
+    void setIndexes(List<TableIndex> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * Порядковый номер в цепочке части, с которой начинается поиск освободившихся
+     * слотов: в частях перед ней, насколько известно этому процессу, свободных слотов нет.
+     */
+    int getFreeSlotsHint() {
+        return freeSlotsHint;
+    }
+
+    /**
+     * Путь к части из {@link #getFreeSlotsHint()}; {@code null} - поиск с головы.
+     */
+    Path getFreeSlotsHintPath() {
+        return freeSlotsHintPath;
+    }
+
+    void setFreeSlotsHint(int ordinal, Path partPath) {
+        this.freeSlotsHint = ordinal;
+        this.freeSlotsHintPath = partPath;
+    }
+
+    /**
+     * Канал открытого файла части таблицы, открываемого при первом обращении.
+     * Наиболее давно использованный файл закрывается при превышении лимита пула.
+     *
+     * @throws FileNotFoundException если файла части не существует
+     */
+    FileChannel channel(Path partPath) throws IOException {
+        return part(partPath).getChannel();
+    }
+
+    /**
+     * Канал файла части с указанным ключом файла. Если открытый ранее файл
+     * был подменён (например, при сжатии или распаковке части), он открывается заново.
+     */
+    FileChannel channel(Path partPath, Object fileKey) throws IOException {
+        if (openParts.containsKey(partPath) && !Objects.equals(openPartKeys.get(partPath), fileKey)) {
+            closePart(partPath);
+        }
+        return part(partPath).getChannel();
+    }
+
+    private RandomAccessFile part(Path partPath) throws IOException {
+        RandomAccessFile file = openParts.get(partPath);
+        if (file != null) {
+            return file;
+        }
+
+        if (!Files.exists(partPath)) {
+            throw new FileNotFoundException("Table file not found: " + partPath);
+        }
+
+        Object fileKey = readFileKey(partPath);
+        file = new RandomAccessFile(partPath.toFile(), Files.isWritable(partPath) ? "rw" : "r");
+        openParts.put(partPath, file);
+        openPartKeys.put(partPath, fileKey);
+
+        if (openParts.size() > maxOpenParts) {
+            Map.Entry<Path, RandomAccessFile> eldest = openParts.entrySet().iterator().next();
+            openParts.remove(eldest.getKey());
+            openPartKeys.remove(eldest.getKey());
+            closeQuietly(eldest.getValue());
+        }
+        return file;
+    }
+
+    /**
+     * Закрывает файл части, если он открыт (например, перед подменой файла)
+     */
+    void closePart(Path partPath) {
+        RandomAccessFile file = openParts.remove(partPath);
+        openPartKeys.remove(partPath);
+        if (file != null) {
+            closeQuietly(file);
+        }
+    }
+
+    /**
+     * Проверяет, что головной файл на диске всё ещё тот же, что был открыт
+     * (не удалён и не подменён копированием).
+     */
+    boolean isValid() {
+        try {
+            return Objects.equals(headFileKey, readFileKey(headPath));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Закрывает все открытые файлы таблицы и её индексов. Ошибки закрытия игнорируются.
+     */
+    @Override
+    public void close() {
+        for (RandomAccessFile file : new ArrayList<>(openParts.values())) {
+            closeQuietly(file);
+        }
+        openParts.clear();
+        openPartKeys.clear();
+        if (indexes != null) {
+            indexes.forEach(TableIndex::close);
+            indexes = null;
+        }
+    }
+
+    private static Object readFileKey(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    }
+
+    private static void closeQuietly(RandomAccessFile file) {
+        try {
+            file.close();
+        } catch (IOException ignored) {
+            // файл уже недоступен, закрывать нечего
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.RowId;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Вторичный индекс столбца таблицы: файл рядом с головным файлом, отображающий
+ * значение столбца на адреса ({@link RowId}) записей с этим значением.
+ * <p>
+ * Индекс хранит отметку изменения таблицы, с которой он согласован. Отметка
+ * записывается в головной файл при каждом изменении таблицы, поэтому индекс,
+ * отметка которого разошлась с головным файлом (таблицу изменили в обход
+ * репозитория, подменили копией транзакции или сжали), перестраивается.
+ */
+interface TableIndex extends Closeable {
+
+    /**
+     * Номер индексируемого столбца (0-based)
+     */
+    int getColumn();
+
+    IndexType getType();
+
+    Path getPath();
+
+    /**
+     * Отметка изменения таблицы, с которой согласован индекс
+     */
+    int getStamp();
+
+    void setStamp(int stamp) throws IOException;
+
+    /**
+     * Перечитывает заголовок индекса с диска; при изменении файла другим
+     * экземпляром сбрасывает прочитанные ранее страницы.
+     */
+    void refresh() throws IOException;
+
+    void insert(Object key, RowId rowId) throws IOException;
+
+    void delete(Object key, RowId rowId) throws IOException;
+
+    /**
+     * Проверяет, может ли индекс отобрать записи по условию с оператором
+     */
+    boolean supports(String operator);
+
+    /**
+     * Проверяет, отбирает ли индекс только подходящие записи; записи, найденные
+     * неточным индексом (по хэшу значения), перепроверяются по таблице
+     */
+    boolean isExact();
+
+    /**
+     * Адреса записей, значение столбца которых удовлетворяет условию с константой
+     *
+     * @param operator оператор сравнения из {@link #supports}
+     */
+    List<RowId> find(String operator, Object key) throws IOException;
+
+    @Override
+    void close();
+}
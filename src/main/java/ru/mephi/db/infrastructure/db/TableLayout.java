@@ -0,0 +1,153 @@
+package ru.mephi.db.infrastructure.db;
+
+import ru.mephi.db.domain.valueobject.RowFormat;
+
+import java.util.List;
+
+/**
+ * Скомпилированная раскладка записи таблицы: вид каждого поля, его ширина
+ * и смещение внутри записи, а также полная ширина записи.
+ * <p>
+ * Все поля имеют фиксированную ширину ({@code int} - 4 байта,
+ * {@code str_N} - 4 байта длины и N байт данных), поэтому положение любого
+ * поля любой записи вычисляется сложением без разбора схемы.
+ * <p>
+ * В формате {@link RowFormat#VARLEN} строковое поле длиннее
+ * {@link #INLINE_LIMIT} байт занимает в записи только 4 байта длины и
+ * {@link #INLINE_LIMIT} байт: короткое значение хранится в них целиком,
+ * а длинное выносится в файл переполнения, и на его месте остаётся
+ * 8-байтовое смещение значения в этом файле.
+ * Раскладка неизменяема и строится один раз на открытую таблицу.
+ */
+final class TableLayout {
+
+    /** Вид поля записи */
+    enum FieldKind {
+        INT,
+        STRING,
+    }
+
+    /** Размер целого поля и префикса длины строки */
+    static final int INT_SIZE = 4;
+    /** Наибольшая длина строкового значения, хранимого в записи формата VARLEN */
+    static final int INLINE_LIMIT = 32;
+
+    private final List<String> schema;
+    private final RowFormat format;
+    private final FieldKind[] kinds;
+    private final int[] maxLengths;
+    private final int[] offsets;
+    private final int rowWidth;
+
+    private TableLayout(List<String> schema, RowFormat format, FieldKind[] kinds, int[] maxLengths, int[] offsets,
+                        int rowWidth) {
+        this.schema = schema;
+        this.format = format;
+        this.kinds = kinds;
+        this.maxLengths = maxLengths;
+        this.offsets = offsets;
+        this.rowWidth = rowWidth;
+    }
+
+    /**
+     * Строит раскладку по схеме таблицы.
+     *
+     * @param schema схема таблицы (например, ["int", "str_10"])
+     * @throws IllegalArgumentException если схема содержит неизвестный тип
+     */
+    static TableLayout compile(List<String> schema) {
+        return compile(schema, RowFormat.FIXED);
+    }
+
+    /**
+     * Строит раскладку по схеме таблицы для указанного формата записи.
+     *
+     * @param schema схема таблицы (например, ["int", "str_10"])
+     * @param format формат записи из заголовка таблицы
+     * @throws IllegalArgumentException если схема содержит неизвестный тип
+     */
+    static TableLayout compile(List<String> schema, RowFormat format) {
+        if (schema == null) {
+            throw new IllegalArgumentException("Schema cannot be null");
+        }
+
+        int fieldCount = schema.size();
+        FieldKind[] kinds = new FieldKind[fieldCount];
+        int[] maxLengths = new int[fieldCount];
+        int[] offsets = new int[fieldCount];
+
+        int offset = 0;
+        for (int i = 0; i < fieldCount; i++) {
+            String type = schema.get(i);
+            offsets[i] = offset;
+
+            if (type.equals("int")) {
+                kinds[i] = FieldKind.INT;
+                offset += INT_SIZE;
+            } else if (type.startsWith("str_")) {
+                try {
+                    maxLengths[i] = Integer.parseInt(type.substring(4));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid string length in type: " + type);
+                }
+                kinds[i] = FieldKind.STRING;
+                offset += INT_SIZE + inlineLength(format, maxLengths[i]); // 4 байта на длину + данные
+            } else {
+                throw new IllegalArgumentException("Unknown field type: " + type);
+            }
+        }
+
+        return new TableLayout(List.copyOf(schema), format, kinds, maxLengths, offsets, offset);
+    }
+
+    private static int inlineLength(RowFormat format, int maxLength) {
+        return format == RowFormat.VARLEN ? Math.min(maxLength, INLINE_LIMIT) : maxLength;
+    }
+
+    /** Исходная схема таблицы */
+    List<String> getSchema() {
+        return schema;
+    }
+
+    /** Формат записи таблицы */
+    RowFormat getFormat() {
+        return format;
+    }
+
+    int getFieldCount() {
+        return kinds.length;
+    }
+
+    FieldKind getKind(int field) {
+        return kinds[field];
+    }
+
+    boolean isInt(int field) {
+        return kinds[field] == FieldKind.INT;
+    }
+
+    /** Максимальная длина строкового поля в байтах (0 для целых) */
+    int getMaxLength(int field) {
+        return maxLengths[field];
+    }
+
+    /** Количество байт строкового поля, отведённых в записи под значение */
+    int getInlineLength(int field) {
+        return inlineLength(format, maxLengths[field]);
+    }
+
+    /** Полная ширина поля в записи */
+    int getWidth(int field) {
+        return kinds[field] == FieldKind.INT ? INT_SIZE : INT_SIZE + getInlineLength(field);
+    }
+
+    /** Смещение поля от начала записи */
+    int getOffset(int field) {
+        return offsets[field];
+    }
+
+    /** Ширина записи в байтах */
+    int getRowWidth() {
+        return rowWidth;
+    }
+}
@@ -122,6 +122,32 @@ public class TransactionLoggerImpl implements TransactionLogger {
         logEntry(entry);
     }
     
+    @Override
+    public void logInsertRecords(String transactionId, String tableName, List<List<Object>> rows) throws LogUnableWriteTransactionException {
+        TransactionLogEntry entry = TransactionLogEntry.builder()
+                .operationType(LogOperationType.INSERT_RECORDS)
+                .transactionName(activeTransactions.get(transactionId))
+                .timestamp(LocalDateTime.now())
+                .tableName(tableName)
+                .data(rows.toString())
+                .build();
+        
+        logEntry(entry);
+    }
+    
+    @Override
+    public void logCopyRecords(String transactionId, String tableName, String sourcePath, long rowCount) throws LogUnableWriteTransactionException {
+        TransactionLogEntry entry = TransactionLogEntry.builder()
+                .operationType(LogOperationType.COPY_RECORDS)
+                .transactionName(activeTransactions.get(transactionId))
+                .timestamp(LocalDateTime.now())
+                .tableName(tableName)
+                .data(rowCount + " " + sourcePath)
+                .build();
+        
+        logEntry(entry);
+    }
+    
     @Override
     public void logDeleteRecord(String transactionId, String tableName, int recordIndex) throws LogUnableWriteTransactionException {
         TransactionLogEntry entry = TransactionLogEntry.builder()
@@ -135,6 +161,19 @@ public class TransactionLoggerImpl implements TransactionLogger {
         logEntry(entry);
     }
     
+    @Override
+    public void logDeleteRecords(String transactionId, String tableName, List<Integer> recordIndices) throws LogUnableWriteTransactionException {
+        TransactionLogEntry entry = TransactionLogEntry.builder()
+                .operationType(LogOperationType.DELETE_RECORDS)
+                .transactionName(activeTransactions.get(transactionId))
+                .timestamp(LocalDateTime.now())
+                .tableName(tableName)
+                .data(recordIndices.toString())
+                .build();
+        
+        logEntry(entry);
+    }
+    
     @Override
     public void recover() throws IOException {
         if (!Files.exists(logFilePath)) {
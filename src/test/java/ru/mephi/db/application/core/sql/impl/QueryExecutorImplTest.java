@@ -0,0 +1,82 @@
+package ru.mephi.db.application.core.sql.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mephi.db.application.adapter.db.DataRepository;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.application.core.sql.QueryHandler;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.QueryType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class QueryExecutorImplTest {
+
+    @Mock
+    private QueryHandler handler;
+
+    @Mock
+    private DataRepository dataRepository;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private QueryExecutorImpl executor;
+
+    @BeforeEach
+    public void setUp() {
+        when(handler.canHandle(any())).thenReturn(true);
+        executor = new QueryExecutorImpl(List.of(handler), dataRepository, transactionManager);
+    }
+
+    private static Query query(QueryType type) {
+        return Query.builder().type(type).table("users").build();
+    }
+
+    private static QueryResult result(boolean success) {
+        return QueryResult.builder().success(success).message("").rows(List.of()).build();
+    }
+
+    @Test
+    public void shouldCheckAutoVacuumAfterSuccessfulDelete() throws Exception {
+        Query delete = query(QueryType.DELETE);
+        when(handler.handle(delete)).thenReturn(result(true));
+        when(transactionManager.getActualTablePath("users")).thenReturn(Path.of("users.txt"));
+
+        assertTrue(executor.execute(delete).isSuccess());
+        verify(dataRepository).autoVacuumTable("users.txt");
+    }
+
+    @Test
+    public void shouldNotCheckAutoVacuumAfterFailedDeleteOrOtherStatements() throws Exception {
+        Query delete = query(QueryType.DELETE);
+        Query insert = query(QueryType.INSERT);
+        when(handler.handle(delete)).thenReturn(result(false));
+        when(handler.handle(insert)).thenReturn(result(true));
+
+        executor.execute(delete);
+        executor.execute(insert);
+
+        verifyNoInteractions(dataRepository);
+    }
+
+    @Test
+    public void shouldKeepDeleteResultWhenAutoVacuumFails() throws Exception {
+        Query delete = query(QueryType.DELETE);
+        when(handler.handle(delete)).thenReturn(result(true));
+        when(transactionManager.getActualTablePath("users")).thenReturn(Path.of("users.txt"));
+        when(dataRepository.autoVacuumTable("users.txt")).thenThrow(new IOException("disk full"));
+
+        assertTrue(executor.execute(delete).isSuccess());
+    }
+}
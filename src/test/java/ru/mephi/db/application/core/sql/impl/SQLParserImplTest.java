@@ -0,0 +1,40 @@
+package ru.mephi.db.application.core.sql.impl;
+
+import org.junit.jupiter.api.Test;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.valueobject.QueryType;
+import ru.mephi.db.exception.SQLParseException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SQLParserImplTest {
+
+    private final SQLParserImpl parser = new SQLParserImpl();
+
+    @Test
+    public void parseInsert_ShouldCollectEveryRowOfValues() throws SQLParseException {
+        Query query = parser.parse("INSERT INTO users VALUES (1, 'Alice'), (2, 'Bob, Jr.'), (3, '');");
+
+        assertEquals(QueryType.INSERT, query.getType());
+        assertEquals("users", query.getTable());
+        assertEquals(List.of(List.of(1, "Alice"), List.of(2, "Bob, Jr."), List.of(3, "")), query.getRows());
+        assertEquals(List.of(1, "Alice"), query.getValues());
+    }
+
+    @Test
+    public void parseInsert_ShouldKeepSingleRowForm() throws SQLParseException {
+        Query query = parser.parse("insert into users values (7, 'Eve')");
+
+        assertEquals(List.of(List.of(7, "Eve")), query.getRows());
+        assertEquals(List.of(7, "Eve"), query.getValues());
+    }
+
+    @Test
+    public void parseInsert_ShouldRejectMalformedRowLists() {
+        assertThrows(SQLParseException.class, () -> parser.parse("INSERT INTO users VALUES (1, 'a'),"));
+        assertThrows(SQLParseException.class, () -> parser.parse("INSERT INTO users VALUES (1, 'a') (2, 'b')"));
+        assertThrows(SQLParseException.class, () -> parser.parse("INSERT INTO users VALUES ()"));
+    }
+}
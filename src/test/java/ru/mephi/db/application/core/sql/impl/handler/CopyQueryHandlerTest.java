@@ -0,0 +1,140 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.QueryType;
+import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CopyQueryHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private DataRepositoryImpl dataRepository;
+    private CopyQueryHandler handler;
+    private Path tablePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataRepository = new DataRepositoryImpl();
+        tablePath = tempDir.resolve("users.txt");
+        dataRepository.createTableFile(tablePath.toString(), "users", List.of("int", "str_20"));
+        when(transactionManager.getActualTablePath("users")).thenReturn(tablePath);
+        handler = new CopyQueryHandler(dataRepository, transactionManager);
+    }
+
+    private static Query copy(Path source, boolean withHeader) {
+        return Query.builder()
+                .type(QueryType.COPY)
+                .table("users")
+                .sourcePath(source.toString())
+                .withHeader(withHeader)
+                .build();
+    }
+
+    @Test
+    public void shouldLoadRowsAndSkipHeaderOnlyWhenRequested() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("users.csv"), "1,name\n2,\"Smith, John\"\n");
+
+        QueryResult withHeader = handler.handle(copy(source, true));
+        assertTrue(withHeader.isSuccess(), withHeader.getMessage());
+        assertEquals(1L, withHeader.getRows().get(0).get("copied_rows"));
+        assertEquals(Arrays.asList(2, "Smith, John"), dataRepository.readRecord(tablePath.toString(), 0, 0));
+
+        // Без WITH HEADER первая строка - данные, даже если похожа на заголовок
+        QueryResult withoutHeader = handler.handle(copy(source, false));
+        assertTrue(withoutHeader.isSuccess(), withoutHeader.getMessage());
+        assertEquals(2L, withoutHeader.getRows().get(0).get("copied_rows"));
+        assertEquals(Arrays.asList(1, "name"), dataRepository.readRecord(tablePath.toString(), 1, 0));
+        verify(transactionManager).logCopyRecords("users", source.toString(), 1);
+        verify(transactionManager).logCopyRecords("users", source.toString(), 2);
+    }
+
+    @Test
+    public void shouldReportFieldCountErrorWithLineNumber() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("bad.csv"), "id,name\n1,Alice\n2,Bob,extra\n");
+
+        QueryResult result = handler.handle(copy(source, true));
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("Line 3: expected 2 fields, got 3"), result.getMessage());
+        // Ошибка найдена до записи первого пакета - таблица не изменилась
+        assertTrue(dataRepository.getAllRecordIndices(tablePath.toString()).isEmpty());
+        verify(transactionManager, never()).logCopyRecords(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    public void shouldLeaveTableUnchangedWhenLaterRowFails() throws Exception {
+        String table = tablePath.toString();
+        dataRepository.addUniqueConstraint(table, 0);
+        dataRepository.addRecords(table, List.of(
+                Arrays.asList(-1, "First"), Arrays.asList(-2, "Second"), Arrays.asList(-3, "Third")));
+        // Освободившийся слот не должен занять ни один загружаемый пакет
+        dataRepository.deleteRecord(table, 1);
+
+        Path source = tempDir.resolve("partial.csv");
+        int goodRows = 8192 + 10;
+        try (BufferedWriter writer = Files.newBufferedWriter(source)) {
+            for (int i = 0; i < goodRows; i++) {
+                writer.write(i + ",User" + i + "\n");
+            }
+            writer.write("oops,Broken\n");
+        }
+
+        QueryResult result = handler.handle(copy(source, false));
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("Line " + (goodRows + 1) + ": field 0 is not an integer"),
+                result.getMessage());
+        // Первый пакет успел записаться, но после ошибки удалён вместе с записями индекса
+        assertEquals(2, dataRepository.getRecordCount(table));
+        assertEquals(List.of(Arrays.asList(-1, "First"), Arrays.asList(-3, "Third")),
+                dataRepository.readRecords(table, List.of(0, 1)));
+        dataRepository.addRecord(table, Arrays.asList(8191, "Again"));
+        assertEquals(Arrays.asList(8191, "Again"), dataRepository.readRecord(table, 2, 0));
+        verify(transactionManager, never()).logCopyRecords(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    public void shouldTrimIntegersAndKeepStringsAsWritten() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("spaced.csv"), " 42 ,ёжик \n-1,\n");
+
+        QueryResult result = handler.handle(copy(source, false));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(Arrays.asList(42, "ёжик "), dataRepository.readRecord(tablePath.toString(), 0, 0));
+        assertEquals(Arrays.asList(-1, ""), dataRepository.readRecord(tablePath.toString(), 1, 0));
+    }
+
+    @Test
+    public void shouldRejectStringsLongerThanFieldInBytes() throws Exception {
+        // 14 символов, но 27 байт в UTF-8
+        Path source = Files.writeString(tempDir.resolve("wide.csv"), "1,Здравствуй мир\n");
+
+        QueryResult result = handler.handle(copy(source, false));
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("Line 1: field 1 is longer than 20 bytes"), result.getMessage());
+    }
+}
@@ -0,0 +1,77 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.QueryType;
+import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateTableHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private DataRepositoryImpl dataRepository;
+    private CreateTableHandler handler;
+    private Path tablePath;
+
+    @BeforeEach
+    public void setUp() {
+        dataRepository = new DataRepositoryImpl();
+        tablePath = tempDir.resolve("users.txt");
+        when(transactionManager.getTempTablePath("users")).thenReturn(tablePath);
+        handler = new CreateTableHandler(dataRepository, transactionManager);
+    }
+
+    private static Query createTable(List<Integer> uniqueColumns) {
+        return Query.builder()
+                .type(QueryType.CREATE_TABLE)
+                .table("users")
+                .schema(List.of("int", "str_20"))
+                .uniqueColumns(uniqueColumns)
+                .build();
+    }
+
+    @Test
+    public void shouldCreateTableWithAllUniqueConstraints() throws Exception {
+        QueryResult result = handler.handle(createTable(List.of(0, 1)));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        dataRepository.addRecord(tablePath.toString(), List.of(1, "Alice"));
+        assertThrows(IllegalArgumentException.class,
+                () -> dataRepository.addRecord(tablePath.toString(), List.of(2, "Alice")));
+        verify(transactionManager).logCreateTable("users", List.of("int", "str_20"));
+    }
+
+    @Test
+    public void shouldDropTableWhenConstraintFails() throws Exception {
+        // Первое ограничение успевает построить индекс, второе ссылается на несуществующий столбец
+        QueryResult result = handler.handle(createTable(List.of(0, 5)));
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().startsWith("Creation failed: Column index out of bounds"), result.getMessage());
+        // Остаётся только каталог базы, из которого ссылка на таблицу уже удалена
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(tempDir.resolve("Master.txt")), files.toList());
+        }
+        verify(transactionManager, never()).logCreateTable(anyString(), anyList());
+    }
+}
@@ -0,0 +1,76 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.application.core.sql.impl.SQLParserImpl;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteQueryHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private final SQLParserImpl parser = new SQLParserImpl();
+    private DataRepositoryImpl dataRepository;
+    private DeleteQueryHandler handler;
+    private String tablePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataRepository = new DataRepositoryImpl();
+        tablePath = tempDir.resolve("users.txt").toString();
+        // Маленькие части: записи разложены по нескольким файлам
+        dataRepository.createTableFile(tablePath, "users", List.of("int", "str_20"), 4096);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            rows.add(Arrays.asList(i, "group" + i % 3));
+        }
+        dataRepository.addRecords(tablePath, rows);
+        when(transactionManager.getActualTablePath("users")).thenReturn(Path.of(tablePath));
+        handler = new DeleteQueryHandler(dataRepository, transactionManager);
+    }
+
+    @Test
+    public void shouldDeleteRowsFoundThroughHashIndex() throws Exception {
+        dataRepository.createIndex(tablePath, 1, IndexType.HASH);
+
+        QueryResult result = handler.handle(parser.parse("DELETE FROM users WHERE 'col1' = 'group1'"));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("Deleted 100 rows from users", result.getMessage());
+        assertEquals(200, dataRepository.getAllRecordIndices(tablePath).size());
+        assertEquals(List.of(), dataRepository.findRecordsByConstant(tablePath, 1, "==", "group1"));
+        assertEquals(Arrays.asList(299, "group2"), dataRepository.readRecord(tablePath, 199, 0));
+        verify(transactionManager).logDeleteRecords(eq("users"), argThat(indices -> indices.size() == 100));
+    }
+
+    @Test
+    public void shouldDeleteRowsFoundByScan() throws Exception {
+        QueryResult result = handler.handle(parser.parse("DELETE FROM users WHERE 'col0' >= '150'"));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("Deleted 150 rows from users", result.getMessage());
+        assertEquals(150, dataRepository.getAllRecordIndices(tablePath).size());
+        assertEquals(Arrays.asList(149, "group2"), dataRepository.readRecord(tablePath, 149, 0));
+    }
+}
@@ -0,0 +1,109 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DelimitedRecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<List<String>> readAll(String text, char delimiter) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (DelimitedRecordReader reader = new DelimitedRecordReader(new StringReader(text), delimiter)) {
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                records.add(fields);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void shouldSplitPlainFieldsAndKeepEmptyOnes() throws IOException {
+        assertEquals(List.of(List.of("1", "Alice"), List.of("2", ""), List.of("", "")),
+                readAll("1,Alice\n2,\n,\n", ','));
+    }
+
+    @Test
+    public void shouldReadQuotedFieldsWithDelimitersAndDoubledQuotes() throws IOException {
+        assertEquals(List.of(List.of("1", "Smith, John", "say \"hi\"")),
+                readAll("1,\"Smith, John\",\"say \"\"hi\"\"\"\n", ','));
+    }
+
+    @Test
+    public void shouldKeepNewlinesInsideQuotesAndReportStartLine() throws IOException {
+        String text = "1,\"first\nsecond\"\n2,third\n";
+        try (DelimitedRecordReader reader = new DelimitedRecordReader(new StringReader(text), ',')) {
+            assertEquals(List.of("1", "first\nsecond"), reader.next());
+            assertEquals(1, reader.getLineNumber());
+            assertEquals(List.of("2", "third"), reader.next());
+            assertEquals(3, reader.getLineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void shouldHandleCrLfAndSkipEmptyLines() throws IOException {
+        String text = "1,a\r\n\r\n2,b\r\n\n3,c";
+        try (DelimitedRecordReader reader = new DelimitedRecordReader(new StringReader(text), ',')) {
+            assertEquals(List.of("1", "a"), reader.next());
+            assertEquals(List.of("2", "b"), reader.next());
+            assertEquals(3, reader.getLineNumber());
+            assertEquals(List.of("3", "c"), reader.next());
+            assertEquals(5, reader.getLineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void shouldSkipByteOrderMarkAtFileStart() throws IOException {
+        assertEquals(List.of(List.of("id", "name"), List.of("1", "\uFEFFx")),
+                readAll("\uFEFFid,name\n1,\uFEFFx\n", ','));
+    }
+
+    @Test
+    public void shouldReadTabSeparatedFields() throws IOException {
+        assertEquals(List.of(List.of("1", "a,b", "c")), readAll("1\ta,b\tc\n", '\t'));
+    }
+
+    @Test
+    public void shouldReadFieldsLongerThanReadBuffer() throws IOException {
+        String longValue = "x".repeat(200_000);
+        assertEquals(List.of(List.of("1", longValue), List.of("2", "y")),
+                readAll("1,\"" + longValue + "\"\n2,y\n", ','));
+    }
+
+    @Test
+    public void shouldFailOnUnterminatedQuote() {
+        IOException exception = assertThrows(IOException.class, () -> readAll("1,a\n2,\"open\n3,c\n", ','));
+        assertTrue(exception.getMessage().contains("line 2"));
+    }
+
+    @Test
+    public void detectDelimiter_ShouldUseExtensionThenFirstLine() throws IOException {
+        Path csv = Files.writeString(tempDir.resolve("data.csv"), "a\tb\n");
+        Path tsv = Files.writeString(tempDir.resolve("data.tsv"), "a,b\n");
+        Path tab = Files.writeString(tempDir.resolve("data.tab"), "a,b\n");
+        Path tabbedText = Files.writeString(tempDir.resolve("data.txt"), "a\tb,c\n", StandardCharsets.UTF_8);
+        Path commaText = Files.writeString(tempDir.resolve("other.txt"), "a,b\n1\t2\n");
+        Path empty = Files.writeString(tempDir.resolve("empty.dat"), "");
+
+        assertEquals(',', DelimitedRecordReader.detectDelimiter(csv));
+        assertEquals('\t', DelimitedRecordReader.detectDelimiter(tsv));
+        assertEquals('\t', DelimitedRecordReader.detectDelimiter(tab));
+        assertEquals('\t', DelimitedRecordReader.detectDelimiter(tabbedText));
+        assertEquals(',', DelimitedRecordReader.detectDelimiter(commaText));
+        assertEquals(',', DelimitedRecordReader.detectDelimiter(empty));
+    }
+}
@@ -0,0 +1,92 @@
+package ru.mephi.db.application.core.sql.impl.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mephi.db.application.core.TransactionManager;
+import ru.mephi.db.domain.entity.Query;
+import ru.mephi.db.domain.entity.QueryResult;
+import ru.mephi.db.domain.valueobject.QueryType;
+import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InsertQueryHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private DataRepositoryImpl dataRepository;
+    private InsertQueryHandler handler;
+    private Path tablePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataRepository = new DataRepositoryImpl();
+        tablePath = tempDir.resolve("users.txt");
+        dataRepository.createTableFile(tablePath.toString(), "users", List.of("int", "str_20"));
+        when(transactionManager.getActualTablePath("users")).thenReturn(tablePath);
+        handler = new InsertQueryHandler(dataRepository, transactionManager);
+    }
+
+    private static Query insert(List<List<Object>> rows) {
+        return Query.builder()
+                .type(QueryType.INSERT)
+                .table("users")
+                .values(rows.get(0))
+                .rows(rows)
+                .build();
+    }
+
+    @Test
+    public void shouldInsertSingleRowAndReturnItsValues() throws Exception {
+        List<Object> values = List.of(1, "Alice");
+
+        QueryResult result = handler.handle(insert(List.of(values)));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("Inserted 1 row into users", result.getMessage());
+        assertEquals(List.of(Map.of("inserted_rows", 1, "values", values)), result.getRows());
+        assertEquals(values, dataRepository.readRecord(tablePath.toString(), 0, 0));
+        verify(transactionManager).logInsertRecord("users", values);
+    }
+
+    @Test
+    public void shouldInsertAllRowsAsOneBatch() throws Exception {
+        List<List<Object>> rows = List.of(List.of(1, "Alice"), List.of(2, "Bob"), List.of(3, "Carol"));
+
+        QueryResult result = handler.handle(insert(rows));
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("Inserted 3 rows into users", result.getMessage());
+        assertEquals(List.of(Map.of("inserted_rows", 3)), result.getRows());
+        assertEquals(rows, dataRepository.readRecords(tablePath.toString(), List.of(0, 1, 2)));
+        verify(transactionManager).logInsertRecords("users", rows);
+        verify(transactionManager, never()).logInsertRecord(anyString(), anyList());
+    }
+
+    @Test
+    public void shouldInsertNothingWhenAnyRowOfBatchIsInvalid() throws Exception {
+        List<List<Object>> rows = List.of(List.of(1, "Alice"), List.of("two", "Bob"));
+
+        QueryResult result = handler.handle(insert(rows));
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().startsWith("Failed to execute INSERT: "), result.getMessage());
+        assertTrue(dataRepository.getAllRecordIndices(tablePath.toString()).isEmpty());
+        verify(transactionManager, never()).logInsertRecords(anyString(), anyList());
+    }
+}
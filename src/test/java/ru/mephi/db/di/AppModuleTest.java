@@ -0,0 +1,59 @@
+package ru.mephi.db.di;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.mephi.db.application.core.ConnectionConfig;
+import ru.mephi.db.di.infrastructure.DBModule;
+import ru.mephi.db.infrastructure.Constants;
+import ru.mephi.db.infrastructure.db.BufferPool;
+import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppModuleTest {
+
+    @TempDir
+    Path dbPath;
+
+    @Test
+    public void shouldSizeBufferPoolFromDatabaseInfo() throws IOException {
+        Files.writeString(dbPath.resolve(Constants.DB_INFO_FILE),
+                Constants.MAGIC_HEADER + "\nbufferPoolFrames=64\nbufferPoolBytes=1048576\n");
+
+        ConnectionConfig config = new AppModule(dbPath).provideConnectionConfig();
+        BufferPool pool = DBModule.provideDataRepositoryImpl(config).getBufferPool();
+
+        assertEquals(64, pool.getCapacity());
+        assertEquals(1048576, pool.getMaxBytes());
+    }
+
+    @Test
+    public void shouldUseDefaultBufferPoolWithoutProperties() throws IOException {
+        Files.writeString(dbPath.resolve(Constants.DB_INFO_FILE), Constants.MAGIC_HEADER + "\n");
+
+        DataRepositoryImpl repository = DBModule.provideDataRepositoryImpl(new AppModule(dbPath).provideConnectionConfig());
+
+        assertEquals(BufferPool.DEFAULT_CAPACITY, repository.getBufferPool().getCapacity());
+        assertEquals(BufferPool.DEFAULT_MAX_BYTES, repository.getBufferPool().getMaxBytes());
+    }
+
+    @Test
+    public void shouldRejectInvalidBufferPoolSize() throws IOException {
+        Files.writeString(dbPath.resolve(Constants.DB_INFO_FILE), "bufferPoolFrames=0\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new AppModule(dbPath).provideConnectionConfig());
+    }
+
+    @Test
+    public void shouldFailWhenDatabaseInfoCannotBeRead() throws IOException {
+        // Каталог вместо файла: чтение завершается ошибкой ввода-вывода
+        Files.createDirectory(dbPath.resolve(Constants.DB_INFO_FILE));
+
+        assertThrows(UncheckedIOException.class, () -> new AppModule(dbPath).provideConnectionConfig());
+    }
+}
@@ -2,15 +2,25 @@ package ru.mephi.db.infrastructure.db;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
+import ru.mephi.db.application.adapter.db.RecordCursor;
+import ru.mephi.db.domain.valueobject.IndexType;
+import ru.mephi.db.domain.valueobject.RowFormat;
+import ru.mephi.db.domain.valueobject.RowId;
+import ru.mephi.db.domain.valueobject.TableReadMode;
 import ru.mephi.db.infrastructure.db.DataRepositoryImpl;
 
 import java.io.*;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -512,17 +522,9 @@ class DataRepositoryImplTest {
 
         removeTableRefMethod.invoke(dataRepository, masterDbPath, tableFilePath);
 
-        try (RandomAccessFile file = new RandomAccessFile(masterDbPath, "r")) {
-            file.seek(50);
-            int tableCount = file.readInt();
-            assertEquals(1, tableCount);
-
-            byte[] buffer = new byte[100];
-            file.seek(54);
-            file.readFully(buffer);
-            String path = new String(buffer, StandardCharsets.UTF_8).trim();
-            assertEquals(secondTablePath, path);
-        }
+        DataRepositoryImpl reader = new DataRepositoryImpl();
+        assertEquals(List.of("second_table"), reader.getAllTableNames(masterDbPath));
+        assertTrue(reader.isTableExists(masterDbPath, secondTablePath));
     }
 
     @Test
@@ -538,11 +540,7 @@ class DataRepositoryImplTest {
         String fakePath = testDir.resolve("fake_table.txt").toString();
         removeTableRefMethod.invoke(dataRepository, masterDbPath, fakePath);
 
-        try (RandomAccessFile file = new RandomAccessFile(masterDbPath, "r")) {
-            file.seek(50);
-            int tableCount = file.readInt();
-            assertEquals(2, tableCount);
-        }
+        assertEquals(2, new DataRepositoryImpl().getAllTableNames(masterDbPath).size());
     }
 
     @Test
@@ -670,24 +668,24 @@ class DataRepositoryImplTest {
                     "Next page pointer should be empty initially. Actual: '" + pointerContent + "'");
         }
 
-        int recordsPerPage = 0;
-        try {
-            while (true) {
-                dataRepository.addRecord(tableFilePath, Arrays.asList(recordsPerPage, "User" + recordsPerPage));
-                recordsPerPage++;
-            }
-        } catch (Exception e) {
-            // Ловим переполнение страницы
+        // Записей на одну больше, чем помещается в головной файл: int + str_20 и смещение (8 байт)
+        int pageSize;
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
+            pageSize = (int) file.length();
         }
+        int recordsPerPage = (pageSize - (50 + 4 + 4 + 100 + 100) - 1) / (4 + 4 + 20 + 8);
+        for (int i = 0; i <= recordsPerPage; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+        assertEquals(recordsPerPage + 1, dataRepository.getAllRecordIndices(tableFilePath).size());
 
         String nextPagePath;
         try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
             file.seek(50 + 4 + 4 + 100 + 100 - 100);
-            byte[] pointer = new byte[100];
-            file.readFully(pointer);
-            nextPagePath = new String(pointer).trim();
-            assertFalse(nextPagePath.isEmpty(),
-                    "Next page pointer should be set after overflow");
+            assertEquals(1, file.readByte(), "Next page pointer should be set after overflow");
+            int nextPart = file.readInt();
+            assertEquals(1, nextPart, "Next page pointer should store the part number");
+            nextPagePath = testDir.resolve("test_table_part" + nextPart + ".txt").toString();
         }
 
         assertTrue(Files.exists(Paths.get(nextPagePath)),
@@ -708,6 +706,117 @@ class DataRepositoryImplTest {
         }
     }
 
+    @Test
+    void addRecords_ShouldGrowPastThousandPartsAndKeepTableReadable() throws IOException {
+        // Часть в 300 байт вмещает одну запись: 1200 записей - 1200 файлов таблицы
+        String partedTablePath = testDir.resolve("parted_table.txt").toString();
+        dataRepository.createTableFile(partedTablePath, "parted_table", Arrays.asList("int", "str_20"), 300);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1199; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(partedTablePath, rows);
+        dataRepository.addRecord(partedTablePath, Arrays.asList(1199, "User1199"));
+
+        assertTrue(Files.exists(testDir.resolve("parted_table_part1199.txt")));
+        assertEquals(1200, dataRepository.getAllRecordIndices(partedTablePath).size());
+        assertEquals(Arrays.asList(1199, "User1199"), dataRepository.readRecord(partedTablePath, 1199, 0));
+        dataRepository.deleteTableFile(partedTablePath);
+        assertFalse(Files.exists(testDir.resolve("parted_table_part1199.txt")));
+    }
+
+    @Test
+    void openRecordCursor_ShouldRejectPartChainThatLoopsBack() throws IOException {
+        String partedTablePath = testDir.resolve("parted_table.txt").toString();
+        dataRepository.createTableFile(partedTablePath, "parted_table", Arrays.asList("int", "str_20"), 300);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(partedTablePath, rows);
+        dataRepository.closeTable(partedTablePath);
+
+        // Указатель третьей части снова ведёт на первую
+        try (RandomAccessFile part = new RandomAccessFile(testDir.resolve("parted_table_part3.txt").toFile(), "rw")) {
+            part.seek(50 + 4 + 4 + 100 + 1);
+            part.writeInt(1);
+        }
+
+        DataRepositoryImpl freshRepository = new DataRepositoryImpl();
+        IOException exception = assertThrows(IOException.class, () -> {
+            try (RecordCursor cursor = freshRepository.openRecordCursor(partedTablePath)) {
+                while (cursor.next()) {
+                    cursor.getRecord();
+                }
+            }
+        });
+        assertTrue(exception.getMessage().contains("loops back"), exception.getMessage());
+    }
+
+    @Test
+    void createTableFile_ShouldKeepHeaderFieldsForSchemasOfAnyLength() throws IOException {
+        // 12 полей str_20 - 83 байта текстом: в прежнем формате схема заняла бы область служебных полей
+        List<String> wideSchema = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            wideSchema.add("str_20");
+        }
+        String wideTablePath = testDir.resolve("wide_table.txt").toString();
+        dataRepository.createTableFile(wideTablePath, "wide_table", wideSchema);
+        assertEquals(wideSchema, dataRepository.getTableSchema(wideTablePath));
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            List<Object> row = new ArrayList<>();
+            for (int j = 0; j < 12; j++) {
+                row.add("v" + i + "_" + j);
+            }
+            rows.add(row);
+        }
+        dataRepository.addRecords(wideTablePath, rows);
+        dataRepository.deleteRecords(wideTablePath, Arrays.asList(0, 1, 2));
+        dataRepository.addRecord(wideTablePath, rows.get(0));
+        dataRepository.closeTable(wideTablePath);
+
+        try (RandomAccessFile head = new RandomAccessFile(wideTablePath, "r")) {
+            // Положение хвоста записано в голове, а вставка заняла один из трёх освободившихся слотов
+            head.seek(138);
+            assertEquals(1, head.readInt());
+            head.seek(150);
+            assertEquals(2, head.readInt());
+        }
+        assertEquals(wideSchema, dataRepository.getTableSchema(wideTablePath));
+        assertEquals(598, dataRepository.getAllRecordIndices(wideTablePath).size());
+        assertEquals(rows.get(3), dataRepository.readRecords(wideTablePath, List.of(0)).get(0));
+
+        for (RowFormat format : List.of(RowFormat.VARLEN, RowFormat.COLUMNAR)) {
+            String path = testDir.resolve("wide_" + format.name().toLowerCase() + ".txt").toString();
+            dataRepository.createTableFile(path, "wide_" + format.name().toLowerCase(), wideSchema, 0, format);
+            dataRepository.addRecord(path, rows.get(5));
+            assertEquals(rows.get(5), dataRepository.readRecord(path, 0, 0));
+        }
+    }
+
+    @Test
+    void getTableSchema_ShouldReadLegacyHeaderWithTextSchema() throws IOException {
+        String legacyTablePath = testDir.resolve("legacy_table.txt").toString();
+        dataRepository.createTableFile(legacyTablePath, "legacy_table", Arrays.asList("int", "str_20"));
+        dataRepository.addRecord(legacyTablePath, Arrays.asList(1, "Alice"));
+        dataRepository.closeTable(legacyTablePath);
+
+        // Заголовок прежнего формата: текст схемы в начале блока, служебные поля за нулевым байтом
+        try (RandomAccessFile head = new RandomAccessFile(legacyTablePath, "rw")) {
+            head.seek(58);
+            head.write("int;str_20".getBytes(StandardCharsets.UTF_8));
+            head.write(new byte[80 - "int;str_20".length()]);
+        }
+
+        DataRepositoryImpl freshRepository = new DataRepositoryImpl();
+        assertEquals(Arrays.asList("int", "str_20"), freshRepository.getTableSchema(legacyTablePath));
+        freshRepository.addRecord(legacyTablePath, Arrays.asList(2, "Bob"));
+        assertEquals(Arrays.asList(1, "Alice"), freshRepository.readRecord(legacyTablePath, 0, 0));
+        assertEquals(Arrays.asList(2, "Bob"), freshRepository.readRecord(legacyTablePath, 1, 0));
+    }
+
     @Test
     void generateNextTablePartPath_shouldGenerateCorrectSequence() throws Exception {
 
@@ -1008,15 +1117,10 @@ class DataRepositoryImplTest {
     }
 
     @Test
-    void testCalculateRecordSize_IntAndStr10() throws Exception {
-
+    void testCalculateRecordSize_IntAndStr10() {
         List<String> schema = Arrays.asList("int", "str_10");
-        List<Object> data = Arrays.asList(123, "John");
 
-        Method method = DataRepositoryImpl.class.getDeclaredMethod("calculateRecordSize", List.class, List.class);
-        method.setAccessible(true);
-
-        int size = (int) method.invoke(dataRepository, schema, data);
+        int size = TableLayout.compile(schema).getRowWidth();
 
         assertEquals(4 + 4 + 10, size); // 4 байта на int, 4+10 на str_10
     }
@@ -1038,6 +1142,12 @@ class DataRepositoryImplTest {
         Path secondPagePath = Paths.get(tableFilePath.replace(".txt", "_part1.txt"));
         assertTrue(Files.exists(secondPagePath), "Файл второй части должен быть создан");
 
+        int recordsInFirstPage;
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
+            file.seek(50);
+            recordsInFirstPage = file.readInt();
+        }
+
         assertDoesNotThrow(() -> dataRepository.deleteRecord(tableFilePath, maxRecordsOnPage),
                 "Запись должна успешно удалиться");
 
@@ -1047,7 +1157,7 @@ class DataRepositoryImplTest {
             file.seek(54);
             int updatedTotalRecords = file.readInt();
 
-            assertEquals(maxRecordsOnPage, updatedRecordsInThisPage,
+            assertEquals(recordsInFirstPage, updatedRecordsInThisPage,
                     "Количество записей на первой странице не должно измениться");
             assertEquals(maxRecordsOnPage , updatedTotalRecords - 1,
                     "Общее количество записей должно уменьшиться на 1");
@@ -1770,5 +1880,988 @@ class DataRepositoryImplTest {
         assertEquals(1, tableNames.size());
         assertEquals("table_without_ext", tableNames.get(0));
     }
-}
 
+    @Test
+    void bufferPool_ShouldServeRepeatedReadsFromMemory() throws IOException {
+        dataRepository.addRecord(tableFilePath, Arrays.asList(1, "Alice"));
+        // Файл, изменённый давно, не требует перечитывания при каждой операции
+        Files.setLastModifiedTime(Paths.get(tableFilePath),
+                FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        dataRepository.readRecord(tableFilePath, 0, 0);
+
+        BufferPool pool = dataRepository.getBufferPool();
+        long hitsBefore = pool.getHitCount();
+        long missesBefore = pool.getMissCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Arrays.asList(1, "Alice"), dataRepository.readRecord(tableFilePath, 0, 0));
+        }
+
+        assertEquals(5, pool.getHitCount() - hitsBefore);
+        assertEquals(0, pool.getMissCount() - missesBefore);
+    }
+
+    @Test
+    void bufferPool_ShouldKeepWrittenFramesAndRereadOutsideChanges() throws IOException {
+        dataRepository.addRecord(tableFilePath, Arrays.asList(1, "Alice"));
+        BufferPool pool = dataRepository.getBufferPool();
+        long missesBefore = pool.getMissCount();
+
+        // Кадр, только что записанный на диск, совпадает с файлом и не перечитывается
+        for (int i = 2; i < 7; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+            assertEquals(Arrays.asList(1, "Alice"), dataRepository.readRecord(tableFilePath, 0, 0));
+        }
+        assertEquals(0, pool.getMissCount() - missesBefore);
+
+        // Изменение в обход пула обнаруживается по отметке файла
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "rw")) {
+            file.seek(54);
+            file.writeInt(1);
+        }
+        Files.setLastModifiedTime(Paths.get(tableFilePath),
+                FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        assertEquals(List.of(0), dataRepository.getAllRecordIndices(tableFilePath));
+        assertEquals(1, pool.getMissCount() - missesBefore);
+    }
+
+    @Test
+    void bufferPool_ShouldReadMultiPartTableWithEviction() throws IOException {
+        DataRepositoryImpl repository = new DataRepositoryImpl(2);
+        String tablePath = testDir.resolve("pool_table.txt").toString();
+        repository.createTableFile(tablePath, "pool_table", Arrays.asList("int", "str_20"));
+
+        int recordCount = 4000;
+        for (int i = 0; i < recordCount; i++) {
+            repository.addRecord(tablePath, Arrays.asList(i, "User" + i));
+        }
+
+        for (int i = 0; i < recordCount; i += 97) {
+            assertEquals(i, repository.readRecord(tablePath, i, 0).get(0));
+        }
+        assertEquals(List.of(3998, 3999), repository.findRecordsByConstant(tablePath, 0, ">=", "3998"));
+        assertTrue(repository.getBufferPool().getEvictionCount() > 0);
+    }
+
+    @Test
+    void bufferPool_ShouldStayWithinByteBudget() throws IOException {
+        // Кадров хватает на всю таблицу, но образы частей не помещаются в 512 КБ
+        DataRepositoryImpl repository = new DataRepositoryImpl(256, 512 * 1024);
+        String tablePath = testDir.resolve("budget_table.txt").toString();
+        repository.createTableFile(tablePath, "budget_table", Arrays.asList("int", "str_20"), 65536);
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        repository.addRecords(tablePath, rows);
+        assertEquals(List.of(39999), repository.findRecordsByConstant(tablePath, 0, "==", "39999"));
+
+        BufferPool pool = repository.getBufferPool();
+        assertTrue(pool.getResidentBytes() <= pool.getMaxBytes());
+        assertTrue(pool.getEvictionCount() > 0);
+        assertEquals(Arrays.asList(20000, "User20000"), repository.readRecord(tablePath, 20000, 0));
+    }
+
+    @Test
+    void mappedReadMode_ShouldReadWriteAndFindRecords() throws IOException {
+        dataRepository.setReadMode(testDir, TableReadMode.MAPPED);
+
+        for (int i = 0; i < 50; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+
+        assertEquals(Arrays.asList(10, "User10"), dataRepository.readRecord(tableFilePath, 10, 0));
+        assertEquals(List.of(10), dataRepository.findRecordsByConstant(tableFilePath, 0, "==", "10"));
+        assertEquals(10, dataRepository.findRecordsByPattern(tableFilePath, 1, "User1_", true).size());
+
+        dataRepository.deleteRecord(tableFilePath, 0);
+        assertEquals(1, dataRepository.readRecord(tableFilePath, 0, 0).get(0));
+
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
+            file.seek(50);
+            assertEquals(49, file.readInt());
+        }
+    }
+
+    @Test
+    void openRecordCursor_ShouldWalkAllPartsInIndexOrder() throws IOException {
+        int recordCount = 2500;
+        for (int i = 0; i < recordCount; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+        assertTrue(Files.exists(testDir.resolve("test_table_part1.txt")));
+
+        int expectedIndex = 0;
+        try (RecordCursor cursor = dataRepository.openRecordCursor(tableFilePath)) {
+            while (cursor.next()) {
+                assertEquals(expectedIndex, cursor.getIndex());
+                assertEquals(Arrays.asList(expectedIndex, "User" + expectedIndex), cursor.getRecord());
+                expectedIndex++;
+            }
+        }
+        assertEquals(recordCount, expectedIndex);
+    }
+
+    @Test
+    void openRecordCursor_ShouldReturnNothingForEmptyTable() throws IOException {
+        try (RecordCursor cursor = dataRepository.openRecordCursor(tableFilePath)) {
+            assertFalse(cursor.next());
+        }
+    }
+
+    private TableHandle openTable(DataRepositoryImpl repository, String tablePath) throws Exception {
+        Method method = DataRepositoryImpl.class.getDeclaredMethod("openTable", String.class);
+        method.setAccessible(true);
+        return (TableHandle) method.invoke(repository, tablePath);
+    }
+
+    @Test
+    void openTable_ShouldReuseHandleAcrossOperations() throws Exception {
+        TableHandle handle = openTable(dataRepository, tableFilePath);
+
+        dataRepository.addRecord(tableFilePath, Arrays.asList(1, "User1"));
+        dataRepository.readRecord(tableFilePath, 0, 0);
+        dataRepository.findRecordsByConstant(tableFilePath, 0, "==", "1");
+        dataRepository.deleteRecord(tableFilePath, 0);
+
+        assertSame(handle, openTable(dataRepository, testDir.resolve(".").resolve("test_table.txt").toString()));
+    }
+
+    @Test
+    void openTable_ShouldReopenHandleWhenHeadFileIsReplaced() throws Exception {
+        dataRepository.addRecord(tableFilePath, Arrays.asList(1, "User1"));
+        Path snapshot = testDir.resolve("test_table.snapshot");
+        Files.copy(Path.of(tableFilePath), snapshot);
+        dataRepository.addRecord(tableFilePath, Arrays.asList(2, "User2"));
+        TableHandle handle = openTable(dataRepository, tableFilePath);
+        assertEquals(2, dataRepository.getAllRecordIndices(tableFilePath).size());
+
+        // Подмена головного файла в обход репозитория: новый файл с прежним содержимым
+        Files.move(snapshot, Path.of(tableFilePath), StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(List.of(0), dataRepository.getAllRecordIndices(tableFilePath));
+        TableHandle reopened = openTable(dataRepository, tableFilePath);
+        assertNotSame(handle, reopened);
+        assertTrue(reopened.isValid());
+        assertFalse(handle.isValid());
+        assertEquals(Arrays.asList(1, "User1"), dataRepository.readRecord(tableFilePath, 0, 0));
+    }
+
+    @Test
+    void openTable_ShouldEvictLeastRecentlyUsedHandleBeyondLimit() throws Exception {
+        Field limitField = DataRepositoryImpl.class.getDeclaredField("MAX_OPEN_TABLES");
+        limitField.setAccessible(true);
+        int limit = limitField.getInt(null);
+
+        List<String> paths = new ArrayList<>();
+        List<TableHandle> handles = new ArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            String path = testDir.resolve("lru_" + i + ".txt").toString();
+            dataRepository.createTableFile(path, "lru_" + i, Arrays.asList("int", "str_10"));
+            dataRepository.addRecord(path, Arrays.asList(i, "row" + i));
+            paths.add(path);
+            handles.add(openTable(dataRepository, path));
+        }
+
+        // Обращение к первой таблице делает давней вторую, и вытесняется она
+        dataRepository.readRecord(paths.get(0), 0, 0);
+        String extraPath = testDir.resolve("lru_extra.txt").toString();
+        dataRepository.createTableFile(extraPath, "lru_extra", Arrays.asList("int", "str_10"));
+        dataRepository.addRecord(extraPath, Arrays.asList(-1, "extra"));
+
+        assertSame(handles.get(0), openTable(dataRepository, paths.get(0)));
+        assertSame(handles.get(2), openTable(dataRepository, paths.get(2)));
+        TableHandle reopened = openTable(dataRepository, paths.get(1));
+        assertNotSame(handles.get(1), reopened);
+        assertEquals(Arrays.asList(1, "row1"), dataRepository.readRecord(paths.get(1), 0, 0));
+        assertEquals(Arrays.asList(-1, "extra"), dataRepository.readRecord(extraPath, 0, 0));
+    }
+
+    @Test
+    void tableLayout_ShouldComputeFieldOffsetsAndRowWidth() {
+        TableLayout layout = TableLayout.compile(Arrays.asList("int", "str_10", "int", "str_3"));
+
+        assertEquals(4, layout.getFieldCount());
+        assertEquals(List.of(0, 4, 18, 22),
+                List.of(layout.getOffset(0), layout.getOffset(1), layout.getOffset(2), layout.getOffset(3)));
+        assertEquals(TableLayout.FieldKind.STRING, layout.getKind(1));
+        assertEquals(10, layout.getMaxLength(1));
+        assertEquals(29, layout.getRowWidth());
+        assertThrows(IllegalArgumentException.class, () -> TableLayout.compile(List.of("float")));
+    }
+
+    @Test
+    void tableLayout_ShouldBeRebuiltWhenTableIsRecreated() throws IOException {
+        dataRepository.addRecord(tableFilePath, Arrays.asList(1, "User1"));
+        dataRepository.deleteTableFile(tableFilePath);
+
+        dataRepository.createTableFile(tableFilePath, "test_table", Arrays.asList("str_5", "int", "int"));
+        dataRepository.addRecord(tableFilePath, Arrays.asList("abc", 7, 8));
+
+        assertEquals(Arrays.asList("abc", 7, 8), dataRepository.readRecord(tableFilePath, 0, 0));
+        assertEquals(List.of(0), dataRepository.findRecordsByConstant(tableFilePath, 2, "==", "8"));
+    }
+
+    @Test
+    void addRecord_ShouldWriteOnlyTailPartAndHeadCounter() throws IOException {
+        int recordCount = 4000; // голова и две части
+        for (int i = 0; i < recordCount; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+        Path firstPart = testDir.resolve("test_table_part1.txt");
+        assertTrue(Files.exists(testDir.resolve("test_table_part2.txt")));
+
+        byte[] firstPartBefore = Files.readAllBytes(firstPart);
+        dataRepository.addRecord(tableFilePath, Arrays.asList(recordCount, "Last"));
+
+        assertArrayEquals(firstPartBefore, Files.readAllBytes(firstPart));
+        assertEquals(Arrays.asList(recordCount, "Last"), dataRepository.readRecord(tableFilePath, recordCount, 0));
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
+            file.seek(54);
+            assertEquals(recordCount + 1, file.readInt());
+        }
+    }
+
+    @Test
+    void addRecord_ShouldFindTailWhenHeaderHasNoTailPosition() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+        dataRepository.closeTable(tableFilePath);
+        // Таблица, созданная до появления положения хвоста в заголовке
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "rw")) {
+            file.seek(50 + 4 + 4 + 80);
+            file.write(new byte[8]);
+        }
+
+        dataRepository.addRecord(tableFilePath, Arrays.asList(2000, "Tail"));
+
+        assertEquals(Arrays.asList(1999, "User1999"), dataRepository.readRecord(tableFilePath, 1999, 0));
+        assertEquals(Arrays.asList(2000, "Tail"), dataRepository.readRecord(tableFilePath, 2000, 0));
+        assertFalse(Files.exists(testDir.resolve("test_table_part2.txt")));
+    }
+
+    @Test
+    void addRecords_ShouldFillSeveralPartsInOneCall() throws IOException {
+        dataRepository.addRecord(tableFilePath, Arrays.asList(0, "User0"));
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 1; i < 5000; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(tableFilePath, rows);
+
+        assertTrue(Files.exists(testDir.resolve("test_table_part2.txt")));
+        assertEquals(5000, dataRepository.getAllRecordIndices(tableFilePath).size());
+        int expectedIndex = 0;
+        try (RecordCursor cursor = dataRepository.openRecordCursor(tableFilePath)) {
+            while (cursor.next()) {
+                assertEquals(Arrays.asList(expectedIndex, "User" + expectedIndex), cursor.getRecord());
+                expectedIndex++;
+            }
+        }
+        assertEquals(5000, expectedIndex);
+
+        dataRepository.addRecord(tableFilePath, Arrays.asList(5000, "Last"));
+        assertEquals(Arrays.asList(5000, "Last"), dataRepository.readRecord(tableFilePath, 5000, 0));
+    }
+
+    @Test
+    void addRecords_ShouldRejectWholeBatchWhenAnyRowIsInvalid() throws IOException {
+        List<List<Object>> rows = Arrays.asList(
+                Arrays.asList(1, "Alice"),
+                Arrays.asList("not_an_int", "Bob"));
+
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.addRecords(tableFilePath, rows));
+        assertTrue(dataRepository.getAllRecordIndices(tableFilePath).isEmpty());
+    }
+
+    @Test
+    void getTableSchema_ShouldReturnSchemaOfExistingTable() throws IOException {
+        assertEquals(Arrays.asList("int", "str_20"), dataRepository.getTableSchema(tableFilePath));
+    }
+
+    @Test
+    void createTableFile_WithPageSize_ShouldSizeEveryPartAndStoreItInHeader() throws IOException {
+        String wideTablePath = testDir.resolve("wide_table.txt").toString();
+        dataRepository.createTableFile(wideTablePath, "wide_table", Arrays.asList("int", "str_20"), 1024 * 1024);
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(wideTablePath, rows);
+
+        assertEquals(1024 * 1024, Files.size(Path.of(wideTablePath)));
+        assertEquals(1024 * 1024, Files.size(testDir.resolve("wide_table_part1.txt")));
+        assertFalse(Files.exists(testDir.resolve("wide_table_part2.txt")));
+        try (RandomAccessFile file = new RandomAccessFile(wideTablePath, "r")) {
+            file.seek(146);
+            assertEquals(1024 * 1024, file.readInt());
+        }
+        assertEquals(Arrays.asList(39999, "User39999"), dataRepository.readRecord(wideTablePath, 39999, 0));
+    }
+
+    @Test
+    void createTableFile_WithoutPageSize_ShouldChoosePageSizeByRecordWidth() throws IOException {
+        String wideTablePath = testDir.resolve("wide_table.txt").toString();
+        dataRepository.createTableFile(wideTablePath, "wide_table", Arrays.asList("int", "str_1000"));
+
+        assertEquals(65536, Files.size(Path.of(tableFilePath)));
+        assertEquals(256 * 1024, Files.size(Path.of(wideTablePath)));
+    }
+
+    @Test
+    void createTableFile_WithTooSmallPageSize_ShouldThrowException() {
+        String wideTablePath = testDir.resolve("wide_table.txt").toString();
+
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.createTableFile(
+                wideTablePath, "wide_table", Arrays.asList("int", "str_1000"), 1024));
+    }
+
+    @Test
+    void addRecord_ShouldReuseSlotFreedByDelete() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+
+        dataRepository.deleteRecord(tableFilePath, 1);
+        dataRepository.addRecord(tableFilePath, Arrays.asList(5, "User5"));
+
+        assertEquals(Arrays.asList(5, "User5"), dataRepository.readRecord(tableFilePath, 4, 0));
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
+            // Новая запись занимает слот удалённой записи 1 с новым поколением
+            file.seek(file.length() - 5 * 8);
+            long entry = file.readLong();
+            assertEquals(258 + 28, entry & 0xFFFFFFFFL);
+            assertEquals(6, entry >>> 32);
+            file.seek(150);
+            assertEquals(0, file.readInt());
+        }
+    }
+
+    @Test
+    void addRecords_ShouldFillFreedSlotsBeforeCreatingNewPart() throws IOException {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1813; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(tableFilePath, rows);
+
+        dataRepository.deleteRecord(tableFilePath, 10);
+        dataRepository.deleteRecord(tableFilePath, 500);
+        dataRepository.deleteRecord(tableFilePath, 1000);
+        dataRepository.addRecords(tableFilePath, Arrays.asList(
+                Arrays.asList(-1, "New1"),
+                Arrays.asList(-2, "New2"),
+                Arrays.asList(-3, "New3")));
+
+        assertFalse(Files.exists(testDir.resolve("test_table_part1.txt")));
+        assertEquals(1813, dataRepository.getAllRecordIndices(tableFilePath).size());
+        assertEquals(Arrays.asList(-3, "New3"), dataRepository.readRecord(tableFilePath, 1812, 0));
+
+        dataRepository.addRecord(tableFilePath, Arrays.asList(-4, "New4"));
+        assertTrue(Files.exists(testDir.resolve("test_table_part1.txt")));
+    }
+
+    @Test
+    void vacuumTable_ShouldCompactPartsAndKeepRecordOrder() throws IOException {
+        String smallTablePath = testDir.resolve("small_table.txt").toString();
+        dataRepository.createTableFile(smallTablePath, "small_table", Arrays.asList("int", "str_20"), 16 * 1024);
+
+        // 447 записей на часть: голова и две части
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1341; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(smallTablePath, rows);
+        for (int i = 0; i < 447; i++) {
+            dataRepository.deleteRecord(smallTablePath, 0);
+        }
+
+        assertEquals(1, dataRepository.vacuumTable(smallTablePath));
+
+        assertEquals(894, dataRepository.getAllRecordIndices(smallTablePath).size());
+        assertEquals(Arrays.asList(447, "User447"), dataRepository.readRecord(smallTablePath, 0, 0));
+        assertEquals(Arrays.asList(1340, "User1340"), dataRepository.readRecord(smallTablePath, 893, 0));
+        assertFalse(Files.exists(testDir.resolve("small_table_part1.txt")));
+        assertFalse(Files.exists(testDir.resolve("small_table_part2.txt")));
+        assertFalse(Files.exists(testDir.resolve("small_table.txt.vacuum")));
+
+        dataRepository.addRecord(smallTablePath, Arrays.asList(1341, "User1341"));
+        assertEquals(Arrays.asList(1341, "User1341"), dataRepository.readRecord(smallTablePath, 894, 0));
+    }
+
+    @Test
+    void autoVacuumTable_ShouldCompactOnlyWhenCalledAboveThreshold() throws IOException {
+        String smallTablePath = testDir.resolve("small_table.txt").toString();
+        dataRepository.createTableFile(smallTablePath, "small_table", Arrays.asList("int", "str_20"), 16 * 1024);
+        dataRepository.setAutoVacuumRatio(0.3);
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1341; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(smallTablePath, rows);
+
+        dataRepository.deleteRecords(smallTablePath, List.of(0, 1, 2));
+        assertFalse(dataRepository.autoVacuumTable(smallTablePath));
+
+        // Удаление само по себе таблицу не сжимает, даже когда порог уже достигнут
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < 444; i++) {
+            indices.add(i);
+        }
+        dataRepository.deleteRecords(smallTablePath, indices);
+        assertTrue(Files.exists(testDir.resolve("small_table_part2.txt")));
+
+        assertTrue(dataRepository.autoVacuumTable(smallTablePath));
+        assertFalse(Files.exists(testDir.resolve("small_table_part2.txt")));
+        assertEquals(894, dataRepository.getAllRecordIndices(smallTablePath).size());
+        assertEquals(Arrays.asList(447, "User447"), dataRepository.readRecord(smallTablePath, 0, 0));
+    }
+
+    @Test
+    void deleteRecord_WithCorruptedIndex_ShouldLeavePartUnchanged() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "rw")) {
+            file.seek(file.length() - 3 * 8);
+            file.writeLong(7);
+        }
+        byte[] before = Files.readAllBytes(Path.of(tableFilePath));
+
+        assertThrows(IOException.class, () -> dataRepository.deleteRecord(tableFilePath, 2));
+
+        assertArrayEquals(before, Files.readAllBytes(Path.of(tableFilePath)));
+        assertFalse(Files.exists(Path.of(tableFilePath + ".bak")));
+    }
+
+    @Test
+    void deleteRecords_ShouldDeleteAcrossPartsInOnePass() throws IOException {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(tableFilePath, rows);
+
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < 4000; i += 3) {
+            indices.add(i);
+        }
+        assertEquals(1334, dataRepository.deleteRecords(tableFilePath, indices));
+
+        assertEquals(2666, dataRepository.getAllRecordIndices(tableFilePath).size());
+        assertEquals(Arrays.asList(1, "User1"), dataRepository.readRecord(tableFilePath, 0, 0));
+        assertEquals(Arrays.asList(2, "User2"), dataRepository.readRecord(tableFilePath, 1, 0));
+        assertEquals(Arrays.asList(3998, "User3998"), dataRepository.readRecord(tableFilePath, 2665, 0));
+        try (RandomAccessFile file = new RandomAccessFile(tableFilePath, "r")) {
+            file.seek(50);
+            assertEquals(1813 - 605, file.readInt());
+            assertEquals(2666, file.readInt());
+        }
+    }
+
+    @Test
+    void deleteRecords_WithUnsortedIndices_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                dataRepository.deleteRecords(tableFilePath, Arrays.asList(2, 1)));
+    }
+
+    @Test
+    void createTableFile_WithVarlenFormat_ShouldKeepShortStringsInlineAndLongOnesInOverflow() throws IOException {
+        String notesPath = testDir.resolve("notes.txt").toString();
+        dataRepository.createTableFile(notesPath, "notes", Arrays.asList("int", "str_1000"), 0, RowFormat.VARLEN);
+
+        String longValue = "x".repeat(1000);
+        dataRepository.addRecord(notesPath, Arrays.asList(1, "short"));
+        dataRepository.addRecord(notesPath, Arrays.asList(2, longValue));
+
+        // Запись: 4 байта числа + 4 байта длины + 32 байта значения
+        assertEquals(65536, Files.size(Path.of(notesPath)));
+        try (RandomAccessFile file = new RandomAccessFile(notesPath, "r")) {
+            file.seek(file.length() - 2 * 8);
+            assertEquals(258 + 40, file.readLong() & 0xFFFFFFFFL);
+            file.seek(154);
+            assertEquals(1, file.readInt());
+        }
+        assertEquals(Arrays.asList(1, "short"), dataRepository.readRecord(notesPath, 0, 0));
+        assertEquals(Arrays.asList(2, longValue), new DataRepositoryImpl().readRecord(notesPath, 1, 0));
+        assertEquals(List.of(1), dataRepository.findRecordsByPattern(notesPath, 1, "xx%", true));
+
+        dataRepository.deleteTableFile(notesPath);
+        assertFalse(Files.exists(testDir.resolve("notes.overflow")));
+    }
+
+    @Test
+    void createTableFile_WithColumnarFormat_ShouldStoreEachColumnInItsOwnSegment() throws IOException {
+        String eventsPath = testDir.resolve("events.txt").toString();
+        dataRepository.createTableFile(eventsPath, "events", Arrays.asList("int", "str_20"), 0, RowFormat.COLUMNAR);
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            rows.add(Arrays.asList(i % 10, "event" + i));
+        }
+        dataRepository.addRecords(eventsPath, rows);
+
+        assertEquals(258, Files.size(Path.of(eventsPath)));
+        assertEquals(10000 * 4, Files.size(testDir.resolve("events.c0")));
+        assertEquals(10000 * 8, Files.size(testDir.resolve("events.c1.off")));
+        assertEquals(1000, dataRepository.findRecordsByConstant(eventsPath, 0, "==", "3").size());
+
+        assertEquals(2, dataRepository.deleteRecords(eventsPath, List.of(0, 9000)));
+        assertEquals(Arrays.asList(1, "event1"), dataRepository.readRecord(eventsPath, 0, 0));
+        assertEquals(Arrays.asList(1, "event9001"), new DataRepositoryImpl().readRecord(eventsPath, 8999, 0));
+        assertEquals(List.of(8999), dataRepository.findRecordsByPattern(eventsPath, 1, "event9001", true));
+
+        dataRepository.vacuumTable(eventsPath);
+        assertFalse(Files.exists(testDir.resolve("events.c0")));
+        assertEquals(9998 * 4, Files.size(testDir.resolve("events.c0.g1")));
+        assertEquals(Arrays.asList(9, "event9999"), dataRepository.readRecord(eventsPath, 9997, 0));
+
+        dataRepository.deleteTableFile(eventsPath);
+        assertFalse(Files.exists(testDir.resolve("events.c0.g1")));
+        assertFalse(Files.exists(testDir.resolve("events.c1.g1")));
+    }
+
+    @Test
+    void vacuumTable_WithColumnarFormat_ShouldIgnoreSegmentsOfInterruptedCompaction() throws IOException {
+        String eventsPath = testDir.resolve("events.txt").toString();
+        dataRepository.createTableFile(eventsPath, "events", Arrays.asList("int", "str_20"), 0, RowFormat.COLUMNAR);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(Arrays.asList(i, "event" + i));
+        }
+        dataRepository.addRecords(eventsPath, rows);
+        dataRepository.deleteRecords(eventsPath, List.of(0, 50));
+
+        // Сжатие прервано до подмены головы: сегменты нового поколения записаны не до конца
+        Files.write(testDir.resolve("events.c0.g1"), new byte[] {1, 2, 3});
+        Files.write(testDir.resolve("events.c1.off.g1"), new byte[] {4});
+        Files.write(testDir.resolve("events.txt.vacuum"), new byte[] {5});
+        DataRepositoryImpl reader = new DataRepositoryImpl();
+        assertEquals(Arrays.asList(51, "event51"), reader.readRecord(eventsPath, 49, 0));
+        assertEquals(98, reader.getAllRecordIndices(eventsPath).size());
+
+        dataRepository.vacuumTable(eventsPath);
+        assertEquals(98 * 4, Files.size(testDir.resolve("events.c0.g1")));
+        assertFalse(Files.exists(testDir.resolve("events.c0")));
+        assertFalse(Files.exists(testDir.resolve("events.deleted")));
+        assertFalse(Files.exists(testDir.resolve("events.txt.vacuum")));
+        assertEquals(Arrays.asList(51, "event51"), reader.readRecord(eventsPath, 49, 0));
+        assertEquals(List.of(49), reader.findRecordsByPattern(eventsPath, 1, "event51", true));
+
+        // Следующее сжатие переходит к следующему поколению
+        dataRepository.deleteRecord(eventsPath, 0);
+        dataRepository.vacuumTable(eventsPath);
+        assertFalse(Files.exists(testDir.resolve("events.c0.g1")));
+        assertEquals(97 * 4, Files.size(testDir.resolve("events.c0.g2")));
+        assertEquals(Arrays.asList(99, "event99"), new DataRepositoryImpl().readRecord(eventsPath, 96, 0));
+    }
+
+    @Test
+    void addRecords_WithCompressedParts_ShouldCompressFullPartsAndInflateThemOnUpdate() throws IOException {
+        dataRepository.setCompressFullParts(true);
+        String smallTablePath = testDir.resolve("small_table.txt").toString();
+        dataRepository.createTableFile(smallTablePath, "small_table", Arrays.asList("int", "str_20"), 16 * 1024);
+        Path part1 = testDir.resolve("small_table_part1.txt");
+        Path part2 = testDir.resolve("small_table_part2.txt");
+
+        // 447 записей на часть: голова и две части, вторая - хвост
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1341; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(smallTablePath, rows);
+        assertTrue(Files.size(part1) < 16 * 1024);
+        assertEquals(16 * 1024, Files.size(part2));
+
+        // Бывший хвост сжимается, когда за ним появляется новая часть
+        dataRepository.addRecord(smallTablePath, Arrays.asList(1341, "User1341"));
+        assertTrue(Files.size(part2) < 16 * 1024);
+
+        DataRepositoryImpl reader = new DataRepositoryImpl();
+        assertEquals(Arrays.asList(500, "User500"), reader.readRecord(smallTablePath, 500, 0));
+        assertEquals(Arrays.asList(1000, "User1000"), reader.readRecord(smallTablePath, 1000, 0));
+        assertEquals(List.of(1000), dataRepository.findRecordsByConstant(smallTablePath, 0, "==", "1000"));
+
+        dataRepository.deleteRecord(smallTablePath, 500);
+        assertEquals(16 * 1024, Files.size(part1));
+        assertEquals(Arrays.asList(501, "User501"), reader.readRecord(smallTablePath, 500, 0));
+    }
+
+    @Test
+    void createTableFile_OverStaleFile_ShouldStartFromEmptyPart() throws IOException {
+        Path staleTablePath = testDir.resolve("stale_table.txt");
+        byte[] garbage = new byte[20 * 1024];
+        Arrays.fill(garbage, (byte) 0x7F);
+        Files.write(staleTablePath, garbage);
+
+        dataRepository.createTableFile(staleTablePath.toString(), "stale_table",
+                Arrays.asList("int", "str_20"), 16 * 1024);
+
+        // Место за заголовком не записывается, но читается нулями
+        byte[] content = Files.readAllBytes(staleTablePath);
+        assertEquals(16 * 1024, content.length);
+        assertArrayEquals(new byte[16 * 1024 - 258], Arrays.copyOfRange(content, 258, content.length));
+        assertTrue(dataRepository.getAllRecordIndices(staleTablePath.toString()).isEmpty());
+
+        dataRepository.addRecord(staleTablePath.toString(), Arrays.asList(1, "User1"));
+        assertEquals(Arrays.asList(1, "User1"), dataRepository.readRecord(staleTablePath.toString(), 0, 0));
+    }
+
+    @Test
+    void catalog_ShouldStayConsistentWithMasterFile() throws IOException {
+        String masterDbPath = testDir.resolve("Master.txt").toString();
+        String secondTablePath = testDir.resolve("second_table.txt").toString();
+        dataRepository.createTableFile(secondTablePath, "second_table", List.of("int"));
+        assertTrue(dataRepository.getAllTableNames(masterDbPath).contains("second_table"));
+
+        // Без блокировки директории изменения другого экземпляра видны по отметке файла
+        new DataRepositoryImpl().removeTableReference(masterDbPath, secondTablePath);
+        assertFalse(dataRepository.isTableExists(masterDbPath, secondTablePath));
+
+        try (FileChannel lockChannel = FileChannel.open(testDir.resolve(".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            dataRepository.setDatabaseLock(testDir, lockChannel.lock());
+
+            dataRepository.addTableReference(masterDbPath, secondTablePath);
+            assertTrue(dataRepository.isTableExists(masterDbPath, secondTablePath));
+            assertEquals(new DataRepositoryImpl().getAllTableNames(masterDbPath),
+                    dataRepository.getAllTableNames(masterDbPath));
+
+            dataRepository.removeTableReference(masterDbPath, secondTablePath);
+            assertFalse(new DataRepositoryImpl().isTableExists(masterDbPath, secondTablePath));
+            assertEquals(new DataRepositoryImpl().getAllTableNames(masterDbPath),
+                    dataRepository.getAllTableNames(masterDbPath));
+        }
+    }
+
+    @Test
+    void catalog_ShouldReadVersion2EntriesAndDropTheirCountsOnFirstChange() throws IOException {
+        Path masterDbPath = testDir.resolve("Master.txt");
+        String secondTablePath = testDir.resolve("second_table.txt").toString();
+        dataRepository.createTableFile(secondTablePath, "second_table", List.of("int"));
+
+        // Версия 2: за идентификатором записи шли количество записей и частей таблицы
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(Catalog.MAGIC);
+            out.writeInt(2);
+            out.writeInt(3);
+            out.writeInt(2);
+            out.writeUTF("Master");
+            int id = 1;
+            for (String table : List.of("test_table", "second_table")) {
+                out.writeInt(id++);
+                out.writeInt(7);
+                out.writeInt(1);
+                out.writeUTF(table + ".txt");
+                out.writeUTF(table.equals("test_table") ? "int;str_20" : "int");
+            }
+        }
+        Files.write(masterDbPath, bytes.toByteArray());
+
+        DataRepositoryImpl repository = new DataRepositoryImpl();
+        assertEquals(List.of("test_table", "second_table"), repository.getAllTableNames(masterDbPath.toString()));
+        assertTrue(repository.isTableExists(masterDbPath.toString(), secondTablePath));
+
+        repository.removeTableReference(masterDbPath.toString(), secondTablePath);
+        try (RandomAccessFile file = new RandomAccessFile(masterDbPath.toFile(), "r")) {
+            assertEquals(Catalog.MAGIC, file.readInt());
+            assertEquals(Catalog.VERSION, file.readInt());
+        }
+        assertEquals(List.of("test_table"), new DataRepositoryImpl().getAllTableNames(masterDbPath.toString()));
+    }
+
+    @Test
+    void catalog_ShouldMigrateLegacyMasterFileOnFirstChange() throws IOException {
+        Path masterDbPath = testDir.resolve("Master.txt");
+        String secondTablePath = testDir.resolve("second_table.txt").toString();
+        dataRepository.createTableFile(secondTablePath, "second_table", List.of("int"));
+        dataRepository.addRecord(secondTablePath, List.of(1));
+
+        // Файл базы данных прежнего формата: имя, количество и 100-байтные пути
+        try (RandomAccessFile file = new RandomAccessFile(masterDbPath.toFile(), "rw")) {
+            file.setLength(0);
+            file.write(Arrays.copyOf("Master".getBytes(StandardCharsets.UTF_8), 50));
+            file.writeInt(2);
+            for (String path : List.of(tableFilePath, secondTablePath)) {
+                file.write(Arrays.copyOf(path.getBytes(StandardCharsets.UTF_8), DataRepositoryImpl.DB_POINTER_SIZE));
+            }
+        }
+        DataRepositoryImpl repository = new DataRepositoryImpl();
+        assertEquals(List.of("test_table", "second_table"), repository.getAllTableNames(masterDbPath.toString()));
+
+        // Путь длиннее прежнего 100-байтного слота
+        Path deepDir = testDir.resolve("d".repeat(60)).resolve("e".repeat(60));
+        Files.createDirectories(deepDir);
+        String deepTablePath = deepDir.resolve("deep_table.txt").toString();
+        repository.createTableFile(deepTablePath, "deep_table", List.of("int"));
+        repository.addTableReference(masterDbPath.toString(), deepTablePath);
+
+        try (RandomAccessFile file = new RandomAccessFile(masterDbPath.toFile(), "r")) {
+            assertEquals(Catalog.MAGIC, file.readInt());
+            assertEquals(Catalog.VERSION, file.readInt());
+        }
+        DataRepositoryImpl reader = new DataRepositoryImpl();
+        assertEquals(List.of("test_table", "second_table", "deep_table"),
+                reader.getAllTableNames(masterDbPath.toString()));
+        assertTrue(reader.isTableExists(masterDbPath.toString(), deepTablePath));
+        assertTrue(reader.isTableExists(masterDbPath.toString(), "second_table.txt"));
+    }
+
+    @Test
+    void readRecord_ShouldFindPartsThroughPartDirectory() throws IOException {
+        String partedTablePath = testDir.resolve("parted_table.txt").toString();
+        dataRepository.createTableFile(partedTablePath, "parted_table", Arrays.asList("int", "str_20"), 1024);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(partedTablePath, rows);
+
+        // Другой экземпляр строит каталог частей и сохраняет его рядом с таблицей
+        DataRepositoryImpl reader = new DataRepositoryImpl();
+        Random random = new Random(42);
+        for (int k = 0; k < 500; k++) {
+            int index = random.nextInt(rows.size());
+            assertEquals(rows.get(index), reader.readRecord(partedTablePath, index, 0));
+        }
+        assertTrue(Files.exists(testDir.resolve("parted_table.parts")));
+
+        // Изменение через первый экземпляр меняет отметку, и устаревший каталог отвергается
+        dataRepository.deleteRecords(partedTablePath, List.of(5, 1500));
+        rows.remove(1500);
+        rows.remove(5);
+        for (int index = 0; index < rows.size(); index += 37) {
+            assertEquals(rows.get(index), reader.readRecord(partedTablePath, index, 0));
+        }
+        assertEquals(rows.get(rows.size() - 1), reader.readRecord(partedTablePath, rows.size() - 1, 0));
+
+        dataRepository.deleteTableFile(partedTablePath);
+        assertFalse(Files.exists(testDir.resolve("parted_table.parts")));
+    }
+
+    @Test
+    void rowId_ShouldStayValidAfterDeletingOtherRecords() throws IOException {
+        String partedTablePath = testDir.resolve("rowid_table.txt").toString();
+        dataRepository.createTableFile(partedTablePath, "rowid_table", Arrays.asList("int", "str_20"), 1024);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(partedTablePath, rows);
+
+        List<RowId> rowIds = new ArrayList<>();
+        try (RecordCursor cursor = dataRepository.openRecordCursor(partedTablePath)) {
+            while (cursor.next()) {
+                assertEquals(dataRepository.getRowId(partedTablePath, cursor.getIndex()), cursor.getRowId());
+                rowIds.add(cursor.getRowId());
+            }
+        }
+        assertEquals(rows.size(), new HashSet<>(rowIds).size());
+        assertTrue(rowIds.get(rows.size() - 1).getPartNumber() > 0);
+
+        dataRepository.deleteRecords(partedTablePath, List.of(0, 250));
+
+        DataRepositoryImpl reader = new DataRepositoryImpl();
+        for (int i = 0; i < rows.size(); i++) {
+            RowId rowId = rowIds.get(i);
+            if (i == 0 || i == 250) {
+                assertThrows(IllegalArgumentException.class, () -> reader.readRecord(partedTablePath, rowId));
+            } else {
+                assertEquals(rows.get(i), reader.readRecord(partedTablePath, rowId));
+            }
+        }
+        assertEquals(rowIds.get(251), reader.getRowId(partedTablePath, 249));
+        assertEquals(rowIds.get(42).toLong(), RowId.fromLong(rowIds.get(42).toLong()).toLong());
+    }
+
+    @Test
+    void readRecord_ByRowId_ShouldRejectRowIdOfSlotReusedAfterDelete() throws IOException {
+        dataRepository.addRecord(tableFilePath, Arrays.asList(0, "User0"));
+        dataRepository.addRecord(tableFilePath, Arrays.asList(1, "User1"));
+        RowId rowId = dataRepository.getRowId(tableFilePath, 1);
+
+        dataRepository.deleteRecord(tableFilePath, 1);
+        dataRepository.addRecord(tableFilePath, Arrays.asList(99, "new"));
+
+        // Новая запись заняла тот же слот, но адрес удалённой записи к ней не ведёт
+        RowId reused = dataRepository.getRowId(tableFilePath, 1);
+        assertEquals(rowId.toLong(), reused.toLong());
+        assertNotEquals(rowId, reused);
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.readRecord(tableFilePath, rowId));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DataRepositoryImpl().readRecord(tableFilePath, rowId));
+        assertEquals(Arrays.asList(99, "new"), dataRepository.readRecord(tableFilePath, reused));
+    }
+
+    @Test
+    void readRecord_ByRowId_ShouldRejectRowIdIssuedBeforeVacuum() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            dataRepository.addRecord(tableFilePath, Arrays.asList(i, "User" + i));
+        }
+        RowId first = dataRepository.getRowId(tableFilePath, 0);
+        RowId last = dataRepository.getRowId(tableFilePath, 2);
+
+        dataRepository.deleteRecord(tableFilePath, 0);
+        dataRepository.vacuumTable(tableFilePath);
+
+        // Сжатие переносит запись 2 в слот 1, а запись 1 остаётся в слоте 0 под новым поколением
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.readRecord(tableFilePath, first));
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.readRecord(tableFilePath, last));
+        assertEquals(Arrays.asList(2, "User2"),
+                dataRepository.readRecord(tableFilePath, dataRepository.getRowId(tableFilePath, 1)));
+    }
+
+    @Test
+    void createIndex_ShouldAnswerComparisonsLikeFullScanAndFollowChanges() throws IOException {
+        String indexedTablePath = testDir.resolve("indexed_table.txt").toString();
+        dataRepository.createTableFile(indexedTablePath, "indexed_table", Arrays.asList("int", "str_20"), 1024);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            rows.add(Arrays.asList(i % 50, "User" + i));
+        }
+        dataRepository.addRecords(indexedTablePath, rows);
+
+        dataRepository.createIndex(indexedTablePath, 0);
+        assertTrue(Files.exists(testDir.resolve("indexed_table.idx0")));
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.createIndex(indexedTablePath, 0));
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.createIndex(indexedTablePath, 1));
+
+        dataRepository.deleteRecords(indexedTablePath,
+                dataRepository.findRecordsByConstant(indexedTablePath, 0, "==", "7"));
+        dataRepository.addRecords(indexedTablePath, List.of(Arrays.asList(7, "New7"), Arrays.asList(100, "New100")));
+        // Изменение через другой экземпляр, не знающий об индексе, делает индекс устаревшим
+        new DataRepositoryImpl().addRecord(indexedTablePath, Arrays.asList(7, "Other7"));
+
+        for (String operator : List.of("==", "<", "<=", ">", ">=")) {
+            List<Integer> expected = new ArrayList<>();
+            try (RecordCursor cursor = dataRepository.openRecordCursor(indexedTablePath)) {
+                while (cursor.next()) {
+                    int value = (Integer) cursor.getRecord().get(0);
+                    boolean matches = operator.equals("==") ? value == 7
+                            : operator.equals("<") ? value < 7
+                            : operator.equals("<=") ? value <= 7
+                            : operator.equals(">") ? value > 7
+                            : value >= 7;
+                    if (matches) {
+                        expected.add(cursor.getIndex());
+                    }
+                }
+            }
+            assertEquals(expected, dataRepository.findRecordsByConstant(indexedTablePath, 0, operator, "7"), operator);
+        }
+
+        List<Integer> sevens = dataRepository.findRecordsByConstant(indexedTablePath, 0, "==", "7");
+        assertEquals(List.of(Arrays.asList(7, "New7"), Arrays.asList(7, "Other7")),
+                dataRepository.readRecords(indexedTablePath, sevens));
+
+        // После сжатия адреса записей меняются, и индекс перестраивается
+        dataRepository.vacuumTable(indexedTablePath);
+        assertEquals(List.of(Arrays.asList(100, "New100")), dataRepository.readRecords(indexedTablePath,
+                dataRepository.findRecordsByConstant(indexedTablePath, 0, ">", "49")));
+
+        dataRepository.deleteTableFile(indexedTablePath);
+        assertFalse(Files.exists(testDir.resolve("indexed_table.idx0")));
+    }
+
+    @Test
+    void createHashIndex_ShouldAnswerEqualityOnStringsLikeFullScanAndFollowChanges() throws IOException {
+        String hashedTablePath = testDir.resolve("hashed_table.txt").toString();
+        dataRepository.createTableFile(hashedTablePath, "hashed_table", Arrays.asList("int", "str_20"), 1024);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            rows.add(Arrays.asList(i, "User" + (i % 300)));
+        }
+        dataRepository.addRecords(hashedTablePath, rows);
+
+        dataRepository.createIndex(hashedTablePath, 1, IndexType.HASH);
+        assertTrue(Files.exists(testDir.resolve("hashed_table.hash1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> dataRepository.createIndex(hashedTablePath, 1, IndexType.HASH));
+        // Для равенства хэш-индекс предпочитается B+-дереву того же столбца
+        dataRepository.createIndex(hashedTablePath, 0, IndexType.HASH);
+        dataRepository.createIndex(hashedTablePath, 0);
+
+        dataRepository.deleteRecords(hashedTablePath,
+                dataRepository.findRecordsByConstant(hashedTablePath, 1, "==", "User7"));
+        dataRepository.addRecords(hashedTablePath,
+                List.of(Arrays.asList(5000, "User7"), Arrays.asList(5001, "Fresh")));
+        new DataRepositoryImpl().addRecord(hashedTablePath, Arrays.asList(5002, "User8"));
+
+        for (String value : List.of("User7", "User8", "User299", "Fresh", "Missing")) {
+            List<Integer> expected = new ArrayList<>();
+            try (RecordCursor cursor = dataRepository.openRecordCursor(hashedTablePath)) {
+                while (cursor.next()) {
+                    if (cursor.getRecord().get(1).equals(value)) {
+                        expected.add(cursor.getIndex());
+                    }
+                }
+            }
+            assertEquals(expected, dataRepository.findRecordsByConstant(hashedTablePath, 1, "==", value), value);
+        }
+        assertEquals(List.of(Arrays.asList(5000, "User7")), dataRepository.readRecords(hashedTablePath,
+                dataRepository.findRecordsByConstant(hashedTablePath, 1, "==", "User7")));
+        assertEquals(List.of(Arrays.asList(5001, "Fresh")), dataRepository.readRecords(hashedTablePath,
+                dataRepository.findRecordsByConstant(hashedTablePath, 0, "==", "5001")));
+
+        dataRepository.deleteTableFile(hashedTablePath);
+        assertFalse(Files.exists(testDir.resolve("hashed_table.hash1")));
+        assertFalse(Files.exists(testDir.resolve("hashed_table.hash0")));
+        assertFalse(Files.exists(testDir.resolve("hashed_table.idx0")));
+    }
+
+    @Test
+    void addUniqueConstraint_ShouldRejectDuplicateInsertsAndSurviveCopiesAndVacuum() throws IOException {
+        String keyedTablePath = testDir.resolve("keyed_table.txt").toString();
+        dataRepository.createTableFile(keyedTablePath, "keyed_table", Arrays.asList("int", "str_20"), 1024);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(Arrays.asList(i, "User" + i));
+        }
+        dataRepository.addRecords(keyedTablePath, rows);
+
+        dataRepository.addUniqueConstraint(keyedTablePath, 0);
+        dataRepository.addUniqueConstraint(keyedTablePath, 1);
+        assertTrue(Files.exists(testDir.resolve("keyed_table.idx0")));
+        assertTrue(Files.exists(testDir.resolve("keyed_table.hash1")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dataRepository.addRecord(keyedTablePath, Arrays.asList(42, "Fresh")));
+        assertThrows(IllegalArgumentException.class,
+                () -> dataRepository.addRecord(keyedTablePath, Arrays.asList(1000, "User42")));
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.addRecords(keyedTablePath,
+                List.of(Arrays.asList(1000, "A"), Arrays.asList(1000, "B"))));
+        assertEquals(500, dataRepository.getAllRecordIndices(keyedTablePath).size());
+
+        // Удалённое значение можно вставить снова
+        dataRepository.deleteRecords(keyedTablePath,
+                dataRepository.findRecordsByConstant(keyedTablePath, 0, "==", "42"));
+        dataRepository.addRecord(keyedTablePath, Arrays.asList(42, "User42"));
+
+        // Ограничение хранится в головном файле: его копия (как временная таблица транзакции)
+        // и сжатая таблица проверяют уникальность, строя индексы заново
+        Path copyPath = testDir.resolve("keyed_table_tmp.txt");
+        Files.copy(Paths.get(keyedTablePath), copyPath);
+        DataRepositoryImpl copyRepository = new DataRepositoryImpl();
+        assertThrows(IllegalArgumentException.class,
+                () -> copyRepository.addRecord(copyPath.toString(), Arrays.asList(7, "Other")));
+        copyRepository.addRecord(copyPath.toString(), Arrays.asList(600, "User600"));
+
+        dataRepository.vacuumTable(keyedTablePath);
+        assertThrows(IllegalArgumentException.class,
+                () -> dataRepository.addRecord(keyedTablePath, Arrays.asList(499, "Other")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DataRepositoryImpl().addRecord(keyedTablePath, Arrays.asList(1000, "User499")));
+
+        String duplicatedTablePath = testDir.resolve("duplicated_table.txt").toString();
+        dataRepository.createTableFile(duplicatedTablePath, "duplicated_table", Arrays.asList("int", "str_20"));
+        dataRepository.addRecords(duplicatedTablePath, List.of(Arrays.asList(1, "A"), Arrays.asList(1, "B")));
+        assertThrows(IllegalArgumentException.class, () -> dataRepository.addUniqueConstraint(duplicatedTablePath, 0));
+        dataRepository.addUniqueConstraint(duplicatedTablePath, 1);
+    }
+}